@@ -0,0 +1,38 @@
+/*
+ * Copyright 2015-2017 the original author or authors.
+ *
+ * All rights reserved. This program and the accompanying materials are
+ * made available under the terms of the Eclipse Public License v1.0 which
+ * accompanies this distribution and is available at
+ *
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+
+package example;
+
+// tag::user_guide[]
+import java.util.Arrays;
+import java.util.Random;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Benchmark;
+import org.junit.jupiter.api.Blackhole;
+
+class BenchmarkDemo {
+
+	private int[] numbers;
+
+	@BeforeEach
+	void createNumbers() {
+		numbers = new Random(42).ints(10_000).toArray();
+	}
+
+	@Benchmark(warmupIterations = 10, iterations = 50, maxP99 = 20)
+	void sortNumbers(Blackhole blackhole) {
+		int[] sorted = numbers.clone();
+		Arrays.sort(sorted);
+		blackhole.consume(sorted[0]);
+	}
+
+}
+// end::user_guide[]
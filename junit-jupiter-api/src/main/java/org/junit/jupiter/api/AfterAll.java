@@ -30,8 +30,11 @@ import org.junit.platform.commons.meta.API;
  * <h3>Method Signatures</h3>
  *
  * <p>{@code @AfterAll} methods must not be {@code private} and must be
- * {@code static}. Consequently, {@code @AfterAll} methods are not supported
- * in {@link Nested @Nested} test classes or as <em>interface default methods</em>.
+ * {@code static} unless the test class is annotated with
+ * {@link TestInstance @TestInstance(Lifecycle.PER_CLASS)}. Consequently,
+ * {@code @AfterAll} methods are only supported in {@link Nested @Nested}
+ * test classes or as <em>interface default methods</em> when using the
+ * per-class test instance lifecycle.
  * {@code @AfterAll} methods may optionally declare parameters to be resolved by
  * {@link org.junit.jupiter.api.extension.ParameterResolver ParameterResolvers}.
  *
@@ -21,6 +21,7 @@ import java.util.concurrent.Executors;
 import java.util.concurrent.Future;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Supplier;
 
 import org.junit.jupiter.api.function.Executable;
@@ -60,8 +61,7 @@ class AssertTimeout {
 	}
 
 	static <T> T assertTimeout(Duration timeout, ThrowingSupplier<T> supplier, Supplier<String> messageSupplier) {
-		long timeoutInMillis = timeout.toMillis();
-		long start = System.currentTimeMillis();
+		long start = System.nanoTime();
 		T result = null;
 		try {
 			result = supplier.get();
@@ -70,10 +70,11 @@ class AssertTimeout {
 			ExceptionUtils.throwAsUncheckedException(ex);
 		}
 
-		long timeElapsed = System.currentTimeMillis() - start;
-		if (timeElapsed > timeoutInMillis) {
+		Duration timeElapsed = Duration.ofNanos(System.nanoTime() - start);
+		if (timeElapsed.compareTo(timeout) > 0) {
+			long timeoutInMillis = timeout.toMillis();
 			fail(buildPrefix(nullSafeGet(messageSupplier)) + "execution exceeded timeout of " + timeoutInMillis
-					+ " ms by " + (timeElapsed - timeoutInMillis) + " ms");
+					+ " ms by " + (timeElapsed.toMillis() - timeoutInMillis) + " ms");
 		}
 		return result;
 	}
@@ -103,36 +104,61 @@ class AssertTimeout {
 
 	static <T> T assertTimeoutPreemptively(Duration timeout, ThrowingSupplier<T> supplier,
 			Supplier<String> messageSupplier) {
-		ExecutorService executorService = Executors.newSingleThreadExecutor();
-
-		try {
-			Future<T> future = executorService.submit(() -> {
-				try {
-					return supplier.get();
-				}
-				catch (Throwable throwable) {
-					throw ExceptionUtils.throwAsUncheckedException(throwable);
-				}
-			});
-
-			long timeoutInMillis = timeout.toMillis();
+		ClassLoader contextClassLoader = Thread.currentThread().getContextClassLoader();
+		Future<T> future = TimeoutExecutor.INSTANCE.submit(() -> {
+			Thread thread = Thread.currentThread();
+			thread.setContextClassLoader(contextClassLoader);
 			try {
-				return future.get(timeoutInMillis, TimeUnit.MILLISECONDS);
+				return supplier.get();
 			}
-			catch (TimeoutException ex) {
-				throw new AssertionFailedError(
-					buildPrefix(nullSafeGet(messageSupplier)) + "execution timed out after " + timeoutInMillis + " ms");
+			catch (Throwable throwable) {
+				throw ExceptionUtils.throwAsUncheckedException(throwable);
 			}
-			catch (ExecutionException ex) {
-				throw ExceptionUtils.throwAsUncheckedException(ex.getCause());
-			}
-			catch (Throwable ex) {
-				throw ExceptionUtils.throwAsUncheckedException(ex);
+			finally {
+				// Do not leak the class loader to later executions on this thread.
+				thread.setContextClassLoader(null);
 			}
+		});
+
+		long timeoutInMillis = timeout.toMillis();
+		try {
+			return future.get(timeout.toNanos(), TimeUnit.NANOSECONDS);
+		}
+		catch (TimeoutException ex) {
+			throw new AssertionFailedError(
+				buildPrefix(nullSafeGet(messageSupplier)) + "execution timed out after " + timeoutInMillis + " ms");
+		}
+		catch (ExecutionException ex) {
+			throw ExceptionUtils.throwAsUncheckedException(ex.getCause());
+		}
+		catch (Throwable ex) {
+			throw ExceptionUtils.throwAsUncheckedException(ex);
 		}
 		finally {
-			executorService.shutdownNow();
+			// Interrupts the executing thread unless the execution has already completed.
+			future.cancel(true);
 		}
 	}
 
+	/**
+	 * Lazily created, shared executor for preemptive timeouts whose idle
+	 * daemon threads are reused by subsequent executions.
+	 *
+	 * <p>Each execution runs with the context class loader of the calling
+	 * thread, which is cleared afterwards. {@link ThreadLocal} values set
+	 * during an execution are not cleared and remain visible to later
+	 * executions on the same thread.
+	 */
+	private static class TimeoutExecutor {
+
+		private static final AtomicInteger threadNumber = new AtomicInteger();
+
+		static final ExecutorService INSTANCE = Executors.newCachedThreadPool(runnable -> {
+			Thread thread = new Thread(runnable, "junit-timeout-" + threadNumber.incrementAndGet());
+			thread.setDaemon(true);
+			thread.setContextClassLoader(null);
+			return thread;
+		});
+	}
+
 }
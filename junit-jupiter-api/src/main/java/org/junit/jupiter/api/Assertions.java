@@ -1189,6 +1189,9 @@ public final class Assertions {
 	 * <p>Note: the {@code executable} will be executed in a different thread than
 	 * that of the calling code. Furthermore, execution of the {@code executable} will
 	 * be preemptively aborted if the timeout is exceeded.
+	 * The thread is reused for later executions: it uses the context class loader of
+	 * the calling thread, but {@link ThreadLocal} values set by the {@code executable} are
+	 * not cleared.
 	 *
 	 * @see #assertTimeoutPreemptively(Duration, Executable, String)
 	 * @see #assertTimeoutPreemptively(Duration, Executable, Supplier)
@@ -1208,6 +1211,9 @@ public final class Assertions {
 	 * <p>Note: the {@code executable} will be executed in a different thread than
 	 * that of the calling code. Furthermore, execution of the {@code executable} will
 	 * be preemptively aborted if the timeout is exceeded.
+	 * The thread is reused for later executions: it uses the context class loader of
+	 * the calling thread, but {@link ThreadLocal} values set by the {@code executable} are
+	 * not cleared.
 	 *
 	 * <p>Fails with the supplied failure {@code message}.
 	 *
@@ -1229,6 +1235,9 @@ public final class Assertions {
 	 * <p>Note: the {@code executable} will be executed in a different thread than
 	 * that of the calling code. Furthermore, execution of the {@code executable} will
 	 * be preemptively aborted if the timeout is exceeded.
+	 * The thread is reused for later executions: it uses the context class loader of
+	 * the calling thread, but {@link ThreadLocal} values set by the {@code executable} are
+	 * not cleared.
 	 *
 	 * <p>If necessary, the failure message will be retrieved lazily from the
 	 * supplied {@code messageSupplier}.
@@ -1256,6 +1265,9 @@ public final class Assertions {
 	 * <p>Note: the {@code supplier} will be executed in a different thread than
 	 * that of the calling code. Furthermore, execution of the {@code supplier} will
 	 * be preemptively aborted if the timeout is exceeded.
+	 * The thread is reused for later executions: it uses the context class loader of
+	 * the calling thread, but {@link ThreadLocal} values set by the {@code supplier} are
+	 * not cleared.
 	 *
 	 * @see #assertTimeoutPreemptively(Duration, Executable)
 	 * @see #assertTimeoutPreemptively(Duration, Executable, String)
@@ -1277,6 +1289,9 @@ public final class Assertions {
 	 * <p>Note: the {@code supplier} will be executed in a different thread than
 	 * that of the calling code. Furthermore, execution of the {@code supplier} will
 	 * be preemptively aborted if the timeout is exceeded.
+	 * The thread is reused for later executions: it uses the context class loader of
+	 * the calling thread, but {@link ThreadLocal} values set by the {@code supplier} are
+	 * not cleared.
 	 *
 	 * <p>Fails with the supplied failure {@code message}.
 	 *
@@ -1300,6 +1315,9 @@ public final class Assertions {
 	 * <p>Note: the {@code supplier} will be executed in a different thread than
 	 * that of the calling code. Furthermore, execution of the {@code supplier} will
 	 * be preemptively aborted if the timeout is exceeded.
+	 * The thread is reused for later executions: it uses the context class loader of
+	 * the calling thread, but {@link ThreadLocal} values set by the {@code supplier} are
+	 * not cleared.
 	 *
 	 * <p>If necessary, the failure message will be retrieved lazily from the
 	 * supplied {@code messageSupplier}.
@@ -0,0 +1,113 @@
+/*
+ * Copyright 2015-2017 the original author or authors.
+ *
+ * All rights reserved. This program and the accompanying materials are
+ * made available under the terms of the Eclipse Public License v1.0 which
+ * accompanies this distribution and is available at
+ *
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+
+package org.junit.jupiter.api;
+
+import static org.junit.platform.commons.meta.API.Usage.Experimental;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.platform.commons.meta.API;
+
+/**
+ * {@code @Benchmark} is used to signal that the annotated method is a
+ * <em>benchmark</em> method that is to be timed over a number of iterations.
+ *
+ * <p>A benchmark is executed like a regular {@link Test @Test} method, except
+ * that the annotated method is invoked repeatedly on the same test instance
+ * &mdash; first {@link #warmupIterations} times without being measured and
+ * then {@link #iterations} times while measuring the duration of each
+ * invocation. All iterations are executed sequentially by the same thread.
+ * {@link BeforeEach @BeforeEach} and {@link AfterEach @AfterEach} methods are
+ * executed once around all iterations and are not included in the
+ * measurements.
+ *
+ * <p>Each iteration is subject to the {@link Timeout @Timeout} of the method.
+ * If the method returns a {@link java.util.concurrent.CompletionStage
+ * CompletionStage}, an iteration is complete once the stage has completed,
+ * and its measured duration includes the completion of the stage. The
+ * benchmark fails as soon as an iteration fails.
+ *
+ * <p>Once all iterations have been executed successfully, the mean, median
+ * ({@code p50}), 99th percentile ({@code p99}) and throughput of the measured
+ * durations are published as a report entry of the benchmark method. If any
+ * of the configured limits &mdash; for example {@code maxP99 = 2} for a 99th
+ * percentile of at most two milliseconds &mdash; is exceeded, the benchmark
+ * method fails.
+ *
+ * <p>Benchmark methods may declare parameters of type {@link Blackhole} in
+ * order to consume the results they compute so that the JIT compiler cannot
+ * eliminate the code under measurement. Parameters are resolved once before
+ * the first iteration, and the same arguments are passed to all iterations.
+ *
+ * <p>Benchmarks are not a replacement for a dedicated benchmark harness. The
+ * measurements are, however, precise enough to guard performance-critical
+ * code against gross regressions as part of the regular test run.
+ *
+ * <p>{@code @Benchmark} methods must not be {@code private} or {@code static}
+ * and must return {@code void} or a {@code CompletionStage}.
+ *
+ * @since 5.0
+ * @see Blackhole
+ * @see Timeout
+ */
+@Target({ ElementType.ANNOTATION_TYPE, ElementType.METHOD })
+@Retention(RetentionPolicy.RUNTIME)
+@Documented
+@API(Experimental)
+public @interface Benchmark {
+
+	/**
+	 * The number of invocations that precede the measured iterations and are
+	 * not measured; must not be negative.
+	 */
+	int warmupIterations() default 5;
+
+	/**
+	 * The number of measured invocations; must be greater than zero.
+	 */
+	int iterations() default 20;
+
+	/**
+	 * The maximum mean duration of a measured invocation in the configured
+	 * {@link #unit}; values less than or equal to zero disable the check.
+	 */
+	long maxMean() default 0;
+
+	/**
+	 * The maximum median duration of a measured invocation in the configured
+	 * {@link #unit}; values less than or equal to zero disable the check.
+	 */
+	long maxP50() default 0;
+
+	/**
+	 * The maximum 99th percentile of the durations of the measured invocations
+	 * in the configured {@link #unit}; values less than or equal to zero
+	 * disable the check.
+	 */
+	long maxP99() default 0;
+
+	/**
+	 * The minimum number of invocations per second; values less than or equal
+	 * to zero disable the check.
+	 */
+	double minThroughput() default 0;
+
+	/**
+	 * The time unit of the configured limits and of the published durations.
+	 */
+	TimeUnit unit() default TimeUnit.MILLISECONDS;
+
+}
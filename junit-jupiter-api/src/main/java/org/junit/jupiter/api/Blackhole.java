@@ -0,0 +1,79 @@
+/*
+ * Copyright 2015-2017 the original author or authors.
+ *
+ * All rights reserved. This program and the accompanying materials are
+ * made available under the terms of the Eclipse Public License v1.0 which
+ * accompanies this distribution and is available at
+ *
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+
+package org.junit.jupiter.api;
+
+import static org.junit.platform.commons.meta.API.Usage.Experimental;
+
+import org.junit.platform.commons.meta.API;
+
+/**
+ * A {@code Blackhole} consumes the results computed by a
+ * {@link Benchmark @Benchmark} method.
+ *
+ * <p>Results that are never used may be eliminated by the JIT compiler
+ * together with the code that computes them, which renders measurements
+ * meaningless. Passing such results to one of the {@code consume()} methods
+ * prevents this at the cost of a single volatile write.
+ *
+ * <p>A {@code Blackhole} is created by the engine for each benchmark and can
+ * be injected into {@code @Benchmark} methods by declaring a parameter of
+ * this type.
+ *
+ * @since 5.0
+ * @see Benchmark
+ */
+@API(Experimental)
+public final class Blackhole {
+
+	private volatile Object objectSink;
+	private volatile long longSink;
+	private volatile double doubleSink;
+
+	private Blackhole() {
+		/* no-op */
+	}
+
+	/**
+	 * Consume the supplied object.
+	 */
+	public void consume(Object value) {
+		this.objectSink = value;
+	}
+
+	/**
+	 * Consume the supplied {@code boolean} value.
+	 */
+	public void consume(boolean value) {
+		this.longSink = value ? 1 : 0;
+	}
+
+	/**
+	 * Consume the supplied {@code int} value.
+	 */
+	public void consume(int value) {
+		this.longSink = value;
+	}
+
+	/**
+	 * Consume the supplied {@code long} value.
+	 */
+	public void consume(long value) {
+		this.longSink = value;
+	}
+
+	/**
+	 * Consume the supplied {@code double} value.
+	 */
+	public void consume(double value) {
+		this.doubleSink = value;
+	}
+
+}
@@ -0,0 +1,81 @@
+/*
+ * Copyright 2015-2017 the original author or authors.
+ *
+ * All rights reserved. This program and the accompanying materials are
+ * made available under the terms of the Eclipse Public License v1.0 which
+ * accompanies this distribution and is available at
+ *
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+
+package org.junit.jupiter.api;
+
+import static org.junit.platform.commons.meta.API.Usage.Experimental;
+
+import org.junit.jupiter.api.function.Executable;
+import org.junit.platform.commons.meta.API;
+import org.junit.platform.commons.util.Preconditions;
+
+/**
+ * Parameters of type {@code PerformanceBaseline} can be injected into
+ * {@link Test @Test} methods and other test methods in order to compare
+ * performance measurements against the measurements of earlier test runs.
+ *
+ * <p>Each measurement is identified by the test it is taken in and a name
+ * that is unique within that test. It consists of one or more samples, for
+ * example durations in nanoseconds or allocated bytes, where smaller values
+ * are better. Baselines are stored in a file per <em>machine profile</em>
+ * so that measurements taken on different machines are not compared with
+ * each other.
+ *
+ * <p>If no baseline exists for a measurement yet, the measurement is stored
+ * as its baseline. Otherwise, it is compared against the stored baseline;
+ * if its mean exceeds the mean of the baseline by more than the configured
+ * tolerance and the difference is statistically significant, the test fails
+ * or is aborted, depending on the configuration. Existing baselines are only
+ * replaced if updating baselines has been enabled explicitly.
+ *
+ * <p>See the JUnit Jupiter engine documentation for the configuration
+ * parameters that control the location of baseline files, the machine
+ * profile, the tolerance, and the statistical test.
+ *
+ * @since 5.0
+ */
+@API(Experimental)
+public interface PerformanceBaseline {
+
+	/**
+	 * Compare the supplied samples against the baseline with the supplied
+	 * name or store them as the new baseline.
+	 *
+	 * @param name the name of the measurement; never {@code null} or blank
+	 * and unique within the current test
+	 * @param samples the measured values; never {@code null} or empty
+	 */
+	void assertNoRegression(String name, double... samples);
+
+	/**
+	 * Measure the duration of the supplied {@code executable} in nanoseconds
+	 * for the supplied number of iterations and
+	 * {@linkplain #assertNoRegression(String, double...) compare} the
+	 * measured durations against the baseline with the supplied name.
+	 *
+	 * @param name the name of the measurement; never {@code null} or blank
+	 * and unique within the current test
+	 * @param iterations the number of times the {@code executable} is
+	 * executed and measured; must be greater than zero
+	 * @param executable the code to measure; never {@code null}
+	 */
+	default void assertNoRegression(String name, int iterations, Executable executable) throws Throwable {
+		Preconditions.condition(iterations > 0, "iterations must be greater than zero");
+		Preconditions.notNull(executable, "executable must not be null");
+		double[] samples = new double[iterations];
+		for (int i = 0; i < iterations; i++) {
+			long start = System.nanoTime();
+			executable.execute();
+			samples[i] = System.nanoTime() - start;
+		}
+		assertNoRegression(name, samples);
+	}
+
+}
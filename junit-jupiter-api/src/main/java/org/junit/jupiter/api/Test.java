@@ -35,6 +35,12 @@ import org.junit.platform.commons.meta.API;
  * resolved by {@link org.junit.jupiter.api.extension.ParameterResolver
  * ParameterResolvers}.
  *
+ * <p>{@code @Test} methods may return a
+ * {@link java.util.concurrent.CompletionStage CompletionStage}, in which
+ * case the test completes once the returned stage has completed and fails
+ * if the stage completes exceptionally. The same applies to lifecycle
+ * methods.
+ *
  * @since 5.0
  * @see TestInfo
  * @see DisplayName
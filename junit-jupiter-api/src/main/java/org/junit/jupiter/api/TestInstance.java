@@ -0,0 +1,83 @@
+/*
+ * Copyright 2015-2017 the original author or authors.
+ *
+ * All rights reserved. This program and the accompanying materials are
+ * made available under the terms of the Eclipse Public License v1.0 which
+ * accompanies this distribution and is available at
+ *
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+
+package org.junit.jupiter.api;
+
+import static org.junit.platform.commons.meta.API.Usage.Experimental;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Inherited;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+import org.junit.platform.commons.meta.API;
+
+/**
+ * {@code @TestInstance} is a type-level annotation that is used to configure
+ * the {@linkplain Lifecycle lifecycle} of test instances for the annotated
+ * test class.
+ *
+ * <p>If {@code @TestInstance} is not declared on a test class, the lifecycle
+ * mode configured via the {@code junit.jupiter.testinstance.lifecycle.default}
+ * configuration parameter is used, which defaults to
+ * {@link Lifecycle#PER_METHOD PER_METHOD}.
+ *
+ * <h3>Per-class lifecycle</h3>
+ *
+ * <p>When using {@link Lifecycle#PER_CLASS PER_CLASS} mode, a single test
+ * instance is created for the test class and shared by all of its test
+ * methods, test factory methods, and test templates. This allows
+ * {@link BeforeAll @BeforeAll} and {@link AfterAll @AfterAll} methods to be
+ * declared as non-static methods, including in {@link Nested @Nested} test
+ * classes. Any state stored in instance fields is consequently shared between
+ * the tests of the class.
+ *
+ * @since 5.0
+ * @see Nested
+ * @see BeforeAll
+ * @see AfterAll
+ */
+@Target(ElementType.TYPE)
+@Retention(RetentionPolicy.RUNTIME)
+@Inherited
+@Documented
+@API(Experimental)
+public @interface TestInstance {
+
+	/**
+	 * Enumeration of test instance lifecycle <em>modes</em>.
+	 *
+	 * @see #PER_METHOD
+	 * @see #PER_CLASS
+	 */
+	enum Lifecycle {
+
+		/**
+		 * When using this mode, a new test instance will be created once per
+		 * test class.
+		 */
+		PER_CLASS,
+
+		/**
+		 * When using this mode, a new test instance will be created for each
+		 * test method, test factory method, or test template invocation.
+		 */
+		PER_METHOD;
+
+	}
+
+	/**
+	 * The test instance lifecycle <em>mode</em> to use.
+	 */
+	Lifecycle value();
+
+}
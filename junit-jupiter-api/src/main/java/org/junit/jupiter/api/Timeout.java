@@ -0,0 +1,69 @@
+/*
+ * Copyright 2015-2017 the original author or authors.
+ *
+ * All rights reserved. This program and the accompanying materials are
+ * made available under the terms of the Eclipse Public License v1.0 which
+ * accompanies this distribution and is available at
+ *
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+
+package org.junit.jupiter.api;
+
+import static org.junit.platform.commons.meta.API.Usage.Experimental;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Inherited;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.platform.commons.meta.API;
+
+/**
+ * {@code @Timeout} is used to declare that the execution of a test method,
+ * test factory method, test template method, or lifecycle method should
+ * fail if it exceeds the given duration.
+ *
+ * <p>When declared on a test class, the timeout applies to all such methods
+ * invoked for that class that do not declare a {@code @Timeout} themselves.
+ * A default timeout for all methods can be configured via the
+ * {@code junit.jupiter.execution.timeout.default} configuration parameter.
+ *
+ * <p>Methods are executed in the thread that would execute them anyway. A
+ * single watchdog thread that is shared by all tests interrupts that thread
+ * once the timeout has been exceeded. Methods that do not react to being
+ * interrupted run to completion but still fail afterwards. Timeouts are
+ * measured using {@link System#nanoTime()}.
+ *
+ * <p>For methods that return a
+ * {@link java.util.concurrent.CompletionStage CompletionStage}, the timeout
+ * includes the completion of the returned stage. If the timeout is exceeded,
+ * the stage is cancelled if it is a {@link java.util.concurrent.Future Future}
+ * or supports
+ * {@link java.util.concurrent.CompletionStage#toCompletableFuture() toCompletableFuture()}.
+ *
+ * @since 5.0
+ * @see Assertions#assertTimeout(java.time.Duration, org.junit.jupiter.api.function.Executable)
+ * @see Assertions#assertTimeoutPreemptively(java.time.Duration, org.junit.jupiter.api.function.Executable)
+ */
+@Target({ ElementType.TYPE, ElementType.METHOD, ElementType.ANNOTATION_TYPE })
+@Retention(RetentionPolicy.RUNTIME)
+@Documented
+@Inherited
+@API(Experimental)
+public @interface Timeout {
+
+	/**
+	 * The duration of this timeout; must be greater than zero.
+	 */
+	long value();
+
+	/**
+	 * The time unit of this timeout.
+	 */
+	TimeUnit unit() default TimeUnit.SECONDS;
+
+}
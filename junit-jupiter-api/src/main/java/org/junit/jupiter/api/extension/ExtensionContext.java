@@ -48,6 +48,21 @@ public interface ExtensionContext {
 	 */
 	Optional<ExtensionContext> getParent();
 
+	/**
+	 * Get the <em>root</em> {@code ExtensionContext}.
+	 *
+	 * <p>The root context encapsulates the execution of the test engine and
+	 * is shared by all test classes. Values stored in a {@link Store} of the
+	 * root context remain available until the test engine has finished
+	 * executing all tests.
+	 *
+	 * @return the root extension context; never {@code null} but potentially
+	 * <em>this</em> {@code ExtensionContext}
+	 */
+	default ExtensionContext getRoot() {
+		return getParent().map(ExtensionContext::getRoot).orElse(this);
+	}
+
 	/**
 	 * Get the unique ID of the current test or container.
 	 *
@@ -139,6 +154,20 @@ public interface ExtensionContext {
 		this.publishReportEntry(Collections.singletonMap(key, value));
 	}
 
+	/**
+	 * Get the configuration parameter stored under the specified {@code key}.
+	 *
+	 * <p>Configuration parameters are supplied to the test engine, for example
+	 * by the {@code Launcher}, and are shared by all extension contexts.
+	 *
+	 * @param key the key to look up; never {@code null} or blank
+	 * @return an {@code Optional} containing the value; never {@code null}
+	 * but potentially empty
+	 */
+	default Optional<String> getConfigurationParameter(String key) {
+		return getParent().flatMap(parent -> parent.getConfigurationParameter(key));
+	}
+
 	/**
 	 * Get the {@link Store} for the default, global {@link Namespace}.
 	 *
@@ -161,9 +190,47 @@ public interface ExtensionContext {
 
 	/**
 	 * {@code Store} provides methods for extensions to save and retrieve data.
+	 *
+	 * <p>The values stored in a {@code Store} live as long as the
+	 * {@link ExtensionContext} the store belongs to. When the context is
+	 * finished, all stored values that implement {@link CloseableResource}
+	 * are {@linkplain CloseableResource#close() closed}.
 	 */
 	interface Store {
 
+		/**
+		 * Classes implementing this interface indicate that they want to
+		 * {@linkplain #close close} some underlying resource when the
+		 * {@link ExtensionContext} of the {@link Store} they are stored in is
+		 * finished.
+		 *
+		 * <p>Resources are closed in the reverse order in which they were
+		 * stored. Values that are only stored in a {@code Store} of an
+		 * ancestor context are closed when that context is finished. Thus,
+		 * resources that should be shared by all test classes are best stored
+		 * in the {@linkplain ExtensionContext#getRoot() root context}, for
+		 * example via {@link #getOrComputeIfAbsent(Object, Function, Class)}
+		 * so that they are created lazily and only once.
+		 *
+		 * <p>Note that the {@code CloseableResource} contract is only honored
+		 * for values that are still stored when the context is finished;
+		 * values that have been {@linkplain #remove(Object) removed} are not
+		 * closed.
+		 *
+		 * @since 5.0
+		 */
+		@API(Experimental)
+		interface CloseableResource {
+
+			/**
+			 * Close underlying resources.
+			 *
+			 * @throws Throwable any throwable will be caught and reported
+			 */
+			void close() throws Throwable;
+
+		}
+
 		/**
 		 * Get the value that is stored under the supplied {@code key}.
 		 *
@@ -172,6 +239,11 @@ public interface ExtensionContext {
 		 * for a value with the same {@code key} in the {@code Namespace} used
 		 * to create this store.
 		 *
+		 * <p>If the value is being computed via
+		 * {@link #getOrComputeIfAbsent(Object, Function)} by another caller,
+		 * this method waits for the computation to complete without performing
+		 * it itself; a value whose computation fails is treated as absent.
+		 *
 		 * <p>For greater type safety, consider using {@link #get(Object, Class)}
 		 * instead.
 		 *
@@ -190,6 +262,9 @@ public interface ExtensionContext {
 		 * for a value with the same {@code key} in the {@code Namespace} used
 		 * to create this store.
 		 *
+		 * <p>Values that are being computed are handled as described for
+		 * {@link #get(Object)}.
+		 *
 		 * @param key the key; never {@code null}
 		 * @param requiredType the required type of the value; never {@code null}
 		 * @param <V> the value type
@@ -267,7 +342,8 @@ public interface ExtensionContext {
 		 *
 		 * @param key the key; never {@code null}
 		 * @return the previous value or {@code null} if no value was present
-		 * for the specified key
+		 * for the specified key or its computation via
+		 * {@link #getOrComputeIfAbsent(Object, Function)} has not completed yet
 		 * @see #remove(Object, Class)
 		 */
 		Object remove(Object key);
@@ -283,7 +359,8 @@ public interface ExtensionContext {
 		 * @param requiredType the required type of the value; never {@code null}
 		 * @param <V> the value type
 		 * @return the previous value or {@code null} if no value was present
-		 * for the specified key
+		 * for the specified key or its computation via
+		 * {@link #getOrComputeIfAbsent(Object, Function)} has not completed yet
 		 * @see #remove(Object)
 		 */
 		<V> V remove(Object key, Class<V> requiredType);
@@ -321,9 +398,11 @@ public interface ExtensionContext {
 		}
 
 		private final List<?> parts;
+		private final int hashCode;
 
 		private Namespace(Object... parts) {
 			this.parts = new ArrayList<>(Arrays.asList(parts));
+			this.hashCode = this.parts.hashCode();
 		}
 
 		@Override
@@ -333,12 +412,12 @@ public interface ExtensionContext {
 			if (o == null || getClass() != o.getClass())
 				return false;
 			Namespace that = (Namespace) o;
-			return this.parts.equals(that.parts);
+			return this.hashCode == that.hashCode && this.parts.equals(that.parts);
 		}
 
 		@Override
 		public int hashCode() {
-			return parts.hashCode();
+			return this.hashCode;
 		}
 
 	}
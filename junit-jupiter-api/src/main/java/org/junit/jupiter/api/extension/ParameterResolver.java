@@ -58,6 +58,29 @@ public interface ParameterResolver extends Extension {
 	boolean supports(ParameterContext parameterContext, ExtensionContext extensionContext)
 			throws ParameterResolutionException;
 
+	/**
+	 * Determine if the result of {@link #supports} depends solely on the
+	 * {@link Parameter}, its {@linkplain ParameterContext#getIndex() index},
+	 * and its {@linkplain ParameterContext#getDeclaringExecutable() declaring
+	 * executable} &mdash; and neither on the
+	 * {@linkplain ParameterContext#getTarget() target} nor on the
+	 * {@link ExtensionContext}.
+	 *
+	 * <p>If this method returns {@code true}, the framework may invoke
+	 * {@link #supports} only once for each parameter and reuse the result
+	 * for subsequent invocations of the same executable, even if they are
+	 * resolved by a different instance of the same resolver class.
+	 *
+	 * <p>The default implementation returns {@code false}.
+	 *
+	 * @return {@code true} if the support for a parameter never changes
+	 * @since 5.0
+	 * @see #supports
+	 */
+	default boolean supportDependsOnParameterOnly() {
+		return false;
+	}
+
 	/**
 	 * Resolve the {@link Parameter} in the supplied {@link ParameterContext}
 	 * for the supplied {@link ExtensionContext}.
@@ -0,0 +1,57 @@
+/*
+ * Copyright 2015-2017 the original author or authors.
+ *
+ * All rights reserved. This program and the accompanying materials are
+ * made available under the terms of the Eclipse Public License v1.0 which
+ * accompanies this distribution and is available at
+ *
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+
+package org.junit.jupiter.api.extension;
+
+import static org.junit.platform.commons.meta.API.Usage.Experimental;
+
+import java.lang.reflect.AnnotatedElement;
+
+import org.junit.platform.commons.meta.API;
+
+/**
+ * {@code StaticExecutionCondition} defines the {@link Extension} API for
+ * conditions whose result depends only on the annotations of a test class
+ * or test method and may therefore be {@linkplain #evaluateStatically
+ * evaluated} before any tests are executed.
+ *
+ * <p>Test engines may evaluate such conditions during test discovery,
+ * without creating any extension contexts or test instances, and report
+ * a disabled test class as a single skipped container without any of its
+ * tests. A {@code StaticExecutionCondition} should therefore also implement
+ * {@link ContainerExecutionCondition} and {@link TestExecutionCondition}
+ * with consistent results, since it is not evaluated statically in all
+ * cases &mdash; for example, if it is registered via {@link ExtendWith}.
+ *
+ * <p>Implementations must provide a no-args constructor.
+ *
+ * @since 5.0
+ * @see ContainerExecutionCondition
+ * @see TestExecutionCondition
+ * @see org.junit.jupiter.api.Disabled
+ */
+@FunctionalInterface
+@API(Experimental)
+public interface StaticExecutionCondition extends Extension {
+
+	/**
+	 * Evaluate this condition for the supplied test class or test method.
+	 *
+	 * <p>An {@linkplain ConditionEvaluationResult#enabled enabled} result
+	 * indicates that the element should be executed; whereas, a
+	 * {@linkplain ConditionEvaluationResult#disabled disabled} result
+	 * indicates that the element should not be executed.
+	 *
+	 * @param element the test class or test method; never {@code null}
+	 * @return the result of evaluating this condition; never {@code null}
+	 */
+	ConditionEvaluationResult evaluateStatically(AnnotatedElement element);
+
+}
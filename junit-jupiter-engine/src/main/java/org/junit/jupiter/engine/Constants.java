@@ -59,6 +59,156 @@ public final class Constants {
 	 */
 	public static final String DEACTIVATE_ALL_CONDITIONS_PATTERN = "*";
 
+	/**
+	 * Property name used to enable the class file prefilter for classpath
+	 * scanning: {@value}
+	 *
+	 * <p>If set to {@code true}, the bytes of each candidate class file are
+	 * inspected before the class is loaded, and only classes that might
+	 * contain tests &mdash; based on their annotations, meta-annotations,
+	 * superclasses, interfaces, and member classes &mdash; are loaded.
+	 *
+	 * <p>Defaults to {@code false}.
+	 */
+	public static final String CLASS_FILE_PREFILTER_ENABLED_PROPERTY_NAME = "junit.jupiter.discovery.prefilter.enabled";
+
+	/**
+	 * Property name used to set the default test instance lifecycle mode: {@value}
+	 *
+	 * <p>Supported values are the names of the
+	 * {@link org.junit.jupiter.api.TestInstance.Lifecycle Lifecycle} constants,
+	 * ignoring case. The mode configured via this property is used for all test
+	 * classes that are not annotated with
+	 * {@link org.junit.jupiter.api.TestInstance @TestInstance}.
+	 *
+	 * <p>Defaults to {@code per_method}.
+	 *
+	 * @see org.junit.jupiter.api.TestInstance
+	 */
+	public static final String DEFAULT_TEST_INSTANCE_LIFECYCLE_PROPERTY_NAME = //
+			"junit.jupiter.testinstance.lifecycle.default";
+
+	/**
+	 * Property name used to enable streaming execution of dynamic tests: {@value}
+	 *
+	 * <p>If set to {@code true}, each dynamic test generated by a
+	 * {@link org.junit.jupiter.api.TestFactory @TestFactory} method is
+	 * removed from the test tree and
+	 * {@linkplain org.junit.platform.engine.EngineExecutionListener#dynamicTestReleased released}
+	 * as soon as it has been executed. Memory consumption therefore does not
+	 * grow with the number of generated dynamic tests; only the results
+	 * reported to listeners are retained.
+	 *
+	 * <p>Defaults to {@code false}.
+	 */
+	public static final String DYNAMIC_TEST_STREAMING_ENABLED_PROPERTY_NAME = //
+			"junit.jupiter.testfactory.streaming.enabled";
+
+	/**
+	 * Property name used to set the maximum number of test template
+	 * invocations or dynamic tests of a single container that are executed
+	 * concurrently: {@value}
+	 *
+	 * <p>If set to a value greater than {@code 1}, the invocations of a
+	 * {@link org.junit.jupiter.api.TestTemplate @TestTemplate} method and the
+	 * dynamic tests generated by a
+	 * {@link org.junit.jupiter.api.TestFactory @TestFactory} method are
+	 * executed concurrently, using up to the configured number of threads.
+	 * Invalid values are ignored.
+	 *
+	 * <p>Defaults to {@code 1}, i.e. sequential execution.
+	 */
+	public static final String DYNAMIC_TEST_PARALLELISM_PROPERTY_NAME = "junit.jupiter.dynamic.parallelism";
+
+	/**
+	 * Property name used to set the default timeout of all test, test factory,
+	 * test template, and lifecycle methods: {@value}
+	 *
+	 * <p>Supported values are positive numbers followed by an optional unit
+	 * &mdash; {@code ns}, {@code us}, {@code ms}, {@code s}, {@code m},
+	 * {@code h}, or {@code d} &mdash; which defaults to seconds, for example
+	 * {@code 500 ms} or {@code 5}. Methods and test classes annotated with
+	 * {@link org.junit.jupiter.api.Timeout @Timeout} override this default.
+	 *
+	 * <p>If not set, methods without {@code @Timeout} do not time out.
+	 */
+	public static final String DEFAULT_TIMEOUT_PROPERTY_NAME = "junit.jupiter.execution.timeout.default";
+
+	/**
+	 * Property name used to set the directory in which the baseline files of
+	 * {@link org.junit.jupiter.api.PerformanceBaseline} are stored: {@value}
+	 *
+	 * <p>Relative paths are resolved against the current working directory.
+	 * Defaults to {@value #DEFAULT_BASELINE_DIRECTORY}.
+	 */
+	public static final String BASELINE_DIRECTORY_PROPERTY_NAME = "junit.jupiter.baseline.directory";
+
+	/**
+	 * Default directory in which baseline files are stored: {@value}
+	 *
+	 * @see #BASELINE_DIRECTORY_PROPERTY_NAME
+	 */
+	public static final String DEFAULT_BASELINE_DIRECTORY = "junit-baselines";
+
+	/**
+	 * Property name used to set the name of the machine profile whose
+	 * baseline file is used: {@value}
+	 *
+	 * <p>Defaults to a name derived from the operating system, the CPU
+	 * architecture, the number of available processors, and the Java
+	 * specification version.
+	 */
+	public static final String BASELINE_PROFILE_PROPERTY_NAME = "junit.jupiter.baseline.profile";
+
+	/**
+	 * Property name used to enable replacing existing baselines with new
+	 * measurements instead of comparing against them: {@value}
+	 *
+	 * <p>Defaults to {@code false}.
+	 */
+	public static final String BASELINE_UPDATE_PROPERTY_NAME = "junit.jupiter.baseline.update";
+
+	/**
+	 * Property name used to set the relative increase of the mean of a
+	 * measurement over the mean of its baseline that is tolerated: {@value}
+	 *
+	 * <p>For example, {@code 0.1} tolerates measurements that are up to ten
+	 * percent worse than their baseline. Defaults to {@code 0.1}.
+	 */
+	public static final String BASELINE_TOLERANCE_PROPERTY_NAME = "junit.jupiter.baseline.tolerance";
+
+	/**
+	 * Property name used to set the significance level of the one-sided
+	 * Mann-Whitney U test that is used to decide whether a measurement is
+	 * worse than its baseline: {@value}
+	 *
+	 * <p>Defaults to {@code 0.05}.
+	 */
+	public static final String BASELINE_SIGNIFICANCE_PROPERTY_NAME = "junit.jupiter.baseline.significance";
+
+	/**
+	 * Property name used to set what happens when a measurement is worse
+	 * than its baseline: {@value}
+	 *
+	 * <p>Supported values are {@code fail} and {@code abort} (ignoring case).
+	 * Defaults to {@code fail}.
+	 */
+	public static final String BASELINE_REGRESSION_ACTION_PROPERTY_NAME = "junit.jupiter.baseline.regression.action";
+
+	/**
+	 * Property name used to enable recording the resource usage of each test
+	 * and test class: {@value}
+	 *
+	 * <p>If set to {@code true}, the CPU time consumed and the bytes allocated
+	 * by the thread executing each test as well as the number of garbage
+	 * collections and the time spent in them while each test class is executed
+	 * are published as report entries. Measurements that are not supported by
+	 * the JVM are omitted.
+	 *
+	 * <p>Defaults to {@code false}.
+	 */
+	public static final String RESOURCE_USAGE_ENABLED_PROPERTY_NAME = "junit.jupiter.resourceusage.enabled";
+
 	private Constants() {
 		/* no-op */
 	}
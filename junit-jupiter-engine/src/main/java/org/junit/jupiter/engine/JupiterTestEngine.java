@@ -67,6 +67,7 @@ public class JupiterTestEngine extends HierarchicalTestEngine<JupiterEngineExecu
 		DiscoverySelectorResolver resolver = new DiscoverySelectorResolver();
 		resolver.resolveSelectors(discoveryRequest, engineDescriptor);
 		applyDiscoveryFilters(discoveryRequest, engineDescriptor);
+		applyStaticConditions(discoveryRequest, engineDescriptor);
 	}
 
 	private void applyDiscoveryFilters(EngineDiscoveryRequest discoveryRequest,
@@ -74,6 +75,12 @@ public class JupiterTestEngine extends HierarchicalTestEngine<JupiterEngineExecu
 		new DiscoveryFilterApplier().applyAllFilters(discoveryRequest, engineDescriptor);
 	}
 
+	private void applyStaticConditions(EngineDiscoveryRequest discoveryRequest,
+			JupiterEngineDescriptor engineDescriptor) {
+		new StaticConditionApplier().applyStaticConditions(discoveryRequest.getConfigurationParameters(),
+			engineDescriptor);
+	}
+
 	@Override
 	protected JupiterEngineExecutionContext createExecutionContext(ExecutionRequest request) {
 		return new JupiterEngineExecutionContext(request.getEngineExecutionListener(),
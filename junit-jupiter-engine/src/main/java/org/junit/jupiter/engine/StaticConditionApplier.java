@@ -0,0 +1,73 @@
+/*
+ * Copyright 2015-2017 the original author or authors.
+ *
+ * All rights reserved. This program and the accompanying materials are
+ * made available under the terms of the Eclipse Public License v1.0 which
+ * accompanies this distribution and is available at
+ *
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+
+package org.junit.jupiter.engine;
+
+import java.lang.reflect.AnnotatedElement;
+import java.util.ArrayList;
+
+import org.junit.jupiter.api.extension.ConditionEvaluationResult;
+import org.junit.jupiter.api.extension.StaticExecutionCondition;
+import org.junit.jupiter.engine.descriptor.ClassTestDescriptor;
+import org.junit.jupiter.engine.descriptor.JupiterTestDescriptor;
+import org.junit.jupiter.engine.descriptor.MethodTestDescriptor;
+import org.junit.jupiter.engine.descriptor.TestTemplateTestDescriptor;
+import org.junit.jupiter.engine.execution.ConditionEvaluator;
+import org.junit.jupiter.engine.extension.ExtensionRegistry;
+import org.junit.platform.engine.ConfigurationParameters;
+import org.junit.platform.engine.TestDescriptor;
+
+/**
+ * Class for evaluating all {@link StaticExecutionCondition}s among the
+ * default extensions for all discovered test classes and test methods.
+ *
+ * <p>Disabled descriptors are {@linkplain JupiterTestDescriptor#disable
+ * marked} as such, and the children of disabled test classes are removed so
+ * that each disabled test class is reported as a single skipped container.
+ * Conditions registered via {@link org.junit.jupiter.api.extension.ExtendWith @ExtendWith}
+ * are only evaluated during execution.
+ *
+ * @since 5.0
+ */
+class StaticConditionApplier {
+
+	private final ConditionEvaluator conditionEvaluator = new ConditionEvaluator();
+
+	void applyStaticConditions(ConfigurationParameters configurationParameters, TestDescriptor engineDescriptor) {
+		ExtensionRegistry registry = ExtensionRegistry.createRegistryWithDefaultExtensions();
+		TestDescriptor.Visitor disablingVisitor = descriptor -> {
+			AnnotatedElement element = getElement(descriptor);
+			if (element == null) {
+				return;
+			}
+			ConditionEvaluationResult result = this.conditionEvaluator.evaluateStatically(registry,
+				configurationParameters, element);
+			if (result.isDisabled()) {
+				((JupiterTestDescriptor) descriptor).disable(result.getReason().orElse("<unknown>"));
+				new ArrayList<>(descriptor.getChildren()).forEach(descriptor::removeChild);
+			}
+		};
+		engineDescriptor.accept(disablingVisitor);
+	}
+
+	private AnnotatedElement getElement(TestDescriptor descriptor) {
+		if (descriptor instanceof ClassTestDescriptor) {
+			return ((ClassTestDescriptor) descriptor).getTestClass();
+		}
+		if (descriptor instanceof MethodTestDescriptor) {
+			return ((MethodTestDescriptor) descriptor).getTestMethod();
+		}
+		if (descriptor instanceof TestTemplateTestDescriptor) {
+			return ((TestTemplateTestDescriptor) descriptor).getTestMethod();
+		}
+		return null;
+	}
+
+}
@@ -29,7 +29,7 @@ import org.junit.platform.engine.reporting.ReportEntry;
 /**
  * @since 5.0
  */
-abstract class AbstractExtensionContext<T extends TestDescriptor> implements ExtensionContext {
+abstract class AbstractExtensionContext<T extends TestDescriptor> implements ExtensionContext, AutoCloseable {
 
 	private final ExtensionContext parent;
 	private final EngineExecutionListener engineExecutionListener;
@@ -52,6 +52,16 @@ abstract class AbstractExtensionContext<T extends TestDescriptor> implements Ext
 		return new ExtensionValuesStore(parentStore);
 	}
 
+	/**
+	 * Close all {@link Store.CloseableResource CloseableResources} stored in
+	 * this context; to be called once the corresponding test or container
+	 * has finished.
+	 */
+	@Override
+	public void close() {
+		this.valuesStore.closeAllStoredCloseableValues();
+	}
+
 	@Override
 	public String getUniqueId() {
 		return getTestDescriptor().getUniqueId().toString();
@@ -0,0 +1,122 @@
+/*
+ * Copyright 2015-2017 the original author or authors.
+ *
+ * All rights reserved. This program and the accompanying materials are
+ * made available under the terms of the Eclipse Public License v1.0 which
+ * accompanies this distribution and is available at
+ *
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+
+package org.junit.jupiter.engine.descriptor;
+
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.platform.commons.util.Preconditions;
+
+/**
+ * Statistics computed from the measured durations of the iterations of a
+ * {@link org.junit.jupiter.api.Benchmark @Benchmark} method.
+ *
+ * <p>Percentiles are computed using the <em>nearest-rank</em> method.
+ *
+ * @since 5.0
+ */
+class BenchmarkStatistics {
+
+	private static final double NANOS_PER_SECOND = TimeUnit.SECONDS.toNanos(1);
+
+	private final int iterations;
+	private final double meanNanos;
+	private final long p50Nanos;
+	private final long p99Nanos;
+
+	/**
+	 * @param durationsInNanos the measured durations; never {@code null} or
+	 * empty
+	 */
+	static BenchmarkStatistics of(long[] durationsInNanos) {
+		Preconditions.condition(durationsInNanos.length > 0, "durations must not be empty");
+		long[] sorted = durationsInNanos.clone();
+		Arrays.sort(sorted);
+		double mean = Arrays.stream(sorted).average().getAsDouble();
+		return new BenchmarkStatistics(sorted.length, mean, percentile(sorted, 50), percentile(sorted, 99));
+	}
+
+	private static long percentile(long[] sorted, int percentile) {
+		int rank = (int) Math.ceil(percentile / 100.0 * sorted.length);
+		return sorted[Math.max(rank, 1) - 1];
+	}
+
+	private BenchmarkStatistics(int iterations, double meanNanos, long p50Nanos, long p99Nanos) {
+		this.iterations = iterations;
+		this.meanNanos = meanNanos;
+		this.p50Nanos = p50Nanos;
+		this.p99Nanos = p99Nanos;
+	}
+
+	int getIterations() {
+		return this.iterations;
+	}
+
+	double getMeanNanos() {
+		return this.meanNanos;
+	}
+
+	long getP50Nanos() {
+		return this.p50Nanos;
+	}
+
+	long getP99Nanos() {
+		return this.p99Nanos;
+	}
+
+	/**
+	 * Get the number of invocations per second.
+	 */
+	double getThroughput() {
+		return this.meanNanos == 0 ? Double.POSITIVE_INFINITY : NANOS_PER_SECOND / this.meanNanos;
+	}
+
+	/**
+	 * Convert these statistics into the values of a report entry; durations
+	 * are expressed in the supplied time unit.
+	 */
+	Map<String, String> toReportEntryValues(TimeUnit unit) {
+		Map<String, String> values = new LinkedHashMap<>();
+		values.put("benchmark.iterations", String.valueOf(this.iterations));
+		values.put("benchmark.mean", formatDuration(this.meanNanos, unit));
+		values.put("benchmark.p50", formatDuration(this.p50Nanos, unit));
+		values.put("benchmark.p99", formatDuration(this.p99Nanos, unit));
+		values.put("benchmark.throughput", String.format(Locale.ROOT, "%.1f ops/s", getThroughput()));
+		return values;
+	}
+
+	static String formatDuration(double nanos, TimeUnit unit) {
+		return String.format(Locale.ROOT, "%.3f %s", nanos / unit.toNanos(1), abbreviate(unit));
+	}
+
+	private static String abbreviate(TimeUnit unit) {
+		switch (unit) {
+			case NANOSECONDS:
+				return "ns";
+			case MICROSECONDS:
+				return "us";
+			case MILLISECONDS:
+				return "ms";
+			case SECONDS:
+				return "s";
+			case MINUTES:
+				return "min";
+			case HOURS:
+				return "h";
+			default:
+				return "d";
+		}
+	}
+
+}
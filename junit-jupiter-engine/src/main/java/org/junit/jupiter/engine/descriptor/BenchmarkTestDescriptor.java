@@ -0,0 +1,165 @@
+/*
+ * Copyright 2015-2017 the original author or authors.
+ *
+ * All rights reserved. This program and the accompanying materials are
+ * made available under the terms of the Eclipse Public License v1.0 which
+ * accompanies this distribution and is available at
+ *
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+
+package org.junit.jupiter.engine.descriptor;
+
+import static org.junit.platform.commons.meta.API.Usage.Internal;
+import static org.junit.platform.commons.util.AnnotationUtils.findAnnotation;
+
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+import org.junit.jupiter.api.Benchmark;
+import org.junit.jupiter.api.Blackhole;
+import org.junit.jupiter.api.extension.ExtensionContext;
+import org.junit.jupiter.api.extension.ParameterContext;
+import org.junit.jupiter.api.extension.ParameterResolver;
+import org.junit.jupiter.api.extension.TestExtensionContext;
+import org.junit.jupiter.engine.execution.ExecutableInvoker;
+import org.junit.jupiter.engine.execution.JupiterEngineExecutionContext;
+import org.junit.jupiter.engine.extension.ExtensionRegistry;
+import org.junit.platform.commons.meta.API;
+import org.junit.platform.commons.util.Preconditions;
+import org.junit.platform.commons.util.ReflectionUtils;
+import org.junit.platform.engine.TestDescriptor;
+import org.junit.platform.engine.UniqueId;
+import org.opentest4j.AssertionFailedError;
+
+/**
+ * {@link TestDescriptor} for {@link Benchmark @Benchmark} methods.
+ *
+ * <p>All warmup and measured iterations are executed as part of a single
+ * test so that neither the creation of test instances nor lifecycle methods
+ * distort the measurements. Each iteration is performed by the
+ * {@link ExecutableInvoker} and is thus subject to the timeout of the method
+ * and includes the completion of a returned
+ * {@link java.util.concurrent.CompletionStage CompletionStage}. Once all
+ * iterations have completed, the {@link BenchmarkStatistics} are published
+ * and the configured limits are verified.
+ *
+ * @since 5.0
+ */
+@API(Internal)
+public class BenchmarkTestDescriptor extends MethodTestDescriptor {
+
+	private static final ExecutableInvoker executableInvoker = new ExecutableInvoker();
+
+	public BenchmarkTestDescriptor(UniqueId uniqueId, Class<?> testClass, Method testMethod) {
+		super(uniqueId, testClass, testMethod);
+	}
+
+	// --- Node ----------------------------------------------------------------
+
+	/**
+	 * Always returns {@code true} since the {@link BlackholeParameterResolver}
+	 * of the benchmark is registered in a new registry.
+	 */
+	@Override
+	protected boolean hasMethodLevelExtensions() {
+		return true;
+	}
+
+	@Override
+	protected ExtensionRegistry populateNewExtensionRegistry(JupiterEngineExecutionContext context) {
+		ExtensionRegistry registry = super.populateNewExtensionRegistry(context);
+		registry.registerExtension(new BlackholeParameterResolver(), this);
+		return registry;
+	}
+
+	@Override
+	protected void invokeTestMethod(JupiterEngineExecutionContext context, DynamicTestExecutor dynamicTestExecutor) {
+		TestExtensionContext testExtensionContext = (TestExtensionContext) context.getExtensionContext();
+		ExtensionRegistry registry = context.getExtensionRegistry();
+
+		context.getThrowableCollector().execute(() -> {
+			try {
+				Benchmark benchmark = findAnnotation(getTestMethod(), Benchmark.class).get();
+				Preconditions.condition(benchmark.warmupIterations() >= 0,
+					"@Benchmark warmupIterations must not be negative");
+				Preconditions.condition(benchmark.iterations() > 0, "@Benchmark iterations must be greater than zero");
+
+				Supplier<Object> invocation = executableInvoker.prepareInvocation(getTestMethod(),
+					testExtensionContext.getTestInstance(), testExtensionContext, registry);
+				BenchmarkStatistics statistics = runIterations(benchmark, invocation);
+				testExtensionContext.publishReportEntry(statistics.toReportEntryValues(benchmark.unit()));
+				verifyLimits(benchmark, statistics);
+			}
+			catch (Throwable throwable) {
+				invokeTestExecutionExceptionHandlers(registry, testExtensionContext, throwable);
+			}
+		});
+	}
+
+	private static BenchmarkStatistics runIterations(Benchmark benchmark, Supplier<Object> invocation) {
+		for (int i = 0; i < benchmark.warmupIterations(); i++) {
+			invocation.get();
+		}
+		long[] durationsInNanos = new long[benchmark.iterations()];
+		for (int i = 0; i < durationsInNanos.length; i++) {
+			long startNanos = System.nanoTime();
+			invocation.get();
+			durationsInNanos[i] = System.nanoTime() - startNanos;
+		}
+		return BenchmarkStatistics.of(durationsInNanos);
+	}
+
+	private static void verifyLimits(Benchmark benchmark, BenchmarkStatistics statistics) {
+		TimeUnit unit = benchmark.unit();
+		List<String> violations = new ArrayList<>();
+		checkMaximum("mean", statistics.getMeanNanos(), benchmark.maxMean(), unit, violations);
+		checkMaximum("p50", statistics.getP50Nanos(), benchmark.maxP50(), unit, violations);
+		checkMaximum("p99", statistics.getP99Nanos(), benchmark.maxP99(), unit, violations);
+		double minThroughput = benchmark.minThroughput();
+		if (minThroughput > 0 && statistics.getThroughput() < minThroughput) {
+			violations.add(String.format(Locale.ROOT, "throughput of %.1f ops/s is below the minimum of %s ops/s",
+				statistics.getThroughput(), minThroughput));
+		}
+		if (!violations.isEmpty()) {
+			throw new AssertionFailedError("Benchmark " + String.join(", ", violations));
+		}
+	}
+
+	private static void checkMaximum(String name, double nanos, long maximum, TimeUnit unit,
+			List<String> violations) {
+
+		if (maximum > 0 && nanos > unit.toNanos(maximum)) {
+			violations.add(name + " of " + BenchmarkStatistics.formatDuration(nanos, unit) + " exceeds the maximum of "
+					+ BenchmarkStatistics.formatDuration(unit.toNanos(maximum), unit));
+		}
+	}
+
+	/**
+	 * Resolves the {@link Blackhole} of a benchmark.
+	 */
+	private static class BlackholeParameterResolver implements ParameterResolver {
+
+		private final Blackhole blackhole = ReflectionUtils.newInstance(Blackhole.class);
+
+		@Override
+		public boolean supports(ParameterContext parameterContext, ExtensionContext extensionContext) {
+			return parameterContext.getParameter().getType() == Blackhole.class;
+		}
+
+		@Override
+		public boolean supportDependsOnParameterOnly() {
+			return true;
+		}
+
+		@Override
+		public Blackhole resolve(ParameterContext parameterContext, ExtensionContext extensionContext) {
+			return this.blackhole;
+		}
+	}
+
+}
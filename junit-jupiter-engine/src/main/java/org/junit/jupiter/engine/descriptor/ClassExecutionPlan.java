@@ -0,0 +1,208 @@
+/*
+ * Copyright 2015-2017 the original author or authors.
+ *
+ * All rights reserved. This program and the accompanying materials are
+ * made available under the terms of the Eclipse Public License v1.0 which
+ * accompanies this distribution and is available at
+ *
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+
+package org.junit.jupiter.engine.descriptor;
+
+import static java.util.Collections.emptyList;
+import static java.util.Collections.unmodifiableList;
+import static java.util.stream.Collectors.toList;
+import static org.junit.jupiter.engine.descriptor.LifecycleMethodUtils.assertStatic;
+import static org.junit.jupiter.engine.descriptor.LifecycleMethodUtils.findAfterAllMethods;
+import static org.junit.jupiter.engine.descriptor.LifecycleMethodUtils.findAfterEachMethods;
+import static org.junit.jupiter.engine.descriptor.LifecycleMethodUtils.findBeforeAllMethods;
+import static org.junit.jupiter.engine.descriptor.LifecycleMethodUtils.findBeforeEachMethods;
+import static org.junit.platform.commons.util.AnnotationUtils.findRepeatableAnnotations;
+
+import java.lang.reflect.AnnotatedElement;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.TestInstance;
+import org.junit.jupiter.api.TestInstance.Lifecycle;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.extension.Extension;
+import org.junit.platform.commons.util.AnnotationUtils;
+import org.junit.platform.commons.util.ReflectionUtils;
+
+/**
+ * Immutable execution plan of a test class that is computed once per class
+ * and shared by all descriptors and executions of that class in the same
+ * JVM.
+ *
+ * <p>The plan contains the lifecycle methods of the class, the extension
+ * types registered via {@link ExtendWith @ExtendWith} on the class and its
+ * methods, the declared {@linkplain Lifecycle test instance lifecycle}, and
+ * the constructor used to instantiate the class. Validation errors that are
+ * reported during execution, such as non-static {@link BeforeAll @BeforeAll}
+ * methods or ambiguous constructors, are still reported each time the plan
+ * is used.
+ *
+ * @since 5.0
+ */
+final class ClassExecutionPlan {
+
+	private static final ClassValue<ClassExecutionPlan> plans = new ClassValue<ClassExecutionPlan>() {
+
+		@Override
+		protected ClassExecutionPlan computeValue(Class<?> testClass) {
+			return new ClassExecutionPlan(testClass);
+		}
+	};
+
+	private static final ClassValue<Optional<Field>> outerInstanceFields = new ClassValue<Optional<Field>>() {
+
+		@Override
+		protected Optional<Field> computeValue(Class<?> type) {
+			// This depends on the name of the synthetic field, which has been stable in all JDKs so far.
+			// @formatter:off
+			return Arrays.stream(type.getDeclaredFields())
+					.filter(field -> field.getName().startsWith("this$"))
+					.findFirst()
+					.map(field -> {
+						field.setAccessible(true);
+						return field;
+					});
+			// @formatter:on
+		}
+	};
+
+	static ClassExecutionPlan of(Class<?> testClass) {
+		return plans.get(testClass);
+	}
+
+	/**
+	 * Find the instance of the supplied type among the supplied instance of a
+	 * (possibly inner) class and its enclosing instances.
+	 *
+	 * <p>Equivalent to {@link ReflectionUtils#getOuterInstance(Object, Class)}
+	 * but looks up the fields that refer to enclosing instances only once per
+	 * class.
+	 */
+	static Optional<Object> findOuterInstance(Object inner, Class<?> targetType) {
+		Object current = inner;
+		while (!targetType.isInstance(current)) {
+			Optional<Field> field = outerInstanceFields.get(current.getClass());
+			if (!field.isPresent()) {
+				return Optional.empty();
+			}
+			try {
+				current = field.get().get(current);
+			}
+			catch (IllegalAccessException ex) {
+				return Optional.empty();
+			}
+			if (current == null) {
+				return Optional.empty();
+			}
+		}
+		return Optional.of(current);
+	}
+
+	private final Class<?> testClass;
+	private final Optional<Lifecycle> declaredLifecycle;
+	private final List<Class<? extends Extension>> extensionTypes;
+	private final List<Method> beforeAllMethods;
+	private final List<Method> afterAllMethods;
+	private final List<Method> beforeEachMethods;
+	private final List<Method> afterEachMethods;
+	private final List<Method> reversedAfterEachMethods;
+	private final Map<Method, List<Class<? extends Extension>>> methodExtensionTypes = new ConcurrentHashMap<>();
+
+	private volatile Constructor<?> constructor;
+
+	private ClassExecutionPlan(Class<?> testClass) {
+		this.testClass = testClass;
+		this.declaredLifecycle = AnnotationUtils.findAnnotation(testClass, TestInstance.class).map(
+			TestInstance::value);
+		this.extensionTypes = findExtensionTypes(testClass);
+		this.beforeAllMethods = unmodifiableList(findBeforeAllMethods(testClass, false));
+		this.afterAllMethods = unmodifiableList(findAfterAllMethods(testClass, false));
+		this.beforeEachMethods = unmodifiableList(findBeforeEachMethods(testClass));
+		this.afterEachMethods = unmodifiableList(findAfterEachMethods(testClass));
+		List<Method> reversed = new ArrayList<>(this.afterEachMethods);
+		Collections.reverse(reversed);
+		this.reversedAfterEachMethods = unmodifiableList(reversed);
+	}
+
+	Optional<Lifecycle> getDeclaredLifecycle() {
+		return this.declaredLifecycle;
+	}
+
+	List<Class<? extends Extension>> getExtensionTypes() {
+		return this.extensionTypes;
+	}
+
+	/**
+	 * Get the extension types registered via {@code @ExtendWith} on the
+	 * supplied method of the test class.
+	 */
+	List<Class<? extends Extension>> getExtensionTypes(Method method) {
+		return this.methodExtensionTypes.computeIfAbsent(method, ClassExecutionPlan::findExtensionTypes);
+	}
+
+	List<Method> getBeforeAllMethods(boolean requireStatic) {
+		if (requireStatic) {
+			this.beforeAllMethods.forEach(method -> assertStatic(BeforeAll.class, method));
+		}
+		return this.beforeAllMethods;
+	}
+
+	List<Method> getAfterAllMethods(boolean requireStatic) {
+		if (requireStatic) {
+			this.afterAllMethods.forEach(method -> assertStatic(AfterAll.class, method));
+		}
+		return this.afterAllMethods;
+	}
+
+	List<Method> getBeforeEachMethods() {
+		return this.beforeEachMethods;
+	}
+
+	List<Method> getAfterEachMethods() {
+		return this.afterEachMethods;
+	}
+
+	/**
+	 * Get the {@code @AfterEach} methods in top-down order.
+	 */
+	List<Method> getReversedAfterEachMethods() {
+		return this.reversedAfterEachMethods;
+	}
+
+	Constructor<?> getConstructor() {
+		Constructor<?> result = this.constructor;
+		if (result == null) {
+			result = ReflectionUtils.getDeclaredConstructor(this.testClass);
+			this.constructor = result;
+		}
+		return result;
+	}
+
+	private static List<Class<? extends Extension>> findExtensionTypes(AnnotatedElement element) {
+		// @formatter:off
+		List<Class<? extends Extension>> types = findRepeatableAnnotations(element, ExtendWith.class).stream()
+				.map(ExtendWith::value)
+				.flatMap(Arrays::stream)
+				.collect(toList());
+		// @formatter:on
+		return types.isEmpty() ? emptyList() : unmodifiableList(types);
+	}
+
+}
@@ -10,20 +10,18 @@
 
 package org.junit.jupiter.engine.descriptor;
 
-import static org.junit.jupiter.engine.descriptor.LifecycleMethodUtils.findAfterAllMethods;
-import static org.junit.jupiter.engine.descriptor.LifecycleMethodUtils.findAfterEachMethods;
-import static org.junit.jupiter.engine.descriptor.LifecycleMethodUtils.findBeforeAllMethods;
-import static org.junit.jupiter.engine.descriptor.LifecycleMethodUtils.findBeforeEachMethods;
+import static org.junit.jupiter.engine.descriptor.TestInstanceLifecycleUtils.getDefaultTestInstanceLifecycle;
 import static org.junit.platform.commons.meta.API.Usage.Internal;
 
 import java.lang.reflect.Constructor;
 import java.lang.reflect.Method;
-import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
+import java.util.Optional;
 import java.util.Set;
 import java.util.function.Function;
 
+import org.junit.jupiter.api.TestInstance.Lifecycle;
 import org.junit.jupiter.api.extension.AfterAllCallback;
 import org.junit.jupiter.api.extension.BeforeAllCallback;
 import org.junit.jupiter.api.extension.ContainerExtensionContext;
@@ -56,6 +54,16 @@ import org.junit.platform.engine.support.descriptor.ClassSource;
  * the fully qualified name of the class with the package name and leading dot
  * (".") removed.
  *
+ * <h3>Test Instance Lifecycle</h3>
+ *
+ * <p>Unless the {@linkplain org.junit.jupiter.api.TestInstance lifecycle mode}
+ * of the test class is {@link Lifecycle#PER_CLASS PER_CLASS}, a new test
+ * instance is created for each test. Otherwise, a single test instance is
+ * created before any {@link BeforeAllCallback BeforeAllCallbacks} are invoked
+ * and is used for all tests as well as for non-static
+ * {@link org.junit.jupiter.api.BeforeAll @BeforeAll} and
+ * {@link org.junit.jupiter.api.AfterAll @AfterAll} methods.
+ *
  * @since 5.0
  */
 @API(Internal)
@@ -64,11 +72,11 @@ public class ClassTestDescriptor extends JupiterTestDescriptor {
 	private static final ExecutableInvoker executableInvoker = new ExecutableInvoker();
 
 	private final Class<?> testClass;
+	private final ClassExecutionPlan executionPlan;
 
-	private final List<Method> beforeAllMethods;
-	private final List<Method> afterAllMethods;
-	private final List<Method> beforeEachMethods;
-	private final List<Method> afterEachMethods;
+	private Lifecycle lifecycle = Lifecycle.PER_METHOD;
+	private List<Method> beforeAllMethods = Collections.emptyList();
+	private List<Method> afterAllMethods = Collections.emptyList();
 
 	public ClassTestDescriptor(UniqueId uniqueId, Class<?> testClass) {
 		this(uniqueId, ClassTestDescriptor::generateDefaultDisplayName, testClass);
@@ -81,11 +89,7 @@ public class ClassTestDescriptor extends JupiterTestDescriptor {
 			defaultDisplayNameGenerator));
 
 		this.testClass = testClass;
-
-		this.beforeAllMethods = findBeforeAllMethods(testClass);
-		this.afterAllMethods = findAfterAllMethods(testClass);
-		this.beforeEachMethods = findBeforeEachMethods(testClass);
-		this.afterEachMethods = findAfterEachMethods(testClass);
+		this.executionPlan = ClassExecutionPlan.of(testClass);
 
 		setSource(new ClassSource(testClass));
 	}
@@ -101,6 +105,10 @@ public class ClassTestDescriptor extends JupiterTestDescriptor {
 		return this.testClass;
 	}
 
+	final ClassExecutionPlan getExecutionPlan() {
+		return this.executionPlan;
+	}
+
 	@Override
 	public final boolean isTest() {
 		return false;
@@ -111,6 +119,15 @@ public class ClassTestDescriptor extends JupiterTestDescriptor {
 		return true;
 	}
 
+	/**
+	 * Disabled test classes are reported as skipped, even though their
+	 * children have been removed during discovery.
+	 */
+	@Override
+	public boolean hasTests() {
+		return isDisabled() || super.hasTests();
+	}
+
 	@Override
 	public String getLegacyReportingName() {
 		return testClass.getName();
@@ -126,8 +143,17 @@ public class ClassTestDescriptor extends JupiterTestDescriptor {
 
 	@Override
 	public JupiterEngineExecutionContext prepare(JupiterEngineExecutionContext context) {
-		ExtensionRegistry registry = populateNewExtensionRegistryFromExtendWith(this.testClass,
-			context.getExtensionRegistry());
+		if (isDisabled()) {
+			return context;
+		}
+		this.lifecycle = this.executionPlan.getDeclaredLifecycle().orElseGet(
+			() -> getDefaultTestInstanceLifecycle(context.getConfigurationParameters()));
+		boolean requireStaticLifecycleMethods = (this.lifecycle == Lifecycle.PER_METHOD);
+		this.beforeAllMethods = this.executionPlan.getBeforeAllMethods(requireStaticLifecycleMethods);
+		this.afterAllMethods = this.executionPlan.getAfterAllMethods(requireStaticLifecycleMethods);
+
+		ExtensionRegistry registry = ExtensionRegistry.createRegistryFrom(context.getExtensionRegistry(),
+			this.executionPlan.getExtensionTypes());
 
 		registerBeforeEachMethodAdapters(registry);
 		registerAfterEachMethodAdapters(registry);
@@ -135,9 +161,15 @@ public class ClassTestDescriptor extends JupiterTestDescriptor {
 		ContainerExtensionContext containerExtensionContext = new ClassBasedContainerExtensionContext(
 			context.getExtensionContext(), context.getExecutionListener(), this);
 
+		TestInstanceProvider testInstanceProvider = testInstanceProvider(context, registry,
+			containerExtensionContext);
+		if (this.lifecycle == Lifecycle.PER_CLASS) {
+			testInstanceProvider = new PerClassTestInstanceProvider(testInstanceProvider);
+		}
+
 		// @formatter:off
 		return context.extend()
-				.withTestInstanceProvider(testInstanceProvider(context, registry, containerExtensionContext))
+				.withTestInstanceProvider(testInstanceProvider)
 				.withExtensionRegistry(registry)
 				.withExtensionContext(containerExtensionContext)
 				.withThrowableCollector(new ThrowableCollector())
@@ -154,7 +186,13 @@ public class ClassTestDescriptor extends JupiterTestDescriptor {
 	public JupiterEngineExecutionContext before(JupiterEngineExecutionContext context) throws Exception {
 		ThrowableCollector throwableCollector = context.getThrowableCollector();
 
-		invokeBeforeAllCallbacks(context);
+		if (this.lifecycle == Lifecycle.PER_CLASS) {
+			// Instantiate the test class before invoking any callbacks.
+			throwableCollector.execute(() -> context.getTestInstanceProvider().getTestInstance(Optional.empty()));
+		}
+		if (throwableCollector.isEmpty()) {
+			invokeBeforeAllCallbacks(context);
+		}
 		if (throwableCollector.isEmpty()) {
 			context.beforeAllMethodsExecuted(true);
 			invokeBeforeAllMethods(context);
@@ -171,6 +209,7 @@ public class ClassTestDescriptor extends JupiterTestDescriptor {
 			invokeAfterAllMethods(context);
 		}
 		invokeAfterAllCallbacks(context);
+		context.getThrowableCollector().execute(() -> closeExtensionContext(context));
 
 		context.getThrowableCollector().assertEmpty();
 	}
@@ -178,7 +217,7 @@ public class ClassTestDescriptor extends JupiterTestDescriptor {
 	protected TestInstanceProvider testInstanceProvider(JupiterEngineExecutionContext parentExecutionContext,
 			ExtensionRegistry registry, ExtensionContext extensionContext) {
 		return childExtensionRegistry -> {
-			Constructor<?> constructor = ReflectionUtils.getDeclaredConstructor(this.testClass);
+			Constructor<?> constructor = this.executionPlan.getConstructor();
 			Object instance = executableInvoker.invoke(constructor, extensionContext,
 				childExtensionRegistry.orElse(registry));
 			invokeTestInstancePostProcessors(instance, childExtensionRegistry.orElse(registry), extensionContext);
@@ -189,7 +228,7 @@ public class ClassTestDescriptor extends JupiterTestDescriptor {
 	protected void invokeTestInstancePostProcessors(Object instance, ExtensionRegistry registry,
 			ExtensionContext context) {
 
-		registry.stream(TestInstancePostProcessor.class).forEach(
+		registry.getExtensions(TestInstancePostProcessor.class).forEach(
 			extension -> executeAndMaskThrowable(() -> extension.postProcessTestInstance(instance, context)));
 	}
 
@@ -212,7 +251,9 @@ public class ClassTestDescriptor extends JupiterTestDescriptor {
 		ThrowableCollector throwableCollector = context.getThrowableCollector();
 
 		for (Method method : this.beforeAllMethods) {
-			throwableCollector.execute(() -> executableInvoker.invoke(method, extensionContext, registry));
+			throwableCollector.execute(
+				() -> executableInvoker.invoke(method, getTestInstanceForLifecycleMethod(method, context),
+					extensionContext, registry));
 			if (throwableCollector.isNotEmpty()) {
 				break;
 			}
@@ -224,8 +265,22 @@ public class ClassTestDescriptor extends JupiterTestDescriptor {
 		ContainerExtensionContext extensionContext = (ContainerExtensionContext) context.getExtensionContext();
 		ThrowableCollector throwableCollector = context.getThrowableCollector();
 
-		this.afterAllMethods.forEach(
-			method -> throwableCollector.execute(() -> executableInvoker.invoke(method, extensionContext, registry)));
+		this.afterAllMethods.forEach(method -> throwableCollector.execute(
+			() -> executableInvoker.invoke(method, getTestInstanceForLifecycleMethod(method, context),
+				extensionContext, registry)));
+	}
+
+	/**
+	 * Get the instance on which to invoke the supplied {@code @BeforeAll} or
+	 * {@code @AfterAll} method, which is {@code null} for static methods.
+	 */
+	private Object getTestInstanceForLifecycleMethod(Method method, JupiterEngineExecutionContext context)
+			throws Exception {
+
+		if (ReflectionUtils.isStatic(method)) {
+			return null;
+		}
+		return context.getTestInstanceProvider().getTestInstance(Optional.empty());
 	}
 
 	private void invokeAfterAllCallbacks(JupiterEngineExecutionContext context) {
@@ -238,19 +293,17 @@ public class ClassTestDescriptor extends JupiterTestDescriptor {
 	}
 
 	private void registerBeforeEachMethodAdapters(ExtensionRegistry registry) {
-		registerMethodsAsExtensions(this.beforeEachMethods, registry, this::synthesizeBeforeEachMethodAdapter);
+		registerMethodsAsExtensions(this.executionPlan.getBeforeEachMethods(), registry,
+			this::synthesizeBeforeEachMethodAdapter);
 	}
 
 	private void registerAfterEachMethodAdapters(ExtensionRegistry registry) {
 
 		// Since the bottom-up ordering of afterEachMethods will later be reversed when the
 		// synthesized AfterEachMethodAdapters are executed within MethodTestDescriptor, we
-		// have to reverse the afterEachMethods list to put them in top-down order before we
-		// register them as synthesized extensions.
-		List<Method> reversed = new ArrayList<>(this.afterEachMethods);
-		Collections.reverse(reversed);
-
-		registerMethodsAsExtensions(reversed, registry, this::synthesizeAfterEachMethodAdapter);
+		// have to register the afterEachMethods in top-down order as synthesized extensions.
+		registerMethodsAsExtensions(this.executionPlan.getReversedAfterEachMethods(), registry,
+			this::synthesizeAfterEachMethodAdapter);
 	}
 
 	private void registerMethodsAsExtensions(List<Method> methods, ExtensionRegistry registry,
@@ -270,11 +323,38 @@ public class ClassTestDescriptor extends JupiterTestDescriptor {
 	private void invokeMethodInTestExtensionContext(Method method, TestExtensionContext context,
 			ExtensionRegistry registry) {
 
-		Object instance = ReflectionUtils.getOuterInstance(context.getTestInstance(),
+		Object instance = ClassExecutionPlan.findOuterInstance(context.getTestInstance(),
 			method.getDeclaringClass()).orElseThrow(
 				() -> new JUnitException("Failed to find instance for method: " + method.toGenericString()));
 
 		executableInvoker.invoke(method, instance, context, registry);
 	}
 
+	/**
+	 * {@link TestInstanceProvider} that creates a single test instance on
+	 * first access and returns it for all subsequent requests.
+	 *
+	 * <p>Since the instance is shared, extensions registered for individual
+	 * test methods are not taken into account when creating it.
+	 */
+	private static class PerClassTestInstanceProvider implements TestInstanceProvider {
+
+		private final TestInstanceProvider delegate;
+		private Object testInstance;
+
+		PerClassTestInstanceProvider(TestInstanceProvider delegate) {
+			this.delegate = delegate;
+		}
+
+		@Override
+		public synchronized Object getTestInstance(Optional<ExtensionRegistry> childExtensionRegistry)
+				throws Exception {
+
+			if (this.testInstance == null) {
+				this.testInstance = this.delegate.getTestInstance(Optional.empty());
+			}
+			return this.testInstance;
+		}
+	}
+
 }
@@ -0,0 +1,210 @@
+/*
+ * Copyright 2015-2017 the original author or authors.
+ *
+ * All rights reserved. This program and the accompanying materials are
+ * made available under the terms of the Eclipse Public License v1.0 which
+ * accompanies this distribution and is available at
+ *
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+
+package org.junit.jupiter.engine.descriptor;
+
+import static org.junit.jupiter.engine.Constants.DYNAMIC_TEST_PARALLELISM_PROPERTY_NAME;
+
+import java.util.Optional;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.logging.Logger;
+
+import org.junit.platform.commons.util.ExceptionUtils;
+import org.junit.platform.engine.ConfigurationParameters;
+import org.junit.platform.engine.TestDescriptor;
+import org.junit.platform.engine.support.hierarchical.Node.DynamicTestExecutor;
+
+/**
+ * Executes the dynamic children of a single container &mdash; test template
+ * invocations or dynamic tests &mdash; via a {@link DynamicTestExecutor}.
+ *
+ * <p>By default, each child is executed in the calling thread as soon as it
+ * is {@linkplain #submit submitted}. If a parallelism greater than one is
+ * configured via the {@value org.junit.jupiter.engine.Constants#DYNAMIC_TEST_PARALLELISM_PROPERTY_NAME}
+ * configuration parameter, children are executed concurrently by a thread
+ * pool that is owned by this executor. Submitting a child blocks while the
+ * configured number of children is executing so that children are only
+ * created as fast as they are executed.
+ *
+ * <p>{@link #awaitCompletion()} must be called once all children have been
+ * submitted.
+ *
+ * @since 5.0
+ */
+final class DynamicChildrenExecutor {
+
+	private static final Logger LOG = Logger.getLogger(DynamicChildrenExecutor.class.getName());
+
+	private static final int SEQUENTIAL = 1;
+
+	static DynamicChildrenExecutor create(ConfigurationParameters configParams, DynamicTestExecutor delegate) {
+		return new DynamicChildrenExecutor(delegate, getParallelism(configParams));
+	}
+
+	static int getParallelism(ConfigurationParameters configParams) {
+		Optional<String> value = configParams.get(DYNAMIC_TEST_PARALLELISM_PROPERTY_NAME);
+		if (value.isPresent()) {
+			try {
+				int parallelism = Integer.parseInt(value.get().trim());
+				if (parallelism >= SEQUENTIAL) {
+					return parallelism;
+				}
+			}
+			catch (NumberFormatException ex) {
+				// fall through
+			}
+			LOG.warning(() -> String.format(
+				"Invalid parallelism '%s' set via the '%s' configuration parameter. "
+						+ "Falling back to sequential execution.",
+				value.get(), DYNAMIC_TEST_PARALLELISM_PROPERTY_NAME));
+		}
+		return SEQUENTIAL;
+	}
+
+	private final DynamicTestExecutor delegate;
+	private final int parallelism;
+	private final Semaphore permits;
+	private ExecutorService executorService;
+
+	/** First exception that escaped the execution of a child; guarded by {@code this} */
+	private Throwable failure;
+
+	private DynamicChildrenExecutor(DynamicTestExecutor delegate, int parallelism) {
+		this.delegate = delegate;
+		this.parallelism = parallelism;
+		this.permits = new Semaphore(parallelism);
+	}
+
+	/**
+	 * Submit the supplied child for execution.
+	 *
+	 * @see #submit(TestDescriptor, Runnable)
+	 */
+	void submit(TestDescriptor testDescriptor) {
+		submit(testDescriptor, () -> {
+		});
+	}
+
+	/**
+	 * Submit the supplied child for execution and run the supplied callback
+	 * in the same thread once the child has been executed.
+	 */
+	void submit(TestDescriptor testDescriptor, Runnable afterExecution) {
+		if (this.parallelism == SEQUENTIAL) {
+			this.delegate.execute(testDescriptor);
+			afterExecution.run();
+			return;
+		}
+		acquirePermit();
+		try {
+			getExecutorService().execute(() -> {
+				try {
+					this.delegate.execute(testDescriptor);
+					afterExecution.run();
+				}
+				catch (Throwable t) {
+					addFailure(t);
+				}
+				finally {
+					this.permits.release();
+				}
+			});
+		}
+		catch (RuntimeException ex) {
+			this.permits.release();
+			throw ex;
+		}
+	}
+
+	/**
+	 * Wait until all submitted children have been executed and release the
+	 * threads used to execute them.
+	 *
+	 * <p>Any exception that escaped the execution of a child is rethrown
+	 * once all children have completed.
+	 */
+	void awaitCompletion() {
+		if (this.executorService == null) {
+			return;
+		}
+		try {
+			this.executorService.shutdown();
+			this.executorService.awaitTermination(Long.MAX_VALUE, TimeUnit.NANOSECONDS);
+		}
+		catch (InterruptedException ex) {
+			Thread.currentThread().interrupt();
+			this.executorService.shutdownNow();
+			throw ExceptionUtils.throwAsUncheckedException(ex);
+		}
+		finally {
+			this.executorService = null;
+		}
+		synchronized (this) {
+			if (this.failure != null) {
+				throw ExceptionUtils.throwAsUncheckedException(this.failure);
+			}
+		}
+	}
+
+	private synchronized void addFailure(Throwable t) {
+		if (this.failure == null) {
+			this.failure = t;
+		}
+		else {
+			this.failure.addSuppressed(t);
+		}
+	}
+
+	private void acquirePermit() {
+		try {
+			this.permits.acquire();
+		}
+		catch (InterruptedException ex) {
+			Thread.currentThread().interrupt();
+			throw ExceptionUtils.throwAsUncheckedException(ex);
+		}
+	}
+
+	private ExecutorService getExecutorService() {
+		if (this.executorService == null) {
+			this.executorService = Executors.newFixedThreadPool(this.parallelism,
+				new DynamicChildThreadFactory(Thread.currentThread().getContextClassLoader()));
+		}
+		return this.executorService;
+	}
+
+	private static class DynamicChildThreadFactory implements ThreadFactory {
+
+		private static final AtomicInteger poolNumber = new AtomicInteger();
+
+		private final int poolId = poolNumber.incrementAndGet();
+		private final AtomicInteger threadNumber = new AtomicInteger();
+		private final ClassLoader contextClassLoader;
+
+		DynamicChildThreadFactory(ClassLoader contextClassLoader) {
+			this.contextClassLoader = contextClassLoader;
+		}
+
+		@Override
+		public Thread newThread(Runnable runnable) {
+			Thread thread = new Thread(runnable,
+				"junit-jupiter-dynamic-" + this.poolId + "-" + this.threadNumber.incrementAndGet());
+			thread.setDaemon(true);
+			thread.setContextClassLoader(this.contextClassLoader);
+			return thread;
+		}
+	}
+
+}
@@ -13,6 +13,7 @@ package org.junit.jupiter.engine.descriptor;
 import static org.junit.jupiter.engine.extension.ExtensionRegistry.createRegistryWithDefaultExtensions;
 import static org.junit.platform.commons.meta.API.Usage.Internal;
 
+import org.junit.jupiter.api.extension.ExtensionContext;
 import org.junit.jupiter.engine.execution.JupiterEngineExecutionContext;
 import org.junit.platform.commons.meta.API;
 import org.junit.platform.engine.UniqueId;
@@ -31,7 +32,26 @@ public class JupiterEngineDescriptor extends EngineDescriptor implements Node<Ju
 
 	@Override
 	public JupiterEngineExecutionContext before(JupiterEngineExecutionContext context) {
-		return context.extend().withExtensionRegistry(createRegistryWithDefaultExtensions()).build();
+		// @formatter:off
+		return context.extend()
+				.withExtensionRegistry(createRegistryWithDefaultExtensions(context.getConfigurationParameters()))
+				.withExtensionContext(new JupiterEngineExtensionContext(context.getExecutionListener(), this,
+					context.getConfigurationParameters()))
+				.build();
+		// @formatter:on
+	}
+
+	/**
+	 * Close the engine extension context created by {@link #before}, if any;
+	 * the context is missing if {@code before()} failed, in which case there
+	 * is nothing to close and the original failure is reported.
+	 */
+	@Override
+	public void after(JupiterEngineExecutionContext context) {
+		ExtensionContext extensionContext = context.getExtensionContext();
+		if (extensionContext instanceof JupiterEngineExtensionContext) {
+			((JupiterEngineExtensionContext) extensionContext).close();
+		}
 	}
 
 }
@@ -0,0 +1,62 @@
+/*
+ * Copyright 2015-2017 the original author or authors.
+ *
+ * All rights reserved. This program and the accompanying materials are
+ * made available under the terms of the Eclipse Public License v1.0 which
+ * accompanies this distribution and is available at
+ *
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+
+package org.junit.jupiter.engine.descriptor;
+
+import static org.junit.platform.commons.meta.API.Usage.Internal;
+
+import java.lang.reflect.AnnotatedElement;
+import java.lang.reflect.Method;
+import java.util.Optional;
+
+import org.junit.jupiter.api.extension.ContainerExtensionContext;
+import org.junit.platform.commons.meta.API;
+import org.junit.platform.engine.ConfigurationParameters;
+import org.junit.platform.engine.EngineExecutionListener;
+
+/**
+ * Root {@link ContainerExtensionContext} that encapsulates the execution of
+ * the {@link JupiterEngineDescriptor} and is shared by all test classes.
+ *
+ * @since 5.0
+ */
+@API(Internal)
+public final class JupiterEngineExtensionContext extends AbstractExtensionContext<JupiterEngineDescriptor>
+		implements ContainerExtensionContext {
+
+	private final ConfigurationParameters configurationParameters;
+
+	public JupiterEngineExtensionContext(EngineExecutionListener engineExecutionListener,
+			JupiterEngineDescriptor testDescriptor, ConfigurationParameters configurationParameters) {
+		super(null, engineExecutionListener, testDescriptor);
+		this.configurationParameters = configurationParameters;
+	}
+
+	@Override
+	public Optional<AnnotatedElement> getElement() {
+		return Optional.empty();
+	}
+
+	@Override
+	public Optional<Class<?>> getTestClass() {
+		return Optional.empty();
+	}
+
+	@Override
+	public Optional<Method> getTestMethod() {
+		return Optional.empty();
+	}
+
+	@Override
+	public Optional<String> getConfigurationParameter(String key) {
+		return this.configurationParameters.get(key);
+	}
+
+}
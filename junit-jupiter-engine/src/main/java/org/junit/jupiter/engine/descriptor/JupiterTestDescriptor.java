@@ -11,15 +11,12 @@
 package org.junit.jupiter.engine.descriptor;
 
 import static java.util.stream.Collectors.toCollection;
-import static java.util.stream.Collectors.toList;
 import static org.junit.platform.commons.meta.API.Usage.Internal;
 import static org.junit.platform.commons.util.AnnotationUtils.findAnnotation;
 import static org.junit.platform.commons.util.AnnotationUtils.findRepeatableAnnotations;
 
 import java.lang.reflect.AnnotatedElement;
-import java.util.Arrays;
 import java.util.LinkedHashSet;
-import java.util.List;
 import java.util.Set;
 import java.util.function.Function;
 
@@ -27,13 +24,10 @@ import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Tag;
 import org.junit.jupiter.api.extension.ConditionEvaluationResult;
 import org.junit.jupiter.api.extension.ContainerExtensionContext;
-import org.junit.jupiter.api.extension.ExtendWith;
-import org.junit.jupiter.api.extension.Extension;
 import org.junit.jupiter.api.extension.TestExtensionContext;
 import org.junit.jupiter.api.function.Executable;
 import org.junit.jupiter.engine.execution.ConditionEvaluator;
 import org.junit.jupiter.engine.execution.JupiterEngineExecutionContext;
-import org.junit.jupiter.engine.extension.ExtensionRegistry;
 import org.junit.platform.commons.meta.API;
 import org.junit.platform.commons.util.ExceptionUtils;
 import org.junit.platform.commons.util.StringUtils;
@@ -51,10 +45,30 @@ public abstract class JupiterTestDescriptor extends AbstractTestDescriptor
 
 	private static final ConditionEvaluator conditionEvaluator = new ConditionEvaluator();
 
+	private volatile String disabledReason;
+
 	JupiterTestDescriptor(UniqueId uniqueId, String displayName) {
 		super(uniqueId, displayName);
 	}
 
+	/**
+	 * Mark this descriptor as disabled by a
+	 * {@link org.junit.jupiter.api.extension.StaticExecutionCondition StaticExecutionCondition}
+	 * that has been evaluated during discovery.
+	 *
+	 * <p>Disabled descriptors are skipped without preparing an extension
+	 * registry, an extension context, or a test instance.
+	 *
+	 * @param reason the reason for disabling this descriptor
+	 */
+	public void disable(String reason) {
+		this.disabledReason = reason;
+	}
+
+	public final boolean isDisabled() {
+		return this.disabledReason != null;
+	}
+
 	// --- TestDescriptor ------------------------------------------------------
 
 	protected static Set<TestTag> getTags(AnnotatedElement element) {
@@ -85,6 +99,9 @@ public abstract class JupiterTestDescriptor extends AbstractTestDescriptor
 	}
 
 	protected SkipResult shouldContainerBeSkipped(JupiterEngineExecutionContext context) {
+		if (isDisabled()) {
+			return SkipResult.skip(this.disabledReason);
+		}
 		ConditionEvaluationResult evaluationResult = conditionEvaluator.evaluateForContainer(
 			context.getExtensionRegistry(), context.getConfigurationParameters(),
 			(ContainerExtensionContext) context.getExtensionContext());
@@ -92,6 +109,9 @@ public abstract class JupiterTestDescriptor extends AbstractTestDescriptor
 	}
 
 	protected SkipResult shouldTestBeSkipped(JupiterEngineExecutionContext context) {
+		if (isDisabled()) {
+			return SkipResult.skip(this.disabledReason);
+		}
 		ConditionEvaluationResult evaluationResult = conditionEvaluator.evaluateForTest(context.getExtensionRegistry(),
 			context.getConfigurationParameters(), (TestExtensionContext) context.getExtensionContext());
 		return toSkipResult(evaluationResult);
@@ -104,15 +124,14 @@ public abstract class JupiterTestDescriptor extends AbstractTestDescriptor
 		return SkipResult.doNotSkip();
 	}
 
-	protected ExtensionRegistry populateNewExtensionRegistryFromExtendWith(AnnotatedElement annotatedElement,
-			ExtensionRegistry existingExtensionRegistry) {
-		// @formatter:off
-		List<Class<? extends Extension>> extensionTypes = findRepeatableAnnotations(annotatedElement, ExtendWith.class).stream()
-				.map(ExtendWith::value)
-				.flatMap(Arrays::stream)
-				.collect(toList());
-		// @formatter:on
-		return ExtensionRegistry.createRegistryFrom(existingExtensionRegistry, extensionTypes);
+	/**
+	 * Close the extension context that was created for this descriptor,
+	 * thereby closing all {@link org.junit.jupiter.api.extension.ExtensionContext.Store.CloseableResource
+	 * CloseableResources}
+	 * stored in it.
+	 */
+	protected void closeExtensionContext(JupiterEngineExecutionContext context) {
+		((AbstractExtensionContext<?>) context.getExtensionContext()).close();
 	}
 
 	/**
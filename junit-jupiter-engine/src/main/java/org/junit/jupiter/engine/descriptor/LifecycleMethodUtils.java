@@ -37,15 +37,19 @@ final class LifecycleMethodUtils {
 	}
 	///CLOVER:ON
 
-	static List<Method> findBeforeAllMethods(Class<?> testClass) {
+	static List<Method> findBeforeAllMethods(Class<?> testClass, boolean requireStatic) {
 		List<Method> methods = findAnnotatedMethods(testClass, BeforeAll.class, HierarchyTraversalMode.TOP_DOWN);
-		methods.forEach(method -> assertStatic(BeforeAll.class, method));
+		if (requireStatic) {
+			methods.forEach(method -> assertStatic(BeforeAll.class, method));
+		}
 		return methods;
 	}
 
-	static List<Method> findAfterAllMethods(Class<?> testClass) {
+	static List<Method> findAfterAllMethods(Class<?> testClass, boolean requireStatic) {
 		List<Method> methods = findAnnotatedMethods(testClass, AfterAll.class, HierarchyTraversalMode.BOTTOM_UP);
-		methods.forEach(method -> assertStatic(AfterAll.class, method));
+		if (requireStatic) {
+			methods.forEach(method -> assertStatic(AfterAll.class, method));
+		}
 		return methods;
 	}
 
@@ -61,7 +65,7 @@ final class LifecycleMethodUtils {
 		return methods;
 	}
 
-	private static void assertStatic(Class<? extends Annotation> annotationType, Method method) {
+	static void assertStatic(Class<? extends Annotation> annotationType, Method method) {
 		if (!ReflectionUtils.isStatic(method)) {
 			throw new JUnitException(String.format("@%s method '%s' must be static.", annotationType.getSimpleName(),
 				method.toGenericString()));
@@ -81,7 +81,11 @@ public class MethodTestDescriptor extends MethodBasedTestDescriptor {
 
 	@Override
 	public JupiterEngineExecutionContext prepare(JupiterEngineExecutionContext context) throws Exception {
-		ExtensionRegistry registry = populateNewExtensionRegistry(context);
+		if (isDisabled()) {
+			return context;
+		}
+		ExtensionRegistry registry = (hasMethodLevelExtensions() ? populateNewExtensionRegistry(context)
+				: context.getExtensionRegistry());
 		Object testInstance = context.getTestInstanceProvider().getTestInstance(Optional.of(registry));
 		ThrowableCollector throwableCollector = new ThrowableCollector();
 		TestExtensionContext testExtensionContext = new MethodBasedTestExtensionContext(context.getExtensionContext(),
@@ -96,8 +100,19 @@ public class MethodTestDescriptor extends MethodBasedTestDescriptor {
 		// @formatter:on
 	}
 
+	/**
+	 * Determine whether extensions are registered for this test method, in
+	 * which case a new {@link ExtensionRegistry} is
+	 * {@linkplain #populateNewExtensionRegistry populated}; otherwise, the
+	 * registry of the test class is used.
+	 */
+	protected boolean hasMethodLevelExtensions() {
+		return !ClassExecutionPlan.of(getTestClass()).getExtensionTypes(getTestMethod()).isEmpty();
+	}
+
 	protected ExtensionRegistry populateNewExtensionRegistry(JupiterEngineExecutionContext context) {
-		return populateNewExtensionRegistryFromExtendWith(this.getTestMethod(), context.getExtensionRegistry());
+		return ExtensionRegistry.createRegistryFrom(context.getExtensionRegistry(),
+			ClassExecutionPlan.of(getTestClass()).getExtensionTypes(getTestMethod()));
 	}
 
 	@Override
@@ -131,6 +146,13 @@ public class MethodTestDescriptor extends MethodBasedTestDescriptor {
 		return context;
 	}
 
+	@Override
+	public void after(JupiterEngineExecutionContext context) throws Exception {
+		ThrowableCollector throwableCollector = context.getThrowableCollector();
+		throwableCollector.execute(() -> closeExtensionContext(context));
+		throwableCollector.assertEmpty();
+	}
+
 	private void invokeBeforeEachCallbacks(JupiterEngineExecutionContext context) {
 		invokeBeforeMethodsOrCallbacksUntilExceptionOccurs(context,
 			((extensionContext, callback) -> () -> callback.beforeEach(extensionContext)), BeforeEachCallback.class);
@@ -182,26 +204,27 @@ public class MethodTestDescriptor extends MethodBasedTestDescriptor {
 		});
 	}
 
-	private void invokeTestExecutionExceptionHandlers(ExtensionRegistry registry, TestExtensionContext context,
+	protected void invokeTestExecutionExceptionHandlers(ExtensionRegistry registry, TestExtensionContext context,
 			Throwable ex) {
 
-		invokeTestExecutionExceptionHandlers(ex, registry.getExtensions(TestExecutionExceptionHandler.class), context);
+		invokeTestExecutionExceptionHandlers(ex, registry.getExtensions(TestExecutionExceptionHandler.class), 0,
+			context);
 	}
 
 	private void invokeTestExecutionExceptionHandlers(Throwable ex, List<TestExecutionExceptionHandler> handlers,
-			TestExtensionContext context) {
+			int index, TestExtensionContext context) {
 
 		// No handlers left?
-		if (handlers.isEmpty()) {
+		if (index == handlers.size()) {
 			ExceptionUtils.throwAsUncheckedException(ex);
 		}
 
 		try {
 			// Invoke next available handler
-			handlers.remove(0).handleTestExecutionException(context, ex);
+			handlers.get(index).handleTestExecutionException(context, ex);
 		}
 		catch (Throwable t) {
-			invokeTestExecutionExceptionHandlers(t, handlers, context);
+			invokeTestExecutionExceptionHandlers(t, handlers, index + 1, context);
 		}
 	}
 
@@ -22,7 +22,6 @@ import org.junit.jupiter.engine.execution.JupiterEngineExecutionContext;
 import org.junit.jupiter.engine.execution.TestInstanceProvider;
 import org.junit.jupiter.engine.extension.ExtensionRegistry;
 import org.junit.platform.commons.meta.API;
-import org.junit.platform.commons.util.ReflectionUtils;
 import org.junit.platform.engine.TestDescriptor;
 import org.junit.platform.engine.TestTag;
 import org.junit.platform.engine.UniqueId;
@@ -65,7 +64,7 @@ public class NestedClassTestDescriptor extends ClassTestDescriptor {
 			Optional<ExtensionRegistry> childExtensionRegistryForOuterInstance = Optional.empty();
 			Object outerInstance = parentExecutionContext.getTestInstanceProvider().getTestInstance(
 				childExtensionRegistryForOuterInstance);
-			Constructor<?> constructor = ReflectionUtils.getDeclaredConstructor(getTestClass());
+			Constructor<?> constructor = getExecutionPlan().getConstructor();
 			Object instance = executableInvoker.invoke(constructor, outerInstance, extensionContext,
 				childExtensionRegistry.orElse(registry));
 			invokeTestInstancePostProcessors(instance, childExtensionRegistry.orElse(registry), extensionContext);
@@ -13,6 +13,7 @@ package org.junit.jupiter.engine.descriptor;
 import static java.util.Spliterator.ORDERED;
 import static java.util.Spliterators.spliteratorUnknownSize;
 import static java.util.stream.StreamSupport.stream;
+import static org.junit.jupiter.engine.Constants.DYNAMIC_TEST_STREAMING_ENABLED_PROPERTY_NAME;
 import static org.junit.platform.commons.meta.API.Usage.Internal;
 
 import java.lang.reflect.Method;
@@ -27,6 +28,7 @@ import org.junit.jupiter.engine.execution.ExecutableInvoker;
 import org.junit.jupiter.engine.execution.JupiterEngineExecutionContext;
 import org.junit.platform.commons.JUnitException;
 import org.junit.platform.commons.meta.API;
+import org.junit.platform.engine.EngineExecutionListener;
 import org.junit.platform.engine.TestDescriptor;
 import org.junit.platform.engine.UniqueId;
 
@@ -74,6 +76,7 @@ public class TestFactoryTestDescriptor extends MethodTestDescriptor {
 	@Override
 	protected void invokeTestMethod(JupiterEngineExecutionContext context, DynamicTestExecutor dynamicTestExecutor) {
 		TestExtensionContext testExtensionContext = (TestExtensionContext) context.getExtensionContext();
+		EngineExecutionListener releaseListener = isStreamingEnabled(context) ? context.getExecutionListener() : null;
 
 		context.getThrowableCollector().execute(() -> {
 			Method method = testExtensionContext.getTestMethod().get();
@@ -84,8 +87,15 @@ public class TestFactoryTestDescriptor extends MethodTestDescriptor {
 			try (Stream<DynamicTest> dynamicTestStream = toDynamicTestStream(testExtensionContext,
 				testFactoryMethodResult)) {
 				AtomicInteger index = new AtomicInteger();
-				dynamicTestStream.forEach(
-					dynamicTest -> registerAndExecute(dynamicTest, index.incrementAndGet(), dynamicTestExecutor));
+				DynamicChildrenExecutor childrenExecutor = DynamicChildrenExecutor.create(
+					context.getConfigurationParameters(), dynamicTestExecutor);
+				try {
+					dynamicTestStream.forEach(dynamicTest -> registerAndExecute(dynamicTest, index.incrementAndGet(),
+						childrenExecutor, releaseListener));
+				}
+				finally {
+					childrenExecutor.awaitCompletion();
+				}
 			}
 			catch (ClassCastException ex) {
 				throw invalidReturnTypeException(testExtensionContext);
@@ -117,11 +127,39 @@ public class TestFactoryTestDescriptor extends MethodTestDescriptor {
 		throw invalidReturnTypeException(testExtensionContext);
 	}
 
-	private void registerAndExecute(DynamicTest dynamicTest, int index, DynamicTestExecutor dynamicTestExecutor) {
+	private boolean isStreamingEnabled(JupiterEngineExecutionContext context) {
+		// @formatter:off
+		return context.getConfigurationParameters()
+				.get(DYNAMIC_TEST_STREAMING_ENABLED_PROPERTY_NAME)
+				.map(Boolean::parseBoolean)
+				.orElse(false);
+		// @formatter:on
+	}
+
+	/**
+	 * Register and execute the supplied dynamic test. If a
+	 * {@code releaseListener} is supplied, the test is detached from this
+	 * descriptor and released after its execution so that neither the test
+	 * nor its descriptor is retained.
+	 */
+	private void registerAndExecute(DynamicTest dynamicTest, int index, DynamicChildrenExecutor childrenExecutor,
+			EngineExecutionListener releaseListener) {
+
 		UniqueId uniqueId = getUniqueId().append(DYNAMIC_TEST_SEGMENT_TYPE, "#" + index);
 		TestDescriptor descriptor = new DynamicTestTestDescriptor(uniqueId, dynamicTest, getSource().get());
-		addChild(descriptor);
-		dynamicTestExecutor.execute(descriptor);
+		synchronized (this) {
+			addChild(descriptor);
+		}
+		if (releaseListener == null) {
+			childrenExecutor.submit(descriptor);
+			return;
+		}
+		childrenExecutor.submit(descriptor, () -> {
+			synchronized (this) {
+				removeChild(descriptor);
+			}
+			releaseListener.dynamicTestReleased(descriptor);
+		});
 	}
 
 	private JUnitException invalidReturnTypeException(TestExtensionContext testExtensionContext) {
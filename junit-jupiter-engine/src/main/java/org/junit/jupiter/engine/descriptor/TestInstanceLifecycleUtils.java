@@ -0,0 +1,75 @@
+/*
+ * Copyright 2015-2017 the original author or authors.
+ *
+ * All rights reserved. This program and the accompanying materials are
+ * made available under the terms of the Eclipse Public License v1.0 which
+ * accompanies this distribution and is available at
+ *
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+
+package org.junit.jupiter.engine.descriptor;
+
+import static org.junit.jupiter.engine.Constants.DEFAULT_TEST_INSTANCE_LIFECYCLE_PROPERTY_NAME;
+
+import java.util.Locale;
+import java.util.Optional;
+import java.util.logging.Logger;
+
+import org.junit.jupiter.api.TestInstance;
+import org.junit.jupiter.api.TestInstance.Lifecycle;
+import org.junit.platform.commons.util.AnnotationUtils;
+import org.junit.platform.commons.util.Preconditions;
+import org.junit.platform.engine.ConfigurationParameters;
+
+/**
+ * Collection of utilities for retrieving the test instance lifecycle mode.
+ *
+ * @since 5.0
+ * @see TestInstance
+ * @see Lifecycle
+ */
+final class TestInstanceLifecycleUtils {
+
+	private static final Logger LOG = Logger.getLogger(TestInstanceLifecycleUtils.class.getName());
+
+	///CLOVER:OFF
+	private TestInstanceLifecycleUtils() {
+		/* no-op */
+	}
+	///CLOVER:ON
+
+	/**
+	 * Determine the test instance lifecycle mode for the supplied test class,
+	 * taking {@link TestInstance @TestInstance} into account before the
+	 * default configured via the supplied configuration parameters.
+	 */
+	static Lifecycle getTestInstanceLifecycle(Class<?> testClass, ConfigurationParameters configParams) {
+		Preconditions.notNull(testClass, "testClass must not be null");
+		Preconditions.notNull(configParams, "ConfigurationParameters must not be null");
+
+		// @formatter:off
+		return AnnotationUtils.findAnnotation(testClass, TestInstance.class)
+				.map(TestInstance::value)
+				.orElseGet(() -> getDefaultTestInstanceLifecycle(configParams));
+		// @formatter:on
+	}
+
+	static Lifecycle getDefaultTestInstanceLifecycle(ConfigurationParameters configParams) {
+		Optional<String> value = configParams.get(DEFAULT_TEST_INSTANCE_LIFECYCLE_PROPERTY_NAME);
+		if (value.isPresent()) {
+			String constantName = value.get().trim().toUpperCase(Locale.ROOT);
+			try {
+				return Lifecycle.valueOf(constantName);
+			}
+			catch (IllegalArgumentException ex) {
+				LOG.warning(() -> String.format(
+					"Invalid test instance lifecycle mode '%s' set via the '%s' configuration parameter. "
+							+ "Falling back to %s lifecycle semantics.",
+					value.get(), DEFAULT_TEST_INSTANCE_LIFECYCLE_PROPERTY_NAME, Lifecycle.PER_METHOD.name()));
+			}
+		}
+		return Lifecycle.PER_METHOD;
+	}
+
+}
@@ -40,6 +40,16 @@ public class TestTemplateInvocationTestDescriptor extends MethodTestDescriptor {
 		this.invocationContext = invocationContext;
 	}
 
+	/**
+	 * Always returns {@code true} since the
+	 * {@linkplain TestTemplateInvocationContext#getAdditionalExtensions() additional extensions}
+	 * of the invocation are registered in a new registry.
+	 */
+	@Override
+	protected boolean hasMethodLevelExtensions() {
+		return true;
+	}
+
 	@Override
 	protected ExtensionRegistry populateNewExtensionRegistry(JupiterEngineExecutionContext context) {
 		ExtensionRegistry registry = super.populateNewExtensionRegistry(context);
@@ -49,8 +59,9 @@ public class TestTemplateInvocationTestDescriptor extends MethodTestDescriptor {
 	}
 
 	@Override
-	public void after(JupiterEngineExecutionContext context) {
+	public void after(JupiterEngineExecutionContext context) throws Exception {
 		// forget invocationContext so it can be garbage collected
 		invocationContext = null;
+		super.after(context);
 	}
 }
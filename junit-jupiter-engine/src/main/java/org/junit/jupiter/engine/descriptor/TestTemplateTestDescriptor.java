@@ -66,8 +66,11 @@ public class TestTemplateTestDescriptor extends MethodBasedTestDescriptor {
 
 	@Override
 	public JupiterEngineExecutionContext prepare(JupiterEngineExecutionContext context) throws Exception {
-		ExtensionRegistry registry = populateNewExtensionRegistryFromExtendWith(this.getTestMethod(),
-			context.getExtensionRegistry());
+		if (isDisabled()) {
+			return context;
+		}
+		ExtensionRegistry registry = ExtensionRegistry.createRegistryFrom(context.getExtensionRegistry(),
+			ClassExecutionPlan.of(getTestClass()).getExtensionTypes(getTestMethod()));
 		ContainerExtensionContext testExtensionContext = new TestTemplateContainerExtensionContext(
 			context.getExtensionContext(), context.getExecutionListener(), this);
 
@@ -91,19 +94,31 @@ public class TestTemplateTestDescriptor extends MethodBasedTestDescriptor {
 		List<TestTemplateInvocationContextProvider> providers = validateProviders(containerExtensionContext,
 			context.getExtensionRegistry());
 		AtomicInteger invocationIndex = new AtomicInteger();
-		providers.forEach(provider -> {
-			Iterator<TestTemplateInvocationContext> contextIterator = provider.provide(containerExtensionContext);
-			contextIterator.forEachRemaining(invocationContext -> {
-				int index = invocationIndex.incrementAndGet();
-				TestDescriptor invocationTestDescriptor = createInvocationTestDescriptor(invocationContext, index);
-				addChild(invocationTestDescriptor);
-				dynamicTestExecutor.execute(invocationTestDescriptor);
+		DynamicChildrenExecutor childrenExecutor = DynamicChildrenExecutor.create(
+			context.getConfigurationParameters(), dynamicTestExecutor);
+		try {
+			providers.forEach(provider -> {
+				Iterator<TestTemplateInvocationContext> contextIterator = provider.provide(containerExtensionContext);
+				contextIterator.forEachRemaining(invocationContext -> {
+					int index = invocationIndex.incrementAndGet();
+					TestDescriptor invocationTestDescriptor = createInvocationTestDescriptor(invocationContext, index);
+					addChild(invocationTestDescriptor);
+					childrenExecutor.submit(invocationTestDescriptor);
+				});
 			});
-		});
+		}
+		finally {
+			childrenExecutor.awaitCompletion();
+		}
 		validateWasAtLeastInvokedOnce(invocationIndex);
 		return context;
 	}
 
+	@Override
+	public void after(JupiterEngineExecutionContext context) throws Exception {
+		closeExtensionContext(context);
+	}
+
 	private List<TestTemplateInvocationContextProvider> validateProviders(
 			ContainerExtensionContext containerExtensionContext, ExtensionRegistry extensionRegistry) {
 		List<TestTemplateInvocationContextProvider> providers = extensionRegistry.getExtensions(
@@ -0,0 +1,50 @@
+/*
+ * Copyright 2015-2017 the original author or authors.
+ *
+ * All rights reserved. This program and the accompanying materials are
+ * made available under the terms of the Eclipse Public License v1.0 which
+ * accompanies this distribution and is available at
+ *
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+
+package org.junit.jupiter.engine.discovery;
+
+import static org.junit.platform.commons.meta.API.Usage.Experimental;
+
+import java.lang.reflect.Method;
+
+import org.junit.jupiter.api.Benchmark;
+import org.junit.jupiter.engine.descriptor.BenchmarkTestDescriptor;
+import org.junit.jupiter.engine.discovery.predicates.IsBenchmarkMethod;
+import org.junit.platform.commons.meta.API;
+import org.junit.platform.engine.TestDescriptor;
+import org.junit.platform.engine.UniqueId;
+
+/**
+ * {@code BenchmarkMethodResolver} is an {@link ElementResolver}
+ * that is able to resolve benchmark methods annotated with
+ * {@link Benchmark @Benchmark}.
+ *
+ * <p>It will create {@link BenchmarkTestDescriptor} instances.
+ *
+ * @since 5.0
+ * @see ElementResolver
+ * @see Benchmark
+ * @see BenchmarkTestDescriptor
+ */
+@API(Experimental)
+class BenchmarkMethodResolver extends AbstractMethodResolver {
+
+	static final String SEGMENT_TYPE = "benchmark";
+
+	BenchmarkMethodResolver() {
+		super(SEGMENT_TYPE, new IsBenchmarkMethod());
+	}
+
+	@Override
+	protected TestDescriptor createTestDescriptor(UniqueId uniqueId, Class<?> testClass, Method method) {
+		return new BenchmarkTestDescriptor(uniqueId, testClass, method);
+	}
+
+}
@@ -10,17 +10,30 @@
 
 package org.junit.jupiter.engine.discovery;
 
+import static org.junit.jupiter.engine.Constants.CLASS_FILE_PREFILTER_ENABLED_PROPERTY_NAME;
 import static org.junit.platform.commons.meta.API.Usage.Experimental;
-import static org.junit.platform.commons.util.ReflectionUtils.findAllClassesInClasspathRoot;
-import static org.junit.platform.commons.util.ReflectionUtils.findAllClassesInPackage;
+import static org.junit.platform.commons.util.ReflectionUtils.streamAllClassesInClasspathRoot;
+import static org.junit.platform.commons.util.ReflectionUtils.streamAllClassesInPackage;
 import static org.junit.platform.engine.support.filter.ClasspathScanningSupport.buildClassNamePredicate;
 
+import java.lang.annotation.Annotation;
+import java.net.URI;
+import java.util.Arrays;
 import java.util.HashSet;
+import java.util.List;
+import java.util.Optional;
 import java.util.Set;
 import java.util.function.Predicate;
+import java.util.stream.Stream;
 
+import org.junit.jupiter.api.Benchmark;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestFactory;
+import org.junit.jupiter.api.TestTemplate;
 import org.junit.jupiter.engine.discovery.predicates.IsScannableTestClass;
 import org.junit.platform.commons.meta.API;
+import org.junit.platform.commons.util.ClassFileAnnotationPrefilter;
 import org.junit.platform.engine.EngineDiscoveryRequest;
 import org.junit.platform.engine.TestDescriptor;
 import org.junit.platform.engine.discovery.ClassSelector;
@@ -43,17 +56,25 @@ public class DiscoverySelectorResolver {
 
 	private static final IsScannableTestClass isScannableTestClass = new IsScannableTestClass();
 
+	private static final List<Class<? extends Annotation>> testClassAnnotationTypes = Arrays.asList(Test.class,
+		TestFactory.class, TestTemplate.class, Benchmark.class, Nested.class);
+
 	public void resolveSelectors(EngineDiscoveryRequest request, TestDescriptor engineDescriptor) {
 		JavaElementsResolver javaElementsResolver = createJavaElementsResolver(engineDescriptor);
 		Predicate<String> classNamePredicate = buildClassNamePredicate(request);
+		Optional<ClassFileAnnotationPrefilter> classFilePrefilter = createClassFilePrefilter(request);
 
 		request.getSelectorsByType(ClasspathRootSelector.class).forEach(selector -> {
-			findAllClassesInClasspathRoot(selector.getClasspathRoot(), isScannableTestClass,
-				classNamePredicate).forEach(javaElementsResolver::resolveClass);
+			try (Stream<Class<?>> classes = streamClassesInClasspathRoot(selector.getClasspathRoot(),
+				classNamePredicate, classFilePrefilter)) {
+				classes.forEach(javaElementsResolver::resolveClass);
+			}
 		});
 		request.getSelectorsByType(PackageSelector.class).forEach(selector -> {
-			findAllClassesInPackage(selector.getPackageName(), isScannableTestClass, classNamePredicate).forEach(
-				javaElementsResolver::resolveClass);
+			try (Stream<Class<?>> classes = streamClassesInPackage(selector.getPackageName(), classNamePredicate,
+				classFilePrefilter)) {
+				classes.forEach(javaElementsResolver::resolveClass);
+			}
 		});
 		request.getSelectorsByType(ClassSelector.class).forEach(selector -> {
 			javaElementsResolver.resolveClass(selector.getJavaClass());
@@ -67,6 +88,33 @@ public class DiscoverySelectorResolver {
 		pruneTree(engineDescriptor);
 	}
 
+	private Stream<Class<?>> streamClassesInClasspathRoot(URI root, Predicate<String> classNamePredicate,
+			Optional<ClassFileAnnotationPrefilter> classFilePrefilter) {
+		if (classFilePrefilter.isPresent()) {
+			return streamAllClassesInClasspathRoot(root, isScannableTestClass, classNamePredicate,
+				classFilePrefilter.get());
+		}
+		return streamAllClassesInClasspathRoot(root, isScannableTestClass, classNamePredicate);
+	}
+
+	private Stream<Class<?>> streamClassesInPackage(String packageName, Predicate<String> classNamePredicate,
+			Optional<ClassFileAnnotationPrefilter> classFilePrefilter) {
+		if (classFilePrefilter.isPresent()) {
+			return streamAllClassesInPackage(packageName, isScannableTestClass, classNamePredicate,
+				classFilePrefilter.get());
+		}
+		return streamAllClassesInPackage(packageName, isScannableTestClass, classNamePredicate);
+	}
+
+	private Optional<ClassFileAnnotationPrefilter> createClassFilePrefilter(EngineDiscoveryRequest request) {
+		// @formatter:off
+		return request.getConfigurationParameters()
+				.get(CLASS_FILE_PREFILTER_ENABLED_PROPERTY_NAME)
+				.filter(Boolean::parseBoolean)
+				.map(enabled -> new ClassFileAnnotationPrefilter(testClassAnnotationTypes));
+		// @formatter:on
+	}
+
 	private JavaElementsResolver createJavaElementsResolver(TestDescriptor engineDescriptor) {
 		Set<ElementResolver> resolvers = new HashSet<>();
 		resolvers.add(new TestContainerResolver());
@@ -74,6 +122,7 @@ public class DiscoverySelectorResolver {
 		resolvers.add(new TestMethodResolver());
 		resolvers.add(new TestFactoryMethodResolver());
 		resolvers.add(new TestTemplateMethodResolver());
+		resolvers.add(new BenchmarkMethodResolver());
 		return new JavaElementsResolver(engineDescriptor, resolvers);
 	}
 
@@ -20,7 +20,7 @@ import org.junit.platform.commons.util.ReflectionUtils;
 
 /**
  * Test if a class is a JUnit Jupiter test class containing executable tests,
- * test factories, or nested tests.
+ * test factories, benchmarks, or nested tests.
  *
  * @since 5.0
  */
@@ -31,7 +31,10 @@ public class IsTestClassWithTests implements Predicate<Class<?>> {
 
 	private static final IsTestFactoryMethod isTestFactoryMethod = new IsTestFactoryMethod();
 
-	private static final Predicate<Method> isTestOrTestFactoryMethod = isTestMethod.or(isTestFactoryMethod);
+	private static final IsBenchmarkMethod isBenchmarkMethod = new IsBenchmarkMethod();
+
+	private static final Predicate<Method> isTestableMethod = isTestMethod.or(isTestFactoryMethod).or(
+		isBenchmarkMethod);
 
 	private static final IsPotentialTestContainer isPotentialTestContainer = new IsPotentialTestContainer();
 
@@ -43,11 +46,11 @@ public class IsTestClassWithTests implements Predicate<Class<?>> {
 		if (!isPotentialTestContainer.test(candidate)) {
 			return false;
 		}
-		return hasTestOrTestFactoryMethods(candidate) || hasNestedTests(candidate);
+		return hasTestableMethods(candidate) || hasNestedTests(candidate);
 	}
 
-	private boolean hasTestOrTestFactoryMethods(Class<?> candidate) {
-		return !ReflectionUtils.findMethods(candidate, isTestOrTestFactoryMethod).isEmpty();
+	private boolean hasTestableMethods(Class<?> candidate) {
+		return !ReflectionUtils.findMethods(candidate, isTestableMethod).isEmpty();
 	}
 
 	private boolean hasNestedTests(Class<?> candidate) {
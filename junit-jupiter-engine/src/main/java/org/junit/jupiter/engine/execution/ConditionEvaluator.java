@@ -15,6 +15,7 @@ import static org.junit.jupiter.engine.Constants.DEACTIVATE_ALL_CONDITIONS_PATTE
 import static org.junit.jupiter.engine.Constants.DEACTIVATE_CONDITIONS_PATTERN_PROPERTY_NAME;
 import static org.junit.platform.commons.meta.API.Usage.Internal;
 
+import java.lang.reflect.AnnotatedElement;
 import java.util.function.BiFunction;
 import java.util.function.Predicate;
 import java.util.logging.Logger;
@@ -25,7 +26,7 @@ import org.junit.jupiter.api.extension.ConditionEvaluationResult;
 import org.junit.jupiter.api.extension.ContainerExecutionCondition;
 import org.junit.jupiter.api.extension.ContainerExtensionContext;
 import org.junit.jupiter.api.extension.Extension;
-import org.junit.jupiter.api.extension.ExtensionContext;
+import org.junit.jupiter.api.extension.StaticExecutionCondition;
 import org.junit.jupiter.api.extension.TestExecutionCondition;
 import org.junit.jupiter.api.extension.TestExtensionContext;
 import org.junit.jupiter.engine.Constants;
@@ -35,12 +36,14 @@ import org.junit.platform.commons.util.StringUtils;
 import org.junit.platform.engine.ConfigurationParameters;
 
 /**
- * {@code ConditionEvaluator} evaluates {@link ContainerExecutionCondition}
- * and {@link TestExecutionCondition} extensions.
+ * {@code ConditionEvaluator} evaluates {@link ContainerExecutionCondition},
+ * {@link TestExecutionCondition}, and {@link StaticExecutionCondition}
+ * extensions.
  *
  * @since 5.0
  * @see ContainerExecutionCondition
  * @see TestExecutionCondition
+ * @see StaticExecutionCondition
  */
 @API(Internal)
 public class ConditionEvaluator {
@@ -92,9 +95,29 @@ public class ConditionEvaluator {
 			context);
 	}
 
+	/**
+	 * Evaluate all {@link StaticExecutionCondition} extensions registered in
+	 * the supplied {@link ExtensionRegistry} for the supplied test class or
+	 * test method.
+	 *
+	 * @param element the test class or test method
+	 * @return the first <em>disabled</em> {@code ConditionEvaluationResult},
+	 * or a default <em>enabled</em> {@code ConditionEvaluationResult} if no
+	 * disabled conditions are encountered
+	 */
+	public ConditionEvaluationResult evaluateStatically(ExtensionRegistry extensionRegistry,
+			ConfigurationParameters configurationParameters, AnnotatedElement element) {
+
+		BiFunction<Object, Object, ConditionEvaluationResult> evaluateAdaptor = (condition,
+				ctx) -> evaluate((StaticExecutionCondition) condition, (AnnotatedElement) ctx);
+
+		return evaluate(StaticExecutionCondition.class, evaluateAdaptor, extensionRegistry, configurationParameters,
+			element);
+	}
+
 	private ConditionEvaluationResult evaluate(Class<? extends Extension> extensionType,
 			BiFunction<Object, Object, ConditionEvaluationResult> evaluateAdaptor, ExtensionRegistry extensionRegistry,
-			ConfigurationParameters configurationParameters, ExtensionContext context) {
+			ConfigurationParameters configurationParameters, Object context) {
 
 		Predicate<Object> isActivated = conditionIsActivated(configurationParameters);
 
@@ -132,6 +155,17 @@ public class ConditionEvaluator {
 		}
 	}
 
+	private ConditionEvaluationResult evaluate(StaticExecutionCondition condition, AnnotatedElement element) {
+		try {
+			ConditionEvaluationResult result = condition.evaluateStatically(element);
+			logResult(condition.getClass(), result);
+			return result;
+		}
+		catch (Exception ex) {
+			throw evaluationException(condition.getClass(), ex);
+		}
+	}
+
 	private void logResult(Class<?> conditionType, ConditionEvaluationResult result) {
 		LOG.finer(() -> format("Evaluation of condition [%s] resulted in: %s", conditionType.getName(), result));
 	}
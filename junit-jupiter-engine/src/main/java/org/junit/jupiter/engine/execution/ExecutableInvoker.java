@@ -11,7 +11,7 @@
 package org.junit.jupiter.engine.execution;
 
 import static java.util.stream.Collectors.joining;
-import static java.util.stream.Collectors.toList;
+import static org.junit.jupiter.engine.Constants.DEFAULT_TIMEOUT_PROPERTY_NAME;
 import static org.junit.platform.commons.meta.API.Usage.Internal;
 import static org.junit.platform.commons.util.ReflectionUtils.isAssignableTo;
 
@@ -19,16 +19,30 @@ import java.lang.reflect.Constructor;
 import java.lang.reflect.Executable;
 import java.lang.reflect.Method;
 import java.lang.reflect.Parameter;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.function.Supplier;
+import java.util.logging.Level;
 import java.util.logging.Logger;
+import java.util.stream.IntStream;
 
+import org.junit.jupiter.api.Timeout;
 import org.junit.jupiter.api.extension.ExtensionContext;
 import org.junit.jupiter.api.extension.ParameterContext;
 import org.junit.jupiter.api.extension.ParameterResolutionException;
 import org.junit.jupiter.api.extension.ParameterResolver;
 import org.junit.jupiter.engine.extension.ExtensionRegistry;
 import org.junit.platform.commons.meta.API;
+import org.junit.platform.commons.util.AnnotationUtils;
+import org.junit.platform.commons.util.BlacklistedExceptions;
+import org.junit.platform.commons.util.ExceptionUtils;
 import org.junit.platform.commons.util.Preconditions;
 import org.junit.platform.commons.util.ReflectionUtils;
 
@@ -38,6 +52,29 @@ import org.junit.platform.commons.util.ReflectionUtils;
  * including support for dynamic resolution of method parameters via
  * {@link ParameterResolver ParameterResolvers}.
  *
+ * <p>Executables without parameters are invoked without consulting any
+ * {@code ParameterResolver}. For all other executables, the resolvers that
+ * {@linkplain ParameterResolver#supportDependsOnParameterOnly() declare}
+ * that their support depends on the parameter only are asked once per
+ * parameter and combination of registered resolver types, and the result is
+ * cached.
+ *
+ * <p>Methods are invoked subject to the {@linkplain Timeout timeout} declared
+ * on the method or its test class, or configured via the
+ * {@value org.junit.jupiter.engine.Constants#DEFAULT_TIMEOUT_PROPERTY_NAME}
+ * configuration parameter.
+ *
+ * <p>If a method returns a {@link CompletionStage}, such as a
+ * {@link CompletableFuture}, its invocation is only complete once the stage
+ * has completed. The value the stage completes with is returned as the
+ * result of the invocation, and the exception it completes exceptionally
+ * with is thrown. The timeout of the method applies to the invocation
+ * including the completion of the stage. If the timeout is exceeded, the
+ * stage is cancelled if it is a {@link Future}; otherwise, the
+ * {@code CompletableFuture} returned by
+ * {@link CompletionStage#toCompletableFuture()} is cancelled, provided the
+ * stage supports that conversion.
+ *
  * @since 5.0
  */
 @API(Internal)
@@ -45,6 +82,12 @@ public class ExecutableInvoker {
 
 	private static final Logger LOG = Logger.getLogger(ExecutableInvoker.class.getName());
 
+	private static final Object[] NO_ARGUMENTS = new Object[0];
+
+	private static final CandidatesCache candidatesCache = new CandidatesCache();
+
+	private static final Map<String, Optional<TimeoutDuration>> defaultTimeoutCache = new ConcurrentHashMap<>();
+
 	/**
 	 * Invoke the supplied constructor with dynamic parameter resolution.
 	 *
@@ -90,8 +133,8 @@ public class ExecutableInvoker {
 	 * {@code ParameterResolvers} from
 	 */
 	public Object invoke(Method method, ExtensionContext extensionContext, ExtensionRegistry extensionRegistry) {
-		return ReflectionUtils.invokeMethod(method, null,
-			resolveParameters(method, Optional.empty(), extensionContext, extensionRegistry));
+		Object[] arguments = resolveParameters(method, Optional.empty(), extensionContext, extensionRegistry);
+		return invokeWithTimeout(method, extensionContext, () -> ReflectionUtils.invokeMethod(method, null, arguments));
 	}
 
 	/**
@@ -108,11 +151,138 @@ public class ExecutableInvoker {
 	public Object invoke(Method method, Object target, ExtensionContext extensionContext,
 			ExtensionRegistry extensionRegistry) {
 
+		return prepareInvocation(method, target, extensionContext, extensionRegistry).get();
+	}
+
+	/**
+	 * Prepare the repeated invocation of the supplied method on the supplied
+	 * target object with dynamic parameter resolution.
+	 *
+	 * <p>The parameters of the method are resolved once by this method. Each
+	 * call of the returned {@code Supplier} invokes the method with the same
+	 * arguments, subject to the timeout of the method and including the
+	 * completion of a returned {@link CompletionStage}, exactly like
+	 * {@link #invoke(Method, Object, ExtensionContext, ExtensionRegistry)}.
+	 *
+	 * @param method the method to invoke and resolve parameters for
+	 * @param target the object on which the method will be invoked; should be
+	 * {@code null} for static methods
+	 * @param extensionContext the current {@code ExtensionContext}
+	 * @param extensionRegistry the {@code ExtensionRegistry} to retrieve
+	 * {@code ParameterResolvers} from
+	 * @return a {@code Supplier} that performs one invocation per call and
+	 * returns its result; never {@code null}
+	 */
+	public Supplier<Object> prepareInvocation(Method method, Object target, ExtensionContext extensionContext,
+			ExtensionRegistry extensionRegistry) {
+
 		@SuppressWarnings("unchecked")
 		Optional<Object> optionalTarget = (target instanceof Optional ? (Optional<Object>) target
 				: Optional.ofNullable(target));
-		return ReflectionUtils.invokeMethod(method, target,
-			resolveParameters(method, optionalTarget, extensionContext, extensionRegistry));
+		Object[] arguments = resolveParameters(method, optionalTarget, extensionContext, extensionRegistry);
+		return withTimeout(method, extensionContext, () -> ReflectionUtils.invokeMethod(method, target, arguments));
+	}
+
+	private Object invokeWithTimeout(Method method, ExtensionContext extensionContext, Supplier<Object> invocation) {
+		return withTimeout(method, extensionContext, invocation).get();
+	}
+
+	private Supplier<Object> withTimeout(Method method, ExtensionContext extensionContext,
+			Supplier<Object> invocation) {
+
+		Supplier<Object> completedInvocation = () -> awaitCompletion(invocation.get());
+		Optional<TimeoutDuration> timeout = getTimeout(method, extensionContext);
+		if (!timeout.isPresent()) {
+			return completedInvocation;
+		}
+		TimeoutDuration duration = timeout.get();
+		return () -> TimeoutWatchdog.invoke(completedInvocation, duration, () -> method.getName() + "()");
+	}
+
+	/**
+	 * Wait for the supplied result of an invocation to complete if it is a
+	 * {@link CompletionStage}.
+	 *
+	 * <p>If the current thread is interrupted while waiting &mdash; for example,
+	 * because the {@link TimeoutWatchdog} detected that the timeout has been
+	 * exceeded &mdash; the stage is {@linkplain #cancel cancelled}.
+	 *
+	 * @return the value the stage completed with, or the supplied result if
+	 * it is not a {@code CompletionStage}
+	 */
+	private static Object awaitCompletion(Object result) {
+		if (!(result instanceof CompletionStage)) {
+			return result;
+		}
+		Future<?> future = (result instanceof Future ? (Future<?>) result
+				: toFuture((CompletionStage<?>) result));
+		try {
+			return future.get();
+		}
+		catch (ExecutionException ex) {
+			throw ExceptionUtils.throwAsUncheckedException(ex.getCause() != null ? ex.getCause() : ex);
+		}
+		catch (InterruptedException ex) {
+			cancel((CompletionStage<?>) result);
+			Thread.currentThread().interrupt();
+			throw ExceptionUtils.throwAsUncheckedException(ex);
+		}
+	}
+
+	/**
+	 * Cancel the supplied stage, either directly if it is a {@link Future} or
+	 * via the {@code CompletableFuture} it converts to; stages that do not
+	 * support {@link CompletionStage#toCompletableFuture()} cannot be
+	 * cancelled.
+	 */
+	private static void cancel(CompletionStage<?> stage) {
+		if (stage instanceof Future) {
+			((Future<?>) stage).cancel(true);
+			return;
+		}
+		try {
+			stage.toCompletableFuture().cancel(true);
+		}
+		catch (UnsupportedOperationException ex) {
+			LOG.fine(() -> "Could not cancel CompletionStage of type " + stage.getClass().getName());
+		}
+	}
+
+	private static Future<?> toFuture(CompletionStage<?> stage) {
+		CompletableFuture<Object> future = new CompletableFuture<>();
+		stage.whenComplete((value, failure) -> {
+			if (failure != null) {
+				future.completeExceptionally(failure);
+			}
+			else {
+				future.complete(value);
+			}
+		});
+		return future;
+	}
+
+	private Optional<TimeoutDuration> getTimeout(Method method, ExtensionContext extensionContext) {
+		Optional<Timeout> timeout = AnnotationUtils.findAnnotation(method, Timeout.class);
+		if (!timeout.isPresent()) {
+			timeout = extensionContext.getTestClass().flatMap(
+				testClass -> AnnotationUtils.findAnnotation(testClass, Timeout.class));
+		}
+		if (timeout.isPresent()) {
+			return timeout.map(TimeoutDuration::from);
+		}
+		return extensionContext.getConfigurationParameter(DEFAULT_TIMEOUT_PROPERTY_NAME).flatMap(
+			value -> defaultTimeoutCache.computeIfAbsent(value, ExecutableInvoker::parseDefaultTimeout));
+	}
+
+	private static Optional<TimeoutDuration> parseDefaultTimeout(String value) {
+		Optional<TimeoutDuration> timeout = TimeoutDuration.parse(value);
+		if (!timeout.isPresent()) {
+			LOG.warning(() -> String.format(
+				"Invalid timeout '%s' set via the '%s' configuration parameter. "
+						+ "Falling back to no timeout as the default.",
+				value, DEFAULT_TIMEOUT_PROPERTY_NAME));
+		}
+		return timeout;
 	}
 
 	/**
@@ -156,7 +326,13 @@ public class ExecutableInvoker {
 
 		Preconditions.notNull(target, "target must not be null");
 
-		Parameter[] parameters = executable.getParameters();
+		if (executable.getParameterCount() == 0) {
+			return NO_ARGUMENTS;
+		}
+
+		List<ParameterResolver> resolvers = extensionRegistry.getExtensions(ParameterResolver.class);
+		ResolverCandidates candidates = getResolverCandidates(executable, target, extensionContext, resolvers);
+		Parameter[] parameters = candidates.parameters;
 		Object[] values = new Object[parameters.length];
 		int start = 0;
 
@@ -170,46 +346,64 @@ public class ExecutableInvoker {
 		// Resolve remaining parameters dynamically
 		for (int i = start; i < parameters.length; i++) {
 			ParameterContext parameterContext = new DefaultParameterContext(parameters[i], i, target);
-			values[i] = resolveParameter(parameterContext, executable, extensionContext, extensionRegistry);
+			values[i] = resolveParameter(parameterContext, executable, extensionContext,
+				candidates.get(i, resolvers), candidates.isPrefiltered(i));
 		}
 		return values;
 	}
 
+	/**
+	 * Get the cached {@link ResolverCandidates} for the supplied executable and
+	 * the types of the supplied resolvers, since the registries of different
+	 * invocations of the same executable hold different resolver instances.
+	 */
+	private ResolverCandidates getResolverCandidates(Executable executable, Optional<Object> target,
+			ExtensionContext extensionContext, List<ParameterResolver> resolvers) {
+
+		Map<List<Class<?>>, ResolverCandidates> cache = candidatesCache.get(
+			executable.getDeclaringClass()).computeIfAbsent(executable, key -> new ConcurrentHashMap<>(4));
+		List<Class<?>> resolverTypes = new ArrayList<>(resolvers.size());
+		for (ParameterResolver resolver : resolvers) {
+			resolverTypes.add(resolver.getClass());
+		}
+		ResolverCandidates candidates = cache.get(resolverTypes);
+		if (candidates == null || !candidates.isApplicableTo(resolvers)) {
+			candidates = new ResolverCandidates(executable, target, extensionContext, resolvers);
+			cache.put(resolverTypes, candidates);
+		}
+		return candidates;
+	}
+
 	private Object resolveParameter(ParameterContext parameterContext, Executable executable,
-			ExtensionContext extensionContext, ExtensionRegistry extensionRegistry) {
+			ExtensionContext extensionContext, ParameterResolver[] candidates, boolean prefiltered) {
 
 		try {
-			// @formatter:off
-			List<ParameterResolver> matchingResolvers = extensionRegistry.stream(ParameterResolver.class)
-					.filter(resolver -> resolver.supports(parameterContext, extensionContext))
-					.collect(toList());
-			// @formatter:on
+			ParameterResolver resolver = null;
+			for (ParameterResolver candidate : candidates) {
+				if (supports(candidate, prefiltered, parameterContext, extensionContext)) {
+					if (resolver != null) {
+						throw competingResolvers(parameterContext, executable, extensionContext, candidates,
+							prefiltered);
+					}
+					resolver = candidate;
+				}
+			}
 
-			if (matchingResolvers.isEmpty()) {
+			if (resolver == null) {
 				throw new ParameterResolutionException(
 					String.format("No ParameterResolver registered for parameter [%s] in executable [%s].",
 						parameterContext.getParameter(), executable.toGenericString()));
 			}
 
-			if (matchingResolvers.size() > 1) {
-				// @formatter:off
-				String resolverNames = matchingResolvers.stream()
-						.map(resolver -> resolver.getClass().getName())
-						.collect(joining(", "));
-				// @formatter:on
-				throw new ParameterResolutionException(String.format(
-					"Discovered multiple competing ParameterResolvers for parameter [%s] in executable [%s]: %s",
-					parameterContext.getParameter(), executable.toGenericString(), resolverNames));
-			}
-
-			ParameterResolver resolver = matchingResolvers.get(0);
 			Object value = resolver.resolve(parameterContext, extensionContext);
 			validateResolvedType(parameterContext.getParameter(), value, executable, resolver);
 
-			LOG.finer(() -> String.format(
-				"ParameterResolver [%s] resolved a value of type [%s] for parameter [%s] in executable [%s].",
-				resolver.getClass().getName(), (value != null ? value.getClass().getName() : null),
-				parameterContext.getParameter(), executable.toGenericString()));
+			if (LOG.isLoggable(Level.FINER)) {
+				LOG.finer(String.format(
+					"ParameterResolver [%s] resolved a value of type [%s] for parameter [%s] in executable [%s].",
+					resolver.getClass().getName(), (value != null ? value.getClass().getName() : null),
+					parameterContext.getParameter(), executable.toGenericString()));
+			}
 
 			return value;
 		}
@@ -222,6 +416,37 @@ public class ExecutableInvoker {
 		}
 	}
 
+	/**
+	 * Candidates of a prefiltered parameter that declare that their support
+	 * depends on the parameter only are known to support it.
+	 */
+	private static boolean supports(ParameterResolver candidate, boolean prefiltered,
+			ParameterContext parameterContext, ExtensionContext extensionContext) {
+
+		return (prefiltered && candidate.supportDependsOnParameterOnly())
+				|| candidate.supports(parameterContext, extensionContext);
+	}
+
+	private ParameterResolutionException competingResolvers(ParameterContext parameterContext,
+			Executable executable, ExtensionContext extensionContext, ParameterResolver[] candidates,
+			boolean prefiltered) {
+
+		List<ParameterResolver> matchingResolvers = new ArrayList<>();
+		for (ParameterResolver candidate : candidates) {
+			if (supports(candidate, prefiltered, parameterContext, extensionContext)) {
+				matchingResolvers.add(candidate);
+			}
+		}
+		// @formatter:off
+		String resolverNames = matchingResolvers.stream()
+				.map(resolver -> resolver.getClass().getName())
+				.collect(joining(", "));
+		// @formatter:on
+		return new ParameterResolutionException(String.format(
+			"Discovered multiple competing ParameterResolvers for parameter [%s] in executable [%s]: %s",
+			parameterContext.getParameter(), executable.toGenericString(), resolverNames));
+	}
+
 	private void validateResolvedType(Parameter parameter, Object value, Executable executable,
 			ParameterResolver resolver) {
 
@@ -248,4 +473,86 @@ public class ExecutableInvoker {
 		}
 	}
 
+	/**
+	 * The indexes of the {@code ParameterResolvers} that have to be considered
+	 * for each parameter of an executable, given a list of registered
+	 * resolvers of certain types.
+	 *
+	 * <p>Resolvers whose support depends on the parameter only are included
+	 * only if they support the parameter and are not asked again; all other
+	 * resolvers are always included and asked for each invocation. If asking
+	 * a resolver fails, no resolvers are excluded for that parameter, and all
+	 * of them are asked for each invocation.
+	 *
+	 * <p>Since only indexes are stored, the candidates can be reused for any
+	 * list of resolvers of the same types that declare the same dependency of
+	 * their support.
+	 */
+	private static class ResolverCandidates {
+
+		final Parameter[] parameters;
+		private final boolean[] supportDependsOnParameterOnly;
+		/** {@code null} for parameters whose candidates are not prefiltered */
+		private final int[][] candidateIndexes;
+
+		ResolverCandidates(Executable executable, Optional<Object> target, ExtensionContext extensionContext,
+				List<ParameterResolver> resolvers) {
+
+			this.parameters = executable.getParameters();
+			this.supportDependsOnParameterOnly = new boolean[resolvers.size()];
+			for (int i = 0; i < this.supportDependsOnParameterOnly.length; i++) {
+				this.supportDependsOnParameterOnly[i] = resolvers.get(i).supportDependsOnParameterOnly();
+			}
+			this.candidateIndexes = new int[this.parameters.length][];
+			for (int i = 0; i < this.parameters.length; i++) {
+				ParameterContext parameterContext = new DefaultParameterContext(this.parameters[i], i, target);
+				try {
+					// @formatter:off
+					this.candidateIndexes[i] = IntStream.range(0, resolvers.size())
+							.filter(index -> !this.supportDependsOnParameterOnly[index]
+									|| resolvers.get(index).supports(parameterContext, extensionContext))
+							.toArray();
+					// @formatter:on
+				}
+				catch (Throwable t) {
+					BlacklistedExceptions.rethrowIfBlacklisted(t);
+				}
+			}
+		}
+
+		boolean isApplicableTo(List<ParameterResolver> resolvers) {
+			for (int i = 0; i < this.supportDependsOnParameterOnly.length; i++) {
+				if (this.supportDependsOnParameterOnly[i] != resolvers.get(i).supportDependsOnParameterOnly()) {
+					return false;
+				}
+			}
+			return true;
+		}
+
+		ParameterResolver[] get(int index, List<ParameterResolver> resolvers) {
+			int[] indexes = this.candidateIndexes[index];
+			if (indexes == null) {
+				return resolvers.toArray(new ParameterResolver[resolvers.size()]);
+			}
+			ParameterResolver[] candidates = new ParameterResolver[indexes.length];
+			for (int i = 0; i < indexes.length; i++) {
+				candidates[i] = resolvers.get(indexes[i]);
+			}
+			return candidates;
+		}
+
+		boolean isPrefiltered(int index) {
+			return this.candidateIndexes[index] != null;
+		}
+	}
+
+	private static class CandidatesCache
+			extends ClassValue<Map<Executable, Map<List<Class<?>>, ResolverCandidates>>> {
+
+		@Override
+		protected Map<Executable, Map<List<Class<?>>, ResolverCandidates>> computeValue(Class<?> type) {
+			return new ConcurrentHashMap<>(16);
+		}
+	}
+
 }
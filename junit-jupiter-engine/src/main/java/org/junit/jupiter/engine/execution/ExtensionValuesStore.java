@@ -14,13 +14,15 @@ import static org.junit.platform.commons.meta.API.Usage.Internal;
 import static org.junit.platform.commons.util.ReflectionUtils.getWrapperType;
 import static org.junit.platform.commons.util.ReflectionUtils.isAssignableTo;
 
-import java.util.HashMap;
-import java.util.Map;
-import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Function;
+import java.util.function.Supplier;
 
 import org.junit.jupiter.api.extension.ExtensionContext;
 import org.junit.jupiter.api.extension.ExtensionContext.Namespace;
+import org.junit.jupiter.api.extension.ExtensionContext.Store.CloseableResource;
 import org.junit.jupiter.api.extension.ExtensionContextException;
 import org.junit.platform.commons.meta.API;
 import org.junit.platform.commons.util.Preconditions;
@@ -29,14 +31,28 @@ import org.junit.platform.commons.util.Preconditions;
  * {@code ExtensionValuesStore} is used inside implementations of
  * {@link ExtensionContext} to store and retrieve attributes.
  *
+ * <p>A store is safe for concurrent use and does not block readers. Values
+ * computed via {@link #getOrComputeIfAbsent(Namespace, Object, Function)}
+ * are computed at most once per key; concurrent callers for the same key
+ * wait for the computation to complete, while all other keys remain
+ * accessible in the meantime. If the computation fails, the value is not
+ * stored, and the next caller attempts to compute it again. Only callers of
+ * {@code getOrComputeIfAbsent()} compute values: {@link #get(Namespace, Object)}
+ * waits for a computation in progress, and removing a value whose computation
+ * has not completed does not wait for it.
+ *
+ * <p>When the owning context is finished, stored values that implement
+ * {@link CloseableResource} are closed via
+ * {@link #closeAllStoredCloseableValues()}.
+ *
  * @since 5.0
  */
 @API(Internal)
 public class ExtensionValuesStore {
 
 	private final ExtensionValuesStore parentStore;
-	private final Map<Object, StoredValue> storedValues = new HashMap<>(4);
-	private final Object monitor = new Object();
+	private final ConcurrentMap<CompositeKey, StoredValue> storedValues = new ConcurrentHashMap<>(4);
+	private final AtomicInteger insertionSequence = new AtomicInteger();
 
 	ExtensionValuesStore() {
 		this(null);
@@ -46,19 +62,19 @@ public class ExtensionValuesStore {
 		this.parentStore = parentStore;
 	}
 
+	/**
+	 * Get the value stored under the supplied key in this store or one of its
+	 * ancestors.
+	 *
+	 * <p>If the value is being computed via
+	 * {@link #getOrComputeIfAbsent(Namespace, Object, Function)}, this method
+	 * waits for the computation to complete without performing it itself; a
+	 * value whose computation has not started yet or has failed is treated as
+	 * absent.
+	 */
 	Object get(Namespace namespace, Object key) {
-		synchronized (this.monitor) {
-			StoredValue storedValue = getStoredValue(namespace, key);
-			if (storedValue != null) {
-				return storedValue.value;
-			}
-			else if (this.parentStore != null) {
-				return this.parentStore.get(namespace, key);
-			}
-			else {
-				return null;
-			}
-		}
+		StoredValue storedValue = getStoredValueInHierarchy(new CompositeKey(namespace, key));
+		return (storedValue != null ? storedValue.awaitValue() : null);
 	}
 
 	<T> T get(Namespace namespace, Object key, Class<T> requiredType) {
@@ -67,18 +83,21 @@ public class ExtensionValuesStore {
 	}
 
 	<K, V> Object getOrComputeIfAbsent(Namespace namespace, K key, Function<K, V> defaultCreator) {
-		synchronized (this.monitor) {
-			StoredValue storedValue = getStoredValue(namespace, key);
+		CompositeKey compositeKey = new CompositeKey(namespace, key);
+		StoredValue storedValue = getStoredValueInHierarchy(compositeKey);
+		if (storedValue == null) {
+			StoredValue newValue = new StoredValue(nextInsertionOrder(), () -> defaultCreator.apply(key));
+			storedValue = this.storedValues.putIfAbsent(compositeKey, newValue);
 			if (storedValue == null) {
-				if (this.parentStore != null) {
-					storedValue = this.parentStore.getStoredValue(namespace, key);
-				}
-				if (storedValue == null) {
-					storedValue = new StoredValue(defaultCreator.apply(key));
-					putStoredValue(namespace, key, storedValue);
-				}
+				storedValue = newValue;
 			}
-			return storedValue.value;
+		}
+		try {
+			return storedValue.computeIfPending();
+		}
+		catch (RuntimeException | Error ex) {
+			this.storedValues.remove(compositeKey, storedValue);
+			throw ex;
 		}
 	}
 
@@ -91,16 +110,20 @@ public class ExtensionValuesStore {
 		Preconditions.notNull(namespace, "Namespace must not be null");
 		Preconditions.notNull(key, "key must not be null");
 
-		synchronized (this.monitor) {
-			putStoredValue(namespace, key, new StoredValue(value));
-		}
+		this.storedValues.put(new CompositeKey(namespace, key), new StoredValue(nextInsertionOrder(), value));
 	}
 
+	/**
+	 * Remove the value stored under the supplied key.
+	 *
+	 * <p>A value whose computation via
+	 * {@link #getOrComputeIfAbsent(Namespace, Object, Function)} has not
+	 * completed yet is removed without waiting for or triggering the
+	 * computation; {@code null} is returned in that case.
+	 */
 	Object remove(Namespace namespace, Object key) {
-		synchronized (this.monitor) {
-			StoredValue previous = this.storedValues.remove(new CompositeKey(namespace, key));
-			return (previous != null ? previous.value : null);
-		}
+		StoredValue previous = this.storedValues.remove(new CompositeKey(namespace, key));
+		return (previous != null ? previous.getIfComputed() : null);
 	}
 
 	<T> T remove(Namespace namespace, Object key, Class<T> requiredType) {
@@ -108,14 +131,42 @@ public class ExtensionValuesStore {
 		return castToRequiredType(key, value, requiredType);
 	}
 
-	private StoredValue getStoredValue(Namespace namespace, Object key) {
-		CompositeKey compositeKey = new CompositeKey(namespace, key);
-		return this.storedValues.get(compositeKey);
+	/**
+	 * Close all values stored in this store that implement
+	 * {@link CloseableResource}, in the reverse order in which they were
+	 * stored.
+	 *
+	 * <p>Values stored in ancestor stores are not closed, nor are values
+	 * whose computation has not completed. All resources are closed even if
+	 * closing one of them fails; the first failure is rethrown with any
+	 * further failures {@linkplain Throwable#addSuppressed suppressed}.
+	 */
+	public void closeAllStoredCloseableValues() {
+		ThrowableCollector throwableCollector = new ThrowableCollector();
+		// @formatter:off
+		this.storedValues.values().stream()
+				.filter(StoredValue::isComputed)
+				.sorted((value1, value2) -> Integer.compare(value2.insertionOrder, value1.insertionOrder))
+				.map(StoredValue::getIfComputed)
+				.filter(CloseableResource.class::isInstance)
+				.map(CloseableResource.class::cast)
+				.forEach(resource -> throwableCollector.execute(resource::close));
+		// @formatter:on
+		throwableCollector.assertEmpty();
 	}
 
-	private void putStoredValue(Namespace namespace, Object key, StoredValue storedValue) {
-		CompositeKey compositeKey = new CompositeKey(namespace, key);
-		this.storedValues.put(compositeKey, storedValue);
+	private int nextInsertionOrder() {
+		return this.insertionSequence.getAndIncrement();
+	}
+
+	private StoredValue getStoredValueInHierarchy(CompositeKey compositeKey) {
+		for (ExtensionValuesStore store = this; store != null; store = store.parentStore) {
+			StoredValue storedValue = store.storedValues.get(compositeKey);
+			if (storedValue != null) {
+				return storedValue;
+			}
+		}
+		return null;
 	}
 
 	@SuppressWarnings("unchecked")
@@ -138,10 +189,12 @@ public class ExtensionValuesStore {
 
 		private final Namespace namespace;
 		private final Object key;
+		private final int hashCode;
 
 		private CompositeKey(Namespace namespace, Object key) {
 			this.namespace = namespace;
 			this.key = key;
+			this.hashCode = 31 * namespace.hashCode() + key.hashCode();
 		}
 
 		@Override
@@ -151,22 +204,74 @@ public class ExtensionValuesStore {
 			if (o == null || getClass() != o.getClass())
 				return false;
 			CompositeKey that = (CompositeKey) o;
-			return this.namespace.equals(that.namespace) && this.key.equals(that.key);
+			return this.hashCode == that.hashCode && this.namespace.equals(that.namespace)
+					&& this.key.equals(that.key);
 		}
 
 		@Override
 		public int hashCode() {
-			return Objects.hash(this.namespace, this.key);
+			return this.hashCode;
 		}
 	}
 
+	/**
+	 * A value that is either supplied directly or computed on first access.
+	 */
 	private static class StoredValue {
 
-		private final Object value;
+		private final int insertionOrder;
+		private volatile Supplier<Object> supplier;
+		private Object value;
 
-		private StoredValue(Object value) {
+		private StoredValue(int insertionOrder, Object value) {
+			this.insertionOrder = insertionOrder;
 			this.value = value;
 		}
+
+		private StoredValue(int insertionOrder, Supplier<Object> supplier) {
+			this.insertionOrder = insertionOrder;
+			this.supplier = supplier;
+		}
+
+		private boolean isComputed() {
+			return this.supplier == null;
+		}
+
+		/**
+		 * Get the value, computing it first if that has not happened yet.
+		 *
+		 * <p>The computation is performed while holding the lock of this
+		 * value; if it fails, it is attempted again by the next caller.
+		 */
+		private Object computeIfPending() {
+			if (this.supplier != null) {
+				synchronized (this) {
+					Supplier<Object> supplier = this.supplier;
+					if (supplier != null) {
+						this.value = supplier.get();
+						this.supplier = null;
+					}
+				}
+			}
+			return this.value;
+		}
+
+		/**
+		 * Get the value without computing it, waiting for a computation that
+		 * is in progress; {@code null} if the value has not been computed.
+		 */
+		private Object awaitValue() {
+			if (this.supplier != null) {
+				synchronized (this) {
+					return getIfComputed();
+				}
+			}
+			return this.value;
+		}
+
+		private Object getIfComputed() {
+			return (isComputed() ? this.value : null);
+		}
 	}
 
 }
@@ -0,0 +1,115 @@
+/*
+ * Copyright 2015-2017 the original author or authors.
+ *
+ * All rights reserved. This program and the accompanying materials are
+ * made available under the terms of the Eclipse Public License v1.0 which
+ * accompanies this distribution and is available at
+ *
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+
+package org.junit.jupiter.engine.execution;
+
+import java.util.Locale;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import org.junit.jupiter.api.Timeout;
+import org.junit.platform.commons.util.Preconditions;
+
+/**
+ * Duration of a {@linkplain Timeout timeout}.
+ *
+ * @since 5.0
+ */
+class TimeoutDuration {
+
+	private static final Pattern PATTERN = Pattern.compile("(\\d+)\\s*(ns|us|ms|s|m|h|d)?", Pattern.CASE_INSENSITIVE);
+
+	private final long value;
+	private final TimeUnit unit;
+
+	static TimeoutDuration from(Timeout timeout) {
+		return new TimeoutDuration(timeout.value(), timeout.unit());
+	}
+
+	/**
+	 * Parse the supplied text, which consists of a positive number and an
+	 * optional unit &mdash; {@code ns}, {@code us}, {@code ms}, {@code s},
+	 * {@code m}, {@code h}, or {@code d} &mdash; that defaults to seconds.
+	 *
+	 * @return the parsed duration; empty if the text is malformed
+	 */
+	static Optional<TimeoutDuration> parse(String text) {
+		Matcher matcher = PATTERN.matcher(text.trim());
+		if (!matcher.matches()) {
+			return Optional.empty();
+		}
+		try {
+			long value = Long.parseLong(matcher.group(1));
+			if (value <= 0) {
+				return Optional.empty();
+			}
+			String unit = matcher.group(2);
+			return Optional.of(new TimeoutDuration(value, unit == null ? TimeUnit.SECONDS : parseUnit(unit)));
+		}
+		catch (NumberFormatException ex) {
+			return Optional.empty();
+		}
+	}
+
+	private static TimeUnit parseUnit(String unit) {
+		switch (unit.toLowerCase(Locale.ROOT)) {
+			case "ns":
+				return TimeUnit.NANOSECONDS;
+			case "us":
+				return TimeUnit.MICROSECONDS;
+			case "ms":
+				return TimeUnit.MILLISECONDS;
+			case "m":
+				return TimeUnit.MINUTES;
+			case "h":
+				return TimeUnit.HOURS;
+			case "d":
+				return TimeUnit.DAYS;
+			default:
+				return TimeUnit.SECONDS;
+		}
+	}
+
+	TimeoutDuration(long value, TimeUnit unit) {
+		Preconditions.condition(value > 0, () -> "timeout duration must be greater than zero: " + value);
+		this.value = value;
+		this.unit = Preconditions.notNull(unit, "timeout unit must not be null");
+	}
+
+	long toNanos() {
+		return this.unit.toNanos(this.value);
+	}
+
+	@Override
+	public boolean equals(Object obj) {
+		if (this == obj) {
+			return true;
+		}
+		if (obj == null || getClass() != obj.getClass()) {
+			return false;
+		}
+		TimeoutDuration that = (TimeoutDuration) obj;
+		return this.value == that.value && this.unit == that.unit;
+	}
+
+	@Override
+	public int hashCode() {
+		return 31 * Long.hashCode(this.value) + this.unit.hashCode();
+	}
+
+	@Override
+	public String toString() {
+		String unitName = this.unit.name().toLowerCase(Locale.ROOT);
+		return this.value + " " + (this.value == 1 ? unitName.substring(0, unitName.length() - 1) : unitName);
+	}
+
+}
@@ -0,0 +1,134 @@
+/*
+ * Copyright 2015-2017 the original author or authors.
+ *
+ * All rights reserved. This program and the accompanying materials are
+ * made available under the terms of the Eclipse Public License v1.0 which
+ * accompanies this distribution and is available at
+ *
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+
+package org.junit.jupiter.engine.execution;
+
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import org.junit.platform.commons.util.BlacklistedExceptions;
+import org.junit.platform.commons.util.ExceptionUtils;
+
+/**
+ * Enforces {@linkplain org.junit.jupiter.api.Timeout timeouts} for
+ * invocations that are executed in the calling thread.
+ *
+ * <p>A single daemon thread shared by all invocations interrupts the calling
+ * thread once the timeout has been exceeded, so that no thread has to be
+ * created or handed over per invocation. Invocations that exceed their
+ * timeout fail with a {@link TimeoutException} even if they completed
+ * regularly because they did not react to being interrupted.
+ *
+ * <p>If an invocation completes while its timeout expires, the calling
+ * thread waits until the watchdog has interrupted it before clearing its
+ * interrupted status, so that the interrupt cannot leak into the code that
+ * is executed after the invocation.
+ *
+ * @since 5.0
+ */
+class TimeoutWatchdog {
+
+	private static final int RUNNING = 0;
+	private static final int DONE = 1;
+	private static final int TIMED_OUT = 2;
+	private static final int INTERRUPTED = 3;
+
+	private TimeoutWatchdog() {
+		/* no-op */
+	}
+
+	static <T> T invoke(Supplier<T> invocation, TimeoutDuration timeout, Supplier<String> descriptionSupplier) {
+		Thread thread = Thread.currentThread();
+		AtomicInteger state = new AtomicInteger(RUNNING);
+		long timeoutInNanos = timeout.toNanos();
+		long startTime = System.nanoTime();
+
+		ScheduledFuture<?> interruption = Scheduler.INSTANCE.schedule(() -> {
+			if (state.compareAndSet(RUNNING, TIMED_OUT)) {
+				try {
+					thread.interrupt();
+				}
+				finally {
+					state.set(INTERRUPTED);
+				}
+			}
+		}, timeoutInNanos, TimeUnit.NANOSECONDS);
+
+		T result = null;
+		Throwable failure = null;
+		try {
+			result = invocation.get();
+		}
+		catch (Throwable t) {
+			BlacklistedExceptions.rethrowIfBlacklisted(t);
+			failure = t;
+		}
+		finally {
+			if (state.compareAndSet(RUNNING, DONE)) {
+				interruption.cancel(false);
+			}
+			else {
+				awaitInterruption(state);
+				// Do not leak the interrupt to code executed after the invocation.
+				Thread.interrupted();
+			}
+		}
+
+		if (state.get() == INTERRUPTED || System.nanoTime() - startTime > timeoutInNanos) {
+			TimeoutException exception = new TimeoutException(
+				descriptionSupplier.get() + " timed out after " + timeout);
+			if (failure != null) {
+				exception.addSuppressed(failure);
+			}
+			throw ExceptionUtils.throwAsUncheckedException(exception);
+		}
+		if (failure != null) {
+			throw ExceptionUtils.throwAsUncheckedException(failure);
+		}
+		return result;
+	}
+
+	/**
+	 * Wait until the watchdog, which has already decided to interrupt the
+	 * calling thread, has actually interrupted it.
+	 *
+	 * <p>The watchdog interrupts the thread right after changing the state
+	 * to {@code TIMED_OUT}, so this only spins for a very short time.
+	 */
+	private static void awaitInterruption(AtomicInteger state) {
+		while (state.get() != INTERRUPTED) {
+			Thread.yield();
+		}
+	}
+
+	/**
+	 * Lazily created, shared scheduler for interruptions.
+	 */
+	private static class Scheduler {
+
+		static final ScheduledThreadPoolExecutor INSTANCE = createScheduler();
+
+		private static ScheduledThreadPoolExecutor createScheduler() {
+			ScheduledThreadPoolExecutor scheduler = new ScheduledThreadPoolExecutor(1, runnable -> {
+				Thread thread = new Thread(runnable, "junit-jupiter-timeout-watchdog");
+				thread.setDaemon(true);
+				return thread;
+			});
+			// Most invocations complete in time; do not keep their cancelled interruptions around.
+			scheduler.setRemoveOnCancelPolicy(true);
+			return scheduler;
+		}
+	}
+
+}
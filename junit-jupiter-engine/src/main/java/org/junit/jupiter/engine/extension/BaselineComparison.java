@@ -0,0 +1,164 @@
+/*
+ * Copyright 2015-2017 the original author or authors.
+ *
+ * All rights reserved. This program and the accompanying materials are
+ * made available under the terms of the Eclipse Public License v1.0 which
+ * accompanies this distribution and is available at
+ *
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+
+package org.junit.jupiter.engine.extension;
+
+import java.util.Arrays;
+import java.util.Locale;
+
+/**
+ * Comparison of a performance measurement against its baseline, where
+ * smaller values are better.
+ *
+ * <p>A measurement is considered a <em>regression</em> if its mean exceeds
+ * the mean of the baseline by more than the tolerated relative increase and
+ * if a one-sided Mann-Whitney U test rejects the hypothesis that the samples
+ * of the measurement are not larger than those of the baseline at the given
+ * significance level. The test uses the normal approximation with continuity
+ * correction. If the baseline or the measurement consists of a single sample
+ * only, the statistical test is skipped and the tolerance alone decides.
+ *
+ * @since 5.0
+ * @see org.junit.jupiter.api.PerformanceBaseline
+ */
+class BaselineComparison {
+
+	private final double baselineMean;
+	private final double mean;
+	private final double increase;
+	private final double pValue;
+	private final boolean regression;
+
+	static BaselineComparison compare(double[] baseline, double[] samples, double tolerance, double significance) {
+		double baselineMean = mean(baseline);
+		double mean = mean(samples);
+		double increase = relativeIncrease(baselineMean, mean);
+		double pValue = (baseline.length < 2 || samples.length < 2) ? 0 : pValueOfIncrease(baseline, samples);
+		boolean regression = increase > tolerance && pValue < significance;
+		return new BaselineComparison(baselineMean, mean, increase, pValue, regression);
+	}
+
+	private BaselineComparison(double baselineMean, double mean, double increase, double pValue,
+			boolean regression) {
+
+		this.baselineMean = baselineMean;
+		this.mean = mean;
+		this.increase = increase;
+		this.pValue = pValue;
+		this.regression = regression;
+	}
+
+	double getBaselineMean() {
+		return this.baselineMean;
+	}
+
+	double getMean() {
+		return this.mean;
+	}
+
+	/**
+	 * Get the increase of the mean relative to the mean of the baseline,
+	 * e.g. {@code 0.25} for a mean that is 25% larger.
+	 */
+	double getIncrease() {
+		return this.increase;
+	}
+
+	/**
+	 * Get the p-value of the statistical test; {@code 0} if the test was
+	 * skipped.
+	 */
+	double getPValue() {
+		return this.pValue;
+	}
+
+	boolean isRegression() {
+		return this.regression;
+	}
+
+	@Override
+	public String toString() {
+		return String.format(Locale.ROOT, "mean %.1f vs. baseline mean %.1f (%+.1f%%, p = %.4f)", this.mean,
+			this.baselineMean, this.increase * 100, this.pValue);
+	}
+
+	private static double mean(double[] values) {
+		return Arrays.stream(values).average().getAsDouble();
+	}
+
+	private static double relativeIncrease(double baselineMean, double mean) {
+		if (baselineMean == 0) {
+			return mean > 0 ? Double.POSITIVE_INFINITY : 0;
+		}
+		return mean / baselineMean - 1;
+	}
+
+	/**
+	 * Compute the p-value of a one-sided Mann-Whitney U test of the
+	 * hypothesis that the {@code samples} are not larger than the
+	 * {@code baseline}.
+	 */
+	static double pValueOfIncrease(double[] baseline, double[] samples) {
+		double n1 = baseline.length;
+		double n2 = samples.length;
+		double u = rankSumOf(samples, baseline) - n2 * (n2 + 1) / 2;
+		double expected = n1 * n2 / 2;
+		double standardDeviation = Math.sqrt(n1 * n2 * (n1 + n2 + 1) / 12);
+		double z = (u - expected - 0.5) / standardDeviation;
+		return 1 - standardNormalCdf(z);
+	}
+
+	/**
+	 * Compute the sum of the 1-based ranks of the {@code samples} among all
+	 * values of the {@code samples} and the {@code others}; tied values get
+	 * the average of their ranks.
+	 *
+	 * <p>Both arrays are sorted and then merged in a single pass.
+	 */
+	private static double rankSumOf(double[] samples, double[] others) {
+		double[] sortedSamples = samples.clone();
+		double[] sortedOthers = others.clone();
+		Arrays.sort(sortedSamples);
+		Arrays.sort(sortedOthers);
+
+		double rankSum = 0;
+		int i = 0;
+		int j = 0;
+		while (i < sortedSamples.length) {
+			double value = j < sortedOthers.length ? Math.min(sortedSamples[i], sortedOthers[j]) : sortedSamples[i];
+			int precedingValues = i + j;
+			int tiedSamples = 0;
+			while (i < sortedSamples.length && sortedSamples[i] == value) {
+				i++;
+				tiedSamples++;
+			}
+			while (j < sortedOthers.length && sortedOthers[j] == value) {
+				j++;
+			}
+			double averageRank = precedingValues + (i + j - precedingValues + 1) / 2.0;
+			rankSum += tiedSamples * averageRank;
+		}
+		return rankSum;
+	}
+
+	/**
+	 * Approximate the cumulative distribution function of the standard
+	 * normal distribution (Abramowitz and Stegun, formula 7.1.26).
+	 */
+	private static double standardNormalCdf(double z) {
+		double x = Math.abs(z) / Math.sqrt(2);
+		double t = 1 / (1 + 0.3275911 * x);
+		double polynomial = t * (0.254829592 + t * (-0.284496736 + t * (1.421413741 + t * (-1.453152027
+				+ t * 1.061405429))));
+		double erf = 1 - polynomial * Math.exp(-x * x);
+		return z >= 0 ? (1 + erf) / 2 : (1 - erf) / 2;
+	}
+
+}
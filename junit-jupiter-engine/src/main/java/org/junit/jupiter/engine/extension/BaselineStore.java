@@ -0,0 +1,133 @@
+/*
+ * Copyright 2015-2017 the original author or authors.
+ *
+ * All rights reserved. This program and the accompanying materials are
+ * made available under the terms of the Eclipse Public License v1.0 which
+ * accompanies this distribution and is available at
+ *
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+
+package org.junit.jupiter.engine.extension;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.util.stream.Collectors.joining;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.TreeMap;
+import java.util.logging.Logger;
+
+import org.junit.jupiter.api.extension.ExtensionContext.Store.CloseableResource;
+
+/**
+ * Performance baselines of a single machine profile that are loaded from and
+ * saved to a baseline file.
+ *
+ * <p>Each line of a baseline file consists of the key of a baseline, a tab
+ * character, and the comma-separated samples of the baseline. Lines are
+ * sorted by key so that baseline files can be compared easily. Lines that
+ * start with {@code #} are ignored.
+ *
+ * <p>The file is written when this store is {@linkplain #close() closed} and
+ * only if a baseline has been added or replaced.
+ *
+ * @since 5.0
+ */
+class BaselineStore implements CloseableResource {
+
+	private static final Logger LOG = Logger.getLogger(BaselineStore.class.getName());
+
+	private static final String HEADER = "# JUnit Jupiter performance baselines";
+	private static final char KEY_SEPARATOR = '\t';
+	private static final String SAMPLE_SEPARATOR = ",";
+
+	private final Path file;
+	private final Map<String, double[]> baselines;
+	private boolean modified;
+
+	/**
+	 * Load the baselines stored in the supplied file, if it exists.
+	 */
+	static BaselineStore load(Path file) {
+		Map<String, double[]> baselines = new TreeMap<>();
+		if (Files.isRegularFile(file)) {
+			try {
+				List<String> lines = Files.readAllLines(file, UTF_8);
+				for (int i = 0; i < lines.size(); i++) {
+					parseLine(file, i + 1, lines.get(i), baselines);
+				}
+			}
+			catch (IOException ex) {
+				throw new UncheckedIOException("Failed to read baseline file: " + file, ex);
+			}
+		}
+		return new BaselineStore(file, baselines);
+	}
+
+	private static void parseLine(Path file, int lineNumber, String line, Map<String, double[]> baselines) {
+		if (line.trim().isEmpty() || line.startsWith("#")) {
+			return;
+		}
+		int separatorIndex = line.lastIndexOf(KEY_SEPARATOR);
+		try {
+			if (separatorIndex <= 0) {
+				throw new NumberFormatException("missing samples");
+			}
+			double[] samples = Arrays.stream(line.substring(separatorIndex + 1).split(SAMPLE_SEPARATOR)).mapToDouble(
+				Double::parseDouble).toArray();
+			baselines.put(line.substring(0, separatorIndex), samples);
+		}
+		catch (NumberFormatException ex) {
+			LOG.warning(() -> String.format("Ignoring malformed line %d of baseline file [%s]: %s", lineNumber,
+				file, ex.getMessage()));
+		}
+	}
+
+	private BaselineStore(Path file, Map<String, double[]> baselines) {
+		this.file = file;
+		this.baselines = baselines;
+	}
+
+	Path getFile() {
+		return this.file;
+	}
+
+	synchronized Optional<double[]> get(String key) {
+		return Optional.ofNullable(this.baselines.get(key)).map(double[]::clone);
+	}
+
+	synchronized void put(String key, double[] samples) {
+		this.baselines.put(key, samples.clone());
+		this.modified = true;
+	}
+
+	/**
+	 * Write all baselines to the baseline file if any of them has been added
+	 * or replaced.
+	 */
+	@Override
+	public synchronized void close() throws IOException {
+		if (!this.modified) {
+			return;
+		}
+		List<String> lines = new ArrayList<>();
+		lines.add(HEADER);
+		this.baselines.forEach((key, samples) -> lines.add(key + KEY_SEPARATOR
+				+ Arrays.stream(samples).mapToObj(Double::toString).collect(joining(SAMPLE_SEPARATOR))));
+		Path parent = this.file.toAbsolutePath().getParent();
+		if (parent != null) {
+			Files.createDirectories(parent);
+		}
+		Files.write(this.file, lines, UTF_8);
+		this.modified = false;
+	}
+
+}
@@ -19,20 +19,22 @@ import org.junit.jupiter.api.Disabled;
 import org.junit.jupiter.api.extension.ConditionEvaluationResult;
 import org.junit.jupiter.api.extension.ContainerExecutionCondition;
 import org.junit.jupiter.api.extension.ContainerExtensionContext;
+import org.junit.jupiter.api.extension.StaticExecutionCondition;
 import org.junit.jupiter.api.extension.TestExecutionCondition;
 import org.junit.jupiter.api.extension.TestExtensionContext;
 import org.junit.platform.commons.util.StringUtils;
 
 /**
- * Composite {@link ContainerExecutionCondition} and {@link TestExecutionCondition}
- * that supports the {@code @Disabled} annotation.
+ * Composite {@link ContainerExecutionCondition}, {@link TestExecutionCondition},
+ * and {@link StaticExecutionCondition} that supports the {@code @Disabled}
+ * annotation.
  *
  * @since 5.0
  * @see Disabled
  * @see #evaluate(ContainerExtensionContext)
  * @see #evaluate(TestExtensionContext)
  */
-class DisabledCondition implements ContainerExecutionCondition, TestExecutionCondition {
+class DisabledCondition implements ContainerExecutionCondition, TestExecutionCondition, StaticExecutionCondition {
 
 	private static final ConditionEvaluationResult ENABLED = ConditionEvaluationResult.enabled(
 		"@Disabled is not present");
@@ -53,6 +55,15 @@ class DisabledCondition implements ContainerExecutionCondition, TestExecutionCon
 		return evaluate(context.getElement());
 	}
 
+	/**
+	 * Test classes and test methods are disabled if {@code @Disabled} is
+	 * present on them.
+	 */
+	@Override
+	public ConditionEvaluationResult evaluateStatically(AnnotatedElement element) {
+		return evaluate(Optional.of(element));
+	}
+
 	private ConditionEvaluationResult evaluate(Optional<AnnotatedElement> element) {
 		Optional<Disabled> disabled = findAnnotation(element, Disabled.class);
 		if (disabled.isPresent()) {
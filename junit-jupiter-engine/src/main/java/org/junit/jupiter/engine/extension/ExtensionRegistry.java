@@ -10,8 +10,7 @@
 
 package org.junit.jupiter.engine.extension;
 
-import static java.util.stream.Collectors.toList;
-import static java.util.stream.Stream.concat;
+import static org.junit.jupiter.engine.Constants.RESOURCE_USAGE_ENABLED_PROPERTY_NAME;
 import static org.junit.platform.commons.meta.API.Usage.Internal;
 
 import java.util.ArrayList;
@@ -19,7 +18,9 @@ import java.util.Arrays;
 import java.util.Collections;
 import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.logging.Logger;
 import java.util.stream.Stream;
 
@@ -28,6 +29,7 @@ import org.junit.jupiter.api.extension.Extension;
 import org.junit.platform.commons.meta.API;
 import org.junit.platform.commons.util.Preconditions;
 import org.junit.platform.commons.util.ReflectionUtils;
+import org.junit.platform.engine.ConfigurationParameters;
 
 /**
  * An {@code ExtensionRegistry} holds all registered extensions (i.e.
@@ -38,6 +40,12 @@ import org.junit.platform.commons.util.ReflectionUtils;
  * performed first in the current registry itself and then recursively in its
  * ancestors.
  *
+ * <p>The extensions of a given type are computed only once per registry,
+ * building on the already computed extensions of the parent registry, and
+ * are then shared as immutable lists until another extension is registered
+ * in the registry or one of its ancestors. A registry that does not add any
+ * extensions of a given type returns the same lists as its parent.
+ *
  * @since 5.0
  */
 @API(Internal)
@@ -46,7 +54,8 @@ public class ExtensionRegistry {
 	private static final Logger LOG = Logger.getLogger(ExtensionRegistry.class.getName());
 
 	private static final List<Extension> DEFAULT_EXTENSIONS = Collections.unmodifiableList(
-		Arrays.asList(new DisabledCondition(), new TestInfoParameterResolver(), new TestReporterParameterResolver()));
+		Arrays.asList(new DisabledCondition(), new TestInfoParameterResolver(), new TestReporterParameterResolver(),
+			new PerformanceBaselineParameterResolver()));
 
 	/**
 	 * Factory for creating and populating a new root registry with the default
@@ -60,6 +69,31 @@ public class ExtensionRegistry {
 		return extensionRegistry;
 	}
 
+	/**
+	 * Factory for creating and populating a new root registry with the default
+	 * extensions and the opt-in extensions enabled by the supplied
+	 * configuration parameters.
+	 *
+	 * <p>The {@link ResourceUsageExtension} is registered if the
+	 * {@value org.junit.jupiter.engine.Constants#RESOURCE_USAGE_ENABLED_PROPERTY_NAME}
+	 * configuration parameter is set to {@code true}.
+	 *
+	 * @param configurationParameters the configuration parameters of the
+	 * current test run
+	 * @return a new {@code ExtensionRegistry}
+	 */
+	public static ExtensionRegistry createRegistryWithDefaultExtensions(
+			ConfigurationParameters configurationParameters) {
+
+		ExtensionRegistry extensionRegistry = createRegistryWithDefaultExtensions();
+		boolean resourceUsageEnabled = configurationParameters.get(RESOURCE_USAGE_ENABLED_PROPERTY_NAME).map(
+			Boolean::parseBoolean).orElse(false);
+		if (resourceUsageEnabled) {
+			extensionRegistry.registerDefaultExtension(new ResourceUsageExtension());
+		}
+		return extensionRegistry;
+	}
+
 	/**
 	 * Factory for creating and populating a new registry from a list of
 	 * extension types and a parent registry.
@@ -85,6 +119,11 @@ public class ExtensionRegistry {
 
 	private final List<Extension> registeredExtensions = new ArrayList<>();
 
+	private final Map<Class<? extends Extension>, Extensions> extensionsByType = new ConcurrentHashMap<>();
+
+	/** Number of extensions registered in this registry itself */
+	private int registrationCount;
+
 	private ExtensionRegistry(ExtensionRegistry parent) {
 		this.parent = parent;
 	}
@@ -98,29 +137,7 @@ public class ExtensionRegistry {
 	 * @see #getExtensions(Class)
 	 */
 	public <E extends Extension> Stream<E> stream(Class<E> extensionType) {
-		if (this.parent == null) {
-			return streamLocal(extensionType);
-		}
-		else {
-			return concat(this.parent.stream(extensionType), streamLocal(extensionType));
-		}
-	}
-
-	/**
-	 * Stream all {@code Extensions} of the specified type that are present
-	 * in this registry.
-	 *
-	 * <p>Extensions in ancestors are ignored.
-	 *
-	 * @param extensionType the type of {@link Extension} to stream
-	 * @see #getReversedExtensions(Class)
-	 */
-	private <E extends Extension> Stream<E> streamLocal(Class<E> extensionType) {
-		// @formatter:off
-		return this.registeredExtensions.stream()
-				.filter(extensionType::isInstance)
-				.map(extensionType::cast);
-		// @formatter:on
+		return getExtensions(extensionType).stream();
 	}
 
 	/**
@@ -128,11 +145,13 @@ public class ExtensionRegistry {
 	 * in this registry or one of its ancestors.
 	 *
 	 * @param extensionType the type of {@link Extension} to get
+	 * @return an immutable list of the extensions
 	 * @see #getReversedExtensions(Class)
 	 * @see #stream(Class)
 	 */
+	@SuppressWarnings("unchecked")
 	public <E extends Extension> List<E> getExtensions(Class<E> extensionType) {
-		return stream(extensionType).collect(toList());
+		return (List<E>) getExtensionsOfType(extensionType).extensions;
 	}
 
 	/**
@@ -140,15 +159,52 @@ public class ExtensionRegistry {
 	 * in this registry or one of its ancestors, in reverse order.
 	 *
 	 * @param extensionType the type of {@link Extension} to get
+	 * @return an immutable list of the extensions
 	 * @see #getExtensions(Class)
 	 * @see #stream(Class)
 	 */
+	@SuppressWarnings("unchecked")
 	public <E extends Extension> List<E> getReversedExtensions(Class<E> extensionType) {
-		List<E> extensions = getExtensions(extensionType);
-		Collections.reverse(extensions);
+		return (List<E>) getExtensionsOfType(extensionType).reversedExtensions;
+	}
+
+	private Extensions getExtensionsOfType(Class<? extends Extension> extensionType) {
+		int modificationCount = getModificationCount();
+		Extensions extensions = this.extensionsByType.get(extensionType);
+		if (extensions == null || extensions.modificationCount != modificationCount) {
+			extensions = computeExtensions(extensionType, modificationCount);
+			this.extensionsByType.put(extensionType, extensions);
+		}
 		return extensions;
 	}
 
+	private Extensions computeExtensions(Class<? extends Extension> extensionType, int modificationCount) {
+		Extensions inherited = (this.parent != null ? this.parent.getExtensionsOfType(extensionType) : null);
+		List<Extension> extensions = new ArrayList<>();
+		if (inherited != null) {
+			extensions.addAll(inherited.extensions);
+		}
+		for (Extension extension : this.registeredExtensions) {
+			if (extensionType.isInstance(extension)) {
+				extensions.add(extension);
+			}
+		}
+		if (inherited != null && extensions.size() == inherited.extensions.size()) {
+			// Share the lists of the parent so that they remain identical.
+			return new Extensions(modificationCount, inherited.extensions, inherited.reversedExtensions);
+		}
+		return new Extensions(modificationCount, extensions.toArray(new Extension[extensions.size()]));
+	}
+
+	/**
+	 * Get the number of extensions registered in this registry and all of its
+	 * ancestors, which changes whenever an extension is registered in any of
+	 * them.
+	 */
+	private int getModificationCount() {
+		return this.registrationCount + (this.parent != null ? this.parent.getModificationCount() : 0);
+	}
+
 	/**
 	 * Determine if the supplied type is already registered in this registry or in a
 	 * parent registry.
@@ -176,6 +232,7 @@ public class ExtensionRegistry {
 
 	private void registerDefaultExtension(Extension extension) {
 		this.registeredExtensions.add(extension);
+		this.registrationCount++;
 		this.registeredExtensionTypes.add(extension.getClass());
 	}
 
@@ -201,6 +258,35 @@ public class ExtensionRegistry {
 	public void registerExtension(Extension extension, Object source) {
 		LOG.finer(() -> String.format("Registering extension [%s] from source [%s].", extension, source));
 		this.registeredExtensions.add(extension);
+		this.registrationCount++;
+	}
+
+	/**
+	 * Immutable extensions of a given type, in registration order and in
+	 * reverse order, along with the modification count of the registry they
+	 * were computed for.
+	 */
+	private static class Extensions {
+
+		final int modificationCount;
+		final List<Extension> extensions;
+		final List<Extension> reversedExtensions;
+
+		Extensions(int modificationCount, Extension[] extensions) {
+			this.modificationCount = modificationCount;
+			this.extensions = Collections.unmodifiableList(Arrays.asList(extensions));
+			Extension[] reversed = new Extension[extensions.length];
+			for (int i = 0; i < extensions.length; i++) {
+				reversed[i] = extensions[extensions.length - 1 - i];
+			}
+			this.reversedExtensions = Collections.unmodifiableList(Arrays.asList(reversed));
+		}
+
+		Extensions(int modificationCount, List<Extension> extensions, List<Extension> reversedExtensions) {
+			this.modificationCount = modificationCount;
+			this.extensions = extensions;
+			this.reversedExtensions = reversedExtensions;
+		}
 	}
 
 }
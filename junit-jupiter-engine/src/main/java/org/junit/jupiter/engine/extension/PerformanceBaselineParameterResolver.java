@@ -0,0 +1,173 @@
+/*
+ * Copyright 2015-2017 the original author or authors.
+ *
+ * All rights reserved. This program and the accompanying materials are
+ * made available under the terms of the Eclipse Public License v1.0 which
+ * accompanies this distribution and is available at
+ *
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+
+package org.junit.jupiter.engine.extension;
+
+import static org.junit.jupiter.engine.Constants.BASELINE_DIRECTORY_PROPERTY_NAME;
+import static org.junit.jupiter.engine.Constants.BASELINE_PROFILE_PROPERTY_NAME;
+import static org.junit.jupiter.engine.Constants.BASELINE_REGRESSION_ACTION_PROPERTY_NAME;
+import static org.junit.jupiter.engine.Constants.BASELINE_SIGNIFICANCE_PROPERTY_NAME;
+import static org.junit.jupiter.engine.Constants.BASELINE_TOLERANCE_PROPERTY_NAME;
+import static org.junit.jupiter.engine.Constants.BASELINE_UPDATE_PROPERTY_NAME;
+import static org.junit.jupiter.engine.Constants.DEFAULT_BASELINE_DIRECTORY;
+
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Arrays;
+import java.util.Optional;
+import java.util.function.DoublePredicate;
+import java.util.logging.Logger;
+
+import org.junit.jupiter.api.PerformanceBaseline;
+import org.junit.jupiter.api.extension.ExtensionContext;
+import org.junit.jupiter.api.extension.ExtensionContext.Namespace;
+import org.junit.jupiter.api.extension.ParameterContext;
+import org.junit.jupiter.api.extension.ParameterResolver;
+import org.junit.platform.commons.util.Preconditions;
+import org.opentest4j.AssertionFailedError;
+import org.opentest4j.TestAbortedException;
+
+/**
+ * {@link ParameterResolver} that injects a {@link PerformanceBaseline}.
+ *
+ * <p>The {@link BaselineStore} of the configured machine profile is shared
+ * by all tests via the {@linkplain ExtensionContext#getRoot() root context}
+ * and saved once the engine has finished.
+ *
+ * @since 5.0
+ * @see PerformanceBaseline
+ */
+class PerformanceBaselineParameterResolver implements ParameterResolver {
+
+	private static final Logger LOG = Logger.getLogger(PerformanceBaselineParameterResolver.class.getName());
+
+	private static final Namespace NAMESPACE = Namespace.create(PerformanceBaselineParameterResolver.class);
+
+	private static final String BASELINE_FILE_SUFFIX = ".baseline";
+	private static final double DEFAULT_TOLERANCE = 0.1;
+	private static final double DEFAULT_SIGNIFICANCE = 0.05;
+
+	@Override
+	public boolean supports(ParameterContext parameterContext, ExtensionContext extensionContext) {
+		return (parameterContext.getParameter().getType() == PerformanceBaseline.class);
+	}
+
+	@Override
+	public boolean supportDependsOnParameterOnly() {
+		return true;
+	}
+
+	@Override
+	public PerformanceBaseline resolve(ParameterContext parameterContext, ExtensionContext extensionContext) {
+		return (name, samples) -> assertNoRegression(extensionContext, name, samples);
+	}
+
+	private void assertNoRegression(ExtensionContext context, String name, double[] samples) {
+		Preconditions.notBlank(name, "name must not be null or blank");
+		Preconditions.condition(name.indexOf('\t') < 0 && name.indexOf('\n') < 0 && name.indexOf('\r') < 0,
+			"name must not contain tabs or line breaks");
+		Preconditions.notNull(samples, "samples must not be null");
+		Preconditions.condition(samples.length > 0, "samples must not be empty");
+		Preconditions.condition(Arrays.stream(samples).allMatch(Double::isFinite), "samples must be finite");
+
+		BaselineStore store = getBaselineStore(context);
+		String key = context.getUniqueId() + "#" + name;
+		Optional<double[]> baseline = store.get(key);
+		String entryKey = "baseline." + name;
+
+		if (!baseline.isPresent()) {
+			store.put(key, samples);
+			context.publishReportEntry(entryKey, "created");
+			return;
+		}
+		if (getBoolean(context, BASELINE_UPDATE_PROPERTY_NAME)) {
+			store.put(key, samples);
+			context.publishReportEntry(entryKey, "updated");
+			return;
+		}
+
+		double tolerance = getDouble(context, BASELINE_TOLERANCE_PROPERTY_NAME, DEFAULT_TOLERANCE,
+			value -> value >= 0);
+		double significance = getDouble(context, BASELINE_SIGNIFICANCE_PROPERTY_NAME, DEFAULT_SIGNIFICANCE,
+			value -> value > 0 && value <= 1);
+		BaselineComparison comparison = BaselineComparison.compare(baseline.get(), samples, tolerance,
+			significance);
+		context.publishReportEntry(entryKey, comparison.toString());
+
+		if (comparison.isRegression()) {
+			String message = String.format("Performance regression of '%s': %s exceeds tolerance of %s%% in [%s]",
+				name, comparison, tolerance * 100, store.getFile());
+			if (isAbortOnRegression(context)) {
+				throw new TestAbortedException(message);
+			}
+			throw new AssertionFailedError(message);
+		}
+	}
+
+	private BaselineStore getBaselineStore(ExtensionContext context) {
+		ExtensionContext root = context.getRoot();
+		return root.getStore(NAMESPACE).getOrComputeIfAbsent(BaselineStore.class,
+			key -> BaselineStore.load(getBaselineFile(root)), BaselineStore.class);
+	}
+
+	static Path getBaselineFile(ExtensionContext context) {
+		Path directory = Paths.get(
+			context.getConfigurationParameter(BASELINE_DIRECTORY_PROPERTY_NAME).orElse(DEFAULT_BASELINE_DIRECTORY));
+		String profile = context.getConfigurationParameter(BASELINE_PROFILE_PROPERTY_NAME).map(String::trim).filter(
+			value -> !value.isEmpty()).orElseGet(PerformanceBaselineParameterResolver::getDefaultProfile);
+		return directory.resolve(profile.replaceAll("[^A-Za-z0-9._-]", "_") + BASELINE_FILE_SUFFIX);
+	}
+
+	static String getDefaultProfile() {
+		return String.join("-", System.getProperty("os.name"), System.getProperty("os.arch"),
+			Runtime.getRuntime().availableProcessors() + "cpus",
+			"java" + System.getProperty("java.specification.version"));
+	}
+
+	private static boolean getBoolean(ExtensionContext context, String key) {
+		return context.getConfigurationParameter(key).map(String::trim).map(Boolean::parseBoolean).orElse(false);
+	}
+
+	private static double getDouble(ExtensionContext context, String key, double defaultValue,
+			DoublePredicate validator) {
+
+		Optional<String> value = context.getConfigurationParameter(key);
+		if (value.isPresent()) {
+			try {
+				double result = Double.parseDouble(value.get().trim());
+				if (validator.test(result)) {
+					return result;
+				}
+			}
+			catch (NumberFormatException ex) {
+				// fall through
+			}
+			LOG.warning(() -> String.format(
+				"Invalid value '%s' set via the '%s' configuration parameter. Falling back to %s as the default.",
+				value.get(), key, defaultValue));
+		}
+		return defaultValue;
+	}
+
+	private static boolean isAbortOnRegression(ExtensionContext context) {
+		Optional<String> value = context.getConfigurationParameter(BASELINE_REGRESSION_ACTION_PROPERTY_NAME).map(
+			String::trim);
+		if (value.isPresent() && !"fail".equalsIgnoreCase(value.get())) {
+			if ("abort".equalsIgnoreCase(value.get())) {
+				return true;
+			}
+			LOG.warning(() -> String.format(
+				"Invalid value '%s' set via the '%s' configuration parameter. Falling back to 'fail' as the default.",
+				value.get(), BASELINE_REGRESSION_ACTION_PROPERTY_NAME));
+		}
+		return false;
+	}
+
+}
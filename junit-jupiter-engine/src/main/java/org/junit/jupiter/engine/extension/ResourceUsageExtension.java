@@ -0,0 +1,168 @@
+/*
+ * Copyright 2015-2017 the original author or authors.
+ *
+ * All rights reserved. This program and the accompanying materials are
+ * made available under the terms of the Eclipse Public License v1.0 which
+ * accompanies this distribution and is available at
+ *
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+
+package org.junit.jupiter.engine.extension;
+
+import java.lang.management.GarbageCollectorMXBean;
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.junit.jupiter.api.extension.AfterAllCallback;
+import org.junit.jupiter.api.extension.AfterTestExecutionCallback;
+import org.junit.jupiter.api.extension.BeforeAllCallback;
+import org.junit.jupiter.api.extension.BeforeTestExecutionCallback;
+import org.junit.jupiter.api.extension.ContainerExtensionContext;
+import org.junit.jupiter.api.extension.ExtensionContext.Namespace;
+import org.junit.jupiter.api.extension.TestExtensionContext;
+
+/**
+ * Extension that publishes the resource usage of each test and test class
+ * as report entries.
+ *
+ * <p>This extension is only registered in the root {@link ExtensionRegistry}
+ * if the
+ * {@value org.junit.jupiter.engine.Constants#RESOURCE_USAGE_ENABLED_PROPERTY_NAME}
+ * configuration parameter is set to {@code true}.
+ *
+ * <p>For each test, the CPU time consumed and the bytes allocated by the
+ * executing thread between the {@link BeforeTestExecutionCallback} and
+ * {@link AfterTestExecutionCallback} of this extension are published. Since
+ * this extension is registered before all extensions that are not
+ * registered by default, the measurements include the corresponding
+ * callbacks of those extensions.
+ * Allocated bytes are only available on JVMs that provide
+ * {@code com.sun.management.ThreadMXBean}.
+ *
+ * <p>For each test class, the number of garbage collections and the
+ * approximate time spent in them between its {@link BeforeAllCallback} and
+ * {@link AfterAllCallback} are published. These numbers are collected by the
+ * JVM for all threads and therefore include collections caused by tests that
+ * are executed concurrently.
+ *
+ * @since 5.0
+ */
+class ResourceUsageExtension
+		implements BeforeAllCallback, AfterAllCallback, BeforeTestExecutionCallback, AfterTestExecutionCallback {
+
+	static final String CPU_TIME_KEY = "resources.cpuTimeNanos";
+	static final String ALLOCATED_BYTES_KEY = "resources.allocatedBytes";
+	static final String GC_COUNT_KEY = "resources.gcCount";
+	static final String GC_TIME_KEY = "resources.gcTimeMillis";
+
+	private static final Namespace NAMESPACE = Namespace.create(ResourceUsageExtension.class);
+
+	@Override
+	public void beforeAll(ContainerExtensionContext context) {
+		context.getStore(NAMESPACE).put(GarbageCollectionSnapshot.class, GarbageCollectionSnapshot.take());
+	}
+
+	@Override
+	public void afterAll(ContainerExtensionContext context) {
+		GarbageCollectionSnapshot start = context.getStore(NAMESPACE).remove(GarbageCollectionSnapshot.class,
+			GarbageCollectionSnapshot.class);
+		if (start != null) {
+			GarbageCollectionSnapshot end = GarbageCollectionSnapshot.take();
+			Map<String, String> values = new LinkedHashMap<>();
+			values.put(GC_COUNT_KEY, String.valueOf(end.count - start.count));
+			values.put(GC_TIME_KEY, String.valueOf(end.timeMillis - start.timeMillis));
+			context.publishReportEntry(values);
+		}
+	}
+
+	@Override
+	public void beforeTestExecution(TestExtensionContext context) {
+		context.getStore(NAMESPACE).put(ThreadSnapshot.class, ThreadSnapshot.take());
+	}
+
+	@Override
+	public void afterTestExecution(TestExtensionContext context) {
+		ThreadSnapshot start = context.getStore(NAMESPACE).remove(ThreadSnapshot.class, ThreadSnapshot.class);
+		if (start != null) {
+			ThreadSnapshot end = ThreadSnapshot.take();
+			Map<String, String> values = new LinkedHashMap<>();
+			if (start.cpuTimeNanos >= 0 && end.cpuTimeNanos >= 0) {
+				values.put(CPU_TIME_KEY, String.valueOf(end.cpuTimeNanos - start.cpuTimeNanos));
+			}
+			if (start.allocatedBytes >= 0 && end.allocatedBytes >= 0) {
+				values.put(ALLOCATED_BYTES_KEY, String.valueOf(end.allocatedBytes - start.allocatedBytes));
+			}
+			if (!values.isEmpty()) {
+				context.publishReportEntry(values);
+			}
+		}
+	}
+
+	/**
+	 * Resource usage of the current thread; negative values denote
+	 * measurements that are not supported or disabled.
+	 */
+	private static class ThreadSnapshot {
+
+		private static final ThreadMXBean threadMXBean = ManagementFactory.getThreadMXBean();
+		private static final boolean cpuTimeSupported = threadMXBean.isCurrentThreadCpuTimeSupported();
+		private static final boolean allocatedBytesSupported = isAllocatedBytesSupported();
+
+		final long cpuTimeNanos;
+		final long allocatedBytes;
+
+		private ThreadSnapshot(long cpuTimeNanos, long allocatedBytes) {
+			this.cpuTimeNanos = cpuTimeNanos;
+			this.allocatedBytes = allocatedBytes;
+		}
+
+		static ThreadSnapshot take() {
+			long cpuTimeNanos = cpuTimeSupported ? threadMXBean.getCurrentThreadCpuTime() : -1;
+			long allocatedBytes = allocatedBytesSupported
+					? ((com.sun.management.ThreadMXBean) threadMXBean).getThreadAllocatedBytes(
+						Thread.currentThread().getId())
+					: -1;
+			return new ThreadSnapshot(cpuTimeNanos, allocatedBytes);
+		}
+
+		private static boolean isAllocatedBytesSupported() {
+			try {
+				return threadMXBean instanceof com.sun.management.ThreadMXBean
+						&& ((com.sun.management.ThreadMXBean) threadMXBean).isThreadAllocatedMemorySupported();
+			}
+			catch (LinkageError error) {
+				// com.sun.management is not available on this JVM
+				return false;
+			}
+		}
+	}
+
+	/**
+	 * Accumulated number of and time spent in garbage collections of all
+	 * collectors of the JVM.
+	 */
+	private static class GarbageCollectionSnapshot {
+
+		final long count;
+		final long timeMillis;
+
+		private GarbageCollectionSnapshot(long count, long timeMillis) {
+			this.count = count;
+			this.timeMillis = timeMillis;
+		}
+
+		static GarbageCollectionSnapshot take() {
+			long count = 0;
+			long timeMillis = 0;
+			for (GarbageCollectorMXBean collector : ManagementFactory.getGarbageCollectorMXBeans()) {
+				count += Math.max(0, collector.getCollectionCount());
+				timeMillis += Math.max(0, collector.getCollectionTime());
+			}
+			return new GarbageCollectionSnapshot(count, timeMillis);
+		}
+	}
+
+}
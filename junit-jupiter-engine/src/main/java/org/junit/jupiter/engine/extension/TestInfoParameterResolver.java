@@ -33,6 +33,11 @@ class TestInfoParameterResolver implements ParameterResolver {
 		return (parameterContext.getParameter().getType() == TestInfo.class);
 	}
 
+	@Override
+	public boolean supportDependsOnParameterOnly() {
+		return true;
+	}
+
 	@Override
 	public TestInfo resolve(ParameterContext parameterContext, ExtensionContext extensionContext) {
 		return new DefaultTestInfo(extensionContext);
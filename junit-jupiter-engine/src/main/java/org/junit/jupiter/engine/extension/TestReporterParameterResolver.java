@@ -27,6 +27,11 @@ class TestReporterParameterResolver implements ParameterResolver {
 		return (parameterContext.getParameter().getType() == TestReporter.class);
 	}
 
+	@Override
+	public boolean supportDependsOnParameterOnly() {
+		return true;
+	}
+
 	@Override
 	public TestReporter resolve(ParameterContext parameterContext, ExtensionContext extensionContext) {
 		return extensionContext::publishReportEntry;
@@ -15,6 +15,7 @@ import static org.junit.jupiter.api.AssertionTestUtils.assertMessageEquals;
 import static org.junit.jupiter.api.AssertionTestUtils.assertMessageStartsWith;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTimeout;
 import static org.junit.jupiter.api.Assertions.assertTimeoutPreemptively;
@@ -199,6 +200,24 @@ public class AssertionsAssertTimeoutTests {
 		assertMessageEquals(error, "Tempus Fugit ==> execution timed out after 50 ms");
 	}
 
+	@Test
+	void assertTimeoutPreemptivelyUsesContextClassLoaderOfCallingThread() {
+		Thread thread = Thread.currentThread();
+		ClassLoader originalClassLoader = thread.getContextClassLoader();
+		try {
+			for (int i = 0; i < 3; i++) {
+				ClassLoader classLoader = new ClassLoader(originalClassLoader) {
+				};
+				thread.setContextClassLoader(classLoader);
+				assertSame(classLoader, assertTimeoutPreemptively(ofMillis(500),
+					() -> Thread.currentThread().getContextClassLoader()));
+			}
+		}
+		finally {
+			thread.setContextClassLoader(originalClassLoader);
+		}
+	}
+
 	// -- supplier - preemptively ---
 
 	@Test
@@ -0,0 +1,205 @@
+/*
+ * Copyright 2015-2017 the original author or authors.
+ *
+ * All rights reserved. This program and the accompanying materials are
+ * made available under the terms of the Eclipse Public License v1.0 which
+ * accompanies this distribution and is available at
+ *
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+
+package org.junit.jupiter.engine;
+
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+import static org.assertj.core.api.Assertions.allOf;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.platform.engine.discovery.DiscoverySelectors.selectClass;
+import static org.junit.platform.engine.discovery.DiscoverySelectors.selectMethod;
+import static org.junit.platform.engine.test.event.ExecutionEventConditions.event;
+import static org.junit.platform.engine.test.event.ExecutionEventConditions.finishedWithFailure;
+import static org.junit.platform.engine.test.event.ExecutionEventConditions.test;
+import static org.junit.platform.engine.test.event.TestExecutionResultConditions.isA;
+import static org.junit.platform.engine.test.event.TestExecutionResultConditions.message;
+import static org.junit.platform.launcher.core.LauncherDiscoveryRequestBuilder.request;
+
+import java.io.IOException;
+import java.lang.reflect.Proxy;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.TimeoutException;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.Timeout;
+import org.junit.platform.engine.test.event.ExecutionEventRecorder;
+import org.opentest4j.AssertionFailedError;
+
+/**
+ * Integration tests for test and lifecycle methods that return a
+ * {@link CompletionStage} in the {@link JupiterTestEngine}.
+ *
+ * @since 5.0
+ */
+class AsyncTestMethodTests extends AbstractJupiterTestEngineTests {
+
+	private static final List<String> callSequence = new ArrayList<>();
+	private static volatile CompletableFuture<Void> pendingFuture;
+
+	@BeforeEach
+	void resetRecordedState() {
+		callSequence.clear();
+		pendingFuture = null;
+	}
+
+	@Test
+	void testAndLifecycleMethodsCompleteOnceTheirStagesHaveCompleted() {
+		ExecutionEventRecorder eventRecorder = executeTests(
+			request().selectors(selectMethod(AsyncTestCase.class, "successful")).build());
+
+		assertEquals(1, eventRecorder.getTestSuccessfulCount(), "# tests succeeded");
+		assertThat(callSequence).containsExactly("beforeEach started", "beforeEach completed", "test started",
+			"test completed", "afterEach started", "afterEach completed");
+	}
+
+	@Test
+	void exceptionsOfStagesAreUnwrapped() {
+		ExecutionEventRecorder eventRecorder = executeTests(
+			request().selectors(selectClass(AsyncFailuresTestCase.class)).build());
+
+		assertThat(eventRecorder.getExecutionEvents()).haveExactly(1,
+			event(test("failingFuture"),
+				finishedWithFailure(allOf(isA(AssertionFailedError.class), message("async failure")))));
+		assertThat(eventRecorder.getExecutionEvents()).haveExactly(1,
+			event(test("failingDependentStage"),
+				finishedWithFailure(allOf(isA(IOException.class), message("async I/O failure")))));
+	}
+
+	@Test
+	void pendingStageIsCancelledWhenTimeoutIsExceeded() {
+		ExecutionEventRecorder eventRecorder = executeTests(
+			request().selectors(selectMethod(AsyncTestCase.class, "neverCompleting")).build());
+
+		assertThat(eventRecorder.getExecutionEvents()).haveExactly(1,
+			event(test("neverCompleting"), finishedWithFailure(allOf(isA(TimeoutException.class),
+				message("neverCompleting() timed out after 50 milliseconds")))));
+		assertTrue(pendingFuture.isCancelled(), "pending future cancelled");
+	}
+
+	@Test
+	void pendingStageThatIsNoFutureIsCancelledViaItsCompletableFuture() {
+		ExecutionEventRecorder eventRecorder = executeTests(
+			request().selectors(selectMethod(AsyncTestCase.class, "neverCompletingStage")).build());
+
+		assertThat(eventRecorder.getExecutionEvents()).haveExactly(1,
+			event(test("neverCompletingStage"), finishedWithFailure(allOf(isA(TimeoutException.class),
+				message("neverCompletingStage() timed out after 50 milliseconds")))));
+		assertTrue(pendingFuture.isCancelled(), "pending future cancelled");
+	}
+
+	@Test
+	void timeoutIsReportedForPendingStageThatCannotBeCancelled() {
+		ExecutionEventRecorder eventRecorder = executeTests(
+			request().selectors(selectMethod(AsyncTestCase.class, "neverCompletingUncancellableStage")).build());
+
+		assertThat(eventRecorder.getExecutionEvents()).haveExactly(1,
+			event(test("neverCompletingUncancellableStage"), finishedWithFailure(allOf(isA(TimeoutException.class),
+				message("neverCompletingUncancellableStage() timed out after 50 milliseconds")))));
+		assertFalse(pendingFuture.isCancelled(), "pending future cancelled");
+	}
+
+	private static CompletableFuture<Void> completeLater(String name) {
+		callSequence.add(name + " started");
+		return CompletableFuture.runAsync(() -> {
+			sleep(20);
+			callSequence.add(name + " completed");
+		});
+	}
+
+	/**
+	 * Create a {@link CompletionStage} that is no {@link java.util.concurrent.Future}
+	 * and delegates to the supplied {@code CompletableFuture}, optionally
+	 * without supporting {@link CompletionStage#toCompletableFuture()}.
+	 */
+	@SuppressWarnings("unchecked")
+	private static CompletionStage<Void> stageOf(CompletableFuture<Void> future, boolean convertible) {
+		return (CompletionStage<Void>) Proxy.newProxyInstance(CompletionStage.class.getClassLoader(),
+			new Class<?>[] { CompletionStage.class }, (proxy, method, args) -> {
+				if (!convertible && method.getName().equals("toCompletableFuture")) {
+					throw new UnsupportedOperationException();
+				}
+				return method.invoke(future, args);
+			});
+	}
+
+	private static void sleep(long millis) {
+		try {
+			Thread.sleep(millis);
+		}
+		catch (InterruptedException ex) {
+			Thread.currentThread().interrupt();
+		}
+	}
+
+	static class AsyncTestCase {
+
+		@BeforeEach
+		CompletableFuture<Void> beforeEach() {
+			return completeLater("beforeEach");
+		}
+
+		@Test
+		CompletionStage<Void> successful() {
+			return completeLater("test");
+		}
+
+		@Test
+		@Timeout(value = 50, unit = MILLISECONDS)
+		CompletableFuture<Void> neverCompleting() {
+			pendingFuture = new CompletableFuture<>();
+			return pendingFuture;
+		}
+
+		@Test
+		@Timeout(value = 50, unit = MILLISECONDS)
+		CompletionStage<Void> neverCompletingStage() {
+			pendingFuture = new CompletableFuture<>();
+			return stageOf(pendingFuture, true);
+		}
+
+		@Test
+		@Timeout(value = 50, unit = MILLISECONDS)
+		CompletionStage<Void> neverCompletingUncancellableStage() {
+			pendingFuture = new CompletableFuture<>();
+			return stageOf(pendingFuture, false);
+		}
+
+		@AfterEach
+		CompletableFuture<Void> afterEach() {
+			return completeLater("afterEach");
+		}
+	}
+
+	static class AsyncFailuresTestCase {
+
+		@Test
+		CompletableFuture<Void> failingFuture() {
+			return CompletableFuture.runAsync(() -> {
+				throw new AssertionFailedError("async failure");
+			});
+		}
+
+		@Test
+		CompletionStage<String> failingDependentStage() {
+			CompletableFuture<String> failed = new CompletableFuture<>();
+			failed.completeExceptionally(new IOException("async I/O failure"));
+			return failed.thenApply(String::trim);
+		}
+	}
+
+}
@@ -0,0 +1,293 @@
+/*
+ * Copyright 2015-2017 the original author or authors.
+ *
+ * All rights reserved. This program and the accompanying materials are
+ * made available under the terms of the Eclipse Public License v1.0 which
+ * accompanies this distribution and is available at
+ *
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+
+package org.junit.jupiter.engine;
+
+import static java.util.stream.Collectors.toList;
+import static org.assertj.core.api.Assertions.allOf;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.platform.engine.discovery.DiscoverySelectors.selectMethod;
+import static org.junit.platform.engine.test.event.ExecutionEvent.Type.REPORTING_ENTRY_PUBLISHED;
+import static org.junit.platform.engine.test.event.ExecutionEventConditions.event;
+import static org.junit.platform.engine.test.event.ExecutionEventConditions.finishedSuccessfully;
+import static org.junit.platform.engine.test.event.ExecutionEventConditions.finishedWithFailure;
+import static org.junit.platform.engine.test.event.ExecutionEventConditions.test;
+import static org.junit.platform.engine.test.event.TestExecutionResultConditions.isA;
+import static org.junit.platform.engine.test.event.TestExecutionResultConditions.message;
+import static org.junit.platform.launcher.core.LauncherDiscoveryRequestBuilder.request;
+
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Benchmark;
+import org.junit.jupiter.api.Blackhole;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInfo;
+import org.junit.jupiter.api.Timeout;
+import org.junit.jupiter.api.extension.AfterEachCallback;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.extension.TestExtensionContext;
+import org.junit.platform.commons.util.PreconditionViolationException;
+import org.junit.platform.commons.util.ReflectionUtils;
+import org.junit.platform.engine.reporting.ReportEntry;
+import org.junit.platform.engine.test.event.ExecutionEventRecorder;
+import org.opentest4j.AssertionFailedError;
+
+/**
+ * Integration tests for {@link Benchmark @Benchmark} support in the
+ * {@link JupiterTestEngine}.
+ *
+ * @since 5.0
+ */
+class BenchmarkTests extends AbstractJupiterTestEngineTests {
+
+	private static final List<String> events = new ArrayList<>();
+	private static final List<Object> testInstances = new ArrayList<>();
+	private static final List<TestInfo> testInfos = new ArrayList<>();
+	private static final List<Thread> threads = new ArrayList<>();
+	private static final List<Blackhole> blackholes = new ArrayList<>();
+
+	@BeforeEach
+	void resetRecordedState() {
+		events.clear();
+		testInstances.clear();
+		testInfos.clear();
+		threads.clear();
+		blackholes.clear();
+	}
+
+	@Test
+	void allIterationsAreExecutedWithinSingleTestAndStatisticsArePublished() {
+		ExecutionEventRecorder eventRecorder = executeBenchmark("benchmark");
+
+		assertEquals(1, eventRecorder.getTestStartedCount(), "# tests started");
+		assertEquals(1, eventRecorder.getTestSuccessfulCount(), "# tests succeeded");
+		assertThat(eventRecorder.getExecutionEvents()).haveExactly(1,
+			event(test("benchmark:benchmark()", "benchmark()"), finishedSuccessfully()));
+		assertThat(events).containsExactly("beforeEach", "benchmark", "benchmark", "benchmark", "benchmark",
+			"benchmark", "afterEach");
+		assertEquals(1, testInstances.stream().distinct().count());
+		assertThat(threads).containsOnly(threads.get(0));
+
+		List<Map<String, String>> entries = getReportEntries(eventRecorder);
+		assertEquals(1, entries.size());
+		assertThat(entries.get(0)).containsOnlyKeys("benchmark.iterations", "benchmark.mean", "benchmark.p50",
+			"benchmark.p99", "benchmark.throughput");
+		assertEquals("3", entries.get(0).get("benchmark.iterations"));
+		assertThat(entries.get(0).get("benchmark.p99")).endsWith(" us");
+	}
+
+	@Test
+	void sameBlackholeIsInjectedIntoAllIterations() {
+		ExecutionEventRecorder eventRecorder = executeBenchmark("benchmarkWithBlackhole", Blackhole.class);
+
+		assertEquals(1, eventRecorder.getTestSuccessfulCount(), "# tests succeeded");
+		assertEquals(4, blackholes.size());
+		assertNotNull(blackholes.get(0));
+		assertEquals(1, blackholes.stream().distinct().count());
+	}
+
+	@Test
+	void benchmarkFailsIfMaximumIsExceeded() {
+		ExecutionEventRecorder eventRecorder = executeBenchmark("tooSlowBenchmark");
+
+		assertThat(eventRecorder.getExecutionEvents()).haveExactly(1,
+			event(test(), finishedWithFailure(allOf(isA(AssertionFailedError.class),
+				message(message -> message.startsWith("Benchmark p99 of ")
+						&& message.endsWith(" exceeds the maximum of 1.000 ms"))))));
+		assertEquals(1, getReportEntries(eventRecorder).size());
+	}
+
+	@Test
+	void benchmarkFailsIfThroughputIsBelowMinimum() {
+		ExecutionEventRecorder eventRecorder = executeBenchmark("benchmarkWithTooLowThroughput");
+
+		assertThat(eventRecorder.getExecutionEvents()).haveExactly(1,
+			event(test(), finishedWithFailure(isA(AssertionFailedError.class))));
+	}
+
+	@Test
+	void durationOfBeforeEachMethodsIsNotMeasured() {
+		ExecutionEventRecorder eventRecorder = executeBenchmark("benchmarkWithSlowBeforeEach");
+
+		assertEquals(1, eventRecorder.getTestSuccessfulCount(), "# tests succeeded");
+	}
+
+	@Test
+	void statisticsAreNeitherPublishedNorVerifiedIfAnIterationFails() {
+		ExecutionEventRecorder eventRecorder = executeBenchmark("failingBenchmark");
+
+		assertEquals(1, eventRecorder.getTestFailedCount(), "# tests failed");
+		assertThat(eventRecorder.getExecutionEvents()).haveExactly(1,
+			event(test(), finishedWithFailure(message("third iteration failed"))));
+		assertThat(events).containsExactly("beforeEach", "failingBenchmark", "failingBenchmark", "failingBenchmark",
+			"afterEach");
+		assertEquals(0, getReportEntries(eventRecorder).size());
+	}
+
+	@Test
+	void timeoutAppliesToEachIteration() {
+		ExecutionEventRecorder eventRecorder = executeBenchmark("benchmarkExceedingTimeout");
+
+		assertThat(eventRecorder.getExecutionEvents()).haveExactly(1,
+			event(test(), finishedWithFailure(allOf(isA(TimeoutException.class),
+				message("benchmarkExceedingTimeout() timed out after 50 milliseconds")))));
+		assertThat(events).containsExactly("beforeEach", "benchmarkExceedingTimeout", "benchmarkExceedingTimeout",
+			"afterEach");
+		assertEquals(0, getReportEntries(eventRecorder).size());
+	}
+
+	@Test
+	void iterationsIncludeCompletionOfReturnedStages() {
+		ExecutionEventRecorder eventRecorder = executeBenchmark("asyncBenchmark");
+
+		assertEquals(1, eventRecorder.getTestSuccessfulCount(), "# tests succeeded");
+		assertThat(events).containsExactly("beforeEach", "asyncBenchmark started", "asyncBenchmark completed",
+			"asyncBenchmark started", "asyncBenchmark completed", "asyncBenchmark started",
+			"asyncBenchmark completed", "afterEach");
+		assertEquals(1, getReportEntries(eventRecorder).size());
+	}
+
+	@Test
+	void parametersAreResolvedOnceForAllIterations() {
+		ExecutionEventRecorder eventRecorder = executeBenchmark("benchmarkWithTestInfo", TestInfo.class);
+
+		assertEquals(1, eventRecorder.getTestSuccessfulCount(), "# tests succeeded");
+		assertEquals(3, testInfos.size());
+		assertEquals(1, testInfos.stream().distinct().count());
+	}
+
+	@Test
+	void invalidNumberOfIterationsIsRejected() {
+		ExecutionEventRecorder eventRecorder = executeBenchmark("benchmarkWithoutIterations");
+
+		assertThat(eventRecorder.getExecutionEvents()).haveExactly(1,
+			event(test(), finishedWithFailure(allOf(isA(PreconditionViolationException.class),
+				message("@Benchmark iterations must be greater than zero")))));
+		assertThat(events).containsExactly("beforeEach", "afterEach");
+	}
+
+	// -------------------------------------------------------------------------
+
+	private ExecutionEventRecorder executeBenchmark(String methodName, Class<?>... parameterTypes) {
+		Method method = ReflectionUtils.findMethod(BenchmarkTestCase.class, methodName, parameterTypes).get();
+		return executeTests(request().selectors(selectMethod(BenchmarkTestCase.class, method)).build());
+	}
+
+	private static List<Map<String, String>> getReportEntries(ExecutionEventRecorder eventRecorder) {
+		// @formatter:off
+		return eventRecorder.eventStream()
+				.filter(event -> event.getType() == REPORTING_ENTRY_PUBLISHED)
+				.map(event -> event.getPayload(ReportEntry.class).get().getKeyValuePairs())
+				.collect(toList());
+		// @formatter:on
+	}
+
+	private static void sleep(long millis) throws InterruptedException {
+		TimeUnit.MILLISECONDS.sleep(millis);
+	}
+
+	@ExtendWith(RecordingAfterEachCallback.class)
+	static class BenchmarkTestCase {
+
+		@BeforeEach
+		void beforeEach(TestInfo testInfo) throws InterruptedException {
+			events.add("beforeEach");
+			if (testInfo.getTestMethod().get().getName().equals("benchmarkWithSlowBeforeEach")) {
+				sleep(50);
+			}
+		}
+
+		@Benchmark(warmupIterations = 2, iterations = 3, unit = TimeUnit.MICROSECONDS)
+		void benchmark() {
+			events.add("benchmark");
+			testInstances.add(this);
+			threads.add(Thread.currentThread());
+		}
+
+		@Benchmark(warmupIterations = 1, iterations = 3)
+		void benchmarkWithBlackhole(Blackhole blackhole) {
+			blackholes.add(blackhole);
+			blackhole.consume(Math.sqrt(blackholes.size()));
+		}
+
+		@Benchmark(warmupIterations = 0, iterations = 3, maxP99 = 1)
+		void tooSlowBenchmark() throws InterruptedException {
+			sleep(5);
+		}
+
+		@Benchmark(warmupIterations = 0, iterations = 2, minThroughput = 1_000_000)
+		void benchmarkWithTooLowThroughput() throws InterruptedException {
+			sleep(2);
+		}
+
+		@Benchmark(warmupIterations = 0, iterations = 2, maxMean = 25)
+		void benchmarkWithSlowBeforeEach() {
+		}
+
+		@Benchmark(warmupIterations = 0, iterations = 5)
+		void failingBenchmark() {
+			events.add("failingBenchmark");
+			if (events.size() == 4) {
+				throw new AssertionFailedError("third iteration failed");
+			}
+		}
+
+		@Benchmark(warmupIterations = 1, iterations = 3)
+		@Timeout(value = 50, unit = TimeUnit.MILLISECONDS)
+		void benchmarkExceedingTimeout() throws InterruptedException {
+			events.add("benchmarkExceedingTimeout");
+			if (events.size() == 3) {
+				sleep(5_000);
+			}
+		}
+
+		@Benchmark(warmupIterations = 1, iterations = 2)
+		CompletionStage<Void> asyncBenchmark() {
+			events.add("asyncBenchmark started");
+			return CompletableFuture.runAsync(() -> {
+				try {
+					sleep(5);
+				}
+				catch (InterruptedException ex) {
+					Thread.currentThread().interrupt();
+				}
+				events.add("asyncBenchmark completed");
+			});
+		}
+
+		@Benchmark(warmupIterations = 1, iterations = 2)
+		void benchmarkWithTestInfo(TestInfo testInfo) {
+			testInfos.add(testInfo);
+		}
+
+		@Benchmark(iterations = 0)
+		void benchmarkWithoutIterations() {
+		}
+	}
+
+	static class RecordingAfterEachCallback implements AfterEachCallback {
+
+		@Override
+		public void afterEach(TestExtensionContext context) {
+			events.add("afterEach");
+		}
+	}
+
+}
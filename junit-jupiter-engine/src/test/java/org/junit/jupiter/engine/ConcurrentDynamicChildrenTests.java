@@ -0,0 +1,192 @@
+/*
+ * Copyright 2015-2017 the original author or authors.
+ *
+ * All rights reserved. This program and the accompanying materials are
+ * made available under the terms of the Eclipse Public License v1.0 which
+ * accompanies this distribution and is available at
+ *
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+
+package org.junit.jupiter.engine;
+
+import static java.util.Collections.nCopies;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.DynamicTest.dynamicTest;
+import static org.junit.jupiter.engine.Constants.DYNAMIC_TEST_PARALLELISM_PROPERTY_NAME;
+import static org.junit.jupiter.engine.Constants.DYNAMIC_TEST_STREAMING_ENABLED_PROPERTY_NAME;
+import static org.junit.platform.engine.discovery.DiscoverySelectors.selectMethod;
+import static org.junit.platform.engine.test.event.ExecutionEventConditions.container;
+import static org.junit.platform.engine.test.event.ExecutionEventConditions.event;
+import static org.junit.platform.engine.test.event.ExecutionEventConditions.finishedSuccessfully;
+import static org.junit.platform.launcher.core.LauncherDiscoveryRequestBuilder.request;
+
+import java.util.Iterator;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DynamicTest;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestFactory;
+import org.junit.jupiter.api.TestTemplate;
+import org.junit.jupiter.api.extension.ContainerExtensionContext;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.extension.TestTemplateInvocationContext;
+import org.junit.jupiter.api.extension.TestTemplateInvocationContextProvider;
+import org.junit.platform.engine.test.event.ExecutionEventRecorder;
+
+/**
+ * Integration tests for the concurrent execution of test template
+ * invocations and dynamic tests in the {@link JupiterTestEngine}.
+ *
+ * @since 5.0
+ */
+class ConcurrentDynamicChildrenTests extends AbstractJupiterTestEngineTests {
+
+	private static final Set<String> threadNames = ConcurrentHashMap.newKeySet();
+	private static final AtomicInteger running = new AtomicInteger();
+	private static final AtomicInteger maxRunning = new AtomicInteger();
+	private static CyclicBarrier barrier;
+
+	@BeforeEach
+	void resetRecordedState() {
+		threadNames.clear();
+		running.set(0);
+		maxRunning.set(0);
+		barrier = null;
+	}
+
+	@Test
+	void templateInvocationsAreExecutedConcurrentlyUpToConfiguredParallelism() {
+		barrier = new CyclicBarrier(3);
+
+		ExecutionEventRecorder eventRecorder = executeTests(request() //
+				.selectors(selectMethod(ConcurrentTestCase.class, "template")) //
+				.configurationParameter(DYNAMIC_TEST_PARALLELISM_PROPERTY_NAME, "3") //
+				.build());
+
+		assertEquals(6, eventRecorder.getDynamicTestRegisteredCount(), "# dynamic registered");
+		assertEquals(6, eventRecorder.getTestStartedCount(), "# tests started");
+		assertEquals(6, eventRecorder.getTestSuccessfulCount(), "# tests succeeded");
+		assertThat(eventRecorder.getExecutionEvents()).haveExactly(1,
+			event(container("template"), finishedSuccessfully()));
+		assertEquals(3, maxRunning.get(), "max # of concurrent invocations");
+		assertTrue(threadNames.stream().allMatch(name -> name.startsWith("junit-jupiter-dynamic-")),
+			threadNames::toString);
+	}
+
+	@Test
+	void dynamicTestsAreExecutedConcurrentlyUpToConfiguredParallelism() {
+		barrier = new CyclicBarrier(2);
+
+		ExecutionEventRecorder eventRecorder = executeTests(request() //
+				.selectors(selectMethod(ConcurrentTestCase.class, "factory")) //
+				.configurationParameter(DYNAMIC_TEST_PARALLELISM_PROPERTY_NAME, "2") //
+				.build());
+
+		assertEquals(6, eventRecorder.getDynamicTestRegisteredCount(), "# dynamic registered");
+		assertEquals(6, eventRecorder.getTestSuccessfulCount(), "# tests succeeded");
+		assertEquals(2, maxRunning.get(), "max # of concurrent dynamic tests");
+	}
+
+	@Test
+	void streamedDynamicTestsAreReleasedWhenExecutedConcurrently() {
+		barrier = new CyclicBarrier(2);
+
+		ExecutionEventRecorder eventRecorder = executeTests(request() //
+				.selectors(selectMethod(ConcurrentTestCase.class, "factory")) //
+				.configurationParameter(DYNAMIC_TEST_PARALLELISM_PROPERTY_NAME, "2") //
+				.configurationParameter(DYNAMIC_TEST_STREAMING_ENABLED_PROPERTY_NAME, "true") //
+				.build());
+
+		assertEquals(6, eventRecorder.getTestSuccessfulCount(), "# tests succeeded");
+		assertEquals(6, eventRecorder.getDynamicTestReleasedCount(), "# dynamic released");
+	}
+
+	@Test
+	void failingInvocationsDoNotAffectConcurrentlyExecutedInvocations() {
+		ExecutionEventRecorder eventRecorder = executeTests(request() //
+				.selectors(selectMethod(ConcurrentTestCase.class, "failingFactory")) //
+				.configurationParameter(DYNAMIC_TEST_PARALLELISM_PROPERTY_NAME, "4") //
+				.build());
+
+		assertEquals(5, eventRecorder.getTestSuccessfulCount(), "# tests succeeded");
+		assertEquals(5, eventRecorder.getTestFailedCount(), "# tests failed");
+		assertThat(eventRecorder.getExecutionEvents()).haveExactly(1,
+			event(container("failingFactory"), finishedSuccessfully()));
+	}
+
+	@Test
+	void invalidParallelismFallsBackToSequentialExecution() {
+		ExecutionEventRecorder eventRecorder = executeTests(request() //
+				.selectors(selectMethod(ConcurrentTestCase.class, "template")) //
+				.configurationParameter(DYNAMIC_TEST_PARALLELISM_PROPERTY_NAME, "zero") //
+				.build());
+
+		assertEquals(6, eventRecorder.getTestSuccessfulCount(), "# tests succeeded");
+		assertEquals(1, maxRunning.get(), "max # of concurrent invocations");
+		assertEquals(1, threadNames.size(), threadNames::toString);
+		assertTrue(threadNames.contains(Thread.currentThread().getName()), threadNames::toString);
+	}
+
+	// -------------------------------------------------------------------------
+
+	private static void recordExecution() throws Exception {
+		threadNames.add(Thread.currentThread().getName());
+		maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+		try {
+			if (barrier != null) {
+				barrier.await(5, TimeUnit.SECONDS);
+			}
+		}
+		finally {
+			running.decrementAndGet();
+		}
+	}
+
+	static class ConcurrentTestCase {
+
+		@TestTemplate
+		@ExtendWith(SixInvocationsContextProvider.class)
+		void template() throws Exception {
+			recordExecution();
+		}
+
+		@TestFactory
+		Stream<DynamicTest> factory() {
+			return IntStream.rangeClosed(1, 6).mapToObj(i -> dynamicTest("test" + i, () -> recordExecution()));
+		}
+
+		@TestFactory
+		Stream<DynamicTest> failingFactory() {
+			return IntStream.rangeClosed(1, 10).mapToObj(i -> dynamicTest("test" + i, () -> {
+				if (i % 2 == 0) {
+					throw new AssertionError("failure " + i);
+				}
+			}));
+		}
+	}
+
+	private static class SixInvocationsContextProvider implements TestTemplateInvocationContextProvider {
+
+		@Override
+		public boolean supports(ContainerExtensionContext context) {
+			return true;
+		}
+
+		@Override
+		public Iterator<TestTemplateInvocationContext> provide(ContainerExtensionContext context) {
+			return nCopies(6, (TestTemplateInvocationContext) new TestTemplateInvocationContext() {
+			}).iterator();
+		}
+	}
+
+}
@@ -11,12 +11,17 @@
 package org.junit.jupiter.engine;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.junit.jupiter.api.Assertions.fail;
+import static org.junit.jupiter.engine.Constants.DEACTIVATE_ALL_CONDITIONS_PATTERN;
+import static org.junit.jupiter.engine.Constants.DEACTIVATE_CONDITIONS_PATTERN_PROPERTY_NAME;
 import static org.junit.platform.engine.discovery.DiscoverySelectors.selectClass;
 import static org.junit.platform.launcher.core.LauncherDiscoveryRequestBuilder.request;
 
 import org.junit.jupiter.api.Disabled;
+import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
+import org.junit.platform.engine.TestDescriptor;
 import org.junit.platform.engine.test.event.ExecutionEventRecorder;
 import org.junit.platform.launcher.LauncherDiscoveryRequest;
 
@@ -50,6 +55,52 @@ public class DisabledTests extends AbstractJupiterTestEngineTests {
 		assertEquals(method + " is @Disabled", reason);
 	}
 
+	@Test
+	public void disabledTestClassIsCollapsedDuringDiscovery() {
+		TestDescriptor engineDescriptor = discoverTests(
+			request().selectors(selectClass(DisabledTestClassTestCase.class)).build());
+
+		assertEquals(1, engineDescriptor.getChildren().size(), "# classes");
+		TestDescriptor classDescriptor = engineDescriptor.getChildren().iterator().next();
+		assertTrue(classDescriptor.getChildren().isEmpty(), "children of disabled class");
+		assertTrue(classDescriptor.hasTests(), "disabled class is retained");
+	}
+
+	@Test
+	public void disabledNestedTestClassIsCollapsedDuringDiscovery() {
+		LauncherDiscoveryRequest request = request().selectors(
+			selectClass(DisabledNestedTestClassTestCase.class)).build();
+
+		TestDescriptor classDescriptor = discoverTests(request).getChildren().iterator().next();
+		assertEquals(2, classDescriptor.getChildren().size(), "# children of enclosing class");
+		assertEquals(1, classDescriptor.getDescendants().stream().filter(TestDescriptor::isTest).count(), "# tests");
+
+		ExecutionEventRecorder eventRecorder = executeTests(request);
+		assertEquals(1, eventRecorder.getContainerSkippedCount(), "# container skipped");
+		assertEquals(1, eventRecorder.getTestSuccessfulCount(), "# tests succeeded");
+	}
+
+	@Test
+	public void disabledTestMethodIsSkippedWithoutInstantiatingTestClass() {
+		DisabledTestMethodsTestCase.instanceCount = 0;
+
+		executeTests(request().selectors(selectClass(DisabledTestMethodsTestCase.class)).build());
+
+		assertEquals(1, DisabledTestMethodsTestCase.instanceCount, "# test instances");
+	}
+
+	@Test
+	public void disabledTestClassIsNotCollapsedIfConditionsAreDeactivated() {
+		TestDescriptor engineDescriptor = discoverTests(request() //
+				.selectors(selectClass(DisabledTestClassTestCase.class)) //
+				.configurationParameter(DEACTIVATE_CONDITIONS_PATTERN_PROPERTY_NAME,
+					DEACTIVATE_ALL_CONDITIONS_PATTERN) //
+				.build());
+
+		TestDescriptor classDescriptor = engineDescriptor.getChildren().iterator().next();
+		assertEquals(1, classDescriptor.getChildren().size(), "# children of class");
+	}
+
 	// -------------------------------------------------------------------
 
 	@Disabled
@@ -63,6 +114,12 @@ public class DisabledTests extends AbstractJupiterTestEngineTests {
 
 	private static class DisabledTestMethodsTestCase {
 
+		static int instanceCount;
+
+		DisabledTestMethodsTestCase() {
+			instanceCount++;
+		}
+
 		@Test
 		void enabledTest() {
 		}
@@ -75,4 +132,21 @@ public class DisabledTests extends AbstractJupiterTestEngineTests {
 
 	}
 
+	static class DisabledNestedTestClassTestCase {
+
+		@Test
+		void enabledTest() {
+		}
+
+		@Nested
+		@Disabled
+		class DisabledNestedTestCase {
+
+			@Test
+			void disabledTest() {
+				fail("this should be @Disabled");
+			}
+		}
+	}
+
 }
@@ -15,10 +15,12 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.junit.jupiter.api.Assertions.fail;
 import static org.junit.jupiter.api.DynamicTest.dynamicTest;
+import static org.junit.jupiter.engine.Constants.DYNAMIC_TEST_STREAMING_ENABLED_PROPERTY_NAME;
 import static org.junit.platform.engine.discovery.DiscoverySelectors.selectClass;
 import static org.junit.platform.engine.test.event.ExecutionEventConditions.assertRecordedExecutionEventsContainsExactly;
 import static org.junit.platform.engine.test.event.ExecutionEventConditions.container;
 import static org.junit.platform.engine.test.event.ExecutionEventConditions.dynamicTestRegistered;
+import static org.junit.platform.engine.test.event.ExecutionEventConditions.dynamicTestReleased;
 import static org.junit.platform.engine.test.event.ExecutionEventConditions.engine;
 import static org.junit.platform.engine.test.event.ExecutionEventConditions.event;
 import static org.junit.platform.engine.test.event.ExecutionEventConditions.finishedSuccessfully;
@@ -32,6 +34,7 @@ import java.util.Arrays;
 import java.util.Collection;
 import java.util.Iterator;
 import java.util.List;
+import java.util.stream.IntStream;
 import java.util.stream.Stream;
 
 import org.junit.jupiter.api.DynamicTest;
@@ -135,6 +138,62 @@ class DynamicTestGenerationTests extends AbstractJupiterTestEngineTests {
 			() -> assertEquals(3, eventRecorder.getContainerFinishedCount(), "# container finished"));
 	}
 
+	@Test
+	void dynamicTestsAreReleasedAfterExecutionInStreamingMode() {
+		LauncherDiscoveryRequest request = request() //
+				.selectors(DiscoverySelectors.selectMethod(MyDynamicTestCase.class, "dynamicStream")) //
+				.configurationParameter(DYNAMIC_TEST_STREAMING_ENABLED_PROPERTY_NAME, "true") //
+				.build();
+
+		ExecutionEventRecorder eventRecorder = executeTests(request);
+
+		assertRecordedExecutionEventsContainsExactly(eventRecorder.getExecutionEvents(), //
+			event(engine(), started()), //
+			event(container(MyDynamicTestCase.class), started()), //
+			event(container("dynamicStream"), started()), //
+			event(dynamicTestRegistered("dynamic-test:#1")), //
+			event(test("dynamic-test:#1", "succeedingTest"), started()), //
+			event(test("dynamic-test:#1", "succeedingTest"), finishedSuccessfully()), //
+			event(dynamicTestReleased("dynamic-test:#1")), //
+			event(dynamicTestRegistered("dynamic-test:#2")), //
+			event(test("dynamic-test:#2", "failingTest"), started()), //
+			event(test("dynamic-test:#2", "failingTest"), finishedWithFailure(message("failing"))), //
+			event(dynamicTestReleased("dynamic-test:#2")), //
+			event(container("dynamicStream"), finishedSuccessfully()), //
+			event(container(MyDynamicTestCase.class), finishedSuccessfully()), //
+			event(engine(), finishedSuccessfully()));
+	}
+
+	@Test
+	void testFactoryRetainsNoDynamicTestsInStreamingMode() {
+		LauncherDiscoveryRequest request = request() //
+				.selectors(DiscoverySelectors.selectMethod(ManyDynamicTestsTestCase.class, "manyDynamicTests")) //
+				.configurationParameter(DYNAMIC_TEST_STREAMING_ENABLED_PROPERTY_NAME, "true") //
+				.build();
+
+		ExecutionEventRecorder eventRecorder = executeTests(request);
+
+		TestDescriptor testFactoryDescriptor = eventRecorder.getExecutionEvents().get(2).getTestDescriptor();
+		assertAll( //
+			() -> assertEquals(1000, eventRecorder.getTestSuccessfulCount(), "# tests succeeded"),
+			() -> assertEquals(1000, eventRecorder.getDynamicTestReleasedCount(), "# dynamic released"),
+			() -> assertTrue(testFactoryDescriptor.getChildren().isEmpty(), "dynamic tests retained"));
+	}
+
+	@Test
+	void testFactoryRetainsDynamicTestsByDefault() {
+		LauncherDiscoveryRequest request = request().selectors(
+			DiscoverySelectors.selectMethod(ManyDynamicTestsTestCase.class, "manyDynamicTests")).build();
+
+		ExecutionEventRecorder eventRecorder = executeTests(request);
+
+		TestDescriptor testFactoryDescriptor = eventRecorder.getExecutionEvents().get(2).getTestDescriptor();
+		assertAll( //
+			() -> assertEquals(1000, eventRecorder.getTestSuccessfulCount(), "# tests succeeded"),
+			() -> assertEquals(0, eventRecorder.getDynamicTestReleasedCount(), "# dynamic released"),
+			() -> assertEquals(1000, testFactoryDescriptor.getChildren().size(), "# dynamic tests retained"));
+	}
+
 	private static class MyDynamicTestCase {
 
 		private static final List<DynamicTest> list = Arrays.asList(
@@ -163,4 +222,14 @@ class DynamicTestGenerationTests extends AbstractJupiterTestEngineTests {
 
 	}
 
+	private static class ManyDynamicTestsTestCase {
+
+		@TestFactory
+		Stream<DynamicTest> manyDynamicTests() {
+			return IntStream.rangeClosed(1, 1000).mapToObj(i -> dynamicTest("test" + i, () -> {
+			}));
+		}
+
+	}
+
 }
@@ -0,0 +1,243 @@
+/*
+ * Copyright 2015-2017 the original author or authors.
+ *
+ * All rights reserved. This program and the accompanying materials are
+ * made available under the terms of the Eclipse Public License v1.0 which
+ * accompanies this distribution and is available at
+ *
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+
+package org.junit.jupiter.engine;
+
+import static java.util.Arrays.asList;
+import static org.assertj.core.api.Assertions.allOf;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.engine.Constants.DEFAULT_TEST_INSTANCE_LIFECYCLE_PROPERTY_NAME;
+import static org.junit.platform.engine.discovery.DiscoverySelectors.selectClass;
+import static org.junit.platform.engine.test.event.ExecutionEventConditions.assertRecordedExecutionEventsContainsExactly;
+import static org.junit.platform.engine.test.event.ExecutionEventConditions.container;
+import static org.junit.platform.engine.test.event.ExecutionEventConditions.engine;
+import static org.junit.platform.engine.test.event.ExecutionEventConditions.event;
+import static org.junit.platform.engine.test.event.ExecutionEventConditions.finishedSuccessfully;
+import static org.junit.platform.engine.test.event.ExecutionEventConditions.finishedWithFailure;
+import static org.junit.platform.engine.test.event.ExecutionEventConditions.started;
+import static org.junit.platform.engine.test.event.TestExecutionResultConditions.isA;
+import static org.junit.platform.engine.test.event.TestExecutionResultConditions.message;
+import static org.junit.platform.launcher.core.LauncherDiscoveryRequestBuilder.request;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.junit.jupiter.api.TestInstance.Lifecycle;
+import org.junit.platform.commons.JUnitException;
+import org.junit.platform.engine.test.event.ExecutionEventRecorder;
+
+/**
+ * Integration tests for {@link TestInstance @TestInstance} lifecycle support
+ * in the {@link JupiterTestEngine}.
+ *
+ * @since 5.0
+ */
+class TestInstanceLifecycleTests extends AbstractJupiterTestEngineTests {
+
+	private static final List<Object> instances = new ArrayList<>();
+	private static final List<String> callSequence = new ArrayList<>();
+
+	@BeforeEach
+	void resetRecordedState() {
+		instances.clear();
+		callSequence.clear();
+	}
+
+	@Test
+	void instancePerMethodIsUsedByDefault() {
+		ExecutionEventRecorder eventRecorder = executeTestsForClass(DefaultLifecycleTestCase.class);
+
+		assertEquals(2, eventRecorder.getTestSuccessfulCount(), "# tests succeeded");
+		assertEquals(4, instances.size());
+		assertSame(instances.get(0), instances.get(1));
+		assertSame(instances.get(2), instances.get(3));
+		assertEquals(2, instances.stream().distinct().count());
+	}
+
+	@Test
+	void instancePerClassIsSharedByAllTestsAndLifecycleMethods() {
+		ExecutionEventRecorder eventRecorder = executeTestsForClass(PerClassTestCase.class);
+
+		assertEquals(2, eventRecorder.getTestSuccessfulCount(), "# tests succeeded");
+		assertEquals(asList("constructor", "beforeAll", "test", "test", "afterAll"), callSequence);
+		assertEquals(1, instances.stream().distinct().count());
+	}
+
+	@Test
+	void instancePerClassCanBeConfiguredAsDefault() {
+		ExecutionEventRecorder eventRecorder = executeTests(request() //
+				.selectors(selectClass(DefaultLifecycleTestCase.class)) //
+				.configurationParameter(DEFAULT_TEST_INSTANCE_LIFECYCLE_PROPERTY_NAME, "per_class") //
+				.build());
+
+		assertEquals(2, eventRecorder.getTestSuccessfulCount(), "# tests succeeded");
+		assertEquals(4, instances.size());
+		assertEquals(1, instances.stream().distinct().count());
+	}
+
+	@Test
+	void lifecycleDeclaredViaAnnotationTakesPrecedenceOverConfiguredDefault() {
+		ExecutionEventRecorder eventRecorder = executeTests(request() //
+				.selectors(selectClass(PerMethodTestCase.class)) //
+				.configurationParameter(DEFAULT_TEST_INSTANCE_LIFECYCLE_PROPERTY_NAME, "per_class") //
+				.build());
+
+		assertEquals(2, eventRecorder.getTestSuccessfulCount(), "# tests succeeded");
+		assertEquals(2, instances.stream().distinct().count());
+	}
+
+	@Test
+	void invalidConfiguredDefaultFallsBackToInstancePerMethod() {
+		ExecutionEventRecorder eventRecorder = executeTests(request() //
+				.selectors(selectClass(DefaultLifecycleTestCase.class)) //
+				.configurationParameter(DEFAULT_TEST_INSTANCE_LIFECYCLE_PROPERTY_NAME, "bogus") //
+				.build());
+
+		assertEquals(2, eventRecorder.getTestSuccessfulCount(), "# tests succeeded");
+		assertEquals(2, instances.stream().distinct().count());
+	}
+
+	@Test
+	void nonStaticBeforeAllMethodIsRejectedForInstancePerMethod() {
+		ExecutionEventRecorder eventRecorder = executeTestsForClass(NonStaticBeforeAllTestCase.class);
+
+		assertRecordedExecutionEventsContainsExactly(eventRecorder.getExecutionEvents(), //
+			event(engine(), started()), //
+			event(container(NonStaticBeforeAllTestCase.class), started()), //
+			event(container(NonStaticBeforeAllTestCase.class),
+				finishedWithFailure(allOf(isA(JUnitException.class),
+					message("@BeforeAll method 'void " + NonStaticBeforeAllTestCase.class.getName()
+							+ ".beforeAll()' must be static.")))), //
+			event(engine(), finishedSuccessfully()));
+	}
+
+	@Test
+	void nestedTestClassWithInstancePerClassMayDeclareBeforeAllAndAfterAllMethods() {
+		ExecutionEventRecorder eventRecorder = executeTestsForClass(OuterTestCase.class);
+
+		assertEquals(3, eventRecorder.getTestSuccessfulCount(), "# tests succeeded");
+		assertEquals(asList("outerTest", "nestedBeforeAll", "nestedTest", "nestedTest", "nestedAfterAll"),
+			callSequence);
+		assertEquals(4, instances.size());
+		assertEquals(1, instances.stream().distinct().count());
+	}
+
+	// -------------------------------------------------------------------------
+
+	static class DefaultLifecycleTestCase {
+
+		@BeforeEach
+		void beforeEach() {
+			instances.add(this);
+		}
+
+		@Test
+		void test1() {
+			instances.add(this);
+		}
+
+		@Test
+		void test2() {
+			instances.add(this);
+		}
+	}
+
+	@TestInstance(Lifecycle.PER_METHOD)
+	static class PerMethodTestCase extends DefaultLifecycleTestCase {
+	}
+
+	@TestInstance(Lifecycle.PER_CLASS)
+	static class PerClassTestCase {
+
+		PerClassTestCase() {
+			callSequence.add("constructor");
+		}
+
+		@BeforeAll
+		void beforeAll() {
+			instances.add(this);
+			callSequence.add("beforeAll");
+		}
+
+		@Test
+		void test1() {
+			instances.add(this);
+			callSequence.add("test");
+		}
+
+		@Test
+		void test2() {
+			instances.add(this);
+			callSequence.add("test");
+		}
+
+		@AfterAll
+		void afterAll() {
+			instances.add(this);
+			callSequence.add("afterAll");
+		}
+	}
+
+	static class NonStaticBeforeAllTestCase {
+
+		@BeforeAll
+		void beforeAll() {
+		}
+
+		@Test
+		void test() {
+		}
+	}
+
+	static class OuterTestCase {
+
+		@Test
+		void outerTest() {
+			callSequence.add("outerTest");
+		}
+
+		@Nested
+		@TestInstance(Lifecycle.PER_CLASS)
+		class NestedTestCase {
+
+			@BeforeAll
+			void beforeAll() {
+				instances.add(this);
+				callSequence.add("nestedBeforeAll");
+			}
+
+			@Test
+			void test1() {
+				instances.add(this);
+				callSequence.add("nestedTest");
+			}
+
+			@Test
+			void test2() {
+				instances.add(this);
+				callSequence.add("nestedTest");
+			}
+
+			@AfterAll
+			void afterAll() {
+				instances.add(this);
+				callSequence.add("nestedAfterAll");
+			}
+		}
+	}
+
+}
@@ -0,0 +1,208 @@
+/*
+ * Copyright 2015-2017 the original author or authors.
+ *
+ * All rights reserved. This program and the accompanying materials are
+ * made available under the terms of the Eclipse Public License v1.0 which
+ * accompanies this distribution and is available at
+ *
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+
+package org.junit.jupiter.engine;
+
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+import static java.util.concurrent.TimeUnit.NANOSECONDS;
+import static org.assertj.core.api.Assertions.allOf;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.engine.Constants.DEFAULT_TIMEOUT_PROPERTY_NAME;
+import static org.junit.platform.engine.discovery.DiscoverySelectors.selectClass;
+import static org.junit.platform.engine.discovery.DiscoverySelectors.selectMethod;
+import static org.junit.platform.engine.test.event.ExecutionEventConditions.event;
+import static org.junit.platform.engine.test.event.ExecutionEventConditions.finishedSuccessfully;
+import static org.junit.platform.engine.test.event.ExecutionEventConditions.finishedWithFailure;
+import static org.junit.platform.engine.test.event.ExecutionEventConditions.test;
+import static org.junit.platform.engine.test.event.TestExecutionResultConditions.isA;
+import static org.junit.platform.engine.test.event.TestExecutionResultConditions.message;
+import static org.junit.platform.launcher.core.LauncherDiscoveryRequestBuilder.request;
+
+import java.util.concurrent.TimeoutException;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.Timeout;
+import org.junit.platform.engine.TestExecutionResult;
+import org.junit.platform.engine.test.event.ExecutionEventRecorder;
+
+/**
+ * Integration tests for {@link Timeout @Timeout} support in the
+ * {@link JupiterTestEngine}.
+ *
+ * @since 5.0
+ */
+class TimeoutTests extends AbstractJupiterTestEngineTests {
+
+	private static volatile boolean interruptedAfterEach;
+
+	@BeforeEach
+	void resetRecordedState() {
+		interruptedAfterEach = false;
+	}
+
+	@Test
+	void blockingTestMethodIsInterruptedWhenTimeoutIsExceeded() {
+		long start = System.nanoTime();
+
+		ExecutionEventRecorder eventRecorder = executeTests(
+			request().selectors(selectMethod(TimeoutTestCase.class, "sleeping")).build());
+
+		assertTrue(NANOSECONDS.toMillis(System.nanoTime() - start) < 5000);
+		assertThat(eventRecorder.getExecutionEvents()).haveExactly(1,
+			event(test("sleeping"), finishedWithFailure(allOf(isA(TimeoutException.class),
+				message("sleeping() timed out after 50 milliseconds")))));
+		Throwable throwable = getFailure(eventRecorder);
+		assertEquals(1, throwable.getSuppressed().length);
+		assertThat(throwable.getSuppressed()[0]).isInstanceOf(InterruptedException.class);
+		assertFalse(interruptedAfterEach, "interrupt leaked to @AfterEach method");
+	}
+
+	@Test
+	void testMethodThatIgnoresInterruptsFailsAfterCompletion() {
+		ExecutionEventRecorder eventRecorder = executeTests(
+			request().selectors(selectMethod(TimeoutTestCase.class, "busy")).build());
+
+		assertThat(eventRecorder.getExecutionEvents()).haveExactly(1,
+			event(test("busy"), finishedWithFailure(allOf(isA(TimeoutException.class),
+				message("busy() timed out after 10 milliseconds")))));
+		assertFalse(interruptedAfterEach, "interrupt leaked to @AfterEach method");
+	}
+
+	@Test
+	void testMethodThatCompletesInTimeSucceeds() {
+		ExecutionEventRecorder eventRecorder = executeTests(
+			request().selectors(selectMethod(TimeoutTestCase.class, "fast")).build());
+
+		assertEquals(1, eventRecorder.getTestSuccessfulCount(), "# tests succeeded");
+	}
+
+	@Test
+	void timeoutDeclaredOnTestClassAppliesToMethodsWithoutTimeout() {
+		ExecutionEventRecorder eventRecorder = executeTests(
+			request().selectors(selectClass(ClassTimeoutTestCase.class)).build());
+
+		assertThat(eventRecorder.getExecutionEvents()).haveExactly(1,
+			event(test("inheritsClassTimeout"), finishedWithFailure(isA(TimeoutException.class))));
+		assertThat(eventRecorder.getExecutionEvents()).haveExactly(1,
+			event(test("overridesClassTimeout"), finishedSuccessfully()));
+	}
+
+	@Test
+	void defaultTimeoutCanBeConfigured() {
+		ExecutionEventRecorder eventRecorder = executeTests(request() //
+				.selectors(selectClass(NoTimeoutTestCase.class)) //
+				.configurationParameter(DEFAULT_TIMEOUT_PROPERTY_NAME, "20 ms") //
+				.build());
+
+		assertThat(eventRecorder.getExecutionEvents()).haveExactly(1,
+			event(test("sleeping"), finishedWithFailure(allOf(isA(TimeoutException.class),
+				message("sleeping() timed out after 20 milliseconds")))));
+	}
+
+	@Test
+	void invalidDefaultTimeoutIsIgnored() {
+		ExecutionEventRecorder eventRecorder = executeTests(request() //
+				.selectors(selectClass(NoTimeoutTestCase.class)) //
+				.configurationParameter(DEFAULT_TIMEOUT_PROPERTY_NAME, "twenty") //
+				.build());
+
+		assertEquals(1, eventRecorder.getTestSuccessfulCount(), "# tests succeeded");
+	}
+
+	@Test
+	void timeoutAppliesToLifecycleMethods() {
+		ExecutionEventRecorder eventRecorder = executeTests(
+			request().selectors(selectClass(LifecycleTimeoutTestCase.class)).build());
+
+		assertThat(eventRecorder.getExecutionEvents()).haveExactly(1,
+			event(test("test"), finishedWithFailure(allOf(isA(TimeoutException.class),
+				message("sleepingBeforeEach() timed out after 50 milliseconds")))));
+	}
+
+	private static Throwable getFailure(ExecutionEventRecorder eventRecorder) {
+		// @formatter:off
+		return eventRecorder.getFailedTestFinishedEvents().stream()
+				.map(event -> event.getPayload(TestExecutionResult.class).get())
+				.map(result -> result.getThrowable().get())
+				.findFirst()
+				.get();
+		// @formatter:on
+	}
+
+	static class TimeoutTestCase {
+
+		@Test
+		@Timeout(value = 50, unit = MILLISECONDS)
+		void sleeping() throws InterruptedException {
+			Thread.sleep(10_000);
+		}
+
+		@Test
+		@Timeout(value = 10, unit = MILLISECONDS)
+		void busy() {
+			long start = System.nanoTime();
+			while (System.nanoTime() - start < MILLISECONDS.toNanos(100)) {
+				Thread.interrupted();
+			}
+		}
+
+		@Test
+		@Timeout(10)
+		void fast() {
+		}
+
+		@AfterEach
+		void recordInterruptStatus() {
+			interruptedAfterEach = Thread.currentThread().isInterrupted();
+		}
+	}
+
+	@Timeout(value = 50, unit = MILLISECONDS)
+	static class ClassTimeoutTestCase {
+
+		@Test
+		void inheritsClassTimeout() throws InterruptedException {
+			Thread.sleep(10_000);
+		}
+
+		@Test
+		@Timeout(10)
+		void overridesClassTimeout() throws InterruptedException {
+			Thread.sleep(100);
+		}
+	}
+
+	static class NoTimeoutTestCase {
+
+		@Test
+		void sleeping() throws InterruptedException {
+			Thread.sleep(200);
+		}
+	}
+
+	static class LifecycleTimeoutTestCase {
+
+		@BeforeEach
+		@Timeout(value = 50, unit = MILLISECONDS)
+		void sleepingBeforeEach() throws InterruptedException {
+			Thread.sleep(10_000);
+		}
+
+		@Test
+		void test() {
+		}
+	}
+
+}
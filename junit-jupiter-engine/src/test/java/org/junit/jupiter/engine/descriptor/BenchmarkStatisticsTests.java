@@ -0,0 +1,80 @@
+/*
+ * Copyright 2015-2017 the original author or authors.
+ *
+ * All rights reserved. This program and the accompanying materials are
+ * made available under the terms of the Eclipse Public License v1.0 which
+ * accompanies this distribution and is available at
+ *
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+
+package org.junit.jupiter.engine.descriptor;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.LongStream;
+
+import org.junit.jupiter.api.Test;
+import org.junit.platform.commons.util.PreconditionViolationException;
+
+/**
+ * Unit tests for {@link BenchmarkStatistics}.
+ *
+ * @since 5.0
+ */
+class BenchmarkStatisticsTests {
+
+	@Test
+	void statisticsOfSingleDuration() {
+		BenchmarkStatistics statistics = BenchmarkStatistics.of(new long[] { 2_000_000 });
+
+		assertEquals(1, statistics.getIterations());
+		assertEquals(2_000_000.0, statistics.getMeanNanos());
+		assertEquals(2_000_000, statistics.getP50Nanos());
+		assertEquals(2_000_000, statistics.getP99Nanos());
+		assertEquals(500.0, statistics.getThroughput());
+	}
+
+	@Test
+	void percentilesAreComputedUsingNearestRank() {
+		long[] durations = LongStream.rangeClosed(1, 200).map(i -> 201 - i).toArray();
+
+		BenchmarkStatistics statistics = BenchmarkStatistics.of(durations);
+
+		assertEquals(200, statistics.getIterations());
+		assertEquals(100.5, statistics.getMeanNanos());
+		assertEquals(100, statistics.getP50Nanos());
+		assertEquals(198, statistics.getP99Nanos());
+	}
+
+	@Test
+	void suppliedDurationsAreNotModified() {
+		long[] durations = { 3, 1, 2 };
+
+		BenchmarkStatistics.of(durations);
+
+		assertEquals(3, durations[0]);
+	}
+
+	@Test
+	void reportEntryValuesUseSuppliedTimeUnit() {
+		BenchmarkStatistics statistics = BenchmarkStatistics.of(new long[] { 1_000, 3_000 });
+
+		Map<String, String> values = statistics.toReportEntryValues(TimeUnit.MICROSECONDS);
+
+		assertEquals("2", values.get("benchmark.iterations"));
+		assertEquals("2.000 us", values.get("benchmark.mean"));
+		assertEquals("1.000 us", values.get("benchmark.p50"));
+		assertEquals("3.000 us", values.get("benchmark.p99"));
+		assertEquals("500000.0 ops/s", values.get("benchmark.throughput"));
+	}
+
+	@Test
+	void emptyDurationsAreRejected() {
+		assertThrows(PreconditionViolationException.class, () -> BenchmarkStatistics.of(new long[0]));
+	}
+
+}
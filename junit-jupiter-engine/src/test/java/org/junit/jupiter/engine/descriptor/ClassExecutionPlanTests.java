@@ -0,0 +1,161 @@
+/*
+ * Copyright 2015-2017 the original author or authors.
+ *
+ * All rights reserved. This program and the accompanying materials are
+ * made available under the terms of the Eclipse Public License v1.0 which
+ * accompanies this distribution and is available at
+ *
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+
+package org.junit.jupiter.engine.descriptor;
+
+import static java.util.Arrays.asList;
+import static java.util.Collections.singletonList;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Optional;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.junit.jupiter.api.TestInstance.Lifecycle;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.extension.Extension;
+import org.junit.platform.commons.JUnitException;
+
+/**
+ * Unit tests for {@link ClassExecutionPlan}.
+ *
+ * @since 5.0
+ */
+class ClassExecutionPlanTests {
+
+	@Test
+	void planIsComputedOncePerClass() {
+		assertSame(ClassExecutionPlan.of(SampleTestCase.class), ClassExecutionPlan.of(SampleTestCase.class));
+	}
+
+	@Test
+	void lifecycleMethodsAreFound() throws Exception {
+		ClassExecutionPlan plan = ClassExecutionPlan.of(SampleTestCase.class);
+
+		assertEquals(singletonList(SampleTestCase.class.getDeclaredMethod("beforeAll")),
+			plan.getBeforeAllMethods(true));
+		assertEquals(singletonList(SampleTestCase.class.getDeclaredMethod("beforeEach")),
+			plan.getBeforeEachMethods());
+		assertEquals(asList(SampleTestCase.class.getDeclaredMethod("afterEach"),
+			BaseTestCase.class.getDeclaredMethod("baseAfterEach")), plan.getAfterEachMethods());
+		assertEquals(asList(BaseTestCase.class.getDeclaredMethod("baseAfterEach"),
+			SampleTestCase.class.getDeclaredMethod("afterEach")), plan.getReversedAfterEachMethods());
+	}
+
+	@Test
+	void nonStaticBeforeAllMethodsAreOnlyRejectedIfStaticMethodsAreRequired() {
+		ClassExecutionPlan plan = ClassExecutionPlan.of(PerClassTestCase.class);
+
+		assertEquals(1, plan.getBeforeAllMethods(false).size());
+		assertThrows(JUnitException.class, () -> plan.getBeforeAllMethods(true));
+		assertThrows(JUnitException.class, () -> plan.getBeforeAllMethods(true));
+	}
+
+	@Test
+	void declaredLifecycleIsDetermined() {
+		assertEquals(Optional.of(Lifecycle.PER_CLASS),
+			ClassExecutionPlan.of(PerClassTestCase.class).getDeclaredLifecycle());
+		assertFalse(ClassExecutionPlan.of(SampleTestCase.class).getDeclaredLifecycle().isPresent());
+	}
+
+	@Test
+	void extensionTypesOfClassAndMethodsAreDetermined() throws Exception {
+		ClassExecutionPlan plan = ClassExecutionPlan.of(SampleTestCase.class);
+
+		assertEquals(singletonList(ClassExtension.class), plan.getExtensionTypes());
+		assertEquals(singletonList(MethodExtension.class),
+			plan.getExtensionTypes(SampleTestCase.class.getDeclaredMethod("extendedTest")));
+		assertTrue(plan.getExtensionTypes(SampleTestCase.class.getDeclaredMethod("test")).isEmpty());
+	}
+
+	@Test
+	void constructorIsDeterminedOnce() {
+		ClassExecutionPlan plan = ClassExecutionPlan.of(SampleTestCase.class);
+
+		assertSame(plan.getConstructor(), plan.getConstructor());
+	}
+
+	@Test
+	void outerInstancesAreFound() {
+		Outer outer = new Outer();
+		Outer.Inner inner = outer.new Inner();
+		Outer.Inner.InnerInner innerInner = inner.new InnerInner();
+
+		assertSame(innerInner, ClassExecutionPlan.findOuterInstance(innerInner, Outer.Inner.InnerInner.class).get());
+		assertSame(inner, ClassExecutionPlan.findOuterInstance(innerInner, Outer.Inner.class).get());
+		assertSame(outer, ClassExecutionPlan.findOuterInstance(innerInner, Outer.class).get());
+		assertFalse(ClassExecutionPlan.findOuterInstance(innerInner, String.class).isPresent());
+	}
+
+	// -------------------------------------------------------------------
+
+	static class ClassExtension implements Extension {
+	}
+
+	static class MethodExtension implements Extension {
+	}
+
+	static class BaseTestCase {
+
+		@AfterEach
+		void baseAfterEach() {
+		}
+	}
+
+	@ExtendWith(ClassExtension.class)
+	static class SampleTestCase extends BaseTestCase {
+
+		@BeforeAll
+		static void beforeAll() {
+		}
+
+		@BeforeEach
+		void beforeEach() {
+		}
+
+		@AfterEach
+		void afterEach() {
+		}
+
+		@Test
+		void test() {
+		}
+
+		@Test
+		@ExtendWith(MethodExtension.class)
+		void extendedTest() {
+		}
+	}
+
+	@TestInstance(Lifecycle.PER_CLASS)
+	static class PerClassTestCase {
+
+		@BeforeAll
+		void beforeAll() {
+		}
+	}
+
+	static class Outer {
+
+		class Inner {
+
+			class InnerInner {
+			}
+		}
+	}
+
+}
@@ -0,0 +1,66 @@
+/*
+ * Copyright 2015-2017 the original author or authors.
+ *
+ * All rights reserved. This program and the accompanying materials are
+ * made available under the terms of the Eclipse Public License v1.0 which
+ * accompanies this distribution and is available at
+ *
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+
+package org.junit.jupiter.engine.descriptor;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtensionContext.Namespace;
+import org.junit.jupiter.api.extension.ExtensionContext.Store.CloseableResource;
+import org.junit.jupiter.engine.execution.JupiterEngineExecutionContext;
+import org.junit.platform.engine.ConfigurationParameters;
+import org.junit.platform.engine.EngineExecutionListener;
+import org.junit.platform.engine.UniqueId;
+
+/**
+ * Unit tests for {@link JupiterEngineDescriptor}.
+ *
+ * @since 5.0
+ */
+class JupiterEngineDescriptorTests {
+
+	private final JupiterEngineDescriptor descriptor = new JupiterEngineDescriptor(UniqueId.forEngine("junit-jupiter"));
+
+	@Test
+	void afterClosesResourcesStoredInEngineExtensionContext() {
+		JupiterEngineExecutionContext context = descriptor.before(new JupiterEngineExecutionContext(
+			mock(EngineExecutionListener.class), mock(ConfigurationParameters.class)));
+		AtomicBoolean closed = new AtomicBoolean();
+		context.getExtensionContext().getStore(Namespace.create(getClass())).put("resource",
+			(CloseableResource) () -> closed.set(true));
+
+		descriptor.after(context);
+
+		assertTrue(closed.get(), "resource closed");
+	}
+
+	@Test
+	void afterDoesNotMaskFailureOfBefore() {
+		ConfigurationParameters configurationParameters = mock(ConfigurationParameters.class);
+		when(configurationParameters.get(anyString())).thenThrow(new IllegalStateException("before failed"));
+		JupiterEngineExecutionContext context = new JupiterEngineExecutionContext(
+			mock(EngineExecutionListener.class), configurationParameters);
+
+		IllegalStateException exception = assertThrows(IllegalStateException.class,
+			() -> descriptor.before(context));
+		assertEquals("before failed", exception.getMessage());
+
+		descriptor.after(context);
+	}
+
+}
@@ -16,6 +16,7 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.engine.Constants.CLASS_FILE_PREFILTER_ENABLED_PROPERTY_NAME;
 import static org.junit.jupiter.engine.discovery.JupiterUniqueIdBuilder.engineId;
 import static org.junit.jupiter.engine.discovery.JupiterUniqueIdBuilder.uniqueIdForClass;
 import static org.junit.jupiter.engine.discovery.JupiterUniqueIdBuilder.uniqueIdForMethod;
@@ -382,6 +383,40 @@ public class DiscoverySelectorResolverTests {
 		assertThat(uniqueIds).contains(uniqueIdForMethod(Class2WithTestCases.class, "test2()"));
 	}
 
+	@Test
+	public void packageResolutionUsingClassFilePrefilter() {
+		PackageSelector selector = selectPackage("org.junit.jupiter.engine.descriptor.subpackage");
+
+		resolver.resolveSelectors(request().selectors(selector).configurationParameter(
+			CLASS_FILE_PREFILTER_ENABLED_PROPERTY_NAME, "true").build(), engineDescriptor);
+
+		assertEquals(6, engineDescriptor.getDescendants().size());
+		List<UniqueId> uniqueIds = uniqueIds();
+		assertThat(uniqueIds).contains(uniqueIdForMethod(Class1WithTestCases.class, "test1()"));
+		assertThat(uniqueIds).contains(uniqueIdForMethod(Class2WithTestCases.class, "test2()"));
+		assertThat(uniqueIds).contains(
+			uniqueIdForMethod(ClassWithStaticInnerTestCases.ShouldBeDiscovered.class, "test1()"));
+	}
+
+	@Test
+	public void classpathResolutionUsingClassFilePrefilterFindsSameTests() throws Exception {
+		Path classpath = Paths.get(
+			DiscoverySelectorResolverTests.class.getProtectionDomain().getCodeSource().getLocation().toURI());
+		List<ClasspathRootSelector> selectors = selectClasspathRoots(singleton(classpath));
+
+		resolver.resolveSelectors(request().selectors(selectors).build(), engineDescriptor);
+		List<UniqueId> uniqueIdsWithoutPrefilter = uniqueIds();
+
+		TestDescriptor prefilteredEngineDescriptor = new JupiterEngineDescriptor(engineId());
+		resolver.resolveSelectors(request().selectors(selectors).configurationParameter(
+			CLASS_FILE_PREFILTER_ENABLED_PROPERTY_NAME, "true").build(), prefilteredEngineDescriptor);
+		List<UniqueId> uniqueIdsWithPrefilter = prefilteredEngineDescriptor.getDescendants().stream().map(
+			TestDescriptor::getUniqueId).collect(Collectors.toList());
+
+		assertThat(uniqueIdsWithPrefilter).hasSameSizeAs(uniqueIdsWithoutPrefilter).containsAll(
+			uniqueIdsWithoutPrefilter);
+	}
+
 	@Test
 	public void classpathResolution() throws Exception {
 		Path classpath = Paths.get(
@@ -16,6 +16,7 @@ import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 
 import java.lang.reflect.Constructor;
@@ -234,6 +235,68 @@ class ExecutableInvokerTests {
 		return new IllegalArgumentException();
 	}
 
+	@Test
+	void supportOfParameterResolverThatDependsOnParameterOnlyIsDeterminedOnce() {
+		testMethodWithASingleStringParameter();
+		// Candidates are cached per resolver type, so this test needs a type of its own.
+		CountingParameterResolver resolver = new CountingParameterResolver(true) {
+		};
+		register(resolver);
+
+		invokeMethod();
+		invokeMethod();
+		invokeMethod();
+
+		verify(instance, times(3)).singleStringParameter(ENIGMA);
+		assertEquals(1, resolver.supportsCount);
+		assertEquals(3, resolver.resolveCount);
+	}
+
+	@Test
+	void supportOfParameterResolverThatDependsOnParameterOnlyIsDeterminedOnceForAllRegistries() {
+		testMethodWithASingleStringParameter();
+		CountingParameterResolver first = new ParameterOnlyCountingParameterResolver();
+		register(first);
+		invokeMethod();
+
+		extensionRegistry = ExtensionRegistry.createRegistryWithDefaultExtensions();
+		CountingParameterResolver second = new ParameterOnlyCountingParameterResolver();
+		register(second);
+		invokeMethod();
+
+		verify(instance, times(2)).singleStringParameter(ENIGMA);
+		assertEquals(1, first.supportsCount);
+		assertEquals(0, second.supportsCount);
+		assertEquals(1, second.resolveCount);
+	}
+
+	@Test
+	void supportOfOtherParameterResolversIsDeterminedForEachInvocation() {
+		testMethodWithASingleStringParameter();
+		CountingParameterResolver resolver = new CountingParameterResolver(false);
+		register(resolver);
+
+		invokeMethod();
+		invokeMethod();
+		invokeMethod();
+
+		verify(instance, times(3)).singleStringParameter(ENIGMA);
+		assertEquals(3, resolver.supportsCount);
+		assertEquals(3, resolver.resolveCount);
+	}
+
+	@Test
+	void supportOfParameterResolversIsDeterminedAgainWhenResolversAreRegistered() {
+		testMethodWithASingleStringParameter();
+		register(new CountingParameterResolver(true));
+		invokeMethod();
+
+		register(new CountingParameterResolver(true));
+		ParameterResolutionException caught = assertThrows(ParameterResolutionException.class, this::invokeMethod);
+
+		assertThat(caught.getMessage()).contains("Discovered multiple competing ParameterResolvers");
+	}
+
 	private void throwDuringParameterResolution(RuntimeException parameterResolutionException) {
 		register(ConfigurableParameterResolver.onAnyCallThrow(parameterResolutionException));
 	}
@@ -351,6 +414,41 @@ class ExecutableInvokerTests {
 		}
 	}
 
+	private static class CountingParameterResolver implements ParameterResolver {
+
+		private final boolean supportDependsOnParameterOnly;
+		int supportsCount;
+		int resolveCount;
+
+		CountingParameterResolver(boolean supportDependsOnParameterOnly) {
+			this.supportDependsOnParameterOnly = supportDependsOnParameterOnly;
+		}
+
+		@Override
+		public boolean supports(ParameterContext parameterContext, ExtensionContext extensionContext) {
+			supportsCount++;
+			return parameterContext.getParameter().getType() == String.class;
+		}
+
+		@Override
+		public boolean supportDependsOnParameterOnly() {
+			return supportDependsOnParameterOnly;
+		}
+
+		@Override
+		public Object resolve(ParameterContext parameterContext, ExtensionContext extensionContext) {
+			resolveCount++;
+			return ENIGMA;
+		}
+	}
+
+	private static class ParameterOnlyCountingParameterResolver extends CountingParameterResolver {
+
+		ParameterOnlyCountingParameterResolver() {
+			super(true);
+		}
+	}
+
 	interface MethodSource {
 
 		void noParameter();
@@ -10,17 +10,34 @@
 
 package org.junit.jupiter.engine.execution;
 
+import static java.util.Arrays.asList;
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+import static java.util.concurrent.TimeUnit.SECONDS;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
 import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
-
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Function;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtensionContext.Namespace;
+import org.junit.jupiter.api.extension.ExtensionContext.Store.CloseableResource;
 import org.junit.jupiter.api.extension.ExtensionContextException;
 
 /**
@@ -308,6 +325,274 @@ public class ExtensionValuesStoreTests {
 
 			assertEquals(value, parentStore.get(namespace, key));
 		}
+
+		@Test
+		void valueIsNotComputedIfPresentInGrandparent() {
+			ExtensionValuesStore childStore = new ExtensionValuesStore(store);
+			parentStore.put(namespace, key, value);
+
+			assertEquals(value, childStore.getOrComputeIfAbsent(namespace, key, k -> "a different value"));
+		}
+	}
+
+	@Nested
+	class ConcurrentAccessTests {
+
+		@Test
+		void valueIsComputedOnlyOnceForConcurrentCallers() throws Exception {
+			int threadCount = 8;
+			AtomicInteger creations = new AtomicInteger();
+			CountDownLatch start = new CountDownLatch(1);
+			ExecutorService executor = Executors.newFixedThreadPool(threadCount);
+			try {
+				List<Future<Object>> futures = new ArrayList<>();
+				for (int i = 0; i < threadCount; i++) {
+					futures.add(executor.submit(() -> {
+						start.await();
+						return store.getOrComputeIfAbsent(namespace, key, k -> {
+							creations.incrementAndGet();
+							return createObject("computed");
+						});
+					}));
+				}
+				start.countDown();
+
+				Object computed = futures.get(0).get(5, SECONDS);
+				for (Future<Object> future : futures) {
+					assertSame(computed, future.get(5, SECONDS));
+				}
+				assertEquals(1, creations.get());
+			}
+			finally {
+				executor.shutdownNow();
+			}
+		}
+
+		@Test
+		void otherKeysCanBeAccessedWhileValueIsComputed() throws Exception {
+			CountDownLatch computing = new CountDownLatch(1);
+			CountDownLatch release = new CountDownLatch(1);
+			store.put(namespace, "otherKey", value);
+			ExecutorService executor = Executors.newSingleThreadExecutor();
+			try {
+				Future<Object> future = executor.submit(() -> store.getOrComputeIfAbsent(namespace, key, k -> {
+					computing.countDown();
+					awaitUninterruptibly(release);
+					return "computed";
+				}));
+				assertTrue(computing.await(5, SECONDS));
+
+				assertEquals(value, store.get(namespace, "otherKey"));
+				store.put(namespace, "yetAnotherKey", value);
+				assertEquals(value, store.getOrComputeIfAbsent(namespace, "yetAnotherKey", k -> "other"));
+				assertFalse(future.isDone());
+
+				release.countDown();
+				assertEquals("computed", future.get(5, SECONDS));
+			}
+			finally {
+				release.countDown();
+				executor.shutdownNow();
+			}
+		}
+
+		@Test
+		void getWaitsForComputationWithoutPerformingIt() throws Exception {
+			CountDownLatch computing = new CountDownLatch(1);
+			CountDownLatch release = new CountDownLatch(1);
+			List<Thread> creatorThreads = new ArrayList<>();
+			ExecutorService executor = Executors.newFixedThreadPool(2);
+			try {
+				Future<Object> computation = executor.submit(() -> store.getOrComputeIfAbsent(namespace, key, k -> {
+					creatorThreads.add(Thread.currentThread());
+					computing.countDown();
+					awaitUninterruptibly(release);
+					return "computed";
+				}));
+				assertTrue(computing.await(5, SECONDS));
+
+				Future<Object> reader = executor.submit(() -> store.get(namespace, key));
+				assertThrows(TimeoutException.class, () -> reader.get(100, MILLISECONDS));
+
+				release.countDown();
+				assertEquals("computed", computation.get(5, SECONDS));
+				assertEquals("computed", reader.get(5, SECONDS));
+				assertEquals(1, creatorThreads.size());
+				assertNotSame(Thread.currentThread(), creatorThreads.get(0));
+			}
+			finally {
+				release.countDown();
+				executor.shutdownNow();
+			}
+		}
+
+		@Test
+		void getTreatsFailedComputationAsAbsent() throws Exception {
+			CountDownLatch computing = new CountDownLatch(1);
+			CountDownLatch release = new CountDownLatch(1);
+			AtomicInteger creations = new AtomicInteger();
+			ExecutorService executor = Executors.newFixedThreadPool(2);
+			try {
+				Future<Object> computation = executor.submit(() -> store.getOrComputeIfAbsent(namespace, key, k -> {
+					creations.incrementAndGet();
+					computing.countDown();
+					awaitUninterruptibly(release);
+					throw new RuntimeException("boom");
+				}));
+				assertTrue(computing.await(5, SECONDS));
+
+				Future<Object> reader = executor.submit(() -> store.get(namespace, key));
+
+				release.countDown();
+				assertNull(reader.get(5, SECONDS));
+				ExecutionException caught = assertThrows(ExecutionException.class,
+					() -> computation.get(5, SECONDS));
+				assertEquals("boom", caught.getCause().getMessage());
+				assertNull(store.get(namespace, key));
+				assertEquals(1, creations.get());
+			}
+			finally {
+				release.countDown();
+				executor.shutdownNow();
+			}
+		}
+
+		@Test
+		void removingValueDoesNotWaitForItsComputation() throws Exception {
+			CountDownLatch computing = new CountDownLatch(1);
+			CountDownLatch release = new CountDownLatch(1);
+			ExecutorService executor = Executors.newSingleThreadExecutor();
+			try {
+				Future<Object> future = executor.submit(() -> store.getOrComputeIfAbsent(namespace, key, k -> {
+					computing.countDown();
+					awaitUninterruptibly(release);
+					return "computed";
+				}));
+				assertTrue(computing.await(5, SECONDS));
+
+				assertNull(store.remove(namespace, key));
+				assertFalse(future.isDone());
+				assertNull(store.get(namespace, key));
+
+				release.countDown();
+				assertEquals("computed", future.get(5, SECONDS));
+				assertNull(store.get(namespace, key));
+			}
+			finally {
+				release.countDown();
+				executor.shutdownNow();
+			}
+		}
+
+		@Test
+		void removingValueWhoseComputationFailsDoesNotThrowException() throws Exception {
+			CountDownLatch computing = new CountDownLatch(1);
+			CountDownLatch release = new CountDownLatch(1);
+			ExecutorService executor = Executors.newSingleThreadExecutor();
+			try {
+				Future<Object> future = executor.submit(() -> store.getOrComputeIfAbsent(namespace, key, k -> {
+					computing.countDown();
+					awaitUninterruptibly(release);
+					throw new RuntimeException("boom");
+				}));
+				assertTrue(computing.await(5, SECONDS));
+
+				assertNull(store.remove(namespace, key));
+
+				release.countDown();
+				ExecutionException caught = assertThrows(ExecutionException.class, () -> future.get(5, SECONDS));
+				assertEquals("boom", caught.getCause().getMessage());
+			}
+			finally {
+				release.countDown();
+				executor.shutdownNow();
+			}
+		}
+
+		@Test
+		void failedComputationIsNotStored() {
+			RuntimeException exception = new RuntimeException("boom");
+
+			RuntimeException caught = assertThrows(RuntimeException.class,
+				() -> store.getOrComputeIfAbsent(namespace, key, k -> {
+					throw exception;
+				}));
+
+			assertSame(exception, caught);
+			assertNull(store.get(namespace, key));
+			assertEquals(value, store.getOrComputeIfAbsent(namespace, key, k -> value));
+		}
+
+		private void awaitUninterruptibly(CountDownLatch latch) {
+			try {
+				latch.await();
+			}
+			catch (InterruptedException ex) {
+				Thread.currentThread().interrupt();
+			}
+		}
+	}
+
+	@Nested
+	class CloseableResourceTests {
+
+		private final List<String> closedResources = new ArrayList<>();
+
+		@Test
+		void closesCloseableResourcesInReverseInsertionOrder() {
+			store.put(namespace, "first", closeable("first"));
+			store.put(namespace, "plain", value);
+			store.getOrComputeIfAbsent(namespace, "second", k -> closeable(k));
+			store.put(namespace, "third", closeable("third"));
+
+			store.closeAllStoredCloseableValues();
+
+			assertEquals(asList("third", "second", "first"), closedResources);
+		}
+
+		@Test
+		void doesNotCloseResourcesStoredInParentStore() {
+			parentStore.put(namespace, key, closeable("parent"));
+
+			store.closeAllStoredCloseableValues();
+			assertTrue(closedResources.isEmpty());
+
+			parentStore.closeAllStoredCloseableValues();
+			assertEquals(asList("parent"), closedResources);
+		}
+
+		@Test
+		void doesNotCloseRemovedResources() {
+			store.put(namespace, key, closeable("removed"));
+			store.remove(namespace, key);
+
+			store.closeAllStoredCloseableValues();
+
+			assertTrue(closedResources.isEmpty());
+		}
+
+		@Test
+		void closesAllResourcesEvenIfClosingOneOfThemFails() {
+			Exception exception1 = new Exception("first");
+			Exception exception2 = new Exception("second");
+			store.put(namespace, "first", (CloseableResource) () -> {
+				throw exception1;
+			});
+			store.put(namespace, "closeable", closeable("closeable"));
+			store.put(namespace, "second", (CloseableResource) () -> {
+				throw exception2;
+			});
+
+			Exception caught = assertThrows(Exception.class, () -> store.closeAllStoredCloseableValues());
+
+			assertSame(exception2, caught);
+			assertSame(exception1, caught.getSuppressed()[0]);
+			assertEquals(asList("closeable"), closedResources);
+		}
+
+		private CloseableResource closeable(String name) {
+			return () -> closedResources.add(name);
+		}
 	}
 
 	@Nested
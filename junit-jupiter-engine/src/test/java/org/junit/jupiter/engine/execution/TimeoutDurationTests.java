@@ -0,0 +1,53 @@
+/*
+ * Copyright 2015-2017 the original author or authors.
+ *
+ * All rights reserved. This program and the accompanying materials are
+ * made available under the terms of the Eclipse Public License v1.0 which
+ * accompanies this distribution and is available at
+ *
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+
+package org.junit.jupiter.engine.execution;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests for {@link TimeoutDuration}.
+ *
+ * @since 5.0
+ */
+class TimeoutDurationTests {
+
+	@Test
+	void parsesValuesWithAndWithoutUnit() {
+		assertEquals(Optional.of(new TimeoutDuration(5, TimeUnit.SECONDS)), TimeoutDuration.parse("5"));
+		assertEquals(Optional.of(new TimeoutDuration(500, TimeUnit.MILLISECONDS)), TimeoutDuration.parse("500 ms"));
+		assertEquals(Optional.of(new TimeoutDuration(3, TimeUnit.MINUTES)), TimeoutDuration.parse(" 3m "));
+		assertEquals(Optional.of(new TimeoutDuration(42, TimeUnit.MICROSECONDS)), TimeoutDuration.parse("42 US"));
+		assertEquals(Optional.of(new TimeoutDuration(1, TimeUnit.DAYS)), TimeoutDuration.parse("1d"));
+	}
+
+	@Test
+	void rejectsMalformedValues() {
+		assertFalse(TimeoutDuration.parse("").isPresent());
+		assertFalse(TimeoutDuration.parse("0").isPresent());
+		assertFalse(TimeoutDuration.parse("-1 s").isPresent());
+		assertFalse(TimeoutDuration.parse("1.5 s").isPresent());
+		assertFalse(TimeoutDuration.parse("5 weeks").isPresent());
+		assertFalse(TimeoutDuration.parse("99999999999999999999").isPresent());
+	}
+
+	@Test
+	void toStringUsesReadableUnits() {
+		assertEquals("1 second", new TimeoutDuration(1, TimeUnit.SECONDS).toString());
+		assertEquals("50 milliseconds", new TimeoutDuration(50, TimeUnit.MILLISECONDS).toString());
+	}
+
+}
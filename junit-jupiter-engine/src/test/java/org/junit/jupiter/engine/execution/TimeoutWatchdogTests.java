@@ -0,0 +1,110 @@
+/*
+ * Copyright 2015-2017 the original author or authors.
+ *
+ * All rights reserved. This program and the accompanying materials are
+ * made available under the terms of the Eclipse Public License v1.0 which
+ * accompanies this distribution and is available at
+ *
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+
+package org.junit.jupiter.engine.execution;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests for {@link TimeoutWatchdog}.
+ *
+ * @since 5.0
+ */
+class TimeoutWatchdogTests {
+
+	private static final TimeoutDuration TIMEOUT = new TimeoutDuration(200, TimeUnit.MICROSECONDS);
+
+	private static final long INTERRUPT_DELAY_IN_MILLIS = 1;
+
+	@Test
+	void returnsResultOfInvocationCompletingInTime() {
+		String result = TimeoutWatchdog.invoke(() -> "result", new TimeoutDuration(1, TimeUnit.MINUTES),
+			() -> "test()");
+
+		assertEquals("result", result);
+		assertFalse(Thread.currentThread().isInterrupted());
+	}
+
+	@Test
+	void failsInvocationExceedingTimeout() {
+		TimeoutException exception = assertThrows(TimeoutException.class,
+			() -> TimeoutWatchdog.invoke(() -> spin(TimeUnit.MILLISECONDS.toNanos(5)), TIMEOUT, () -> "test()"));
+
+		assertEquals("test() timed out after 200 microseconds", exception.getMessage());
+		assertFalse(Thread.currentThread().isInterrupted());
+	}
+
+	@Test
+	void interruptDoesNotLeakIfInvocationCompletesWhileTimeoutExpires() throws Exception {
+		AtomicReference<Throwable> failure = new AtomicReference<>();
+		Thread thread = new SlowlyInterruptedThread(() -> {
+			try {
+				for (int i = 0; i < 100; i++) {
+					long durationInNanos = TIMEOUT.toNanos() + TimeUnit.MICROSECONDS.toNanos(20 * (i % 5 - 2));
+					try {
+						TimeoutWatchdog.invoke(() -> spin(durationInNanos), TIMEOUT, () -> "test()");
+					}
+					catch (Throwable t) {
+						if (!(t instanceof TimeoutException)) {
+							throw t;
+						}
+					}
+					assertFalse(Thread.currentThread().isInterrupted(), "interrupted after invocation " + i);
+					// Fails with an InterruptedException if the interrupt arrives after the invocation.
+					TimeUnit.MILLISECONDS.sleep(2 * INTERRUPT_DELAY_IN_MILLIS);
+				}
+			}
+			catch (Throwable t) {
+				failure.set(t);
+			}
+		});
+		thread.start();
+		thread.join();
+
+		if (failure.get() != null) {
+			throw new AssertionError("Invocation leaked interrupt", failure.get());
+		}
+	}
+
+	private static long spin(long durationInNanos) {
+		long startTime = System.nanoTime();
+		long iterations = 0;
+		while (System.nanoTime() - startTime < durationInNanos) {
+			iterations++;
+		}
+		return iterations;
+	}
+
+	/**
+	 * Widens the window between the watchdog deciding to interrupt a thread
+	 * and the interrupt actually arriving.
+	 */
+	private static class SlowlyInterruptedThread extends Thread {
+
+		SlowlyInterruptedThread(Runnable runnable) {
+			super(runnable);
+		}
+
+		@Override
+		public void interrupt() {
+			spin(TimeUnit.MILLISECONDS.toNanos(INTERRUPT_DELAY_IN_MILLIS));
+			super.interrupt();
+		}
+	}
+
+}
@@ -0,0 +1,106 @@
+/*
+ * Copyright 2015-2017 the original author or authors.
+ *
+ * All rights reserved. This program and the accompanying materials are
+ * made available under the terms of the Eclipse Public License v1.0 which
+ * accompanies this distribution and is available at
+ *
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+
+package org.junit.jupiter.engine.extension;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests for {@link BaselineComparison}.
+ *
+ * @since 5.0
+ */
+class BaselineComparisonTests {
+
+	private static final double[] BASELINE = { 100, 101, 99, 100, 102, 98, 100, 101 };
+
+	@Test
+	void consistentlyLargerSamplesAreARegression() {
+		double[] samples = { 120, 121, 119, 120, 122, 118, 120, 121 };
+
+		BaselineComparison comparison = BaselineComparison.compare(BASELINE, samples, 0.1, 0.05);
+
+		assertTrue(comparison.isRegression());
+		assertEquals(0.2, comparison.getIncrease(), 0.001);
+		assertTrue(comparison.getPValue() < 0.001, () -> "p = " + comparison.getPValue());
+	}
+
+	@Test
+	void increaseWithinToleranceIsNoRegression() {
+		double[] samples = { 105, 106, 104, 105, 107, 103, 105, 106 };
+
+		BaselineComparison comparison = BaselineComparison.compare(BASELINE, samples, 0.1, 0.05);
+
+		assertFalse(comparison.isRegression());
+	}
+
+	@Test
+	void increaseCausedByOutlierIsNotSignificant() {
+		double[] samples = { 100, 99, 101, 100, 98, 102, 100, 400 };
+
+		BaselineComparison comparison = BaselineComparison.compare(BASELINE, samples, 0.1, 0.05);
+
+		assertTrue(comparison.getIncrease() > 0.1);
+		assertTrue(comparison.getPValue() > 0.05, () -> "p = " + comparison.getPValue());
+		assertFalse(comparison.isRegression());
+	}
+
+	@Test
+	void toleranceAloneDecidesForSingleSamples() {
+		assertTrue(BaselineComparison.compare(new double[] { 100 }, new double[] { 111 }, 0.1, 0.05).isRegression());
+		assertFalse(BaselineComparison.compare(new double[] { 100 }, new double[] { 109 }, 0.1, 0.05).isRegression());
+	}
+
+	@Test
+	void identicalSamplesHaveAPValueOfAboutOneHalf() {
+		double pValue = BaselineComparison.pValueOfIncrease(BASELINE, BASELINE);
+
+		assertEquals(0.5, pValue, 0.1);
+	}
+
+	@Test
+	void smallerSamplesAreNoRegression() {
+		double[] samples = { 50, 51, 49, 50 };
+
+		BaselineComparison comparison = BaselineComparison.compare(BASELINE, samples, 0.1, 0.05);
+
+		assertFalse(comparison.isRegression());
+		assertTrue(comparison.getPValue() > 0.99);
+	}
+
+	@Test
+	void clearRegressionIsReportedForLargeSamples() {
+		Random random = new Random(42);
+		double[] baseline = random.doubles(4000, 90, 110).toArray();
+		double[] samples = random.doubles(4000, 180, 220).toArray();
+
+		BaselineComparison comparison = BaselineComparison.compare(baseline, samples, 0.1, 0.05);
+
+		assertTrue(comparison.isRegression(), comparison::toString);
+		assertEquals(0.0, comparison.getPValue(), 0.001);
+	}
+
+	@Test
+	void identicalLargeSamplesAreNoRegression() {
+		double[] baseline = new Random(42).doubles(4000, 90, 110).toArray();
+
+		BaselineComparison comparison = BaselineComparison.compare(baseline, baseline.clone(), 0.1, 0.05);
+
+		assertFalse(comparison.isRegression());
+		assertEquals(0.5, comparison.getPValue(), 0.1);
+	}
+
+}
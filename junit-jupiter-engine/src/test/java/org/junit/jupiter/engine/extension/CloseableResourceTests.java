@@ -0,0 +1,220 @@
+/*
+ * Copyright 2015-2017 the original author or authors.
+ *
+ * All rights reserved. This program and the accompanying materials are
+ * made available under the terms of the Eclipse Public License v1.0 which
+ * accompanies this distribution and is available at
+ *
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+
+package org.junit.jupiter.engine.extension;
+
+import static java.util.Arrays.asList;
+import static org.assertj.core.api.Assertions.allOf;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.platform.engine.discovery.DiscoverySelectors.selectClass;
+import static org.junit.platform.engine.test.event.ExecutionEventConditions.assertRecordedExecutionEventsContainsExactly;
+import static org.junit.platform.engine.test.event.ExecutionEventConditions.container;
+import static org.junit.platform.engine.test.event.ExecutionEventConditions.engine;
+import static org.junit.platform.engine.test.event.ExecutionEventConditions.event;
+import static org.junit.platform.engine.test.event.ExecutionEventConditions.finishedSuccessfully;
+import static org.junit.platform.engine.test.event.ExecutionEventConditions.finishedWithFailure;
+import static org.junit.platform.engine.test.event.ExecutionEventConditions.started;
+import static org.junit.platform.engine.test.event.ExecutionEventConditions.test;
+import static org.junit.platform.engine.test.event.TestExecutionResultConditions.isA;
+import static org.junit.platform.engine.test.event.TestExecutionResultConditions.message;
+import static org.junit.platform.launcher.core.LauncherDiscoveryRequestBuilder.request;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.BeforeAllCallback;
+import org.junit.jupiter.api.extension.BeforeEachCallback;
+import org.junit.jupiter.api.extension.ContainerExtensionContext;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.extension.ExtensionContext;
+import org.junit.jupiter.api.extension.ExtensionContext.Namespace;
+import org.junit.jupiter.api.extension.ExtensionContext.Store.CloseableResource;
+import org.junit.jupiter.api.extension.TestExtensionContext;
+import org.junit.jupiter.engine.AbstractJupiterTestEngineTests;
+import org.junit.jupiter.engine.JupiterTestEngine;
+import org.junit.platform.engine.test.event.ExecutionEventRecorder;
+
+/**
+ * Integration tests that verify support for {@link CloseableResource} values
+ * stored in an {@link ExtensionContext.Store} and for resources shared via
+ * the {@linkplain ExtensionContext#getRoot() root context} in the
+ * {@link JupiterTestEngine}.
+ *
+ * @since 5.0
+ */
+class CloseableResourceTests extends AbstractJupiterTestEngineTests {
+
+	private static final Namespace NAMESPACE = Namespace.create(CloseableResourceTests.class);
+
+	private static final List<String> callSequence = new ArrayList<>();
+	private static final List<ExtensionContext> rootContexts = new ArrayList<>();
+
+	@BeforeEach
+	void resetRecordedState() {
+		callSequence.clear();
+		rootContexts.clear();
+	}
+
+	@Test
+	void resourceInRootContextIsSharedByAllTestClassesAndClosedWhenEngineIsFinished() {
+		ExecutionEventRecorder eventRecorder = executeTests(request() //
+				.selectors(selectClass(FirstSharedResourceTestCase.class),
+					selectClass(SecondSharedResourceTestCase.class)) //
+				.build());
+
+		assertEquals(3, eventRecorder.getTestSuccessfulCount(), "# tests succeeded");
+		assertEquals(asList("create", "test", "test", "afterAll", "test", "afterAll", "close"), callSequence);
+	}
+
+	@Test
+	void rootContextIsTheEngineContext() {
+		executeTests(request() //
+				.selectors(selectClass(FirstSharedResourceTestCase.class),
+					selectClass(SecondSharedResourceTestCase.class)) //
+				.build());
+
+		assertEquals(3, rootContexts.size());
+		rootContexts.forEach(root -> assertSame(rootContexts.get(0), root));
+		ExtensionContext root = rootContexts.get(0);
+		assertFalse(root.getParent().isPresent());
+		assertFalse(root.getTestClass().isPresent());
+		assertEquals("[engine:junit-jupiter]", root.getUniqueId());
+	}
+
+	@Test
+	void resourcesInClassAndTestContextsAreClosedWhenTheyAreFinished() {
+		ExecutionEventRecorder eventRecorder = executeTestsForClass(ContextScopedResourceTestCase.class);
+
+		assertEquals(1, eventRecorder.getTestSuccessfulCount(), "# tests succeeded");
+		assertEquals(asList("test", "close test resource", "afterAll", "close class resource"), callSequence);
+	}
+
+	@Test
+	void failureToCloseResourceIsReportedForTheCorrespondingContext() {
+		ExecutionEventRecorder eventRecorder = executeTestsForClass(FailingResourceTestCase.class);
+
+		assertRecordedExecutionEventsContainsExactly(eventRecorder.getExecutionEvents(), //
+			event(engine(), started()), //
+			event(container(FailingResourceTestCase.class), started()), //
+			event(test("test"), started()), //
+			event(test("test"), finishedWithFailure(allOf(isA(IllegalStateException.class), message("test")))), //
+			event(container(FailingResourceTestCase.class),
+				finishedWithFailure(allOf(isA(IllegalStateException.class), message("class")))), //
+			event(engine(), finishedSuccessfully()));
+	}
+
+	// -------------------------------------------------------------------------
+
+	@ExtendWith(SharedResourceExtension.class)
+	static class FirstSharedResourceTestCase {
+
+		@Test
+		void test1() {
+			callSequence.add("test");
+		}
+
+		@Test
+		void test2() {
+			callSequence.add("test");
+		}
+
+		@AfterAll
+		static void afterAll() {
+			callSequence.add("afterAll");
+		}
+	}
+
+	@ExtendWith(SharedResourceExtension.class)
+	static class SecondSharedResourceTestCase {
+
+		@Test
+		void test() {
+			callSequence.add("test");
+		}
+
+		@AfterAll
+		static void afterAll() {
+			callSequence.add("afterAll");
+		}
+	}
+
+	@ExtendWith(ContextScopedResourceExtension.class)
+	static class ContextScopedResourceTestCase {
+
+		@Test
+		void test() {
+			callSequence.add("test");
+		}
+
+		@AfterAll
+		static void afterAll() {
+			callSequence.add("afterAll");
+		}
+	}
+
+	@ExtendWith(FailingResourceExtension.class)
+	static class FailingResourceTestCase {
+
+		@Test
+		void test() {
+		}
+	}
+
+	static class SharedResourceExtension implements BeforeEachCallback {
+
+		@Override
+		public void beforeEach(TestExtensionContext context) {
+			ExtensionContext root = context.getRoot();
+			rootContexts.add(root);
+			root.getStore(NAMESPACE).getOrComputeIfAbsent("resource", key -> {
+				callSequence.add("create");
+				return (CloseableResource) () -> callSequence.add("close");
+			}, CloseableResource.class);
+		}
+	}
+
+	static class ContextScopedResourceExtension implements BeforeAllCallback, BeforeEachCallback {
+
+		@Override
+		public void beforeAll(ContainerExtensionContext context) {
+			context.getStore(NAMESPACE).put("resource",
+				(CloseableResource) () -> callSequence.add("close class resource"));
+		}
+
+		@Override
+		public void beforeEach(TestExtensionContext context) {
+			context.getStore(NAMESPACE).put("resource",
+				(CloseableResource) () -> callSequence.add("close test resource"));
+		}
+	}
+
+	static class FailingResourceExtension implements BeforeAllCallback, BeforeEachCallback {
+
+		@Override
+		public void beforeAll(ContainerExtensionContext context) {
+			context.getStore(NAMESPACE).put("resource", (CloseableResource) () -> {
+				throw new IllegalStateException("class");
+			});
+		}
+
+		@Override
+		public void beforeEach(TestExtensionContext context) {
+			context.getStore(NAMESPACE).put("resource", (CloseableResource) () -> {
+				throw new IllegalStateException("test");
+			});
+		}
+	}
+
+}
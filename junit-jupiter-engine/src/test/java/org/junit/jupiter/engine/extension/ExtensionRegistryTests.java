@@ -15,6 +15,9 @@ import static java.util.Collections.emptyList;
 import static java.util.Collections.singletonList;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.junit.jupiter.engine.extension.ExtensionRegistry.createRegistryFrom;
 import static org.junit.jupiter.engine.extension.ExtensionRegistry.createRegistryWithDefaultExtensions;
@@ -26,6 +29,7 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ContainerExecutionCondition;
 import org.junit.jupiter.api.extension.Extension;
 import org.junit.jupiter.api.extension.ParameterResolver;
+import org.junit.jupiter.api.extension.StaticExecutionCondition;
 import org.junit.jupiter.api.extension.TestExecutionCondition;
 
 /**
@@ -39,14 +43,16 @@ public class ExtensionRegistryTests {
 	void newRegistryWithoutParentHasDefaultExtensions() {
 		List<Extension> extensions = registry.getExtensions(Extension.class);
 
-		assertEquals(3, extensions.size());
+		assertEquals(4, extensions.size());
 		assertExtensionRegistered(registry, DisabledCondition.class);
 		assertExtensionRegistered(registry, TestInfoParameterResolver.class);
 		assertExtensionRegistered(registry, TestReporterParameterResolver.class);
+		assertExtensionRegistered(registry, PerformanceBaselineParameterResolver.class);
 
-		assertEquals(2, countExtensions(registry, ParameterResolver.class));
+		assertEquals(3, countExtensions(registry, ParameterResolver.class));
 		assertEquals(1, countExtensions(registry, ContainerExecutionCondition.class));
 		assertEquals(1, countExtensions(registry, TestExecutionCondition.class));
+		assertEquals(1, countExtensions(registry, StaticExecutionCondition.class));
 	}
 
 	@Test
@@ -125,6 +131,57 @@ public class ExtensionRegistryTests {
 		assertTrue(hasRun.get());
 	}
 
+	@Test
+	void reversedExtensionsAreInReverseRegistrationOrder() {
+		ExtensionRegistry child = createRegistryFrom(registry, asList(MyExtension.class, YourExtension.class));
+		ExtensionRegistry grandChild = createRegistryFrom(child, singletonList(MultipleExtension.class));
+
+		List<MyExtensionApi> extensions = grandChild.getExtensions(MyExtensionApi.class);
+		List<MyExtensionApi> reversedExtensions = grandChild.getReversedExtensions(MyExtensionApi.class);
+
+		assertEquals(asList(MyExtension.class, YourExtension.class, MultipleExtension.class),
+			asList(extensions.get(0).getClass(), extensions.get(1).getClass(), extensions.get(2).getClass()));
+		assertEquals(asList(extensions.get(2), extensions.get(1), extensions.get(0)), reversedExtensions);
+	}
+
+	@Test
+	void extensionsAreComputedOnceAndCannotBeModified() {
+		registry.registerExtension(MyExtension.class);
+
+		List<MyExtensionApi> extensions = registry.getExtensions(MyExtensionApi.class);
+
+		assertSame(extensions, registry.getExtensions(MyExtensionApi.class));
+		assertSame(registry.getReversedExtensions(MyExtensionApi.class),
+			registry.getReversedExtensions(MyExtensionApi.class));
+		assertThrows(UnsupportedOperationException.class, () -> extensions.remove(0));
+	}
+
+	@Test
+	void extensionsAreRecomputedAfterRegistrationInAncestor() {
+		ExtensionRegistry parent = registry;
+		ExtensionRegistry child = createRegistryFrom(parent, singletonList(MyExtension.class));
+
+		List<MyExtensionApi> extensions = child.getExtensions(MyExtensionApi.class);
+		assertEquals(1, extensions.size());
+
+		parent.registerExtension(YourExtension.class);
+
+		assertNotSame(extensions, child.getExtensions(MyExtensionApi.class));
+		assertEquals(2, countExtensions(child, MyExtensionApi.class));
+		assertEquals(YourExtension.class, child.getExtensions(MyExtensionApi.class).get(0).getClass());
+		assertEquals(1, countExtensions(parent, MyExtensionApi.class));
+	}
+
+	@Test
+	void registryWithoutExtensionsOfTypeSharesExtensionsOfParent() {
+		ExtensionRegistry child = createRegistryFrom(registry, singletonList(MyExtension.class));
+
+		assertSame(registry.getExtensions(ParameterResolver.class), child.getExtensions(ParameterResolver.class));
+		assertSame(registry.getReversedExtensions(ParameterResolver.class),
+			child.getReversedExtensions(ParameterResolver.class));
+		assertNotSame(registry.getExtensions(MyExtensionApi.class), child.getExtensions(MyExtensionApi.class));
+	}
+
 	private long countExtensions(ExtensionRegistry registry, Class<? extends Extension> extensionType) {
 		return registry.stream(extensionType).count();
 	}
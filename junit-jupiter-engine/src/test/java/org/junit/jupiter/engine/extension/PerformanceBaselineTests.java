@@ -0,0 +1,198 @@
+/*
+ * Copyright 2015-2017 the original author or authors.
+ *
+ * All rights reserved. This program and the accompanying materials are
+ * made available under the terms of the Eclipse Public License v1.0 which
+ * accompanies this distribution and is available at
+ *
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+
+package org.junit.jupiter.engine.extension;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.util.stream.Collectors.toList;
+import static org.assertj.core.api.Assertions.allOf;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.engine.Constants.BASELINE_DIRECTORY_PROPERTY_NAME;
+import static org.junit.jupiter.engine.Constants.BASELINE_PROFILE_PROPERTY_NAME;
+import static org.junit.jupiter.engine.Constants.BASELINE_REGRESSION_ACTION_PROPERTY_NAME;
+import static org.junit.jupiter.engine.Constants.BASELINE_UPDATE_PROPERTY_NAME;
+import static org.junit.platform.engine.discovery.DiscoverySelectors.selectClass;
+import static org.junit.platform.engine.test.event.ExecutionEvent.Type.REPORTING_ENTRY_PUBLISHED;
+import static org.junit.platform.engine.test.event.ExecutionEventConditions.abortedWithReason;
+import static org.junit.platform.engine.test.event.ExecutionEventConditions.event;
+import static org.junit.platform.engine.test.event.ExecutionEventConditions.finishedWithFailure;
+import static org.junit.platform.engine.test.event.ExecutionEventConditions.test;
+import static org.junit.platform.engine.test.event.TestExecutionResultConditions.isA;
+import static org.junit.platform.engine.test.event.TestExecutionResultConditions.message;
+import static org.junit.platform.launcher.core.LauncherDiscoveryRequestBuilder.request;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.PerformanceBaseline;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.engine.AbstractJupiterTestEngineTests;
+import org.junit.platform.engine.reporting.ReportEntry;
+import org.junit.platform.engine.test.event.ExecutionEventRecorder;
+import org.junit.platform.launcher.core.LauncherDiscoveryRequestBuilder;
+import org.opentest4j.AssertionFailedError;
+
+/**
+ * Integration tests for {@link PerformanceBaseline} support via the
+ * {@link PerformanceBaselineParameterResolver}.
+ *
+ * @since 5.0
+ */
+class PerformanceBaselineTests extends AbstractJupiterTestEngineTests {
+
+	private static double[] samples;
+
+	private Path directory;
+
+	@BeforeEach
+	void createBaselineDirectory() throws IOException {
+		directory = Files.createTempDirectory("junit-baselines");
+		samples = new double[] { 100, 101, 99, 100, 102, 98, 100, 101 };
+	}
+
+	@AfterEach
+	void deleteBaselineDirectory() throws IOException {
+		try (Stream<Path> paths = Files.walk(directory)) {
+			for (Path path : paths.sorted(Comparator.reverseOrder()).collect(toList())) {
+				Files.delete(path);
+			}
+		}
+	}
+
+	@Test
+	void baselineIsCreatedIfItDoesNotExist() throws IOException {
+		ExecutionEventRecorder eventRecorder = executeTests(baselineRequest().build());
+
+		assertEquals(1, eventRecorder.getTestSuccessfulCount(), "# tests succeeded");
+		assertEquals("created", getReportEntries(eventRecorder).get(0).get("baseline.parse"));
+
+		List<String> lines = Files.readAllLines(directory.resolve("test-profile.baseline"), UTF_8);
+		assertEquals(2, lines.size());
+		assertThat(lines.get(1)).contains("[method:measure(org.junit.jupiter.api.PerformanceBaseline)]#parse\t");
+		assertThat(lines.get(1)).endsWith("\t100.0,101.0,99.0,100.0,102.0,98.0,100.0,101.0");
+	}
+
+	@Test
+	void comparableMeasurementPasses() {
+		executeTests(baselineRequest().build());
+		samples = new double[] { 101, 100, 100, 99, 103, 99, 100, 100 };
+
+		ExecutionEventRecorder eventRecorder = executeTests(baselineRequest().build());
+
+		assertEquals(1, eventRecorder.getTestSuccessfulCount(), "# tests succeeded");
+		assertThat(getReportEntries(eventRecorder).get(0).get("baseline.parse")).startsWith("mean 100.3 vs. ");
+	}
+
+	@Test
+	void regressionFailsTest() {
+		executeTests(baselineRequest().build());
+		samples = new double[] { 150, 151, 149, 150, 152, 148, 150, 151 };
+
+		ExecutionEventRecorder eventRecorder = executeTests(baselineRequest().build());
+
+		assertThat(eventRecorder.getExecutionEvents()).haveExactly(1,
+			event(test("measure"), finishedWithFailure(allOf(isA(AssertionFailedError.class),
+				message(message -> message.startsWith("Performance regression of 'parse': mean 150.1 vs. "))))));
+	}
+
+	@Test
+	void regressionAbortsTestIfConfigured() {
+		executeTests(baselineRequest().build());
+		samples = new double[] { 150, 151, 149, 150, 152, 148, 150, 151 };
+
+		ExecutionEventRecorder eventRecorder = executeTests(baselineRequest() //
+				.configurationParameter(BASELINE_REGRESSION_ACTION_PROPERTY_NAME, "abort") //
+				.build());
+
+		assertThat(eventRecorder.getExecutionEvents()).haveExactly(1,
+			event(test("measure"), abortedWithReason(message(message -> message.contains("'parse'")))));
+	}
+
+	@Test
+	void baselineIsOnlyReplacedIfUpdateIsEnabled() throws IOException {
+		executeTests(baselineRequest().build());
+		samples = new double[] { 150, 151, 149, 150, 152, 148, 150, 151 };
+		executeTests(baselineRequest().build());
+		Path file = directory.resolve("test-profile.baseline");
+		assertThat(Files.readAllLines(file, UTF_8).get(1)).endsWith(
+			"\t100.0,101.0,99.0,100.0,102.0,98.0,100.0,101.0");
+
+		ExecutionEventRecorder eventRecorder = executeTests(baselineRequest() //
+				.configurationParameter(BASELINE_UPDATE_PROPERTY_NAME, "true") //
+				.build());
+
+		assertEquals(1, eventRecorder.getTestSuccessfulCount(), "# tests succeeded");
+		assertEquals("updated", getReportEntries(eventRecorder).get(0).get("baseline.parse"));
+		assertThat(Files.readAllLines(file, UTF_8).get(1)).endsWith(
+			"\t150.0,151.0,149.0,150.0,152.0,148.0,150.0,151.0");
+		assertEquals(1, executeTests(baselineRequest().build()).getTestSuccessfulCount());
+	}
+
+	@Test
+	void baselinesOfDifferentProfilesAreIndependent() {
+		executeTests(baselineRequest().build());
+		samples = new double[] { 150, 151, 149, 150, 152, 148, 150, 151 };
+
+		ExecutionEventRecorder eventRecorder = executeTests(baselineRequest() //
+				.configurationParameter(BASELINE_PROFILE_PROPERTY_NAME, "other profile") //
+				.build());
+
+		assertEquals(1, eventRecorder.getTestSuccessfulCount(), "# tests succeeded");
+		assertTrue(Files.exists(directory.resolve("other_profile.baseline")));
+	}
+
+	@Test
+	void baselineFileIsNotWrittenIfNoBaselineChanged() throws IOException {
+		executeTests(baselineRequest().build());
+		Path file = directory.resolve("test-profile.baseline");
+		Files.setLastModifiedTime(file, FileTime.fromMillis(0));
+
+		executeTests(baselineRequest().build());
+
+		assertEquals(0, Files.getLastModifiedTime(file).toMillis());
+	}
+
+	// -------------------------------------------------------------------------
+
+	private LauncherDiscoveryRequestBuilder baselineRequest() {
+		return request() //
+				.selectors(selectClass(BaselineTestCase.class)) //
+				.configurationParameter(BASELINE_DIRECTORY_PROPERTY_NAME, directory.toString()) //
+				.configurationParameter(BASELINE_PROFILE_PROPERTY_NAME, "test-profile");
+	}
+
+	private static List<Map<String, String>> getReportEntries(ExecutionEventRecorder eventRecorder) {
+		// @formatter:off
+		return eventRecorder.eventStream()
+				.filter(event -> event.getType() == REPORTING_ENTRY_PUBLISHED)
+				.map(event -> event.getPayload(ReportEntry.class).get().getKeyValuePairs())
+				.collect(toList());
+		// @formatter:on
+	}
+
+	static class BaselineTestCase {
+
+		@Test
+		void measure(PerformanceBaseline baseline) {
+			baseline.assertNoRegression("parse", samples);
+		}
+	}
+
+}
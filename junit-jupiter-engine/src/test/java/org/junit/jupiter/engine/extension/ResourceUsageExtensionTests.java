@@ -0,0 +1,102 @@
+/*
+ * Copyright 2015-2017 the original author or authors.
+ *
+ * All rights reserved. This program and the accompanying materials are
+ * made available under the terms of the Eclipse Public License v1.0 which
+ * accompanies this distribution and is available at
+ *
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+
+package org.junit.jupiter.engine.extension;
+
+import static java.util.stream.Collectors.toMap;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.engine.Constants.RESOURCE_USAGE_ENABLED_PROPERTY_NAME;
+import static org.junit.jupiter.engine.extension.ResourceUsageExtension.ALLOCATED_BYTES_KEY;
+import static org.junit.jupiter.engine.extension.ResourceUsageExtension.CPU_TIME_KEY;
+import static org.junit.jupiter.engine.extension.ResourceUsageExtension.GC_COUNT_KEY;
+import static org.junit.jupiter.engine.extension.ResourceUsageExtension.GC_TIME_KEY;
+import static org.junit.platform.engine.discovery.DiscoverySelectors.selectClass;
+import static org.junit.platform.engine.test.event.ExecutionEvent.Type.REPORTING_ENTRY_PUBLISHED;
+import static org.junit.platform.launcher.core.LauncherDiscoveryRequestBuilder.request;
+
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.engine.AbstractJupiterTestEngineTests;
+import org.junit.platform.engine.reporting.ReportEntry;
+import org.junit.platform.engine.test.event.ExecutionEventRecorder;
+
+/**
+ * Integration tests for the {@link ResourceUsageExtension}.
+ *
+ * @since 5.0
+ */
+class ResourceUsageExtensionTests extends AbstractJupiterTestEngineTests {
+
+	private static final String TEST_CASE_DISPLAY_NAME = "ResourceUsageExtensionTests$ResourceUsageTestCase";
+
+	@Test
+	void resourceUsageIsNotPublishedByDefault() {
+		ExecutionEventRecorder eventRecorder = executeTests(
+			request().selectors(selectClass(ResourceUsageTestCase.class)).build());
+
+		assertEquals(2, eventRecorder.getTestSuccessfulCount(), "# tests succeeded");
+		assertThat(getReportEntries(eventRecorder)).isEmpty();
+	}
+
+	@Test
+	void resourceUsageOfTestsAndTestClassesIsPublishedIfEnabled() {
+		ExecutionEventRecorder eventRecorder = executeTests(request() //
+				.selectors(selectClass(ResourceUsageTestCase.class)) //
+				.configurationParameter(RESOURCE_USAGE_ENABLED_PROPERTY_NAME, "true") //
+				.build());
+
+		assertEquals(2, eventRecorder.getTestSuccessfulCount(), "# tests succeeded");
+		Map<String, Map<String, String>> entries = getReportEntries(eventRecorder);
+		assertThat(entries).containsOnlyKeys("allocating()", "idle()", TEST_CASE_DISPLAY_NAME);
+
+		Map<String, String> allocating = entries.get("allocating()");
+		assertThat(allocating).containsOnlyKeys(CPU_TIME_KEY, ALLOCATED_BYTES_KEY);
+		assertThat(Long.parseLong(allocating.get(CPU_TIME_KEY))).isGreaterThanOrEqualTo(0);
+		assertThat(Long.parseLong(allocating.get(ALLOCATED_BYTES_KEY))).isGreaterThanOrEqualTo(
+			ResourceUsageTestCase.ALLOCATION_SIZE);
+		assertThat(Long.parseLong(entries.get("idle()").get(ALLOCATED_BYTES_KEY))).isLessThan(
+			ResourceUsageTestCase.ALLOCATION_SIZE);
+
+		Map<String, String> testClass = entries.get(TEST_CASE_DISPLAY_NAME);
+		assertThat(testClass).containsOnlyKeys(GC_COUNT_KEY, GC_TIME_KEY);
+		assertThat(Long.parseLong(testClass.get(GC_COUNT_KEY))).isGreaterThanOrEqualTo(0);
+		assertThat(Long.parseLong(testClass.get(GC_TIME_KEY))).isGreaterThanOrEqualTo(0);
+	}
+
+	private static Map<String, Map<String, String>> getReportEntries(ExecutionEventRecorder eventRecorder) {
+		// @formatter:off
+		return eventRecorder.eventStream()
+				.filter(event -> event.getType() == REPORTING_ENTRY_PUBLISHED)
+				.collect(toMap(event -> event.getTestDescriptor().getDisplayName(),
+					event -> event.getPayload(ReportEntry.class).get().getKeyValuePairs()));
+		// @formatter:on
+	}
+
+	// -------------------------------------------------------------------
+
+	static class ResourceUsageTestCase {
+
+		static final int ALLOCATION_SIZE = 4 * 1024 * 1024;
+
+		static byte[] allocated;
+
+		@Test
+		void allocating() {
+			allocated = new byte[ALLOCATION_SIZE];
+		}
+
+		@Test
+		void idle() {
+		}
+	}
+
+}
@@ -10,13 +10,26 @@
 
 package org.junit.jupiter.migrationsupport.rules;
 
+import static java.util.stream.Collectors.toList;
+
+import java.lang.annotation.Annotation;
 import java.lang.reflect.Member;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Consumer;
 import java.util.function.Function;
+import java.util.function.Supplier;
 
+import org.junit.ClassRule;
+import org.junit.Rule;
+import org.junit.jupiter.api.extension.AfterAllCallback;
 import org.junit.jupiter.api.extension.AfterEachCallback;
+import org.junit.jupiter.api.extension.BeforeAllCallback;
 import org.junit.jupiter.api.extension.BeforeEachCallback;
+import org.junit.jupiter.api.extension.ContainerExtensionContext;
+import org.junit.jupiter.api.extension.ExtensionContext;
+import org.junit.jupiter.api.extension.ExtensionContext.Namespace;
 import org.junit.jupiter.api.extension.TestExecutionExceptionHandler;
 import org.junit.jupiter.api.extension.TestExtensionContext;
 import org.junit.jupiter.migrationsupport.rules.adapter.AbstractTestRuleAdapter;
@@ -24,16 +37,29 @@ import org.junit.jupiter.migrationsupport.rules.adapter.GenericBeforeAndAfterAdv
 import org.junit.jupiter.migrationsupport.rules.member.TestRuleAnnotatedMember;
 import org.junit.jupiter.migrationsupport.rules.member.TestRuleAnnotatedMemberFactory;
 import org.junit.platform.commons.util.ExceptionUtils;
+import org.junit.platform.commons.util.Preconditions;
+import org.junit.platform.commons.util.ReflectionUtils;
 import org.junit.rules.TestRule;
 
 /**
+ * Base class for extensions that adapt {@code @Rule}- and
+ * {@code @ClassRule}-annotated members of a given rule type.
+ *
+ * <p>The rule-annotated members are looked up once per test class. The
+ * adapters for the rules of a test or test class are created when they are
+ * first needed and reused for all callbacks of the same test or test class,
+ * which ensures that rules returned by rule-annotated methods are retrieved
+ * only once per test or test class, as in JUnit 4.
+ *
  * @since 5.0
  */
-abstract class AbstractTestRuleSupport<T extends Member>
-		implements BeforeEachCallback, TestExecutionExceptionHandler, AfterEachCallback {
+abstract class AbstractTestRuleSupport<T extends Member> implements BeforeAllCallback, BeforeEachCallback,
+		TestExecutionExceptionHandler, AfterEachCallback, AfterAllCallback {
 
 	private final Class<? extends TestRule> ruleType;
 	private final Function<TestRuleAnnotatedMember, AbstractTestRuleAdapter> adapterGenerator;
+	private final Map<Class<?>, List<T>> ruleAnnotatedMembers = new ConcurrentHashMap<>();
+	private final Map<Class<?>, List<T>> classRuleAnnotatedMembers = new ConcurrentHashMap<>();
 
 	AbstractTestRuleSupport(Function<TestRuleAnnotatedMember, AbstractTestRuleAdapter> adapterGenerator,
 			Class<? extends TestRule> ruleType) {
@@ -41,12 +67,24 @@ abstract class AbstractTestRuleSupport<T extends Member>
 		this.ruleType = ruleType;
 	}
 
-	protected abstract List<T> findRuleAnnotatedMembers(Object testInstance);
+	/**
+	 * Find the members of the supplied test class that are annotated with
+	 * the supplied annotation, i.e. {@link Rule @Rule} or
+	 * {@link ClassRule @ClassRule}, and provide a rule of the rule type of
+	 * this support.
+	 */
+	protected abstract List<T> findRuleAnnotatedMembers(Class<?> testClass,
+			Class<? extends Annotation> annotationType);
 
 	protected Class<? extends TestRule> getRuleType() {
 		return this.ruleType;
 	}
 
+	@Override
+	public void beforeAll(ContainerExtensionContext context) throws Exception {
+		invokeAppropriateMethodOnClassRuleAnnotatedMembers(context, GenericBeforeAndAfterAdvice::before);
+	}
+
 	@Override
 	public void beforeEach(TestExtensionContext context) throws Exception {
 		invokeAppropriateMethodOnRuleAnnotatedMembers(context, GenericBeforeAndAfterAdvice::before);
@@ -69,16 +107,65 @@ abstract class AbstractTestRuleSupport<T extends Member>
 		invokeAppropriateMethodOnRuleAnnotatedMembers(context, GenericBeforeAndAfterAdvice::after);
 	}
 
+	@Override
+	public void afterAll(ContainerExtensionContext context) throws Exception {
+		invokeAppropriateMethodOnClassRuleAnnotatedMembers(context, GenericBeforeAndAfterAdvice::after);
+	}
+
 	private void invokeAppropriateMethodOnRuleAnnotatedMembers(TestExtensionContext context,
 			Consumer<GenericBeforeAndAfterAdvice> methodCaller) {
 
-		List<T> members = findRuleAnnotatedMembers(context.getTestInstance());
+		getAdapters(context, () -> createRuleAdapters(context.getTestInstance())).forEach(methodCaller);
+	}
+
+	private void invokeAppropriateMethodOnClassRuleAnnotatedMembers(ContainerExtensionContext context,
+			Consumer<GenericBeforeAndAfterAdvice> methodCaller) {
+
+		context.getTestClass().ifPresent(
+			testClass -> getAdapters(context, () -> createClassRuleAdapters(testClass)).forEach(methodCaller));
+	}
+
+	private List<AbstractTestRuleAdapter> createRuleAdapters(Object testInstance) {
+		List<T> members = this.ruleAnnotatedMembers.computeIfAbsent(testInstance.getClass(),
+			testClass -> findRuleAnnotatedMembers(testClass, Rule.class));
+		return createAdapters(testInstance, members);
+	}
+
+	private List<AbstractTestRuleAdapter> createClassRuleAdapters(Class<?> testClass) {
+		List<T> members = this.classRuleAnnotatedMembers.computeIfAbsent(testClass,
+			this::findClassRuleAnnotatedMembers);
+		return createAdapters(null, members);
+	}
+
+	private List<T> findClassRuleAnnotatedMembers(Class<?> testClass) {
+		List<T> members = findRuleAnnotatedMembers(testClass, ClassRule.class);
+		members.forEach(member -> Preconditions.condition(ReflectionUtils.isStatic(member),
+			() -> String.format("@ClassRule member [%s] must be static.", member)));
+		return members;
+	}
+
+	/**
+	 * Get the adapters stored for this support in the supplied context or
+	 * create them if they do not exist yet.
+	 *
+	 * <p>The adapters are stored in a namespace that is specific to the
+	 * supplied context so that nested test classes do not see the adapters
+	 * of their enclosing classes.
+	 */
+	@SuppressWarnings("unchecked")
+	private List<AbstractTestRuleAdapter> getAdapters(ExtensionContext context,
+			Supplier<List<AbstractTestRuleAdapter>> adapterCreator) {
+
+		Namespace namespace = Namespace.create(AbstractTestRuleSupport.class, context.getUniqueId());
+		return context.getStore(namespace).getOrComputeIfAbsent(this, key -> adapterCreator.get(), List.class);
+	}
 
+	private List<AbstractTestRuleAdapter> createAdapters(Object testInstance, List<T> members) {
 		// @formatter:off
-		members.stream()
-				.map(member -> TestRuleAnnotatedMemberFactory.from(context.getTestInstance(), member))
+		return members.stream()
+				.map(member -> TestRuleAnnotatedMemberFactory.from(testInstance, member))
 				.map(this.adapterGenerator)
-				.forEach(methodCaller::accept);
+				.collect(toList());
 		// @formatter:on
 	}
 
@@ -25,7 +25,9 @@ import org.junit.platform.commons.meta.API;
  * within JUnit Jupiter.
  *
  * <p>Currently, rules of type {@code Verifier}, {@code ExternalResource},
- * and {@code ExpectedException} rules are supported.
+ * and {@code ExpectedException} rules are supported. Rules of type
+ * {@code Verifier} and {@code ExternalResource} may also be declared as
+ * {@code @ClassRule}, in which case they are applied once per test class.
  *
  * <p>{@code @EnableRuleMigrationSupport} is a composed annotation which
  * enables all supported extensions: {@link VerifierSupport},
@@ -14,8 +14,11 @@ import static org.junit.platform.commons.meta.API.Usage.Experimental;
 
 import java.util.function.Function;
 
+import org.junit.jupiter.api.extension.AfterAllCallback;
 import org.junit.jupiter.api.extension.AfterEachCallback;
+import org.junit.jupiter.api.extension.BeforeAllCallback;
 import org.junit.jupiter.api.extension.BeforeEachCallback;
+import org.junit.jupiter.api.extension.ContainerExtensionContext;
 import org.junit.jupiter.api.extension.TestExtensionContext;
 import org.junit.jupiter.migrationsupport.rules.adapter.AbstractTestRuleAdapter;
 import org.junit.jupiter.migrationsupport.rules.adapter.ExternalResourceAdapter;
@@ -28,6 +31,9 @@ import org.junit.rules.ExternalResource;
  * the {@link ExternalResource} rule from JUnit 4.
  *
  * <p>{@code @Rule}-annotated fields as well as methods are supported.
+ * In addition, {@code @ClassRule}-annotated static fields and methods are
+ * supported: their {@code before()} method is invoked once before all tests
+ * of the test class and their {@code after()} method once after all tests.
  *
  * <p>By using this class-level extension on a test class such
  * {@code ExternalResource} implementations in legacy code bases
@@ -41,9 +47,11 @@ import org.junit.rules.ExternalResource;
  * @see org.junit.rules.ExternalResource
  * @see org.junit.rules.TestRule
  * @see org.junit.Rule
+ * @see org.junit.ClassRule
  */
 @API(Experimental)
-public class ExternalResourceSupport implements BeforeEachCallback, AfterEachCallback {
+public class ExternalResourceSupport
+		implements BeforeAllCallback, BeforeEachCallback, AfterEachCallback, AfterAllCallback {
 
 	private final Function<TestRuleAnnotatedMember, AbstractTestRuleAdapter> adapterGenerator = ExternalResourceAdapter::new;
 
@@ -52,6 +60,12 @@ public class ExternalResourceSupport implements BeforeEachCallback, AfterEachCal
 	private final TestRuleMethodSupport methodSupport = new TestRuleMethodSupport(this.adapterGenerator,
 		ExternalResource.class);
 
+	@Override
+	public void beforeAll(ContainerExtensionContext context) throws Exception {
+		this.fieldSupport.beforeAll(context);
+		this.methodSupport.beforeAll(context);
+	}
+
 	@Override
 	public void beforeEach(TestExtensionContext context) throws Exception {
 		this.fieldSupport.beforeEach(context);
@@ -64,4 +78,10 @@ public class ExternalResourceSupport implements BeforeEachCallback, AfterEachCal
 		this.fieldSupport.afterEach(context);
 	}
 
+	@Override
+	public void afterAll(ContainerExtensionContext context) throws Exception {
+		this.methodSupport.afterAll(context);
+		this.fieldSupport.afterAll(context);
+	}
+
 }
@@ -12,11 +12,11 @@ package org.junit.jupiter.migrationsupport.rules;
 
 import static org.junit.platform.commons.util.AnnotationUtils.findPublicAnnotatedFields;
 
+import java.lang.annotation.Annotation;
 import java.lang.reflect.Field;
 import java.util.List;
 import java.util.function.Function;
 
-import org.junit.Rule;
 import org.junit.jupiter.migrationsupport.rules.adapter.AbstractTestRuleAdapter;
 import org.junit.jupiter.migrationsupport.rules.member.TestRuleAnnotatedMember;
 import org.junit.rules.TestRule;
@@ -32,8 +32,8 @@ class TestRuleFieldSupport extends AbstractTestRuleSupport<Field> {
 	}
 
 	@Override
-	protected List<Field> findRuleAnnotatedMembers(Object testInstance) {
-		return findPublicAnnotatedFields(testInstance.getClass(), getRuleType(), Rule.class);
+	protected List<Field> findRuleAnnotatedMembers(Class<?> testClass, Class<? extends Annotation> annotationType) {
+		return findPublicAnnotatedFields(testClass, getRuleType(), annotationType);
 	}
 
 }
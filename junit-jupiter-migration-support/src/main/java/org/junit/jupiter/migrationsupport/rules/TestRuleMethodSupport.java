@@ -13,12 +13,12 @@ package org.junit.jupiter.migrationsupport.rules;
 import static org.junit.platform.commons.util.AnnotationUtils.isAnnotated;
 import static org.junit.platform.commons.util.ReflectionUtils.findMethods;
 
+import java.lang.annotation.Annotation;
 import java.lang.reflect.Method;
 import java.util.List;
 import java.util.function.Function;
 import java.util.function.Predicate;
 
-import org.junit.Rule;
 import org.junit.jupiter.migrationsupport.rules.adapter.AbstractTestRuleAdapter;
 import org.junit.jupiter.migrationsupport.rules.member.TestRuleAnnotatedMember;
 import org.junit.rules.TestRule;
@@ -34,11 +34,11 @@ class TestRuleMethodSupport extends AbstractTestRuleSupport<Method> {
 	}
 
 	@Override
-	protected List<Method> findRuleAnnotatedMembers(Object testInstance) {
-		Predicate<Method> isRuleMethod = method -> isAnnotated(method, Rule.class);
+	protected List<Method> findRuleAnnotatedMembers(Class<?> testClass, Class<? extends Annotation> annotationType) {
+		Predicate<Method> isRuleMethod = method -> isAnnotated(method, annotationType);
 		Predicate<Method> hasCorrectReturnType = method -> method.getReturnType().isAssignableFrom(getRuleType());
 
-		return findMethods(testInstance.getClass(), isRuleMethod.and(hasCorrectReturnType));
+		return findMethods(testClass, isRuleMethod.and(hasCorrectReturnType));
 	}
 
 }
@@ -14,7 +14,9 @@ import static org.junit.platform.commons.meta.API.Usage.Experimental;
 
 import java.util.function.Function;
 
+import org.junit.jupiter.api.extension.AfterAllCallback;
 import org.junit.jupiter.api.extension.AfterEachCallback;
+import org.junit.jupiter.api.extension.ContainerExtensionContext;
 import org.junit.jupiter.api.extension.TestExtensionContext;
 import org.junit.jupiter.migrationsupport.rules.adapter.AbstractTestRuleAdapter;
 import org.junit.jupiter.migrationsupport.rules.adapter.VerifierAdapter;
@@ -27,6 +29,8 @@ import org.junit.rules.Verifier;
  * the {@link Verifier} rule from JUnit 4.
  *
  * <p>{@code @Rule}-annotated fields as well as methods are supported.
+ * In addition, {@code @ClassRule}-annotated static fields and methods are
+ * supported: they are verified once after all tests of the test class.
  *
  * <p>By using this class-level extension on a test class such
  * {@code Verifier} implementations in legacy code bases
@@ -40,9 +44,10 @@ import org.junit.rules.Verifier;
  * @see org.junit.rules.Verifier
  * @see org.junit.rules.TestRule
  * @see org.junit.Rule
+ * @see org.junit.ClassRule
  */
 @API(Experimental)
-public class VerifierSupport implements AfterEachCallback {
+public class VerifierSupport implements AfterEachCallback, AfterAllCallback {
 
 	private final Function<TestRuleAnnotatedMember, AbstractTestRuleAdapter> adapterGenerator = VerifierAdapter::new;
 
@@ -56,4 +61,10 @@ public class VerifierSupport implements AfterEachCallback {
 		this.methodSupport.afterEach(context);
 	}
 
+	@Override
+	public void afterAll(ContainerExtensionContext context) throws Exception {
+		this.fieldSupport.afterAll(context);
+		this.methodSupport.afterAll(context);
+	}
+
 }
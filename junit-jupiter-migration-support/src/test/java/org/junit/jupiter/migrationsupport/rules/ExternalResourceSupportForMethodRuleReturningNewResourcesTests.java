@@ -0,0 +1,67 @@
+/*
+ * Copyright 2015-2017 the original author or authors.
+ *
+ * All rights reserved. This program and the accompanying materials are
+ * made available under the terms of the Eclipse Public License v1.0 which
+ * accompanies this distribution and is available at
+ *
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+
+package org.junit.jupiter.migrationsupport.rules;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.migrationsupport.rules.FailAfterAllHelper.fail;
+
+import org.junit.Rule;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.rules.ExternalResource;
+
+@ExtendWith(ExternalResourceSupport.class)
+public class ExternalResourceSupportForMethodRuleReturningNewResourcesTests {
+
+	private static int numberOfRetrievedResources = 0;
+	private static int numberOfClosedResources = 0;
+
+	@Rule
+	public ExternalResource getResource() {
+		numberOfRetrievedResources++;
+		return new ExternalResource() {
+
+			private boolean opened = false;
+
+			@Override
+			protected void before() throws Throwable {
+				this.opened = true;
+			}
+
+			@Override
+			protected void after() {
+				if (this.opened) {
+					numberOfClosedResources++;
+				}
+			}
+		};
+	}
+
+	@Test
+	void firstTest() {
+		assertEquals(numberOfClosedResources + 1, numberOfRetrievedResources);
+	}
+
+	@Test
+	void secondTest() {
+		assertEquals(numberOfClosedResources + 1, numberOfRetrievedResources);
+	}
+
+	@AfterAll
+	static void eachResourceWasRetrievedOnceAndClosed() {
+		if (numberOfRetrievedResources != 2)
+			fail();
+		if (numberOfClosedResources != 2)
+			fail();
+	}
+
+}
@@ -10,15 +10,24 @@
 
 package org.junit.jupiter.migrationsupport.rules;
 
+import static org.assertj.core.api.Assertions.allOf;
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.junit.platform.engine.discovery.DiscoverySelectors.selectClass;
+import static org.junit.platform.engine.test.event.ExecutionEventConditions.container;
+import static org.junit.platform.engine.test.event.ExecutionEventConditions.event;
+import static org.junit.platform.engine.test.event.ExecutionEventConditions.finishedWithFailure;
+import static org.junit.platform.engine.test.event.TestExecutionResultConditions.isA;
+import static org.junit.platform.engine.test.event.TestExecutionResultConditions.message;
 import static org.junit.platform.launcher.core.LauncherDiscoveryRequestBuilder.request;
 
+import org.junit.ClassRule;
 import org.junit.Rule;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.junit.jupiter.engine.JupiterTestEngine;
+import org.junit.platform.commons.util.PreconditionViolationException;
 import org.junit.platform.engine.ExecutionRequest;
 import org.junit.platform.engine.TestDescriptor;
 import org.junit.platform.engine.UniqueId;
@@ -60,6 +69,28 @@ public class LauncherBasedEnableRuleMigrationSupportTests {
 		assertEquals(true, VerifierSupportForErrorCollectorTestCase.survivedBothErrors, "after of rule 1 executed?");
 	}
 
+	@Test
+	public void classRulesAreAppliedOncePerTestClass() {
+		ExecutionEventRecorder eventRecorder = executeTestsForClass(ClassRulesTestCase.class);
+
+		assertEquals(2, eventRecorder.getTestSuccessfulCount(), "# tests succeeded");
+		assertEquals(1, ClassRulesTestCase.fieldResourceBeforeCount, "# before of field resource");
+		assertEquals(1, ClassRulesTestCase.fieldResourceAfterCount, "# after of field resource");
+		assertEquals(1, ClassRulesTestCase.methodResourceRetrievalCount, "# retrievals of method resource");
+		assertEquals(1, ClassRulesTestCase.methodResourceAfterCount, "# after of method resource");
+		assertEquals(1, ClassRulesTestCase.verifyCount, "# verify of verifier");
+	}
+
+	@Test
+	public void nonStaticClassRulesAreRejected() {
+		ExecutionEventRecorder eventRecorder = executeTestsForClass(NonStaticClassRuleTestCase.class);
+
+		assertEquals(0, eventRecorder.getTestStartedCount(), "# tests started");
+		assertThat(eventRecorder.getExecutionEvents()).haveExactly(1,
+			event(container(NonStaticClassRuleTestCase.class), finishedWithFailure(
+				allOf(isA(PreconditionViolationException.class), message(m -> m.endsWith("must be static."))))));
+	}
+
 	private final JupiterTestEngine engine = new JupiterTestEngine();
 
 	private ExecutionEventRecorder executeTestsForClass(Class<?> testClass) {
@@ -136,4 +167,75 @@ public class LauncherBasedEnableRuleMigrationSupportTests {
 
 	}
 
+	@EnableRuleMigrationSupport
+	private static class ClassRulesTestCase {
+
+		static int fieldResourceBeforeCount = 0;
+		static int fieldResourceAfterCount = 0;
+		static int methodResourceRetrievalCount = 0;
+		static int methodResourceAfterCount = 0;
+		static int verifyCount = 0;
+
+		@ClassRule
+		public static ExternalResource fieldResource = new ExternalResource() {
+
+			@Override
+			protected void before() throws Throwable {
+				fieldResourceBeforeCount++;
+			}
+
+			@Override
+			protected void after() {
+				fieldResourceAfterCount++;
+			}
+		};
+
+		@ClassRule
+		public static Verifier verifier = new Verifier() {
+
+			@Override
+			protected void verify() throws Throwable {
+				verifyCount++;
+			}
+		};
+
+		@ClassRule
+		public static ExternalResource getMethodResource() {
+			methodResourceRetrievalCount++;
+			return new ExternalResource() {
+
+				@Override
+				protected void after() {
+					methodResourceAfterCount++;
+				}
+			};
+		}
+
+		@Test
+		void first() {
+			assertEquals(1, fieldResourceBeforeCount);
+			assertEquals(0, fieldResourceAfterCount);
+		}
+
+		@Test
+		void second() {
+			assertEquals(1, fieldResourceBeforeCount);
+			assertEquals(0, fieldResourceAfterCount);
+		}
+
+	}
+
+	@ExtendWith(ExternalResourceSupport.class)
+	private static class NonStaticClassRuleTestCase {
+
+		@ClassRule
+		public ExternalResource resource = new ExternalResource() {
+		};
+
+		@Test
+		void test() {
+		}
+
+	}
+
 }
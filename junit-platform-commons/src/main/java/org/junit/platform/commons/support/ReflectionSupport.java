@@ -16,6 +16,7 @@ import java.lang.reflect.Method;
 import java.net.URI;
 import java.util.List;
 import java.util.function.Predicate;
+import java.util.stream.Stream;
 
 import org.junit.platform.commons.meta.API;
 import org.junit.platform.commons.util.ReflectionUtils;
@@ -64,6 +65,50 @@ public final class ReflectionSupport {
 		return ReflectionUtils.findAllClassesInPackage(basePackageName, classTester, classNameFilter);
 	}
 
+	/**
+	 * Stream all {@linkplain Class classes} of the supplied {@code root}
+	 * {@linkplain URI} that match the specified {@code classTester} and
+	 * {@code classNameFilter} predicates.
+	 *
+	 * <p>In contrast to {@link #findAllClassesInClasspathRoot(URI, Predicate, Predicate)},
+	 * the classpath root is scanned lazily while the returned stream is
+	 * consumed. Resources held open during scanning are released once the
+	 * stream has been consumed completely or is {@linkplain Stream#close()
+	 * closed}; the returned stream should therefore be used within a
+	 * {@code try}-with-resources statement.
+	 *
+	 * @param root the root URI to start scanning
+	 * @param classTester the class type filter; never {@code null}
+	 * @param classNameFilter the class name filter; never {@code null}
+	 * @return a stream of all such classes found; never {@code null}
+	 */
+	public static Stream<Class<?>> streamAllClassesInClasspathRoot(URI root, Predicate<Class<?>> classTester,
+			Predicate<String> classNameFilter) {
+		return ReflectionUtils.streamAllClassesInClasspathRoot(root, classTester, classNameFilter);
+	}
+
+	/**
+	 * Stream all {@linkplain Class classes} of the supplied {@code basePackageName}
+	 * that match the specified {@code classTester} and {@code classNameFilter}
+	 * predicates.
+	 *
+	 * <p>In contrast to {@link #findAllClassesInPackage(String, Predicate, Predicate)},
+	 * the package is scanned lazily while the returned stream is consumed.
+	 * Resources held open during scanning are released once the stream has
+	 * been consumed completely or is {@linkplain Stream#close() closed}; the
+	 * returned stream should therefore be used within a {@code try}-with-resources
+	 * statement.
+	 *
+	 * @param basePackageName the base package name to start scanning
+	 * @param classTester the class type filter; never {@code null}
+	 * @param classNameFilter the class name filter; never {@code null}
+	 * @return a stream of all such classes found; never {@code null}
+	 */
+	public static Stream<Class<?>> streamAllClassesInPackage(String basePackageName,
+			Predicate<Class<?>> classTester, Predicate<String> classNameFilter) {
+		return ReflectionUtils.streamAllClassesInPackage(basePackageName, classTester, classNameFilter);
+	}
+
 	/**
 	 * Find all {@linkplain Method methods} of the supplied class or interface
 	 * that match the specified {@code predicate}.
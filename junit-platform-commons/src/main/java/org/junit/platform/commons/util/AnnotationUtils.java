@@ -19,7 +19,9 @@ import java.lang.annotation.Inherited;
 import java.lang.annotation.Repeatable;
 import java.lang.reflect.AnnotatedElement;
 import java.lang.reflect.Field;
+import java.lang.reflect.Member;
 import java.lang.reflect.Method;
+import java.lang.reflect.Parameter;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
@@ -62,7 +64,26 @@ public final class AnnotationUtils {
 	}
 	///CLOVER:ON
 
-	private static final Map<AnnotationCacheKey, Annotation> annotationCache = new ConcurrentHashMap<>(256);
+	/**
+	 * Results of {@link #findAnnotation(AnnotatedElement, Class)}, including
+	 * negative results, stored per class that declares the annotated element.
+	 *
+	 * <p>A {@link ClassValue} is attached to the class it is computed for and
+	 * therefore strongly references its cached entries for as long as that
+	 * class is reachable. To avoid keeping classes from other class loaders
+	 * alive, results are only cached if the {@code annotationType} is visible
+	 * from the class loader of the declaring class.
+	 *
+	 * @see #getCache(AnnotationCache, AnnotatedElement, Class)
+	 */
+	private static final AnnotationCache<Optional<Annotation>> annotationCache = new AnnotationCache<>();
+
+	/**
+	 * Results of {@link #findRepeatableAnnotations(AnnotatedElement, Class)},
+	 * stored per class that declares the annotated element under the same
+	 * restrictions as the {@link #annotationCache}.
+	 */
+	private static final AnnotationCache<List<Annotation>> repeatableAnnotationCache = new AnnotationCache<>();
 
 	/**
 	 * @see org.junit.platform.commons.support.AnnotationSupport#isAnnotated(AnnotatedElement, Class)
@@ -84,7 +105,7 @@ public final class AnnotationUtils {
 			return Optional.empty();
 		}
 
-		return findAnnotation(element.get(), annotationType, new HashSet<>());
+		return findAnnotation(element.get(), annotationType);
 	}
 
 	/**
@@ -105,21 +126,34 @@ public final class AnnotationUtils {
 		}
 
 		// Cached?
+		Map<AnnotationCacheKey, Optional<Annotation>> cache = getCache(annotationCache, element, annotationType);
 		AnnotationCacheKey key = new AnnotationCacheKey(element, annotationType);
-		A annotation = (A) annotationCache.get(key);
+		Optional<A> annotation = (cache != null ? (Optional<A>) cache.get(key) : null);
 		if (annotation != null) {
-			return Optional.of(annotation);
+			return annotation;
+		}
+
+		// A search that starts with visited annotations is cut short on cycles
+		// in the meta-annotation hierarchy, so only its hits are conclusive.
+		boolean complete = visited.isEmpty();
+		annotation = findAnnotationUncached(element, annotationType, visited);
+		if (cache != null && (complete || annotation.isPresent())) {
+			cache.put(key, (Optional<Annotation>) annotation);
 		}
+		return annotation;
+	}
+
+	private static <A extends Annotation> Optional<A> findAnnotationUncached(AnnotatedElement element,
+			Class<A> annotationType, Set<Annotation> visited) {
 
 		// Directly present?
-		annotation = element.getDeclaredAnnotation(annotationType);
+		A annotation = element.getDeclaredAnnotation(annotationType);
 		if (annotation != null) {
-			annotationCache.put(key, annotation);
 			return Optional.of(annotation);
 		}
 
 		// Meta-present on directly present annotations?
-		Optional<A> directMetaAnnotation = findMetaAnnotation(annotationType, element.getDeclaredAnnotations(), key,
+		Optional<A> directMetaAnnotation = findMetaAnnotation(annotationType, element.getDeclaredAnnotations(),
 			visited);
 		if (directMetaAnnotation.isPresent()) {
 			return directMetaAnnotation;
@@ -128,28 +162,21 @@ public final class AnnotationUtils {
 		// Indirectly present?
 		annotation = element.getAnnotation(annotationType);
 		if (annotation != null) {
-			annotationCache.put(key, annotation);
 			return Optional.of(annotation);
 		}
 
 		// Meta-present on indirectly present annotations?
-		Optional<A> indirectMetaAnnotation = findMetaAnnotation(annotationType, element.getAnnotations(), key, visited);
-		if (indirectMetaAnnotation.isPresent()) {
-			return indirectMetaAnnotation;
-		}
-
-		return Optional.empty();
+		return findMetaAnnotation(annotationType, element.getAnnotations(), visited);
 	}
 
 	private static <A extends Annotation> Optional<A> findMetaAnnotation(Class<A> annotationType,
-			Annotation[] candidates, AnnotationCacheKey key, Set<Annotation> visited) {
+			Annotation[] candidates, Set<Annotation> visited) {
 
 		for (Annotation candidateAnnotation : candidates) {
 			if (!isInJavaLangAnnotationPackage(candidateAnnotation) && visited.add(candidateAnnotation)) {
 				Optional<A> metaAnnotation = findAnnotation(candidateAnnotation.annotationType(), annotationType,
 					visited);
 				if (metaAnnotation.isPresent()) {
-					annotationCache.put(key, metaAnnotation.get());
 					return metaAnnotation;
 				}
 			}
@@ -160,6 +187,7 @@ public final class AnnotationUtils {
 	/**
 	 * @see org.junit.platform.commons.support.AnnotationSupport#findRepeatableAnnotations(AnnotatedElement, Class)
 	 */
+	@SuppressWarnings("unchecked")
 	public static <A extends Annotation> List<A> findRepeatableAnnotations(AnnotatedElement element,
 			Class<A> annotationType) {
 
@@ -174,11 +202,22 @@ public final class AnnotationUtils {
 			return Collections.emptyList();
 		}
 
-		// We use a LinkedHashSet because the search algorithm may discover
-		// duplicates, but we need to maintain the original order.
-		Set<A> found = new LinkedHashSet<>(16);
-		findRepeatableAnnotations(element, annotationType, containerType, inherited, found, new HashSet<>(16));
-		return new ArrayList<>(found);
+		// Cached?
+		Map<AnnotationCacheKey, List<Annotation>> cache = getCache(repeatableAnnotationCache, element,
+			annotationType);
+		AnnotationCacheKey key = new AnnotationCacheKey(element, annotationType);
+		List<A> annotations = (cache != null ? (List<A>) cache.get(key) : null);
+		if (annotations == null) {
+			// We use a LinkedHashSet because the search algorithm may discover
+			// duplicates, but we need to maintain the original order.
+			Set<A> found = new LinkedHashSet<>(16);
+			findRepeatableAnnotations(element, annotationType, containerType, inherited, found, new HashSet<>(16));
+			annotations = Collections.unmodifiableList(new ArrayList<>(found));
+			if (cache != null) {
+				cache.put(key, (List<Annotation>) annotations);
+			}
+		}
+		return new ArrayList<>(annotations);
 	}
 
 	private static <A extends Annotation> void findRepeatableAnnotations(AnnotatedElement element,
@@ -275,14 +314,80 @@ public final class AnnotationUtils {
 		return (annotation != null && annotation.annotationType().getName().startsWith("java.lang.annotation"));
 	}
 
+	/**
+	 * Get the cache of the class that declares the supplied {@code element}.
+	 *
+	 * @return the cache, or {@code null} if results for the supplied
+	 * {@code element} are not cached since it is neither a class, a member,
+	 * nor a parameter, or since the {@code annotationType} is not visible
+	 * from the class loader of its declaring class
+	 */
+	private static <V> Map<AnnotationCacheKey, V> getCache(AnnotationCache<V> cache, AnnotatedElement element,
+			Class<? extends Annotation> annotationType) {
+
+		Class<?> declaringClass = null;
+		if (element instanceof Class) {
+			declaringClass = (Class<?>) element;
+		}
+		else if (element instanceof Member) {
+			declaringClass = ((Member) element).getDeclaringClass();
+		}
+		else if (element instanceof Parameter) {
+			declaringClass = ((Parameter) element).getDeclaringExecutable().getDeclaringClass();
+		}
+		if (declaringClass == null || !isVisibleFrom(annotationType, declaringClass)) {
+			return null;
+		}
+		return cache.get(declaringClass);
+	}
+
+	/**
+	 * Determine if the supplied {@code type} is defined by the class loader
+	 * of the supplied {@code declaringClass} or one of its ancestors.
+	 *
+	 * <p>Only then do cached results, which reference {@code type} and
+	 * instances of it, not outlive the class loader that defined
+	 * {@code type}.
+	 */
+	private static boolean isVisibleFrom(Class<?> type, Class<?> declaringClass) {
+		ClassLoader typeClassLoader = type.getClassLoader();
+		if (typeClassLoader == null) {
+			return true;
+		}
+		try {
+			ClassLoader classLoader = declaringClass.getClassLoader();
+			while (classLoader != null) {
+				if (classLoader == typeClassLoader) {
+					return true;
+				}
+				classLoader = classLoader.getParent();
+			}
+			return false;
+		}
+		catch (SecurityException ex) {
+			return false;
+		}
+	}
+
+	private static class AnnotationCache<V> extends ClassValue<Map<AnnotationCacheKey, V>> {
+
+		@Override
+		protected Map<AnnotationCacheKey, V> computeValue(Class<?> type) {
+			return new ConcurrentHashMap<>(16);
+		}
+
+	}
+
 	private static class AnnotationCacheKey {
 
 		private final AnnotatedElement element;
 		private final Class<? extends Annotation> annotationType;
+		private final int hashCode;
 
 		AnnotationCacheKey(AnnotatedElement element, Class<? extends Annotation> annotationType) {
 			this.element = element;
 			this.annotationType = annotationType;
+			this.hashCode = 31 * element.hashCode() + annotationType.hashCode();
 		}
 
 		@Override
@@ -297,7 +402,7 @@ public final class AnnotationUtils {
 
 		@Override
 		public int hashCode() {
-			return Objects.hash(this.element, this.annotationType);
+			return this.hashCode;
 		}
 
 	}
@@ -0,0 +1,193 @@
+/*
+ * Copyright 2015-2017 the original author or authors.
+ *
+ * All rights reserved. This program and the accompanying materials are
+ * made available under the terms of the Eclipse Public License v1.0 which
+ * accompanies this distribution and is available at
+ *
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+
+package org.junit.platform.commons.util;
+
+import static java.util.stream.Collectors.toSet;
+import static org.junit.platform.commons.meta.API.Usage.Internal;
+
+import java.io.BufferedInputStream;
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.lang.annotation.Annotation;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import org.junit.platform.commons.meta.API;
+
+/**
+ * {@code ClassFileAnnotationPrefilter} decides, based solely on the bytes of
+ * class files, whether a class <em>might</em> be annotated with one of a set
+ * of annotation types &mdash; either on the class itself or on one of its
+ * methods, directly or as a meta-annotation, or via one of its superclasses,
+ * interfaces, or member classes.
+ *
+ * <p>During classpath scanning, this allows classes that cannot possibly
+ * be relevant to be skipped without loading them, which saves class
+ * loading time and metaspace and avoids running static initializers.
+ *
+ * <p>The prefilter is conservative: if a referenced class file cannot be
+ * found or read, the class in question is considered a match. Types in
+ * {@code java.*} packages are never considered a match.
+ *
+ * <p>Results for referenced types are cached for the lifetime of an instance;
+ * instances are thread-safe.
+ *
+ * <h3>DISCLAIMER</h3>
+ *
+ * <p>These utilities are intended solely for usage within the JUnit framework
+ * itself. <strong>Any usage by external parties is not supported.</strong>
+ * Use at your own risk!
+ *
+ * @since 1.0
+ */
+@API(Internal)
+public final class ClassFileAnnotationPrefilter {
+
+	private static final Logger LOG = Logger.getLogger(ClassFileAnnotationPrefilter.class.getName());
+
+	private static final String CLASS_FILE_SUFFIX = ".class";
+	private static final String JDK_PACKAGE_PREFIX = "java/";
+
+	private final Set<String> annotationTypeNames;
+
+	private final Map<String, Boolean> cache = new ConcurrentHashMap<>(256);
+
+	public ClassFileAnnotationPrefilter(Collection<Class<? extends Annotation>> annotationTypes) {
+		Preconditions.notEmpty(annotationTypes, "annotationTypes must not be null or empty");
+		Preconditions.containsNoNullElements(annotationTypes, "annotationTypes must not contain null elements");
+		this.annotationTypeNames = annotationTypes.stream().map(type -> internalName(type.getName())).collect(toSet());
+	}
+
+	/**
+	 * Determine if the class stored in the supplied class file might be
+	 * annotated with one of the annotation types of this prefilter.
+	 *
+	 * @param classFile the class file to inspect; never {@code null}
+	 * @param classLoader the class loader used to locate class files of
+	 * referenced types; never {@code null}
+	 */
+	boolean mightBeAnnotated(Path classFile, ClassLoader classLoader) {
+		return mightBeAnnotated(() -> Files.newInputStream(classFile), classLoader);
+	}
+
+	/**
+	 * Determine if the class whose class file content is supplied by the
+	 * supplied {@link ClassFileContent} might be annotated with one of the
+	 * annotation types of this prefilter.
+	 *
+	 * @param classFile the content of the class file to inspect; never {@code null}
+	 * @param classLoader the class loader used to locate class files of
+	 * referenced types; never {@code null}
+	 */
+	boolean mightBeAnnotated(ClassFileContent classFile, ClassLoader classLoader) {
+		ClassFileMetadata metadata;
+		try (InputStream in = classFile.open()) {
+			metadata = read(in);
+		}
+		catch (IOException ex) {
+			LOG.log(Level.FINE, ex, () -> "Failed to read class file");
+			return true;
+		}
+		return matches(metadata, classLoader, new Lookup());
+	}
+
+	/**
+	 * Determine if the class described by the supplied metadata might be
+	 * annotated with one of the annotation types of this prefilter.
+	 *
+	 * @param metadata the metadata of the class to inspect, e.g. taken from a
+	 * {@link TestClassIndex}; never {@code null}
+	 * @param classLoader the class loader used to locate class files of
+	 * referenced types; never {@code null}
+	 */
+	boolean mightBeAnnotated(ClassFileMetadata metadata, ClassLoader classLoader) {
+		return matches(metadata, classLoader, new Lookup());
+	}
+
+	private boolean matches(ClassFileMetadata metadata, ClassLoader classLoader, Lookup lookup) {
+		// @formatter:off
+		return metadata.getAnnotationTypeNames().stream().anyMatch(name -> matches(name, classLoader, lookup))
+				|| matches(metadata.getSuperclassName(), classLoader, lookup)
+				|| metadata.getInterfaceNames().stream().anyMatch(name -> matches(name, classLoader, lookup))
+				|| metadata.getMemberClassNames().stream().anyMatch(name -> matches(name, classLoader, lookup));
+		// @formatter:on
+	}
+
+	private boolean matches(String typeName, ClassLoader classLoader, Lookup lookup) {
+		if (typeName == null || typeName.startsWith(JDK_PACKAGE_PREFIX)) {
+			return false;
+		}
+		if (this.annotationTypeNames.contains(typeName)) {
+			return true;
+		}
+		Boolean cachedResult = this.cache.get(typeName);
+		if (cachedResult != null) {
+			return cachedResult;
+		}
+		if (!lookup.visited.add(typeName)) {
+			// Cycle, e.g. an annotation type that is annotated with itself.
+			lookup.cycleDetected = true;
+			return false;
+		}
+		boolean result = computeMatches(typeName, classLoader, lookup);
+		// A negative result may be incomplete if a cycle was cut short.
+		if (result || !lookup.cycleDetected) {
+			this.cache.put(typeName, result);
+		}
+		return result;
+	}
+
+	private boolean computeMatches(String typeName, ClassLoader classLoader, Lookup lookup) {
+		try (InputStream in = classLoader.getResourceAsStream(typeName + CLASS_FILE_SUFFIX)) {
+			if (in == null) {
+				return true;
+			}
+			return matches(read(in), classLoader, lookup);
+		}
+		catch (IOException ex) {
+			LOG.log(Level.FINE, ex, () -> "Failed to read class file for type " + typeName);
+			return true;
+		}
+	}
+
+	private static ClassFileMetadata read(InputStream in) throws IOException {
+		return ClassFileMetadata.read(new DataInputStream(new BufferedInputStream(in)));
+	}
+
+	private static String internalName(String className) {
+		return className.replace('.', '/');
+	}
+
+	/**
+	 * Supplier of the content of a class file.
+	 */
+	@FunctionalInterface
+	interface ClassFileContent {
+
+		InputStream open() throws IOException;
+	}
+
+	private static class Lookup {
+
+		final Set<String> visited = new HashSet<>();
+
+		boolean cycleDetected;
+	}
+
+}
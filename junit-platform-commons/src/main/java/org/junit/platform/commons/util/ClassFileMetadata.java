@@ -0,0 +1,307 @@
+/*
+ * Copyright 2015-2017 the original author or authors.
+ *
+ * All rights reserved. This program and the accompanying materials are
+ * made available under the terms of the Eclipse Public License v1.0 which
+ * accompanies this distribution and is available at
+ *
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+
+package org.junit.platform.commons.util;
+
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Minimal reader for the parts of a Java class file that are relevant for
+ * deciding whether a class might be annotated with certain annotations
+ * without loading it.
+ *
+ * <p>Type names are returned in <em>internal form</em> (e.g.,
+ * {@code org/example/MyTests$Inner}); see JVMS &sect;4.2.1.
+ *
+ * @since 1.0
+ * @see ClassFileAnnotationPrefilter
+ */
+final class ClassFileMetadata {
+
+	private static final int MAGIC = 0xCAFEBABE;
+
+	private static final int CONSTANT_UTF8 = 1;
+	private static final int CONSTANT_INTEGER = 3;
+	private static final int CONSTANT_FLOAT = 4;
+	private static final int CONSTANT_LONG = 5;
+	private static final int CONSTANT_DOUBLE = 6;
+	private static final int CONSTANT_CLASS = 7;
+	private static final int CONSTANT_STRING = 8;
+	private static final int CONSTANT_FIELD_REF = 9;
+	private static final int CONSTANT_METHOD_REF = 10;
+	private static final int CONSTANT_INTERFACE_METHOD_REF = 11;
+	private static final int CONSTANT_NAME_AND_TYPE = 12;
+	private static final int CONSTANT_METHOD_HANDLE = 15;
+	private static final int CONSTANT_METHOD_TYPE = 16;
+	private static final int CONSTANT_DYNAMIC = 17;
+	private static final int CONSTANT_INVOKE_DYNAMIC = 18;
+	private static final int CONSTANT_MODULE = 19;
+	private static final int CONSTANT_PACKAGE = 20;
+
+	private static final String RUNTIME_VISIBLE_ANNOTATIONS = "RuntimeVisibleAnnotations";
+	private static final String INNER_CLASSES = "InnerClasses";
+
+	private final String className;
+	private final String superclassName;
+	private final List<String> interfaceNames;
+	private final List<String> memberClassNames;
+	private final Set<String> annotationTypeNames;
+
+	ClassFileMetadata(String className, String superclassName, List<String> interfaceNames,
+			List<String> memberClassNames, Set<String> annotationTypeNames) {
+		this.className = className;
+		this.superclassName = superclassName;
+		this.interfaceNames = interfaceNames;
+		this.memberClassNames = memberClassNames;
+		this.annotationTypeNames = annotationTypeNames;
+	}
+
+	String getClassName() {
+		return this.className;
+	}
+
+	/**
+	 * Get the internal name of the superclass, or {@code null} for
+	 * {@code java.lang.Object} and {@code module-info}.
+	 */
+	String getSuperclassName() {
+		return this.superclassName;
+	}
+
+	List<String> getInterfaceNames() {
+		return this.interfaceNames;
+	}
+
+	/**
+	 * Get the internal names of all classes declared as members of this class.
+	 */
+	List<String> getMemberClassNames() {
+		return this.memberClassNames;
+	}
+
+	/**
+	 * Get the internal names of all runtime-visible annotation types present
+	 * on the class or any of its methods, including annotations nested within
+	 * annotation values such as those of repeatable annotation containers.
+	 */
+	Set<String> getAnnotationTypeNames() {
+		return this.annotationTypeNames;
+	}
+
+	static ClassFileMetadata read(DataInputStream in) throws IOException {
+		if (in.readInt() != MAGIC) {
+			throw new IOException("Not a class file");
+		}
+		in.readUnsignedShort(); // minor version
+		in.readUnsignedShort(); // major version
+
+		int constantPoolCount = in.readUnsignedShort();
+		String[] utf8Constants = new String[constantPoolCount];
+		int[] classNameIndexes = new int[constantPoolCount];
+		for (int i = 1; i < constantPoolCount; i++) {
+			int tag = in.readUnsignedByte();
+			switch (tag) {
+				case CONSTANT_UTF8:
+					utf8Constants[i] = in.readUTF();
+					break;
+				case CONSTANT_CLASS:
+					classNameIndexes[i] = in.readUnsignedShort();
+					break;
+				case CONSTANT_STRING:
+				case CONSTANT_METHOD_TYPE:
+				case CONSTANT_MODULE:
+				case CONSTANT_PACKAGE:
+					in.skipBytes(2);
+					break;
+				case CONSTANT_METHOD_HANDLE:
+					in.skipBytes(3);
+					break;
+				case CONSTANT_INTEGER:
+				case CONSTANT_FLOAT:
+				case CONSTANT_FIELD_REF:
+				case CONSTANT_METHOD_REF:
+				case CONSTANT_INTERFACE_METHOD_REF:
+				case CONSTANT_NAME_AND_TYPE:
+				case CONSTANT_DYNAMIC:
+				case CONSTANT_INVOKE_DYNAMIC:
+					in.skipBytes(4);
+					break;
+				case CONSTANT_LONG:
+				case CONSTANT_DOUBLE:
+					in.skipBytes(8);
+					i++; // 8-byte constants occupy two entries
+					break;
+				default:
+					throw new IOException("Unknown constant pool tag " + tag);
+			}
+		}
+		ConstantPool constantPool = new ConstantPool(utf8Constants, classNameIndexes);
+
+		in.readUnsignedShort(); // access flags
+		String className = constantPool.className(in.readUnsignedShort());
+		String superclassName = constantPool.className(in.readUnsignedShort());
+		int interfacesCount = in.readUnsignedShort();
+		List<String> interfaceNames = new ArrayList<>(interfacesCount);
+		for (int i = 0; i < interfacesCount; i++) {
+			interfaceNames.add(constantPool.className(in.readUnsignedShort()));
+		}
+
+		Set<String> annotationTypeNames = new HashSet<>();
+		List<String> memberClassNames = new ArrayList<>();
+
+		// fields
+		int fieldsCount = in.readUnsignedShort();
+		for (int i = 0; i < fieldsCount; i++) {
+			in.skipBytes(6); // access flags, name index, descriptor index
+			skipAttributes(in);
+		}
+
+		// methods
+		int methodsCount = in.readUnsignedShort();
+		for (int i = 0; i < methodsCount; i++) {
+			in.skipBytes(6); // access flags, name index, descriptor index
+			int attributesCount = in.readUnsignedShort();
+			for (int j = 0; j < attributesCount; j++) {
+				String attributeName = constantPool.utf8(in.readUnsignedShort());
+				int length = in.readInt();
+				if (RUNTIME_VISIBLE_ANNOTATIONS.equals(attributeName)) {
+					readAnnotations(in, constantPool, annotationTypeNames);
+				}
+				else {
+					skipFully(in, length);
+				}
+			}
+		}
+
+		// class attributes
+		int attributesCount = in.readUnsignedShort();
+		for (int i = 0; i < attributesCount; i++) {
+			String attributeName = constantPool.utf8(in.readUnsignedShort());
+			int length = in.readInt();
+			if (RUNTIME_VISIBLE_ANNOTATIONS.equals(attributeName)) {
+				readAnnotations(in, constantPool, annotationTypeNames);
+			}
+			else if (INNER_CLASSES.equals(attributeName)) {
+				readMemberClasses(in, constantPool, className, memberClassNames);
+			}
+			else {
+				skipFully(in, length);
+			}
+		}
+
+		return new ClassFileMetadata(className, superclassName, interfaceNames, memberClassNames,
+			annotationTypeNames);
+	}
+
+	private static void readMemberClasses(DataInputStream in, ConstantPool constantPool, String className,
+			List<String> memberClassNames) throws IOException {
+
+		int numberOfClasses = in.readUnsignedShort();
+		for (int i = 0; i < numberOfClasses; i++) {
+			String innerClassName = constantPool.className(in.readUnsignedShort());
+			String outerClassName = constantPool.className(in.readUnsignedShort());
+			in.skipBytes(4); // inner name index, inner class access flags
+			if (className.equals(outerClassName) && innerClassName != null) {
+				memberClassNames.add(innerClassName);
+			}
+		}
+	}
+
+	private static void readAnnotations(DataInputStream in, ConstantPool constantPool,
+			Set<String> annotationTypeNames) throws IOException {
+
+		int numberOfAnnotations = in.readUnsignedShort();
+		for (int i = 0; i < numberOfAnnotations; i++) {
+			readAnnotation(in, constantPool, annotationTypeNames);
+		}
+	}
+
+	private static void readAnnotation(DataInputStream in, ConstantPool constantPool,
+			Set<String> annotationTypeNames) throws IOException {
+
+		String descriptor = constantPool.utf8(in.readUnsignedShort());
+		if (descriptor != null && descriptor.startsWith("L") && descriptor.endsWith(";")) {
+			annotationTypeNames.add(descriptor.substring(1, descriptor.length() - 1));
+		}
+		int numberOfElementValuePairs = in.readUnsignedShort();
+		for (int i = 0; i < numberOfElementValuePairs; i++) {
+			in.skipBytes(2); // element name index
+			readElementValue(in, constantPool, annotationTypeNames);
+		}
+	}
+
+	private static void readElementValue(DataInputStream in, ConstantPool constantPool,
+			Set<String> annotationTypeNames) throws IOException {
+
+		int tag = in.readUnsignedByte();
+		switch (tag) {
+			case 'e':
+				in.skipBytes(4); // type name index, constant name index
+				break;
+			case '@':
+				readAnnotation(in, constantPool, annotationTypeNames);
+				break;
+			case '[':
+				int numberOfValues = in.readUnsignedShort();
+				for (int i = 0; i < numberOfValues; i++) {
+					readElementValue(in, constantPool, annotationTypeNames);
+				}
+				break;
+			default:
+				// primitive, String, and Class values
+				in.skipBytes(2);
+		}
+	}
+
+	private static void skipAttributes(DataInputStream in) throws IOException {
+		int attributesCount = in.readUnsignedShort();
+		for (int i = 0; i < attributesCount; i++) {
+			in.skipBytes(2); // attribute name index
+			skipFully(in, in.readInt());
+		}
+	}
+
+	private static void skipFully(DataInputStream in, int length) throws IOException {
+		int remaining = length;
+		while (remaining > 0) {
+			int skipped = in.skipBytes(remaining);
+			if (skipped <= 0) {
+				throw new IOException("Unexpected end of class file");
+			}
+			remaining -= skipped;
+		}
+	}
+
+	private static class ConstantPool {
+
+		private final String[] utf8Constants;
+		private final int[] classNameIndexes;
+
+		ConstantPool(String[] utf8Constants, int[] classNameIndexes) {
+			this.utf8Constants = utf8Constants;
+			this.classNameIndexes = classNameIndexes;
+		}
+
+		String utf8(int index) {
+			return (index > 0 && index < this.utf8Constants.length) ? this.utf8Constants[index] : null;
+		}
+
+		String className(int index) {
+			return (index > 0 && index < this.classNameIndexes.length) ? utf8(this.classNameIndexes[index])
+					: null;
+		}
+	}
+
+}
@@ -11,6 +11,7 @@
 package org.junit.platform.commons.util;
 
 import static java.nio.file.FileVisitResult.CONTINUE;
+import static java.nio.file.FileVisitResult.SKIP_SUBTREE;
 import static java.util.logging.Level.WARNING;
 
 import java.io.IOException;
@@ -18,9 +19,25 @@ import java.nio.file.FileVisitResult;
 import java.nio.file.Path;
 import java.nio.file.SimpleFileVisitor;
 import java.nio.file.attribute.BasicFileAttributes;
-import java.util.function.Consumer;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.BiConsumer;
+import java.util.function.Predicate;
 import java.util.logging.Logger;
 
+/**
+ * Visits the class files below a base directory that corresponds to a base
+ * package and supplies them along with their fully qualified class names.
+ *
+ * <p>The package name of each directory is derived from the package name of
+ * its parent directory when the directory is entered, so that class names are
+ * built without re-examining the path of each class file. Directories whose
+ * package is rejected by the package filter are skipped including all of
+ * their subdirectories.
+ *
+ * <p>This visitor is thread-safe and may therefore be used with the
+ * {@link ParallelFileTreeWalker}.
+ */
 class ClassFileVisitor extends SimpleFileVisitor<Path> {
 
 	private static final Logger LOG = Logger.getLogger(ClassFileVisitor.class.getName());
@@ -28,17 +45,52 @@ class ClassFileVisitor extends SimpleFileVisitor<Path> {
 	static final String CLASS_FILE_SUFFIX = ".class";
 	private static final String PACKAGE_INFO_FILE_NAME = "package-info" + CLASS_FILE_SUFFIX;
 	private static final String MODULE_INFO_FILE_NAME = "module-info" + CLASS_FILE_SUFFIX;
+	private static final char PACKAGE_SEPARATOR_CHAR = '.';
+
+	private final Path baseDir;
+	private final String basePackageName;
+	private final Predicate<String> packageFilter;
+	private final BiConsumer<String, Path> classFileConsumer;
 
-	private final Consumer<Path> classFileConsumer;
+	/** Package names of the directories currently being visited */
+	private final Map<Path, String> packageNames = new ConcurrentHashMap<>();
 
-	ClassFileVisitor(Consumer<Path> classFileConsumer) {
+	/**
+	 * @param baseDir the directory the walk starts at
+	 * @param basePackageName the name of the package that corresponds to
+	 * {@code baseDir}; empty for the default package
+	 * @param packageFilter determines if a package and its subpackages are
+	 * to be visited
+	 * @param classFileConsumer consumer of the fully qualified class name and
+	 * path of each class file
+	 */
+	ClassFileVisitor(Path baseDir, String basePackageName, Predicate<String> packageFilter,
+			BiConsumer<String, Path> classFileConsumer) {
+
+		this.baseDir = baseDir;
+		this.basePackageName = basePackageName;
+		this.packageFilter = packageFilter;
 		this.classFileConsumer = classFileConsumer;
 	}
 
+	@Override
+	public FileVisitResult preVisitDirectory(Path dir, BasicFileAttributes attributes) {
+		String packageName = dir.equals(this.baseDir) ? this.basePackageName
+				: qualify(this.packageNames.get(dir.getParent()), getFileName(dir));
+		if (!this.packageFilter.test(packageName)) {
+			return SKIP_SUBTREE;
+		}
+		this.packageNames.put(dir, packageName);
+		return CONTINUE;
+	}
+
 	@Override
 	public FileVisitResult visitFile(Path file, BasicFileAttributes attributes) {
 		if (isNotPackageInfo(file) && isNotModuleInfo(file) && isClassFile(file)) {
-			classFileConsumer.accept(file);
+			String fileName = getFileName(file);
+			String simpleClassName = fileName.substring(0, fileName.length() - CLASS_FILE_SUFFIX.length());
+			String packageName = this.packageNames.getOrDefault(file.getParent(), this.basePackageName);
+			this.classFileConsumer.accept(qualify(packageName, simpleClassName), file);
 		}
 		return CONTINUE;
 	}
@@ -51,12 +103,27 @@ class ClassFileVisitor extends SimpleFileVisitor<Path> {
 
 	@Override
 	public FileVisitResult postVisitDirectory(Path dir, IOException exc) {
+		this.packageNames.remove(dir);
 		if (exc != null) {
 			LOG.log(WARNING, exc, () -> "I/O error visiting directory: " + dir);
 		}
 		return CONTINUE;
 	}
 
+	private String getFileName(Path path) {
+		String fileName = path.getFileName().toString();
+		String separator = path.getFileSystem().getSeparator();
+		if (fileName.endsWith(separator)) {
+			// Directories in zip file systems may carry a trailing separator.
+			fileName = fileName.substring(0, fileName.length() - separator.length());
+		}
+		return fileName;
+	}
+
+	private static String qualify(String packageName, String simpleName) {
+		return packageName.isEmpty() ? simpleName : packageName + PACKAGE_SEPARATOR_CHAR + simpleName;
+	}
+
 	private static boolean isNotPackageInfo(Path path) {
 		return !path.endsWith(PACKAGE_INFO_FILE_NAME);
 	}
@@ -0,0 +1,75 @@
+/*
+ * Copyright 2015-2017 the original author or authors.
+ *
+ * All rights reserved. This program and the accompanying materials are
+ * made available under the terms of the Eclipse Public License v1.0 which
+ * accompanies this distribution and is available at
+ *
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+
+package org.junit.platform.commons.util;
+
+import static org.junit.platform.commons.meta.API.Usage.Internal;
+
+import java.util.function.Predicate;
+
+import org.junit.platform.commons.meta.API;
+
+/**
+ * {@link Predicate} for fully qualified class names that additionally knows
+ * which packages cannot contain any matching classes.
+ *
+ * <p>When a class name filter supplied to classpath scanning implements this
+ * interface, directories of packages for which
+ * {@link #mightMatchClassesInPackage(String)} returns {@code false} are
+ * skipped entirely, including all of their subdirectories.
+ *
+ * <h3>DISCLAIMER</h3>
+ *
+ * <p>These utilities are intended solely for usage within the JUnit framework
+ * itself. <strong>Any usage by external parties is not supported.</strong>
+ * Use at your own risk!
+ *
+ * @since 1.0
+ */
+@API(Internal)
+public interface ClassNamePredicate extends Predicate<String> {
+
+	/**
+	 * Determine if this predicate might match any class that resides in the
+	 * supplied package or in one of its subpackages.
+	 *
+	 * @param packageName the fully qualified name of the package; empty for
+	 * the default package
+	 * @return {@code false} if no such class can match
+	 */
+	boolean mightMatchClassesInPackage(String packageName);
+
+	/**
+	 * Create a {@code ClassNamePredicate} from the supplied predicates.
+	 *
+	 * @param classNamePredicate the predicate for fully qualified class names;
+	 * never {@code null}
+	 * @param packagePredicate the predicate that implements
+	 * {@link #mightMatchClassesInPackage(String)}; never {@code null}
+	 */
+	static ClassNamePredicate of(Predicate<String> classNamePredicate, Predicate<String> packagePredicate) {
+		Preconditions.notNull(classNamePredicate, "classNamePredicate must not be null");
+		Preconditions.notNull(packagePredicate, "packagePredicate must not be null");
+
+		return new ClassNamePredicate() {
+
+			@Override
+			public boolean test(String className) {
+				return classNamePredicate.test(className);
+			}
+
+			@Override
+			public boolean mightMatchClassesInPackage(String packageName) {
+				return packagePredicate.test(packageName);
+			}
+		};
+	}
+
+}
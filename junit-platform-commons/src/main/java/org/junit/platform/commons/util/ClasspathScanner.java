@@ -11,34 +11,81 @@
 package org.junit.platform.commons.util;
 
 import static java.lang.String.format;
+import static java.util.Collections.emptyIterator;
 import static java.util.Collections.emptyList;
-import static java.util.stream.Collectors.joining;
+import static java.util.Comparator.comparing;
+import static java.util.Spliterator.NONNULL;
+import static java.util.Spliterator.ORDERED;
 import static java.util.stream.Collectors.toList;
 import static org.junit.platform.commons.meta.API.Usage.Internal;
 import static org.junit.platform.commons.util.BlacklistedExceptions.rethrowIfBlacklisted;
 import static org.junit.platform.commons.util.ClassFileVisitor.CLASS_FILE_SUFFIX;
 
+import java.io.Closeable;
 import java.io.IOException;
 import java.net.URI;
 import java.net.URL;
+import java.net.URLClassLoader;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayDeque;
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Deque;
 import java.util.Enumeration;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Optional;
+import java.util.Spliterator;
+import java.util.Spliterators.AbstractSpliterator;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
 import java.util.function.BiFunction;
+import java.util.function.BooleanSupplier;
 import java.util.function.Consumer;
+import java.util.function.Function;
 import java.util.function.Predicate;
 import java.util.function.Supplier;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+import java.util.zip.ZipFile;
 
 import org.junit.platform.commons.meta.API;
+import org.junit.platform.commons.util.ClassFileAnnotationPrefilter.ClassFileContent;
 
 /**
+ * <h3>Lazy Scanning</h3>
+ *
+ * <p>The {@code stream*()} methods scan lazily: directories are walked, JAR
+ * entries are read, and classes are loaded only as the returned stream is
+ * consumed. Resources such as open JAR files are released once the stream
+ * has been consumed completely or is closed. The {@code scanFor*()} methods
+ * collect such a stream into a list.
+ *
+ * <h3>Parallel Scanning</h3>
+ *
+ * <p>If the {@value #PARALLEL_SCANNING_PROPERTY_NAME} JVM system property is
+ * set to {@code true}, classpath roots and their subdirectories are walked
+ * concurrently and candidate classes are loaded within a shared
+ * {@link ForkJoinPool}. Classes found in parallel mode are sorted by name so
+ * that results remain deterministic. Parallel scanning is only applied if the
+ * class loader in use is known to be registered as <em>parallel capable</em>,
+ * which is the case for the system class loader, its ancestors, and plain
+ * {@link URLClassLoader} instances; otherwise, scanning falls back to
+ * sequential mode.
+ * Since parallel scanning has to complete before its results can be sorted,
+ * streams returned in parallel mode are not lazy.
+ *
+ * <h3>JAR Files</h3>
+ *
+ * <p>Class files within JAR files are not walked via a zip file system but
+ * looked up in a {@link JarFileIndex} that is read from the JAR's central
+ * directory once and cached for as long as the JAR file is not modified.
+ *
  * <h3>DISCLAIMER</h3>
  *
  * <p>These utilities are intended solely for usage within the JUnit framework
@@ -52,10 +99,19 @@ class ClasspathScanner {
 
 	private static final Logger LOG = Logger.getLogger(ClasspathScanner.class.getName());
 
+	/**
+	 * Name of the JVM system property used to enable parallel scanning: {@value}
+	 */
+	static final String PARALLEL_SCANNING_PROPERTY_NAME = "junit.platform.classpath.scanning.parallel";
+
 	private static final String DEFAULT_PACKAGE_NAME = "";
 	private static final char CLASSPATH_RESOURCE_PATH_SEPARATOR = '/';
 	private static final char PACKAGE_SEPARATOR_CHAR = '.';
-	private static final String PACKAGE_SEPARATOR_STRING = String.valueOf(PACKAGE_SEPARATOR_CHAR);
+
+	private static final String FILE_URI_SCHEME = "file";
+	private static final String JAR_URI_SCHEME = "jar";
+	private static final String JAR_FILE_EXTENSION = ".jar";
+	private static final String JAR_URI_SEPARATOR = "!";
 
 	/** Malformed class name InternalError like reported in #401. */
 	private static final String MALFORMED_CLASS_NAME_ERROR_MESSAGE = "Malformed class name";
@@ -64,11 +120,20 @@ class ClasspathScanner {
 
 	private final BiFunction<String, ClassLoader, Optional<Class<?>>> loadClass;
 
+	private final BooleanSupplier parallelScanningEnabled;
+
 	ClasspathScanner(Supplier<ClassLoader> classLoaderSupplier,
 			BiFunction<String, ClassLoader, Optional<Class<?>>> loadClass) {
 
+		this(classLoaderSupplier, loadClass, () -> Boolean.getBoolean(PARALLEL_SCANNING_PROPERTY_NAME));
+	}
+
+	ClasspathScanner(Supplier<ClassLoader> classLoaderSupplier,
+			BiFunction<String, ClassLoader, Optional<Class<?>>> loadClass, BooleanSupplier parallelScanningEnabled) {
+
 		this.classLoaderSupplier = classLoaderSupplier;
 		this.loadClass = loadClass;
+		this.parallelScanningEnabled = parallelScanningEnabled;
 	}
 
 	boolean isPackage(String packageName) {
@@ -85,157 +150,455 @@ class ClasspathScanner {
 
 	List<Class<?>> scanForClassesInPackage(String basePackageName, Predicate<Class<?>> classFilter,
 			Predicate<String> classNameFilter) {
+		return collect(streamClassesInPackage(basePackageName, classFilter, classNameFilter));
+	}
+
+	List<Class<?>> scanForClassesInPackage(String basePackageName, Predicate<Class<?>> classFilter,
+			Predicate<String> classNameFilter, ClassFileAnnotationPrefilter classFilePrefilter) {
+		return collect(streamClassesInPackage(basePackageName, classFilter, classNameFilter, classFilePrefilter));
+	}
+
+	Stream<Class<?>> streamClassesInPackage(String basePackageName, Predicate<Class<?>> classFilter,
+			Predicate<String> classNameFilter) {
+		return findClassesInPackage(basePackageName, classFilter, classNameFilter, null);
+	}
+
+	Stream<Class<?>> streamClassesInPackage(String basePackageName, Predicate<Class<?>> classFilter,
+			Predicate<String> classNameFilter, ClassFileAnnotationPrefilter classFilePrefilter) {
+		Preconditions.notNull(classFilePrefilter, "classFilePrefilter must not be null");
+		return findClassesInPackage(basePackageName, classFilter, classNameFilter, classFilePrefilter);
+	}
+
+	private Stream<Class<?>> findClassesInPackage(String basePackageName, Predicate<Class<?>> classFilter,
+			Predicate<String> classNameFilter, ClassFileAnnotationPrefilter classFilePrefilter) {
 		assertPackageNameIsPlausible(basePackageName);
 		Preconditions.notNull(classFilter, "classFilter must not be null");
 		Preconditions.notNull(classNameFilter, "classNameFilter must not be null");
 		basePackageName = basePackageName.trim();
 
-		return findClassesForUris(getRootUrisForPackage(basePackageName), basePackageName, classFilter,
-			classNameFilter);
+		return findClassesForUris(getRootUrisForPackage(basePackageName),
+			createScanContext(basePackageName, classFilter, classNameFilter, classFilePrefilter));
 	}
 
 	List<Class<?>> scanForClassesInClasspathRoot(URI root, Predicate<Class<?>> classFilter,
 			Predicate<String> classNameFilter) {
+		return collect(streamClassesInClasspathRoot(root, classFilter, classNameFilter));
+	}
+
+	List<Class<?>> scanForClassesInClasspathRoot(URI root, Predicate<Class<?>> classFilter,
+			Predicate<String> classNameFilter, ClassFileAnnotationPrefilter classFilePrefilter) {
+		return collect(streamClassesInClasspathRoot(root, classFilter, classNameFilter, classFilePrefilter));
+	}
+
+	Stream<Class<?>> streamClassesInClasspathRoot(URI root, Predicate<Class<?>> classFilter,
+			Predicate<String> classNameFilter) {
+		return findClassesInClasspathRoot(root, classFilter, classNameFilter, null);
+	}
+
+	Stream<Class<?>> streamClassesInClasspathRoot(URI root, Predicate<Class<?>> classFilter,
+			Predicate<String> classNameFilter, ClassFileAnnotationPrefilter classFilePrefilter) {
+		Preconditions.notNull(classFilePrefilter, "classFilePrefilter must not be null");
+		return findClassesInClasspathRoot(root, classFilter, classNameFilter, classFilePrefilter);
+	}
+
+	private Stream<Class<?>> findClassesInClasspathRoot(URI root, Predicate<Class<?>> classFilter,
+			Predicate<String> classNameFilter, ClassFileAnnotationPrefilter classFilePrefilter) {
 		Preconditions.notNull(root, "root must not be null");
 		Preconditions.notNull(classFilter, "classFilter must not be null");
 		Preconditions.notNull(classNameFilter, "classNameFilter must not be null");
 
-		return findClassesForUri(root, DEFAULT_PACKAGE_NAME, classFilter, classNameFilter);
+		return findClassesForUri(root,
+			createScanContext(DEFAULT_PACKAGE_NAME, classFilter, classNameFilter, classFilePrefilter));
 	}
 
 	/**
 	 * Recursively scan for classes in all of the supplied source directories.
+	 *
+	 * <p>In sequential mode, the source directories are scanned lazily one
+	 * after the other as the returned stream is consumed.
 	 */
-	private List<Class<?>> findClassesForUris(List<URI> baseUris, String basePackageName,
-			Predicate<Class<?>> classFilter, Predicate<String> classNameFilter) {
+	private Stream<Class<?>> findClassesForUris(List<URI> baseUris, ScanContext context) {
+		if (context.parallel) {
+			// @formatter:off
+			return runInScanningPool(() -> baseUris.parallelStream()
+					.map(baseUri -> collect(findClassesForUri(baseUri, context)))
+					.flatMap(Collection::stream)
+					.distinct()
+					.sorted(comparing(Class::getName))
+					.collect(toList())).stream();
+			// @formatter:on
+		}
 
-		// @formatter:off
-		return baseUris.stream()
-				.map(baseUri -> findClassesForUri(baseUri, basePackageName, classFilter, classNameFilter))
-				.flatMap(Collection::stream)
-				.distinct()
-				.collect(toList());
-		// @formatter:on
+		ConcatenatingSpliterator<URI> spliterator = new ConcatenatingSpliterator<>(baseUris,
+			baseUri -> findClassesForUri(baseUri, context));
+		return StreamSupport.stream(spliterator, false).onClose(spliterator::close).distinct();
 	}
 
-	private List<Class<?>> findClassesForUri(URI baseUri, String basePackageName, Predicate<Class<?>> classFilter,
-			Predicate<String> classNameFilter) {
-		try (CloseablePath closeablePath = CloseablePath.create(baseUri)) {
+	private Stream<Class<?>> findClassesForUri(URI baseUri, ScanContext context) {
+		if (isJarFileUri(baseUri)) {
+			return findClassesInJarFile(baseUri, context);
+		}
+		try {
+			Optional<Stream<Class<?>>> indexedClasses = findClassesInTestClassIndex(baseUri, context);
+			if (indexedClasses.isPresent()) {
+				return indexedClasses.get();
+			}
+		}
+		catch (Exception ex) {
+			logWarning(ex, () -> "Error reading test class index for URI " + baseUri);
+		}
+		CloseablePath closeablePath = null;
+		try {
+			closeablePath = CloseablePath.create(baseUri);
 			Path baseDir = closeablePath.getPath();
-			return findClassesForPath(baseDir, basePackageName, classFilter, classNameFilter);
+			return findClassesForPath(baseDir, context).onClose(closer(closeablePath, baseUri));
 		}
 		catch (PreconditionViolationException ex) {
+			closeQuietly(closeablePath, baseUri);
 			throw ex;
 		}
 		catch (Exception ex) {
+			closeQuietly(closeablePath, baseUri);
 			logWarning(ex, () -> "Error scanning files for URI " + baseUri);
-			return emptyList();
+			return Stream.empty();
 		}
 	}
 
-	private List<Class<?>> findClassesForPath(Path baseDir, String basePackageName, Predicate<Class<?>> classFilter,
-			Predicate<String> classNameFilter) {
+	/**
+	 * Find classes using the {@link TestClassIndex} of the classpath root
+	 * directory that contains the supplied URI, provided the index exists and
+	 * is current for the package being scanned.
+	 *
+	 * @return an {@code Optional} containing the classes found; empty if
+	 * the directory has to be scanned instead
+	 */
+	private Optional<Stream<Class<?>>> findClassesInTestClassIndex(URI baseUri, ScanContext context) {
+		if (!FILE_URI_SCHEME.equals(baseUri.getScheme())) {
+			return Optional.empty();
+		}
+		Path baseDir = Paths.get(baseUri);
+		String packagePath = packagePath(context.basePackageName);
+		Path classpathRoot = baseDir;
+		if (!packagePath.isEmpty()) {
+			int depth = (int) packagePath.chars().filter(ch -> ch == CLASSPATH_RESOURCE_PATH_SEPARATOR).count() + 1;
+			for (int i = 0; i < depth && classpathRoot != null; i++) {
+				classpathRoot = classpathRoot.getParent();
+			}
+		}
+		if (classpathRoot == null) {
+			return Optional.empty();
+		}
+		Optional<TestClassIndex> index = TestClassIndex.forClasspathRoot(classpathRoot);
+		if (!index.isPresent()) {
+			return Optional.empty();
+		}
+		if (!index.get().isCurrent(packagePath)) {
+			LOG.fine(() -> "Test class index for " + baseDir + " is not current; scanning directory instead");
+			return Optional.empty();
+		}
+
+		Path root = classpathRoot;
+		List<ClassFileMetadata> indexedClasses = index.get().getClasses(packagePath);
+		return Optional.of(processAll(indexedClasses,
+			metadata -> processClassFileSafely(determineFullyQualifiedClassName(metadata.getClassName()),
+				() -> context.mightBeAnnotated(metadata),
+				() -> root.resolve(metadata.getClassName() + CLASS_FILE_SUFFIX).toString(), context),
+			context));
+	}
+
+	/**
+	 * Find classes in a JAR file using the entry names from its
+	 * {@link JarFileIndex} instead of walking a zip file system.
+	 */
+	private Stream<Class<?>> findClassesInJarFile(URI baseUri, ScanContext context) {
+		try {
+			JarFileIndex jarFileIndex;
+			String entryPrefix;
+			if (JAR_URI_SCHEME.equals(baseUri.getScheme())) {
+				String[] parts = baseUri.getRawSchemeSpecificPart().split(JAR_URI_SEPARATOR);
+				jarFileIndex = JarFileIndex.forJarFile(Paths.get(new URI(parts[0])));
+				entryPrefix = (parts.length > 1 ? toEntryPrefix(parts[1]) : "");
+			}
+			else {
+				jarFileIndex = JarFileIndex.forJarFile(Paths.get(baseUri));
+				entryPrefix = "";
+			}
+			List<String> entryNames = jarFileIndex.getClassFileEntryNames(entryPrefix);
+			if (context.classFilePrefilter == null) {
+				return findClassesForJarEntries(jarFileIndex, entryNames, null, context);
+			}
+			ZipFile zipFile = new ZipFile(jarFileIndex.getJarFile().toFile());
+			try {
+				return findClassesForJarEntries(jarFileIndex, entryNames, zipFile, context).onClose(
+					closer(zipFile, baseUri));
+			}
+			catch (Throwable t) {
+				closeQuietly(zipFile, baseUri);
+				throw t;
+			}
+		}
+		catch (Exception ex) {
+			logWarning(ex, () -> "Error scanning files for URI " + baseUri);
+			return Stream.empty();
+		}
+	}
+
+	/**
+	 * @param zipFile the open JAR file used to read class file content; may be
+	 * {@code null} if no class file prefilter is in effect
+	 */
+	private Stream<Class<?>> findClassesForJarEntries(JarFileIndex jarFileIndex, List<String> entryNames,
+			ZipFile zipFile, ScanContext context) {
+
+		return processAll(entryNames,
+			entryName -> processClassFileSafely(determineFullyQualifiedClassName(entryName),
+				() -> context.mightBeAnnotated(() -> zipFile.getInputStream(zipFile.getEntry(entryName))),
+				() -> jarFileIndex.getJarFile() + JAR_URI_SEPARATOR + CLASSPATH_RESOURCE_PATH_SEPARATOR + entryName,
+				context),
+			context);
+	}
+
+	/**
+	 * Process the supplied items lazily in sequential mode and eagerly in
+	 * parallel mode.
+	 */
+	private <T> Stream<Class<?>> processAll(List<T> items, Function<T, Optional<Class<?>>> processor,
+			ScanContext context) {
+
+		if (context.parallel) {
+			// @formatter:off
+			return runInScanningPool(() -> items.parallelStream()
+					.map(processor)
+					.filter(Optional::isPresent)
+					.map(Optional::get)
+					.sorted(comparing(Class::getName))
+					.collect(toList())).stream();
+			// @formatter:on
+		}
+
+		// @formatter:off
+		return items.stream()
+				.map(processor)
+				.filter(Optional::isPresent)
+				.map(Optional::get);
+		// @formatter:on
+	}
+
+	private Stream<Class<?>> findClassesForPath(Path baseDir, ScanContext context) {
 		Preconditions.condition(Files.exists(baseDir), () -> "baseDir must exist: " + baseDir);
-		List<Class<?>> classes = new ArrayList<>();
+		if (context.parallel) {
+			return findClassesForPathInParallel(baseDir, context).stream();
+		}
+		Deque<Class<?>> classes = new ArrayDeque<>();
+		IncrementalFileTreeWalker walker = new IncrementalFileTreeWalker(baseDir,
+			createClassFileVisitor(baseDir, context, classes::add));
+		Spliterator<Class<?>> spliterator = new AbstractSpliterator<Class<?>>(Long.MAX_VALUE, ORDERED | NONNULL) {
+
+			@Override
+			public boolean tryAdvance(Consumer<? super Class<?>> action) {
+				try {
+					while (classes.isEmpty()) {
+						if (!walker.visitNext()) {
+							return false;
+						}
+					}
+				}
+				catch (IOException ex) {
+					logWarning(ex, () -> "I/O error scanning files in " + baseDir);
+					return false;
+				}
+				action.accept(classes.poll());
+				return true;
+			}
+		};
+		return StreamSupport.stream(spliterator, false);
+	}
+
+	private List<Class<?>> findClassesForPathInParallel(Path baseDir, ScanContext context) {
+		Collection<Class<?>> classes = new ConcurrentLinkedQueue<>();
 		try {
-			Files.walkFileTree(baseDir, new ClassFileVisitor(classFile -> processClassFileSafely(baseDir,
-				basePackageName, classFilter, classNameFilter, classFile, classes::add)));
+			new ParallelFileTreeWalker(createClassFileVisitor(baseDir, context, classes::add)).walkFileTree(baseDir,
+				ScanningPool.INSTANCE);
 		}
 		catch (IOException ex) {
 			logWarning(ex, () -> "I/O error scanning files in " + baseDir);
 		}
-		return classes;
+		return classes.stream().sorted(comparing(Class::getName)).collect(toList());
 	}
 
-	private void processClassFileSafely(Path baseDir, String basePackageName, Predicate<Class<?>> classFilter,
-			Predicate<String> classNameFilter, Path classFile, Consumer<Class<?>> classConsumer) {
+	private ClassFileVisitor createClassFileVisitor(Path baseDir, ScanContext context,
+			Consumer<Class<?>> classConsumer) {
+
+		return new ClassFileVisitor(baseDir, context.basePackageName, context::mightContainClasses,
+			(fullyQualifiedClassName, classFile) -> processClassFileSafely(fullyQualifiedClassName,
+				() -> context.mightBeAnnotated(() -> Files.newInputStream(classFile)),
+				() -> classFile.toAbsolutePath().toString(), context).ifPresent(classConsumer));
+	}
+
+	private Optional<Class<?>> processClassFileSafely(String fullyQualifiedClassName,
+			BooleanSupplier classFilePrefilter, Supplier<String> location, ScanContext context) {
 		Optional<Class<?>> clazz = Optional.empty();
 		try {
-			String fullyQualifiedClassName = determineFullyQualifiedClassName(baseDir, basePackageName, classFile);
-			if (classNameFilter.test(fullyQualifiedClassName)) {
-				clazz = this.loadClass.apply(fullyQualifiedClassName, getClassLoader());
-				clazz.filter(classFilter).ifPresent(classConsumer);
+			if (context.classNameFilter.test(fullyQualifiedClassName) && classFilePrefilter.getAsBoolean()) {
+				clazz = this.loadClass.apply(fullyQualifiedClassName, context.classLoader);
+				return clazz.filter(context.classFilter);
 			}
 		}
 		catch (InternalError internalError) {
-			handleInternalError(classFile, clazz, internalError);
+			handleInternalError(location, clazz, internalError);
 		}
 		catch (Throwable throwable) {
-			handleThrowable(classFile, throwable);
+			handleThrowable(location, throwable);
 		}
+		return Optional.empty();
 	}
 
-	private String determineFullyQualifiedClassName(Path baseDir, String basePackageName, Path classFile) {
-		// @formatter:off
-		return Stream.of(
-					basePackageName,
-					determineSubpackageName(baseDir, classFile),
-					determineSimpleClassName(classFile)
-				)
-				.filter(value -> !value.isEmpty()) // Handle default package appropriately.
-				.collect(joining(PACKAGE_SEPARATOR_STRING));
-		// @formatter:on
-	}
-
-	private String determineSimpleClassName(Path classFile) {
-		String fileName = classFile.getFileName().toString();
-		return fileName.substring(0, fileName.length() - CLASS_FILE_SUFFIX.length());
-	}
-
-	private String determineSubpackageName(Path baseDir, Path classFile) {
-		Path relativePath = baseDir.relativize(classFile.getParent());
-		String pathSeparator = baseDir.getFileSystem().getSeparator();
-		String subpackageName = relativePath.toString().replace(pathSeparator, PACKAGE_SEPARATOR_STRING);
-		if (subpackageName.endsWith(pathSeparator)) {
-			// Workaround for JDK bug: https://bugs.openjdk.java.net/browse/JDK-8153248
-			subpackageName = subpackageName.substring(0, subpackageName.length() - pathSeparator.length());
-		}
-		return subpackageName;
+	/**
+	 * @param classFileName the name of a class file relative to its classpath
+	 * root, with or without the {@code .class} suffix
+	 */
+	private String determineFullyQualifiedClassName(String classFileName) {
+		String internalName = classFileName.endsWith(CLASS_FILE_SUFFIX)
+				? classFileName.substring(0, classFileName.length() - CLASS_FILE_SUFFIX.length())
+				: classFileName;
+		return internalName.replace(CLASSPATH_RESOURCE_PATH_SEPARATOR, PACKAGE_SEPARATOR_CHAR);
 	}
 
-	private void handleInternalError(Path classFile, Optional<Class<?>> clazz, InternalError ex) {
+	private void handleInternalError(Supplier<String> location, Optional<Class<?>> clazz, InternalError ex) {
 		if (MALFORMED_CLASS_NAME_ERROR_MESSAGE.equals(ex.getMessage())) {
-			logMalformedClassName(classFile, clazz, ex);
+			logMalformedClassName(location, clazz, ex);
 		}
 		else {
-			logGenericFileProcessingException(classFile, ex);
+			logGenericFileProcessingException(location, ex);
 		}
 	}
 
-	private void handleThrowable(Path classFile, Throwable throwable) {
+	private void handleThrowable(Supplier<String> location, Throwable throwable) {
 		rethrowIfBlacklisted(throwable);
-		logGenericFileProcessingException(classFile, throwable);
+		logGenericFileProcessingException(location, throwable);
 	}
 
-	private void logMalformedClassName(Path classFile, Optional<Class<?>> clazz, InternalError ex) {
+	private void logMalformedClassName(Supplier<String> location, Optional<Class<?>> clazz, InternalError ex) {
 		try {
 			if (clazz.isPresent()) {
 				// Do not use getSimpleName() or getCanonicalName() here because they will likely
 				// throw another exception due to the underlying error.
 				logWarning(ex,
 					() -> format("The java.lang.Class loaded from path [%s] has a malformed class name [%s].",
-						classFile.toAbsolutePath(), clazz.get().getName()));
+						location.get(), clazz.get().getName()));
 			}
 			else {
 				logWarning(ex, () -> format("The java.lang.Class loaded from path [%s] has a malformed class name.",
-					classFile.toAbsolutePath()));
+					location.get()));
 			}
 		}
 		catch (Throwable t) {
 			ex.addSuppressed(t);
-			logGenericFileProcessingException(classFile, ex);
+			logGenericFileProcessingException(location, ex);
 		}
 	}
 
-	private void logGenericFileProcessingException(Path classFile, Throwable throwable) {
+	private void logGenericFileProcessingException(Supplier<String> location, Throwable throwable) {
 		logWarning(throwable, () -> format("Failed to load java.lang.Class for path [%s] during classpath scanning.",
-			classFile.toAbsolutePath()));
+			location.get()));
+	}
+
+	private static boolean isJarFileUri(URI uri) {
+		if (JAR_URI_SCHEME.equals(uri.getScheme())) {
+			return uri.getRawSchemeSpecificPart().startsWith(FILE_URI_SCHEME + ":");
+		}
+		return FILE_URI_SCHEME.equals(uri.getScheme()) && uri.getPath().endsWith(JAR_FILE_EXTENSION);
+	}
+
+	/**
+	 * Convert the path of a JAR entry such as {@code /org/example} into an
+	 * entry name prefix such as {@code org/example/}.
+	 */
+	private static String toEntryPrefix(String entryPath) {
+		String prefix = entryPath;
+		while (prefix.startsWith(String.valueOf(CLASSPATH_RESOURCE_PATH_SEPARATOR))) {
+			prefix = prefix.substring(1);
+		}
+		if (!prefix.isEmpty() && prefix.charAt(prefix.length() - 1) != CLASSPATH_RESOURCE_PATH_SEPARATOR) {
+			prefix += CLASSPATH_RESOURCE_PATH_SEPARATOR;
+		}
+		return prefix;
+	}
+
+	private static List<Class<?>> collect(Stream<Class<?>> classes) {
+		try (Stream<Class<?>> stream = classes) {
+			return stream.collect(toList());
+		}
+	}
+
+	private static Runnable closer(Closeable closeable, URI baseUri) {
+		return () -> closeQuietly(closeable, baseUri);
+	}
+
+	private static void closeQuietly(Closeable closeable, URI baseUri) {
+		if (closeable != null) {
+			try {
+				closeable.close();
+			}
+			catch (IOException ex) {
+				logWarning(ex, () -> "Error closing resources for URI " + baseUri);
+			}
+		}
+	}
+
+	private static <T> T runInScanningPool(Supplier<T> task) {
+		if (ForkJoinTask.getPool() == ScanningPool.INSTANCE) {
+			return task.get();
+		}
+		// Running parallel streams within the pool confines their tasks to the pool.
+		return ScanningPool.INSTANCE.submit(task::get).join();
 	}
 
 	private ClassLoader getClassLoader() {
 		return this.classLoaderSupplier.get();
 	}
 
+	/**
+	 * Resolve the class loader once on the calling thread, since the default
+	 * class loader is typically the thread context class loader which is not
+	 * inherited by pooled worker threads.
+	 */
+	private ScanContext createScanContext(String basePackageName, Predicate<Class<?>> classFilter,
+			Predicate<String> classNameFilter, ClassFileAnnotationPrefilter classFilePrefilter) {
+		ClassLoader classLoader = getClassLoader();
+		boolean parallel = this.parallelScanningEnabled.getAsBoolean() && isParallelCapable(classLoader);
+		return new ScanContext(basePackageName, classFilter, classNameFilter, classFilePrefilter, classLoader,
+			parallel);
+	}
+
+	/**
+	 * Determine if the supplied class loader is known to be registered as
+	 * parallel capable.
+	 *
+	 * <p>Since the registration cannot be queried via public API on Java 8,
+	 * this is decided heuristically: the system class loader and its ancestors
+	 * as well as plain {@link URLClassLoader} instances are parallel capable;
+	 * all other class loaders are assumed not to be.
+	 */
+	private static boolean isParallelCapable(ClassLoader classLoader) {
+		if (classLoader.getClass() == URLClassLoader.class) {
+			return true;
+		}
+		try {
+			ClassLoader current = ClassLoader.getSystemClassLoader();
+			while (current != null) {
+				if (current == classLoader) {
+					return true;
+				}
+				current = current.getParent();
+			}
+			return false;
+		}
+		catch (SecurityException ex) {
+			return false;
+		}
+	}
+
 	private static void assertPackageNameIsPlausible(String packageName) {
 		Preconditions.notNull(packageName, "package name must not be null");
 		Preconditions.condition(DEFAULT_PACKAGE_NAME.equals(packageName) || StringUtils.isNotBlank(packageName),
@@ -266,4 +629,99 @@ class ClasspathScanner {
 		LOG.log(Level.WARNING, throwable, msgSupplier);
 	}
 
+	private static class ScanContext {
+
+		final String basePackageName;
+		final Predicate<Class<?>> classFilter;
+		final Predicate<String> classNameFilter;
+		/** {@code null} if packages cannot be skipped based on the class name filter */
+		final ClassNamePredicate packageFilter;
+		/** {@code null} if no class file prefilter is in effect */
+		final ClassFileAnnotationPrefilter classFilePrefilter;
+		final ClassLoader classLoader;
+		final boolean parallel;
+
+		ScanContext(String basePackageName, Predicate<Class<?>> classFilter, Predicate<String> classNameFilter,
+				ClassFileAnnotationPrefilter classFilePrefilter, ClassLoader classLoader, boolean parallel) {
+
+			this.basePackageName = basePackageName;
+			this.classFilter = classFilter;
+			this.classNameFilter = classNameFilter;
+			this.packageFilter = (classNameFilter instanceof ClassNamePredicate ? (ClassNamePredicate) classNameFilter
+					: null);
+			this.classFilePrefilter = classFilePrefilter;
+			this.classLoader = classLoader;
+			this.parallel = parallel;
+		}
+
+		boolean mightContainClasses(String packageName) {
+			return this.packageFilter == null || this.packageFilter.mightMatchClassesInPackage(packageName);
+		}
+
+		boolean mightBeAnnotated(ClassFileContent content) {
+			return this.classFilePrefilter == null
+					|| this.classFilePrefilter.mightBeAnnotated(content, this.classLoader);
+		}
+
+		boolean mightBeAnnotated(ClassFileMetadata metadata) {
+			return this.classFilePrefilter == null
+					|| this.classFilePrefilter.mightBeAnnotated(metadata, this.classLoader);
+		}
+	}
+
+	/**
+	 * Spliterator that lazily concatenates the streams of classes mapped from
+	 * the supplied sources, opening each stream only once the previous one
+	 * has been consumed and closing it right afterwards.
+	 *
+	 * <p>In contrast to {@link Stream#flatMap}, which consumes each mapped
+	 * stream completely on Java 8, short-circuiting operations stop scanning
+	 * as soon as they are satisfied.
+	 */
+	private static class ConcatenatingSpliterator<T> extends AbstractSpliterator<Class<?>> {
+
+		private final Iterator<T> sources;
+		private final Function<T, Stream<Class<?>>> mapper;
+		private Stream<Class<?>> current;
+		private Iterator<Class<?>> currentIterator = emptyIterator();
+
+		ConcatenatingSpliterator(List<T> sources, Function<T, Stream<Class<?>>> mapper) {
+			super(Long.MAX_VALUE, ORDERED | NONNULL);
+			this.sources = sources.iterator();
+			this.mapper = mapper;
+		}
+
+		@Override
+		public boolean tryAdvance(Consumer<? super Class<?>> action) {
+			while (!this.currentIterator.hasNext()) {
+				close();
+				if (!this.sources.hasNext()) {
+					return false;
+				}
+				this.current = this.mapper.apply(this.sources.next());
+				this.currentIterator = this.current.iterator();
+			}
+			action.accept(this.currentIterator.next());
+			return true;
+		}
+
+		void close() {
+			if (this.current != null) {
+				Stream<Class<?>> stream = this.current;
+				this.current = null;
+				this.currentIterator = emptyIterator();
+				stream.close();
+			}
+		}
+	}
+
+	/**
+	 * Lazily created pool shared by all parallel scans; its worker threads
+	 * are daemon threads.
+	 */
+	private static class ScanningPool {
+
+		static final ForkJoinPool INSTANCE = new ForkJoinPool();
+	}
+
 }
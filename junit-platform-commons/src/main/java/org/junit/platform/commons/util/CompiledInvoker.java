@@ -0,0 +1,140 @@
+/*
+ * Copyright 2015-2017 the original author or authors.
+ *
+ * All rights reserved. This program and the accompanying materials are
+ * made available under the terms of the Eclipse Public License v1.0 which
+ * accompanies this distribution and is available at
+ *
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+
+package org.junit.platform.commons.util;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Executable;
+import java.lang.reflect.Method;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Invoker for a {@link Method} or {@link Constructor} that has been compiled
+ * into a {@link MethodHandle} of type {@code (Object, Object[])Object}.
+ *
+ * <p>Invokers are cached per executable in a {@link ClassValue} attached to
+ * its declaring class and are therefore created only once per executable
+ * without preventing the class from being garbage collected.
+ *
+ * <p>The target and arguments are checked against the declaring class and
+ * parameter types before the handle is invoked. If they do not match, which
+ * includes arguments that require a widening primitive conversion, or if the
+ * executable could not be compiled, the invocation falls back to reflection.
+ * Consequently, {@link IllegalArgumentException IllegalArgumentExceptions}
+ * are reported exactly as by {@link Method#invoke} and
+ * {@link Constructor#newInstance}. Exceptions
+ * thrown by the executable itself are propagated as is instead of being
+ * wrapped in an {@link java.lang.reflect.InvocationTargetException}.
+ *
+ * @since 1.0
+ */
+final class CompiledInvoker {
+
+	private static final MethodType INVOKER_TYPE = MethodType.methodType(Object.class, Object.class,
+		Object[].class);
+
+	private static final ClassValue<Map<Executable, CompiledInvoker>> cache = new InvokerCache();
+
+	static CompiledInvoker forExecutable(Executable executable) {
+		return cache.get(executable.getDeclaringClass()).computeIfAbsent(executable, CompiledInvoker::new);
+	}
+
+	private final Executable executable;
+	private final Class<?> targetType;
+	private final Class<?>[] parameterTypes;
+	private final boolean[] primitiveParameters;
+	private final MethodHandle handle;
+
+	private CompiledInvoker(Executable executable) {
+		this.executable = ReflectionUtils.makeAccessible(executable);
+		boolean requiresTarget = (executable instanceof Method && !ReflectionUtils.isStatic(executable));
+		this.targetType = (requiresTarget ? executable.getDeclaringClass() : null);
+		this.parameterTypes = executable.getParameterTypes();
+		this.primitiveParameters = new boolean[this.parameterTypes.length];
+		for (int i = 0; i < this.parameterTypes.length; i++) {
+			if (this.parameterTypes[i].isPrimitive()) {
+				this.primitiveParameters[i] = true;
+				this.parameterTypes[i] = ReflectionUtils.getWrapperType(this.parameterTypes[i]);
+			}
+		}
+		this.handle = compile(executable, requiresTarget);
+	}
+
+	/**
+	 * Invoke the executable.
+	 *
+	 * @param target the object on which to invoke a method; ignored for
+	 * constructors and {@code static} methods
+	 * @param args the arguments to pass to the executable
+	 * @return the value returned by the method, {@code null} if its return
+	 * type is {@code void}, or the new instance in case of a constructor
+	 */
+	Object invoke(Object target, Object[] args) throws Throwable {
+		if (this.handle == null || !isCompatible(target, args)) {
+			if (this.executable instanceof Method) {
+				return ((Method) this.executable).invoke(target, args);
+			}
+			return ((Constructor<?>) this.executable).newInstance(args);
+		}
+		return (Object) this.handle.invokeExact(target, args);
+	}
+
+	private boolean isCompatible(Object target, Object[] args) {
+		if (this.targetType != null && !this.targetType.isInstance(target)) {
+			return false;
+		}
+		if (args == null || args.length != this.parameterTypes.length) {
+			return false;
+		}
+		for (int i = 0; i < args.length; i++) {
+			Object arg = args[i];
+			if (arg == null ? this.primitiveParameters[i] : !this.parameterTypes[i].isInstance(arg)) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	private static MethodHandle compile(Executable executable, boolean requiresTarget) {
+		if (executable instanceof Constructor && ReflectionUtils.isAbstract(executable.getDeclaringClass())) {
+			return null;
+		}
+		try {
+			MethodHandles.Lookup lookup = MethodHandles.lookup();
+			MethodHandle handle = (executable instanceof Method ? lookup.unreflect((Method) executable)
+					: lookup.unreflectConstructor((Constructor<?>) executable)).asFixedArity();
+			int parameterCount = executable.getParameterCount();
+			handle = handle.asType(MethodType.genericMethodType(handle.type().parameterCount()));
+			handle = handle.asSpreader(Object[].class, parameterCount);
+			if (!requiresTarget) {
+				handle = MethodHandles.dropArguments(handle, 0, Object.class);
+			}
+			return handle.asType(INVOKER_TYPE);
+		}
+		catch (Throwable t) {
+			BlacklistedExceptions.rethrowIfBlacklisted(t);
+			return null;
+		}
+	}
+
+	private static class InvokerCache extends ClassValue<Map<Executable, CompiledInvoker>> {
+
+		@Override
+		protected Map<Executable, CompiledInvoker> computeValue(Class<?> type) {
+			return new ConcurrentHashMap<>(16);
+		}
+
+	}
+
+}
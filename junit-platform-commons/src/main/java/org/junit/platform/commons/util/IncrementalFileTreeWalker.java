@@ -0,0 +1,136 @@
+/*
+ * Copyright 2015-2017 the original author or authors.
+ *
+ * All rights reserved. This program and the accompanying materials are
+ * made available under the terms of the Eclipse Public License v1.0 which
+ * accompanies this distribution and is available at
+ *
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+
+package org.junit.platform.commons.util;
+
+import static java.nio.file.FileVisitResult.CONTINUE;
+
+import java.io.IOException;
+import java.nio.file.DirectoryIteratorException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.FileVisitor;
+import java.nio.file.Files;
+import java.nio.file.LinkOption;
+import java.nio.file.Path;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.List;
+
+/**
+ * Incremental counterpart to {@link Files#walkFileTree(Path, FileVisitor)}.
+ *
+ * <p>Instead of walking the whole file tree at once, each invocation of
+ * {@link #visitNext()} visits a single file or directory, in the same
+ * depth-first order as {@code Files.walkFileTree()}. This allows callers to
+ * stop walking as soon as they have seen enough. Each directory is listed
+ * completely when it is visited so that no directory stream remains open
+ * between invocations.
+ *
+ * <p>Symbolic links are not followed, and the only supported results of
+ * {@link FileVisitor#preVisitDirectory} are {@link java.nio.file.FileVisitResult#CONTINUE
+ * CONTINUE} and {@link java.nio.file.FileVisitResult#SKIP_SUBTREE SKIP_SUBTREE};
+ * all other results are treated like the latter. Results of all other visitor
+ * methods are ignored.
+ *
+ * @since 1.0
+ * @see ParallelFileTreeWalker
+ */
+final class IncrementalFileTreeWalker {
+
+	private static final LinkOption[] NO_FOLLOW_LINKS = { LinkOption.NOFOLLOW_LINKS };
+
+	private final FileVisitor<Path> visitor;
+
+	private final Deque<Directory> directories = new ArrayDeque<>();
+
+	private Path start;
+
+	IncrementalFileTreeWalker(Path start, FileVisitor<Path> visitor) {
+		this.start = start;
+		this.visitor = visitor;
+	}
+
+	/**
+	 * Visit the next file or directory.
+	 *
+	 * @return {@code false} if the walk is complete
+	 */
+	boolean visitNext() throws IOException {
+		if (this.start != null) {
+			Path path = this.start;
+			this.start = null;
+			visit(path);
+			return true;
+		}
+		Directory directory = this.directories.peek();
+		if (directory == null) {
+			return false;
+		}
+		if (directory.entries.hasNext()) {
+			visit(directory.entries.next());
+		}
+		else {
+			this.directories.pop();
+			this.visitor.postVisitDirectory(directory.path, directory.failure);
+		}
+		return true;
+	}
+
+	private void visit(Path path) throws IOException {
+		BasicFileAttributes attributes;
+		try {
+			attributes = Files.readAttributes(path, BasicFileAttributes.class, NO_FOLLOW_LINKS);
+		}
+		catch (IOException ex) {
+			this.visitor.visitFileFailed(path, ex);
+			return;
+		}
+		if (!attributes.isDirectory()) {
+			this.visitor.visitFile(path, attributes);
+			return;
+		}
+		if (this.visitor.preVisitDirectory(path, attributes) != CONTINUE) {
+			return;
+		}
+
+		List<Path> entries = new ArrayList<>();
+		IOException failure = null;
+		try (DirectoryStream<Path> stream = Files.newDirectoryStream(path)) {
+			for (Path entry : stream) {
+				entries.add(entry);
+			}
+		}
+		catch (IOException ex) {
+			failure = ex;
+		}
+		catch (DirectoryIteratorException ex) {
+			failure = ex.getCause();
+		}
+		this.directories.push(new Directory(path, entries.iterator(), failure));
+	}
+
+	private static class Directory {
+
+		final Path path;
+		final Iterator<Path> entries;
+		/** {@code null} if the directory was listed successfully */
+		final IOException failure;
+
+		Directory(Path path, Iterator<Path> entries, IOException failure) {
+			this.path = path;
+			this.entries = entries;
+			this.failure = failure;
+		}
+	}
+
+}
@@ -0,0 +1,145 @@
+/*
+ * Copyright 2015-2017 the original author or authors.
+ *
+ * All rights reserved. This program and the accompanying materials are
+ * made available under the terms of the Eclipse Public License v1.0 which
+ * accompanies this distribution and is available at
+ *
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+
+package org.junit.platform.commons.util;
+
+import static org.junit.platform.commons.util.ClassFileVisitor.CLASS_FILE_SUFFIX;
+
+import java.io.IOException;
+import java.lang.ref.SoftReference;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Enumeration;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipFile;
+
+/**
+ * Sorted index of the names of all class file entries in a JAR file, read
+ * directly from the JAR's central directory via {@link ZipFile}.
+ *
+ * <p>Indexes are cached per JAR file and remain valid as long as the JAR
+ * file's last modified time and size do not change. Consequently, multiple
+ * package selectors that point into the same JAR file read its central
+ * directory only once. The cache holds the indexes of at most
+ * {@value #MAX_CACHED_INDEXES} JAR files, evicting the least recently used
+ * one, and cached indexes are softly referenced so that they may be
+ * reclaimed under memory pressure.
+ *
+ * @since 1.0
+ */
+final class JarFileIndex {
+
+	private static final String PACKAGE_INFO_FILE_NAME = "package-info" + CLASS_FILE_SUFFIX;
+	private static final String MODULE_INFO_FILE_NAME = "module-info" + CLASS_FILE_SUFFIX;
+
+	static final int MAX_CACHED_INDEXES = 64;
+
+	private static final Map<Path, SoftReference<JarFileIndex>> cache = Collections.synchronizedMap(new IndexCache());
+
+	private final Path jarFile;
+	private final long lastModifiedTime;
+	private final long size;
+	private final String[] classFileEntryNames;
+
+	static JarFileIndex forJarFile(Path jarFile) throws IOException {
+		Path key = jarFile.toAbsolutePath().normalize();
+		BasicFileAttributes attributes = Files.readAttributes(key, BasicFileAttributes.class);
+		SoftReference<JarFileIndex> reference = cache.get(key);
+		JarFileIndex index = (reference != null ? reference.get() : null);
+		if (index == null || !index.isCurrent(attributes)) {
+			index = new JarFileIndex(key, attributes);
+			cache.put(key, new SoftReference<>(index));
+		}
+		return index;
+	}
+
+	private JarFileIndex(Path jarFile, BasicFileAttributes attributes) throws IOException {
+		this.jarFile = jarFile;
+		this.lastModifiedTime = attributes.lastModifiedTime().toMillis();
+		this.size = attributes.size();
+		this.classFileEntryNames = readClassFileEntryNames(jarFile);
+	}
+
+	Path getJarFile() {
+		return this.jarFile;
+	}
+
+	/**
+	 * Get the names of all class file entries that start with the supplied
+	 * prefix, excluding {@code package-info} and {@code module-info} class
+	 * files, in lexicographic order.
+	 *
+	 * @param prefix the entry name prefix, e.g. {@code org/example/}; or an
+	 * empty string for all class file entries
+	 */
+	List<String> getClassFileEntryNames(String prefix) {
+		int index = Arrays.binarySearch(this.classFileEntryNames, prefix);
+		if (index < 0) {
+			index = -(index + 1);
+		}
+		List<String> entryNames = new ArrayList<>();
+		while (index < this.classFileEntryNames.length && this.classFileEntryNames[index].startsWith(prefix)) {
+			entryNames.add(this.classFileEntryNames[index++]);
+		}
+		return entryNames;
+	}
+
+	private boolean isCurrent(BasicFileAttributes attributes) {
+		return this.lastModifiedTime == attributes.lastModifiedTime().toMillis() && this.size == attributes.size();
+	}
+
+	private static String[] readClassFileEntryNames(Path jarFile) throws IOException {
+		List<String> entryNames = new ArrayList<>();
+		try (ZipFile zipFile = new ZipFile(jarFile.toFile())) {
+			Enumeration<? extends ZipEntry> entries = zipFile.entries();
+			while (entries.hasMoreElements()) {
+				ZipEntry entry = entries.nextElement();
+				String name = entry.getName();
+				if (!entry.isDirectory() && isScannableClassFile(name)) {
+					entryNames.add(name);
+				}
+			}
+		}
+		String[] sortedEntryNames = entryNames.toArray(new String[entryNames.size()]);
+		Arrays.sort(sortedEntryNames);
+		return sortedEntryNames;
+	}
+
+	private static boolean isScannableClassFile(String entryName) {
+		String fileName = entryName.substring(entryName.lastIndexOf('/') + 1);
+		return fileName.endsWith(CLASS_FILE_SUFFIX) && !fileName.equals(PACKAGE_INFO_FILE_NAME)
+				&& !fileName.equals(MODULE_INFO_FILE_NAME);
+	}
+
+	/**
+	 * Cache of the indexes of the most recently used JAR files.
+	 */
+	private static class IndexCache extends LinkedHashMap<Path, SoftReference<JarFileIndex>> {
+
+		private static final long serialVersionUID = 1L;
+
+		IndexCache() {
+			super(16, 0.75f, true);
+		}
+
+		@Override
+		protected boolean removeEldestEntry(Map.Entry<Path, SoftReference<JarFileIndex>> eldest) {
+			return size() > MAX_CACHED_INDEXES;
+		}
+	}
+
+}
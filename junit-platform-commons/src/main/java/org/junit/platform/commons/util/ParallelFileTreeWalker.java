@@ -0,0 +1,183 @@
+/*
+ * Copyright 2015-2017 the original author or authors.
+ *
+ * All rights reserved. This program and the accompanying materials are
+ * made available under the terms of the Eclipse Public License v1.0 which
+ * accompanies this distribution and is available at
+ *
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+
+package org.junit.platform.commons.util;
+
+import static java.nio.file.FileVisitResult.CONTINUE;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.DirectoryIteratorException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.FileVisitor;
+import java.nio.file.Files;
+import java.nio.file.LinkOption;
+import java.nio.file.Path;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * Parallel counterpart to {@link Files#walkFileTree(Path, FileVisitor)}.
+ *
+ * <p>Each directory is listed in its own {@link RecursiveAction}; its
+ * subdirectories and batches of its regular files are then processed
+ * concurrently within the supplied {@link ForkJoinPool}. Consequently, the
+ * supplied {@link FileVisitor} must be thread-safe.
+ *
+ * <p>Symbolic links are not followed, and the only supported results of
+ * {@link FileVisitor#preVisitDirectory} are {@link java.nio.file.FileVisitResult#CONTINUE
+ * CONTINUE} and {@link java.nio.file.FileVisitResult#SKIP_SUBTREE SKIP_SUBTREE};
+ * all other results are treated like the latter. Results of all other visitor
+ * methods are ignored.
+ *
+ * @since 1.0
+ */
+final class ParallelFileTreeWalker {
+
+	/**
+	 * Maximum number of regular files visited by a single task.
+	 */
+	private static final int FILE_BATCH_SIZE = 32;
+
+	private static final LinkOption[] NO_FOLLOW_LINKS = { LinkOption.NOFOLLOW_LINKS };
+
+	private final FileVisitor<Path> visitor;
+
+	ParallelFileTreeWalker(FileVisitor<Path> visitor) {
+		this.visitor = visitor;
+	}
+
+	void walkFileTree(Path start, ForkJoinPool pool) throws IOException {
+		try {
+			DirectoryTask task = new DirectoryTask(start);
+			if (ForkJoinTask.getPool() == pool) {
+				task.invoke();
+			}
+			else {
+				pool.invoke(task);
+			}
+		}
+		catch (UncheckedIOException ex) {
+			throw ex.getCause();
+		}
+	}
+
+	private static BasicFileAttributes readAttributes(Path path) throws IOException {
+		return Files.readAttributes(path, BasicFileAttributes.class, NO_FOLLOW_LINKS);
+	}
+
+	private class DirectoryTask extends RecursiveAction {
+
+		private static final long serialVersionUID = 1L;
+
+		private final Path directory;
+
+		DirectoryTask(Path directory) {
+			this.directory = directory;
+		}
+
+		@Override
+		protected void compute() {
+			try {
+				walk();
+			}
+			catch (IOException ex) {
+				throw new UncheckedIOException(ex);
+			}
+		}
+
+		private void walk() throws IOException {
+			BasicFileAttributes attributes;
+			try {
+				attributes = readAttributes(this.directory);
+			}
+			catch (IOException ex) {
+				visitor.visitFileFailed(this.directory, ex);
+				return;
+			}
+			if (!attributes.isDirectory()) {
+				visitor.visitFile(this.directory, attributes);
+				return;
+			}
+			if (visitor.preVisitDirectory(this.directory, attributes) != CONTINUE) {
+				return;
+			}
+
+			List<RecursiveAction> subtasks = new ArrayList<>();
+			List<Path> files = new ArrayList<>(FILE_BATCH_SIZE);
+			IOException failure = null;
+			try (DirectoryStream<Path> entries = Files.newDirectoryStream(this.directory)) {
+				for (Path entry : entries) {
+					if (Files.isDirectory(entry, NO_FOLLOW_LINKS)) {
+						subtasks.add(new DirectoryTask(entry));
+					}
+					else {
+						files.add(entry);
+						if (files.size() == FILE_BATCH_SIZE) {
+							subtasks.add(new FileBatchTask(files));
+							files = new ArrayList<>(FILE_BATCH_SIZE);
+						}
+					}
+				}
+			}
+			catch (IOException ex) {
+				failure = ex;
+			}
+			catch (DirectoryIteratorException ex) {
+				failure = ex.getCause();
+			}
+			if (!files.isEmpty()) {
+				subtasks.add(new FileBatchTask(files));
+			}
+			invokeAll(subtasks);
+			visitor.postVisitDirectory(this.directory, failure);
+		}
+	}
+
+	private class FileBatchTask extends RecursiveAction {
+
+		private static final long serialVersionUID = 1L;
+
+		private final List<Path> files;
+
+		FileBatchTask(List<Path> files) {
+			this.files = files;
+		}
+
+		@Override
+		protected void compute() {
+			try {
+				for (Path file : this.files) {
+					visit(file);
+				}
+			}
+			catch (IOException ex) {
+				throw new UncheckedIOException(ex);
+			}
+		}
+
+		private void visit(Path file) throws IOException {
+			BasicFileAttributes attributes;
+			try {
+				attributes = readAttributes(file);
+			}
+			catch (IOException ex) {
+				visitor.visitFileFailed(file, ex);
+				return;
+			}
+			visitor.visitFile(file, attributes);
+		}
+	}
+
+}
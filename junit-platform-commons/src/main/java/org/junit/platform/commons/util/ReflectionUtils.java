@@ -32,6 +32,7 @@ import java.nio.file.Paths;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.EnumMap;
 import java.util.HashMap;
 import java.util.LinkedHashSet;
 import java.util.List;
@@ -41,6 +42,7 @@ import java.util.Set;
 import java.util.function.Predicate;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
+import java.util.stream.Stream;
 
 import org.junit.platform.commons.JUnitException;
 import org.junit.platform.commons.meta.API;
@@ -98,6 +100,15 @@ public final class ReflectionUtils {
 
 	private static final Map<Class<?>, Class<?>> primitiveToWrapperMap;
 
+	/**
+	 * Cache of all methods in the hierarchy of a class, per traversal mode.
+	 *
+	 * <p>{@link ClassValue} stores the computed methods with the class itself
+	 * and therefore does not prevent class loaders from being garbage
+	 * collected.
+	 */
+	private static final Map<HierarchyTraversalMode, ClassValue<List<Method>>> methodHierarchyCache;
+
 	static {
 		Map<String, Class<?>> primitiveTypes = new HashMap<>(16);
 
@@ -133,6 +144,19 @@ public final class ReflectionUtils {
 		primitiveToWrapper.put(double.class, Double.class);
 
 		primitiveToWrapperMap = Collections.unmodifiableMap(primitiveToWrapper);
+
+		Map<HierarchyTraversalMode, ClassValue<List<Method>>> methodHierarchies = new EnumMap<>(
+			HierarchyTraversalMode.class);
+		for (HierarchyTraversalMode traversalMode : HierarchyTraversalMode.values()) {
+			methodHierarchies.put(traversalMode, new ClassValue<List<Method>>() {
+
+				@Override
+				protected List<Method> computeValue(Class<?> clazz) {
+					return Collections.unmodifiableList(computeAllMethodsInHierarchy(clazz, traversalMode));
+				}
+			});
+		}
+		methodHierarchyCache = Collections.unmodifiableMap(methodHierarchies);
 	}
 
 	public static ClassLoader getDefaultClassLoader() {
@@ -283,7 +307,7 @@ public final class ReflectionUtils {
 		Preconditions.notNull(constructor, "constructor must not be null");
 
 		try {
-			return makeAccessible(constructor).newInstance(args);
+			return constructor.getDeclaringClass().cast(CompiledInvoker.forExecutable(constructor).invoke(null, args));
 		}
 		catch (Throwable t) {
 			throw ExceptionUtils.throwAsUncheckedException(getUnderlyingCause(t));
@@ -309,7 +333,7 @@ public final class ReflectionUtils {
 			() -> String.format("Cannot invoke non-static method [%s] on a null target.", method.toGenericString()));
 
 		try {
-			return makeAccessible(method).invoke(target, args);
+			return CompiledInvoker.forExecutable(method).invoke(target, args);
 		}
 		catch (Throwable t) {
 			throw ExceptionUtils.throwAsUncheckedException(getUnderlyingCause(t));
@@ -508,6 +532,17 @@ public final class ReflectionUtils {
 		return classpathScanner.scanForClassesInClasspathRoot(root, classTester, classNameFilter);
 	}
 
+	/**
+	 * Find all classes in the supplied classpath {@code root} like
+	 * {@link #findAllClassesInClasspathRoot(URI, Predicate, Predicate)} but
+	 * only load those classes that pass the supplied {@code classFilePrefilter}.
+	 */
+	public static List<Class<?>> findAllClassesInClasspathRoot(URI root, Predicate<Class<?>> classTester,
+			Predicate<String> classNameFilter, ClassFileAnnotationPrefilter classFilePrefilter) {
+		return classpathScanner.scanForClassesInClasspathRoot(root, classTester, classNameFilter,
+			classFilePrefilter);
+	}
+
 	/**
 	 * @see org.junit.platform.commons.support.ReflectionSupport#findAllClassesInPackage(String, Predicate, Predicate)
 	 */
@@ -516,6 +551,55 @@ public final class ReflectionUtils {
 		return classpathScanner.scanForClassesInPackage(basePackageName, classTester, classNameFilter);
 	}
 
+	/**
+	 * Find all classes in the supplied package like
+	 * {@link #findAllClassesInPackage(String, Predicate, Predicate)} but only
+	 * load those classes that pass the supplied {@code classFilePrefilter}.
+	 */
+	public static List<Class<?>> findAllClassesInPackage(String basePackageName, Predicate<Class<?>> classTester,
+			Predicate<String> classNameFilter, ClassFileAnnotationPrefilter classFilePrefilter) {
+		return classpathScanner.scanForClassesInPackage(basePackageName, classTester, classNameFilter,
+			classFilePrefilter);
+	}
+
+	/**
+	 * @see org.junit.platform.commons.support.ReflectionSupport#streamAllClassesInClasspathRoot(URI, Predicate, Predicate)
+	 */
+	public static Stream<Class<?>> streamAllClassesInClasspathRoot(URI root, Predicate<Class<?>> classTester,
+			Predicate<String> classNameFilter) {
+		return classpathScanner.streamClassesInClasspathRoot(root, classTester, classNameFilter);
+	}
+
+	/**
+	 * Stream all classes in the supplied classpath {@code root} like
+	 * {@link #streamAllClassesInClasspathRoot(URI, Predicate, Predicate)} but
+	 * only load those classes that pass the supplied {@code classFilePrefilter}.
+	 */
+	public static Stream<Class<?>> streamAllClassesInClasspathRoot(URI root, Predicate<Class<?>> classTester,
+			Predicate<String> classNameFilter, ClassFileAnnotationPrefilter classFilePrefilter) {
+		return classpathScanner.streamClassesInClasspathRoot(root, classTester, classNameFilter,
+			classFilePrefilter);
+	}
+
+	/**
+	 * @see org.junit.platform.commons.support.ReflectionSupport#streamAllClassesInPackage(String, Predicate, Predicate)
+	 */
+	public static Stream<Class<?>> streamAllClassesInPackage(String basePackageName, Predicate<Class<?>> classTester,
+			Predicate<String> classNameFilter) {
+		return classpathScanner.streamClassesInPackage(basePackageName, classTester, classNameFilter);
+	}
+
+	/**
+	 * Stream all classes in the supplied package like
+	 * {@link #streamAllClassesInPackage(String, Predicate, Predicate)} but
+	 * only load those classes that pass the supplied {@code classFilePrefilter}.
+	 */
+	public static Stream<Class<?>> streamAllClassesInPackage(String basePackageName, Predicate<Class<?>> classTester,
+			Predicate<String> classNameFilter, ClassFileAnnotationPrefilter classFilePrefilter) {
+		return classpathScanner.streamClassesInPackage(basePackageName, classTester, classNameFilter,
+			classFilePrefilter);
+	}
+
 	public static List<Class<?>> findNestedClasses(Class<?> clazz, Predicate<Class<?>> predicate) {
 		Preconditions.notNull(clazz, "Class must not be null");
 		Preconditions.notNull(predicate, "predicate must not be null");
@@ -615,20 +699,28 @@ public final class ReflectionUtils {
 
 	/**
 	 * Return all methods in superclass hierarchy except from Object.
+	 *
+	 * <p>The returned list is cached per class and traversal mode and must
+	 * not be modified.
 	 */
 	private static List<Method> findAllMethodsInHierarchy(Class<?> clazz, HierarchyTraversalMode traversalMode) {
 		Preconditions.notNull(clazz, "Class must not be null");
 		Preconditions.notNull(traversalMode, "HierarchyTraversalMode must not be null");
 
+		return methodHierarchyCache.get(traversalMode).get(clazz);
+	}
+
+	private static List<Method> computeAllMethodsInHierarchy(Class<?> clazz, HierarchyTraversalMode traversalMode) {
 		// @formatter:off
 		List<Method> localMethods = Arrays.stream(clazz.getDeclaredMethods())
 				.filter(method -> !method.isSynthetic())
 				.collect(toList());
+		MethodSignatureIndex localMethodIndex = new MethodSignatureIndex(localMethods);
 		List<Method> superclassMethods = getSuperclassMethods(clazz, traversalMode).stream()
-				.filter(method -> !isMethodShadowedByLocalMethods(method, localMethods))
+				.filter(method -> !localMethodIndex.shadows(method))
 				.collect(toList());
 		List<Method> interfaceMethods = getInterfaceMethods(clazz, traversalMode).stream()
-				.filter(method -> !isMethodShadowedByLocalMethods(method, localMethods))
+				.filter(method -> !localMethodIndex.shadows(method))
 				.collect(toList());
 		// @formatter:on
 
@@ -679,10 +771,11 @@ public final class ReflectionUtils {
 
 			List<Method> localMethods = Arrays.stream(ifc.getDeclaredMethods()).filter(m -> !isAbstract(m)).collect(
 				toList());
+			MethodSignatureIndex localMethodIndex = new MethodSignatureIndex(localMethods);
 
 			// @formatter:off
 			List<Method> subInterfaceMethods = getInterfaceMethods(ifc, traversalMode).stream()
-					.filter(method -> !isMethodShadowedByLocalMethods(method, localMethods))
+					.filter(method -> !localMethodIndex.shadows(method))
 					.collect(toList());
 			// @formatter:on
 
@@ -705,10 +798,6 @@ public final class ReflectionUtils {
 		return findAllMethodsInHierarchy(superclass, traversalMode);
 	}
 
-	private static boolean isMethodShadowedByLocalMethods(Method method, List<Method> localMethods) {
-		return localMethods.stream().anyMatch(local -> isMethodShadowedBy(method, local));
-	}
-
 	private static boolean isMethodShadowedBy(Method upper, Method lower) {
 		if (!lower.getName().equals(upper.getName())) {
 			return false;
@@ -718,17 +807,17 @@ public final class ReflectionUtils {
 		}
 		// Check for method sub-signatures.
 		// https://docs.oracle.com/javase/specs/jls/se8/html/jls-8.html#jls-8.4.2
-		for (int i = 0; i < lower.getParameterCount(); i++) {
-			Class<?> lowerType = lower.getParameterTypes()[i];
-			Class<?> upperType = upper.getParameterTypes()[i];
-			if (!upperType.isAssignableFrom(lowerType)) {
+		Class<?>[] lowerTypes = lower.getParameterTypes();
+		Class<?>[] upperTypes = upper.getParameterTypes();
+		for (int i = 0; i < lowerTypes.length; i++) {
+			if (!upperTypes[i].isAssignableFrom(lowerTypes[i])) {
 				return false;
 			}
 		}
 		return true;
 	}
 
-	private static <T extends AccessibleObject> T makeAccessible(T object) {
+	static <T extends AccessibleObject> T makeAccessible(T object) {
 		if (!object.isAccessible()) {
 			object.setAccessible(true);
 		}
@@ -778,4 +867,38 @@ public final class ReflectionUtils {
 		}
 	}
 
+	/**
+	 * Methods declared locally in a class or interface, grouped by name and
+	 * number of parameters so that checking whether they shadow a method
+	 * from a supertype only needs to look at methods with the same name and
+	 * arity instead of all local methods.
+	 */
+	private static class MethodSignatureIndex {
+
+		private final Map<String, List<Method>> methodsByNameAndArity = new HashMap<>();
+
+		MethodSignatureIndex(List<Method> methods) {
+			for (Method method : methods) {
+				this.methodsByNameAndArity.computeIfAbsent(key(method), key -> new ArrayList<>(1)).add(method);
+			}
+		}
+
+		boolean shadows(Method method) {
+			List<Method> candidates = this.methodsByNameAndArity.get(key(method));
+			if (candidates == null) {
+				return false;
+			}
+			for (Method candidate : candidates) {
+				if (isMethodShadowedBy(method, candidate)) {
+					return true;
+				}
+			}
+			return false;
+		}
+
+		private static String key(Method method) {
+			return method.getName() + '/' + method.getParameterCount();
+		}
+	}
+
 }
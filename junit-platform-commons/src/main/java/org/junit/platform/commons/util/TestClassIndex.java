@@ -0,0 +1,373 @@
+/*
+ * Copyright 2015-2017 the original author or authors.
+ *
+ * All rights reserved. This program and the accompanying materials are
+ * made available under the terms of the Eclipse Public License v1.0 which
+ * accompanies this distribution and is available at
+ *
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+
+package org.junit.platform.commons.util;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.util.Collections.emptyList;
+import static org.junit.platform.commons.meta.API.Usage.Internal;
+import static org.junit.platform.commons.util.ClassFileVisitor.CLASS_FILE_SUFFIX;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.lang.ref.SoftReference;
+import java.nio.file.FileVisitResult;
+import java.nio.file.Files;
+import java.nio.file.LinkOption;
+import java.nio.file.Path;
+import java.nio.file.SimpleFileVisitor;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.SortedMap;
+import java.util.SortedSet;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import org.junit.platform.commons.meta.API;
+
+/**
+ * {@code TestClassIndex} is a precomputed index of all class files within a
+ * classpath root directory that allows classpath scanning to read a single
+ * file instead of walking the directory and reading every class file.
+ *
+ * <p>An index is generated at build time via {@link #write(Path)} and stored
+ * in the classpath root as {@value #INDEX_FILE_NAME}.
+ *
+ * <h3>Format</h3>
+ *
+ * <p>The index is a UTF-8 encoded text file whose first line is
+ * {@code junit-platform-test-class-index 2}, where {@code 2} denotes the
+ * version of the format. Each subsequent line consists of tab-separated
+ * fields and describes the index itself, a directory, or a class file; type
+ * names are stored in <em>internal form</em> (e.g.,
+ * {@code org/example/MyTests$Inner}) and lists of type names are
+ * comma-separated.
+ *
+ * <ul>
+ * <li>{@code T <last modified>}: the newest last modified time of all
+ * indexed directories and class files</li>
+ * <li>{@code D <relative path>}: a directory, the classpath root itself being
+ * represented by an empty path</li>
+ * <li>{@code C <class name> <superclass> <interfaces> <annotations>
+ * <member classes>}: a class file, its supertypes, the annotation types
+ * present on the class or its methods, and the classes declared as its
+ * members</li>
+ * </ul>
+ *
+ * <p>Annotation types in {@code java.*} packages are omitted. The
+ * {@code META-INF} directory is not indexed.
+ *
+ * <h3>Currency</h3>
+ *
+ * <p>An index is only <em>current</em> for a package if none of the indexed
+ * directories within that package has been deleted or modified after the
+ * recorded newest last modified time. Since adding, removing, or replacing a
+ * file changes the last modified time of the enclosing directory, this
+ * detects changed class files by checking a single timestamp per directory,
+ * without checking individual class files, listing directories, or reading
+ * class files. Class files that are rewritten in place are not detected; the
+ * index therefore has to be generated again whenever classes are compiled.
+ *
+ * <h3>DISCLAIMER</h3>
+ *
+ * <p>These utilities are intended solely for usage within the JUnit framework
+ * itself. <strong>Any usage by external parties is not supported.</strong>
+ * Use at your own risk!
+ *
+ * @since 1.0
+ * @see ClasspathScanner
+ */
+@API(Internal)
+public final class TestClassIndex {
+
+	/**
+	 * Path of the index file relative to its classpath root: {@value}
+	 */
+	public static final String INDEX_FILE_NAME = "META-INF/junit-platform/test-class-index";
+
+	private static final String HEADER = "junit-platform-test-class-index 2";
+	private static final String META_INF_DIRECTORY_NAME = "META-INF";
+	private static final String PACKAGE_INFO_FILE_NAME = "package-info" + CLASS_FILE_SUFFIX;
+	private static final String MODULE_INFO_FILE_NAME = "module-info" + CLASS_FILE_SUFFIX;
+	private static final String JDK_PACKAGE_PREFIX = "java/";
+
+	private static final String LAST_MODIFIED_RECORD = "T";
+	private static final String DIRECTORY_RECORD = "D";
+	private static final String CLASS_RECORD = "C";
+	private static final String FIELD_SEPARATOR = "\t";
+	private static final String LIST_SEPARATOR = ",";
+	private static final char PATH_SEPARATOR = '/';
+
+	private static final Logger LOG = Logger.getLogger(TestClassIndex.class.getName());
+
+	private static final Map<Path, SoftReference<TestClassIndex>> cache = new ConcurrentHashMap<>();
+
+	private final Path classpathRoot;
+	private final long lastModifiedTime;
+	private final long size;
+	private final long newestLastModifiedTime;
+	private final SortedSet<String> directories;
+	private final SortedMap<String, ClassFileMetadata> classes;
+
+	/**
+	 * Generate the index for the supplied classpath root directory and store
+	 * it as {@value #INDEX_FILE_NAME}, replacing an existing index.
+	 *
+	 * @param classpathRoot the classpath root directory; never {@code null}
+	 * @return the path of the written index file
+	 */
+	public static Path write(Path classpathRoot) throws IOException {
+		Preconditions.notNull(classpathRoot, "classpathRoot must not be null");
+		Preconditions.condition(Files.isDirectory(classpathRoot),
+			() -> "classpathRoot must be a directory: " + classpathRoot);
+
+		Path root = classpathRoot.toAbsolutePath().normalize();
+		Path indexFile = root.resolve(INDEX_FILE_NAME);
+		// Create the directories first so that the recorded last modified
+		// time of the classpath root is not affected by writing the index.
+		Files.createDirectories(indexFile.getParent());
+
+		List<String> lines = new ArrayList<>();
+		lines.add(HEADER);
+		AtomicLong newestLastModifiedTime = new AtomicLong();
+		Files.walkFileTree(root, new SimpleFileVisitor<Path>() {
+
+			@Override
+			public FileVisitResult preVisitDirectory(Path dir, BasicFileAttributes attrs) {
+				String relativePath = relativePath(root, dir);
+				if (relativePath.equals(META_INF_DIRECTORY_NAME)) {
+					return FileVisitResult.SKIP_SUBTREE;
+				}
+				newestLastModifiedTime.accumulateAndGet(attrs.lastModifiedTime().toMillis(), Math::max);
+				lines.add(record(DIRECTORY_RECORD, relativePath));
+				return FileVisitResult.CONTINUE;
+			}
+
+			@Override
+			public FileVisitResult visitFile(Path file, BasicFileAttributes attrs) throws IOException {
+				if (isIndexableClassFile(file.getFileName().toString())) {
+					newestLastModifiedTime.accumulateAndGet(attrs.lastModifiedTime().toMillis(), Math::max);
+					lines.add(classRecord(file));
+				}
+				return FileVisitResult.CONTINUE;
+			}
+		});
+		lines.add(1, record(LAST_MODIFIED_RECORD, String.valueOf(newestLastModifiedTime.get())));
+
+		Path tempFile = Files.createTempFile(indexFile.getParent(), "test-class-index", ".tmp");
+		try (BufferedWriter writer = Files.newBufferedWriter(tempFile, UTF_8)) {
+			for (String line : lines) {
+				writer.write(line);
+				writer.newLine();
+			}
+		}
+		Files.move(tempFile, indexFile, StandardCopyOption.REPLACE_EXISTING);
+		return indexFile;
+	}
+
+	/**
+	 * Read the index stored in the supplied classpath root directory.
+	 *
+	 * <p>Parsed indexes are cached for as long as the index file is not
+	 * modified. An index file that cannot be read or parsed is ignored.
+	 *
+	 * @return an {@code Optional} containing the index; never {@code null} but
+	 * potentially empty if there is no readable index
+	 */
+	static Optional<TestClassIndex> forClasspathRoot(Path classpathRoot) {
+		Path root = classpathRoot.toAbsolutePath().normalize();
+		Path indexFile = root.resolve(INDEX_FILE_NAME);
+		try {
+			if (!Files.isRegularFile(indexFile)) {
+				return Optional.empty();
+			}
+			BasicFileAttributes attributes = Files.readAttributes(indexFile, BasicFileAttributes.class);
+			SoftReference<TestClassIndex> reference = cache.get(root);
+			TestClassIndex index = (reference != null ? reference.get() : null);
+			if (index == null || !index.isUnchanged(attributes)) {
+				index = read(root, indexFile, attributes);
+				cache.put(root, new SoftReference<>(index));
+			}
+			return Optional.of(index);
+		}
+		catch (IOException | RuntimeException ex) {
+			LOG.log(Level.WARNING, ex, () -> "Ignoring test class index that cannot be read: " + indexFile);
+			return Optional.empty();
+		}
+	}
+
+	private TestClassIndex(Path classpathRoot, BasicFileAttributes attributes, long newestLastModifiedTime,
+			SortedSet<String> directories, SortedMap<String, ClassFileMetadata> classes) {
+
+		this.classpathRoot = classpathRoot;
+		this.lastModifiedTime = attributes.lastModifiedTime().toMillis();
+		this.size = attributes.size();
+		this.newestLastModifiedTime = newestLastModifiedTime;
+		this.directories = directories;
+		this.classes = classes;
+	}
+
+	/**
+	 * Determine if the supplied package's directory and all directories
+	 * within it are indexed, still exist, and have not been modified after
+	 * the recorded newest last modified time.
+	 *
+	 * @param packagePath the package in path form, e.g. {@code org/example};
+	 * or an empty string for all packages
+	 */
+	boolean isCurrent(String packagePath) {
+		if (!this.directories.contains(packagePath)) {
+			return false;
+		}
+		try {
+			if (!isCurrent(this.classpathRoot.resolve(packagePath))) {
+				return false;
+			}
+			for (String directory : entriesWithin(this.directories, packagePath)) {
+				if (!isCurrent(this.classpathRoot.resolve(directory))) {
+					return false;
+				}
+			}
+			return true;
+		}
+		catch (IOException ex) {
+			return false;
+		}
+	}
+
+	/**
+	 * Get the metadata of all indexed classes in the supplied package and its
+	 * subpackages, ordered by class name.
+	 *
+	 * @param packagePath the package in path form, e.g. {@code org/example};
+	 * or an empty string for all packages
+	 */
+	List<ClassFileMetadata> getClasses(String packagePath) {
+		return new ArrayList<>(entriesWithin(this.classes, packagePath).values());
+	}
+
+	private boolean isUnchanged(BasicFileAttributes attributes) {
+		return this.lastModifiedTime == attributes.lastModifiedTime().toMillis() && this.size == attributes.size();
+	}
+
+	private boolean isCurrent(Path directory) throws IOException {
+		long lastModifiedTime = Files.getLastModifiedTime(directory, LinkOption.NOFOLLOW_LINKS).toMillis();
+		return lastModifiedTime <= this.newestLastModifiedTime;
+	}
+
+	private static SortedSet<String> entriesWithin(SortedSet<String> entries, String packagePath) {
+		if (packagePath.isEmpty()) {
+			return entries;
+		}
+		// '0' is the character following '/'; the result therefore contains
+		// all entries below the package.
+		return entries.subSet(packagePath + PATH_SEPARATOR, packagePath + (char) (PATH_SEPARATOR + 1));
+	}
+
+	private static <V> SortedMap<String, V> entriesWithin(SortedMap<String, V> entries, String packagePath) {
+		if (packagePath.isEmpty()) {
+			return entries;
+		}
+		return entries.subMap(packagePath + PATH_SEPARATOR, packagePath + (char) (PATH_SEPARATOR + 1));
+	}
+
+	private static TestClassIndex read(Path root, Path indexFile, BasicFileAttributes attributes) throws IOException {
+		Long newestLastModifiedTime = null;
+		SortedSet<String> directories = new TreeSet<>();
+		SortedMap<String, ClassFileMetadata> classes = new TreeMap<>();
+		try (BufferedReader reader = Files.newBufferedReader(indexFile, UTF_8)) {
+			String line = reader.readLine();
+			if (!HEADER.equals(line)) {
+				throw new IOException("Unsupported test class index format: " + line);
+			}
+			while ((line = reader.readLine()) != null) {
+				if (line.isEmpty()) {
+					continue;
+				}
+				String[] fields = line.split(FIELD_SEPARATOR, -1);
+				if (LAST_MODIFIED_RECORD.equals(fields[0])) {
+					newestLastModifiedTime = Long.parseLong(fields[1]);
+				}
+				else if (DIRECTORY_RECORD.equals(fields[0])) {
+					directories.add(fields[1]);
+				}
+				else if (CLASS_RECORD.equals(fields[0])) {
+					ClassFileMetadata metadata = new ClassFileMetadata(fields[1], emptyToNull(fields[2]),
+						toList(fields[3]), toList(fields[5]), new LinkedHashSet<>(toList(fields[4])));
+					classes.put(fields[1], metadata);
+				}
+				else {
+					throw new IOException("Unsupported test class index record: " + line);
+				}
+			}
+		}
+		if (newestLastModifiedTime == null) {
+			throw new IOException("Test class index lacks last modified record: " + indexFile);
+		}
+		return new TestClassIndex(root, attributes, newestLastModifiedTime, directories, classes);
+	}
+
+	private static String classRecord(Path classFile) throws IOException {
+		ClassFileMetadata metadata;
+		try (InputStream in = Files.newInputStream(classFile)) {
+			metadata = ClassFileMetadata.read(new DataInputStream(new BufferedInputStream(in)));
+		}
+		List<String> annotationTypeNames = new ArrayList<>();
+		for (String annotationTypeName : metadata.getAnnotationTypeNames()) {
+			if (!annotationTypeName.startsWith(JDK_PACKAGE_PREFIX)) {
+				annotationTypeNames.add(annotationTypeName);
+			}
+		}
+		annotationTypeNames.sort(null);
+		String superclassName = metadata.getSuperclassName();
+		return record(CLASS_RECORD, metadata.getClassName(), (superclassName != null ? superclassName : ""),
+			String.join(LIST_SEPARATOR, metadata.getInterfaceNames()),
+			String.join(LIST_SEPARATOR, annotationTypeNames),
+			String.join(LIST_SEPARATOR, metadata.getMemberClassNames()));
+	}
+
+	private static String record(String... fields) {
+		return String.join(FIELD_SEPARATOR, fields);
+	}
+
+	private static String relativePath(Path root, Path path) {
+		String relativePath = root.relativize(path).toString();
+		String separator = root.getFileSystem().getSeparator();
+		return relativePath.replace(separator, String.valueOf(PATH_SEPARATOR));
+	}
+
+	private static boolean isIndexableClassFile(String fileName) {
+		return fileName.endsWith(CLASS_FILE_SUFFIX) && !fileName.equals(PACKAGE_INFO_FILE_NAME)
+				&& !fileName.equals(MODULE_INFO_FILE_NAME);
+	}
+
+	private static List<String> toList(String field) {
+		return field.isEmpty() ? emptyList() : Arrays.asList(field.split(LIST_SEPARATOR));
+	}
+
+	private static String emptyToNull(String field) {
+		return field.isEmpty() ? null : field;
+	}
+
+}
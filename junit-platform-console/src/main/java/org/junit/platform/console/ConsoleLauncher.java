@@ -23,6 +23,7 @@ import org.junit.platform.console.options.CommandLineOptions;
 import org.junit.platform.console.options.CommandLineOptionsParser;
 import org.junit.platform.console.options.JOptSimpleCommandLineOptionsParser;
 import org.junit.platform.console.tasks.ConsoleTestExecutor;
+import org.junit.platform.console.tasks.TestClassIndexGenerator;
 import org.junit.platform.launcher.listeners.TestExecutionSummary;
 
 /**
@@ -66,6 +67,9 @@ public class ConsoleLauncher {
 				commandLineOptionsParser.printHelp(out);
 				return ConsoleLauncherExecutionResult.success();
 			}
+			if (options.isGenerateTestClassIndex()) {
+				return generateTestClassIndexes(options, out);
+			}
 			return executeTests(options, out);
 		}
 		finally {
@@ -87,4 +91,17 @@ public class ConsoleLauncher {
 		return ConsoleLauncherExecutionResult.failed();
 	}
 
+	private ConsoleLauncherExecutionResult generateTestClassIndexes(CommandLineOptions options, PrintWriter out) {
+		try {
+			new TestClassIndexGenerator(options).execute(out);
+			return ConsoleLauncherExecutionResult.success();
+		}
+		catch (Exception exception) {
+			exception.printStackTrace(errStream);
+			errStream.println();
+			commandLineOptionsParser.printHelp(out);
+		}
+		return ConsoleLauncherExecutionResult.failed();
+	}
+
 }
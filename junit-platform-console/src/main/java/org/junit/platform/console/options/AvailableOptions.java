@@ -42,6 +42,9 @@ class AvailableOptions {
 	// Reports
 	private final OptionSpec<Path> reportsDir;
 
+	// Test Class Index
+	private final OptionSpec<Path> testClassIndexRoots;
+
 	// Selectors
 	private final OptionSpec<Path> selectedClasspathEntries;
 	private final OptionSpec<URI> selectedUris;
@@ -107,6 +110,17 @@ class AvailableOptions {
 				.withRequiredArg() //
 				.withValuesConvertedBy(new PathConverter());
 
+		// --- Test Class Index ------------------------------------------------
+
+		testClassIndexRoots = parser.accepts("generate-test-class-index", //
+			"Generate a test class index for each of the supplied classpath root directories instead of " //
+					+ "executing tests. Classpath scanning reads a current index instead of walking the " //
+					+ "directory. This option can be repeated.") //
+				.withRequiredArg() //
+				.withValuesConvertedBy(new PathConverter()) //
+				.withValuesSeparatedBy(File.pathSeparatorChar) //
+				.describedAs("path1" + File.pathSeparator + "path2" + File.pathSeparator + "...");
+
 		// --- Selectors -------------------------------------------------------
 
 		selectedClasspathEntries = parser.acceptsAll(asList("scan-class-path", "scan-classpath"), //
@@ -203,6 +217,9 @@ class AvailableOptions {
 		// Reports
 		result.setReportsDir(detectedOptions.valueOf(this.reportsDir));
 
+		// Test Class Index
+		result.setTestClassIndexRoots(detectedOptions.valuesOf(this.testClassIndexRoots));
+
 		// Selectors
 		result.setScanClasspath(detectedOptions.has(this.selectedClasspathEntries));
 		result.setSelectedClasspathEntries(detectedOptions.valuesOf(this.selectedClasspathEntries));
@@ -64,6 +64,8 @@ public class CommandLineOptions {
 
 	private Path reportsDir;
 
+	private List<Path> testClassIndexRoots = emptyList();
+
 	public boolean isDisplayHelp() {
 		return this.displayHelp;
 	}
@@ -255,4 +257,16 @@ public class CommandLineOptions {
 		this.selectedClasspathEntries = selectedClasspathEntries;
 	}
 
+	public boolean isGenerateTestClassIndex() {
+		return !this.testClassIndexRoots.isEmpty();
+	}
+
+	public List<Path> getTestClassIndexRoots() {
+		return this.testClassIndexRoots;
+	}
+
+	public void setTestClassIndexRoots(List<Path> testClassIndexRoots) {
+		this.testClassIndexRoots = testClassIndexRoots;
+	}
+
 }
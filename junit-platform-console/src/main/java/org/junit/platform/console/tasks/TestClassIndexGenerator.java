@@ -0,0 +1,61 @@
+/*
+ * Copyright 2015-2017 the original author or authors.
+ *
+ * All rights reserved. This program and the accompanying materials are
+ * made available under the terms of the Eclipse Public License v1.0 which
+ * accompanies this distribution and is available at
+ *
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+
+package org.junit.platform.console.tasks;
+
+import static org.junit.platform.commons.meta.API.Usage.Internal;
+
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import org.junit.platform.commons.meta.API;
+import org.junit.platform.commons.util.TestClassIndex;
+import org.junit.platform.console.options.CommandLineOptions;
+
+/**
+ * Generates a {@link TestClassIndex} for each classpath root directory
+ * supplied via {@link CommandLineOptions#getTestClassIndexRoots()}.
+ *
+ * @since 1.0
+ */
+@API(Internal)
+public class TestClassIndexGenerator {
+
+	private final CommandLineOptions options;
+
+	public TestClassIndexGenerator(CommandLineOptions options) {
+		this.options = options;
+	}
+
+	/**
+	 * Generate the indexes.
+	 *
+	 * <p>Supplied paths that are not directories, such as JAR files, are
+	 * skipped.
+	 *
+	 * @return the number of indexes generated
+	 */
+	public int execute(PrintWriter out) throws IOException {
+		int count = 0;
+		for (Path classpathRoot : options.getTestClassIndexRoots()) {
+			if (!Files.isDirectory(classpathRoot)) {
+				out.println("Skipping " + classpathRoot + " since it is not a directory");
+				continue;
+			}
+			Path indexFile = TestClassIndex.write(classpathRoot);
+			out.println("Generated test class index " + indexFile);
+			count++;
+		}
+		return count;
+	}
+
+}
@@ -78,6 +78,18 @@ class XmlReportData {
 		}
 	}
 
+	/**
+	 * Discard all data of the supplied released test, whose test case has
+	 * already been written.
+	 */
+	void markReleased(TestIdentifier testIdentifier) {
+		finishedTests.remove(testIdentifier);
+		skippedTests.remove(testIdentifier);
+		startInstants.remove(testIdentifier);
+		endInstants.remove(testIdentifier);
+		reportEntries.remove(testIdentifier);
+	}
+
 	void addReportEntry(TestIdentifier testIdentifier, ReportEntry entry) {
 		List<ReportEntry> entries = reportEntries.computeIfAbsent(testIdentifier, key -> new ArrayList<>());
 		entries.add(entry);
@@ -118,6 +130,26 @@ class XmlReportData {
 		return Optional.empty();
 	}
 
+	/**
+	 * Get the tests below the supplied ancestor that are still part of the
+	 * test plan, i.e. have not been released.
+	 */
+	List<TestIdentifier> getTests(TestIdentifier ancestor) {
+		List<TestIdentifier> tests = new ArrayList<>();
+		testPlan.getDescendants(ancestor).stream().filter(TestIdentifier::isTest).forEach(tests::add);
+		return tests;
+	}
+
+	TestIdentifier getRoot(TestIdentifier testIdentifier) {
+		TestIdentifier root = testIdentifier;
+		Optional<TestIdentifier> parent = testPlan.getParent(root);
+		while (parent.isPresent()) {
+			root = parent.get();
+			parent = testPlan.getParent(root);
+		}
+		return root;
+	}
+
 	List<ReportEntry> getReportEntries(TestIdentifier testIdentifier) {
 		return reportEntries.getOrDefault(testIdentifier, emptyList());
 	}
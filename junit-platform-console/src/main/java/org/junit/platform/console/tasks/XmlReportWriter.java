@@ -12,15 +12,19 @@ package org.junit.platform.console.tasks;
 
 import static java.text.MessageFormat.format;
 import static java.time.format.DateTimeFormatter.ISO_LOCAL_DATE_TIME;
-import static java.util.stream.Collectors.toList;
 import static org.junit.platform.commons.util.ExceptionUtils.readStackTrace;
 import static org.junit.platform.commons.util.StringUtils.isNotBlank;
 import static org.junit.platform.console.tasks.XmlReportData.isFailure;
 import static org.junit.platform.engine.TestExecutionResult.Status.FAILED;
 
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.Reader;
 import java.io.Writer;
 import java.net.InetAddress;
 import java.net.UnknownHostException;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.text.NumberFormat;
 import java.time.LocalDateTime;
 import java.util.List;
@@ -48,30 +52,45 @@ class XmlReportWriter {
 		this.reportData = reportData;
 	}
 
-	void writeXmlReport(TestIdentifier testIdentifier, Writer out) throws XMLStreamException {
-		// @formatter:off
-		List<TestIdentifier> tests = reportData.getTestPlan().getDescendants(testIdentifier)
-				.stream()
-				.filter(TestIdentifier::isTest)
-				.collect(toList());
-		// @formatter:on
-		writeXmlReport(testIdentifier, tests, out);
+	void writeXmlReport(TestIdentifier testIdentifier, Writer out) throws XMLStreamException, IOException {
+		writeXmlReport(testIdentifier, null, out);
 	}
 
-	private void writeXmlReport(TestIdentifier testIdentifier, List<TestIdentifier> tests, Writer out)
+	/**
+	 * Write the report of the supplied root, including the test cases of its
+	 * previously {@linkplain #writeReleasedTestcase released tests}, if any.
+	 */
+	void writeXmlReport(TestIdentifier testIdentifier, ReleasedTestcases releasedTestcases, Writer out)
+			throws XMLStreamException, IOException {
+		writeXmlReport(testIdentifier, reportData.getTests(testIdentifier), releasedTestcases, out);
+	}
+
+	/**
+	 * Write the test case of the supplied released test to the supplied
+	 * {@link ReleasedTestcases} right away, since its data is discarded once
+	 * it has been released.
+	 */
+	void writeReleasedTestcase(TestIdentifier testIdentifier, ReleasedTestcases releasedTestcases)
 			throws XMLStreamException {
+		writeTestcase(testIdentifier, NumberFormat.getInstance(Locale.US), releasedTestcases.xmlWriter);
+		releasedTestcases.counts.add(reportData, testIdentifier);
+	}
+
+	private void writeXmlReport(TestIdentifier testIdentifier, List<TestIdentifier> tests,
+			ReleasedTestcases releasedTestcases, Writer out) throws XMLStreamException, IOException {
 		XMLOutputFactory factory = XMLOutputFactory.newInstance();
 		XMLStreamWriter xmlWriter = factory.createXMLStreamWriter(out);
 		xmlWriter.writeStartDocument("UTF-8", "1.0");
 		newLine(xmlWriter);
-		writeTestsuite(testIdentifier, tests, xmlWriter);
+		writeTestsuite(testIdentifier, tests, releasedTestcases, xmlWriter, out);
 		xmlWriter.writeEndDocument();
 		xmlWriter.flush();
 		xmlWriter.close();
 	}
 
-	private void writeTestsuite(TestIdentifier testIdentifier, List<TestIdentifier> tests, XMLStreamWriter writer)
-			throws XMLStreamException {
+	private void writeTestsuite(TestIdentifier testIdentifier, List<TestIdentifier> tests,
+			ReleasedTestcases releasedTestcases, XMLStreamWriter writer, Writer out)
+			throws XMLStreamException, IOException {
 
 		// NumberFormat is not thread-safe. Thus, we instantiate it here and pass it to
 		// writeTestcase instead of using a constant
@@ -79,7 +98,11 @@ class XmlReportWriter {
 
 		writer.writeStartElement("testsuite");
 
-		writeSuiteAttributes(testIdentifier, tests, numberFormat, writer);
+		TestCounts testCounts = TestCounts.from(reportData, tests);
+		if (releasedTestcases != null) {
+			testCounts.addAll(releasedTestcases.counts);
+		}
+		writeSuiteAttributes(testIdentifier, testCounts, numberFormat, writer);
 
 		newLine(writer);
 		writeSystemProperties(writer);
@@ -87,6 +110,10 @@ class XmlReportWriter {
 		for (TestIdentifier test : tests) {
 			writeTestcase(test, numberFormat, writer);
 		}
+		if (releasedTestcases != null) {
+			writer.flush();
+			releasedTestcases.transferTo(out);
+		}
 
 		writeNonStandardAttributesToSystemOutElement(testIdentifier, writer);
 
@@ -94,17 +121,16 @@ class XmlReportWriter {
 		newLine(writer);
 	}
 
-	private void writeSuiteAttributes(TestIdentifier testIdentifier, List<TestIdentifier> tests,
+	private void writeSuiteAttributes(TestIdentifier testIdentifier, TestCounts testCounts,
 			NumberFormat numberFormat, XMLStreamWriter writer) throws XMLStreamException {
 		writer.writeAttribute("name", testIdentifier.getDisplayName());
-		writeTestCounts(tests, writer);
+		writeTestCounts(testCounts, writer);
 		writer.writeAttribute("time", getTime(testIdentifier, numberFormat));
 		writer.writeAttribute("hostname", getHostname().orElse("<unknown host>"));
 		writer.writeAttribute("timestamp", ISO_LOCAL_DATE_TIME.format(getCurrentDateTime()));
 	}
 
-	private void writeTestCounts(List<TestIdentifier> tests, XMLStreamWriter writer) throws XMLStreamException {
-		TestCounts testCounts = TestCounts.from(reportData, tests);
+	private void writeTestCounts(TestCounts testCounts, XMLStreamWriter writer) throws XMLStreamException {
 		writer.writeAttribute("tests", String.valueOf(testCounts.getTotal()));
 		writer.writeAttribute("skipped", String.valueOf(testCounts.getSkipped()));
 		writer.writeAttribute("failures", String.valueOf(testCounts.getFailures()));
@@ -262,33 +288,41 @@ class XmlReportWriter {
 	private static class TestCounts {
 
 		static TestCounts from(XmlReportData reportData, List<TestIdentifier> tests) {
-			TestCounts counts = new TestCounts(tests.size());
+			TestCounts counts = new TestCounts();
 			for (TestIdentifier test : tests) {
-				if (reportData.wasSkipped(test)) {
-					counts.skipped++;
-				}
-				else {
-					Optional<TestExecutionResult> result = reportData.getResult(test);
-					if (result.isPresent() && result.get().getStatus() == FAILED) {
-						if (isFailure(result.get().getThrowable())) {
-							counts.failures++;
-						}
-						else {
-							counts.errors++;
-						}
-					}
-				}
+				counts.add(reportData, test);
 			}
 			return counts;
 		}
 
-		private final long total;
+		private long total;
 		private long skipped;
 		private long failures;
 		private long errors;
 
-		public TestCounts(long total) {
-			this.total = total;
+		void add(XmlReportData reportData, TestIdentifier test) {
+			total++;
+			if (reportData.wasSkipped(test)) {
+				skipped++;
+			}
+			else {
+				Optional<TestExecutionResult> result = reportData.getResult(test);
+				if (result.isPresent() && result.get().getStatus() == FAILED) {
+					if (isFailure(result.get().getThrowable())) {
+						failures++;
+					}
+					else {
+						errors++;
+					}
+				}
+			}
+		}
+
+		void addAll(TestCounts counts) {
+			total += counts.total;
+			skipped += counts.skipped;
+			failures += counts.failures;
+			errors += counts.errors;
 		}
 
 		public long getTotal() {
@@ -309,4 +343,58 @@ class XmlReportWriter {
 
 	}
 
+	/**
+	 * Test cases of the released tests of a root and their counts.
+	 *
+	 * <p>The test cases are written to a temporary file so that neither the
+	 * released tests nor their test cases have to be retained until the
+	 * report of the root is written. The file is created in the default
+	 * temporary-file directory rather than the reports directory and is
+	 * deleted on exit, so that an aborted run does not leave partial reports
+	 * behind.
+	 */
+	static class ReleasedTestcases implements Closeable {
+
+		private final Path file;
+		private final Writer fileWriter;
+		private final XMLStreamWriter xmlWriter;
+		private final TestCounts counts = new TestCounts();
+
+		ReleasedTestcases(String rootName) throws IOException, XMLStreamException {
+			this.file = Files.createTempFile("TEST-" + rootName, ".xml.part");
+			this.file.toFile().deleteOnExit();
+			this.fileWriter = Files.newBufferedWriter(this.file);
+			this.xmlWriter = XMLOutputFactory.newInstance().createXMLStreamWriter(this.fileWriter);
+		}
+
+		private void transferTo(Writer out) throws XMLStreamException, IOException {
+			this.xmlWriter.flush();
+			this.fileWriter.flush();
+			try (Reader reader = Files.newBufferedReader(this.file)) {
+				char[] buffer = new char[8192];
+				for (int read = reader.read(buffer); read != -1; read = reader.read(buffer)) {
+					out.write(buffer, 0, read);
+				}
+			}
+		}
+
+		/**
+		 * Delete the temporary file.
+		 */
+		@Override
+		public void close() throws IOException {
+			try {
+				this.xmlWriter.close();
+				this.fileWriter.close();
+			}
+			catch (XMLStreamException ex) {
+				throw new IOException(ex);
+			}
+			finally {
+				Files.deleteIfExists(this.file);
+			}
+		}
+
+	}
+
 }
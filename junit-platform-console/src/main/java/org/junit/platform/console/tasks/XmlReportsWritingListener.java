@@ -17,9 +17,12 @@ import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.time.Clock;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 import javax.xml.stream.XMLStreamException;
 
+import org.junit.platform.console.tasks.XmlReportWriter.ReleasedTestcases;
 import org.junit.platform.engine.TestExecutionResult;
 import org.junit.platform.engine.UniqueId;
 import org.junit.platform.engine.reporting.ReportEntry;
@@ -35,6 +38,7 @@ class XmlReportsWritingListener implements TestExecutionListener {
 	private final Path reportsDir;
 	private final PrintWriter out;
 	private final Clock clock;
+	private final Map<TestIdentifier, ReleasedTestcases> releasedTestcases = new ConcurrentHashMap<>();
 
 	private XmlReportData reportData;
 
@@ -67,6 +71,8 @@ class XmlReportsWritingListener implements TestExecutionListener {
 	@Override
 	public void testPlanExecutionFinished(TestPlan testPlan) {
 		this.reportData = null;
+		this.releasedTestcases.values().forEach(this::closeSafely);
+		this.releasedTestcases.clear();
 	}
 
 	@Override
@@ -85,6 +91,32 @@ class XmlReportsWritingListener implements TestExecutionListener {
 		reportData.addReportEntry(testIdentifier, entry);
 	}
 
+	@Override
+	public void dynamicTestReleased(TestIdentifier testIdentifier) {
+		TestIdentifier root = reportData.getRoot(testIdentifier);
+		try {
+			ReleasedTestcases testcases = getReleasedTestcases(root);
+			synchronized (testcases) {
+				new XmlReportWriter(reportData).writeReleasedTestcase(testIdentifier, testcases);
+			}
+		}
+		catch (XMLStreamException | IOException e) {
+			printException("Could not write released test to XML report: " + testIdentifier.getUniqueId(), e);
+		}
+		reportData.markReleased(testIdentifier);
+	}
+
+	private ReleasedTestcases getReleasedTestcases(TestIdentifier root) throws XMLStreamException, IOException {
+		synchronized (this.releasedTestcases) {
+			ReleasedTestcases testcases = this.releasedTestcases.get(root);
+			if (testcases == null) {
+				testcases = new ReleasedTestcases(getRootName(root));
+				this.releasedTestcases.put(root, testcases);
+			}
+			return testcases;
+		}
+	}
+
 	@Override
 	public void executionFinished(TestIdentifier testIdentifier, TestExecutionResult result) {
 		reportData.markFinished(testIdentifier, result);
@@ -93,19 +125,37 @@ class XmlReportsWritingListener implements TestExecutionListener {
 
 	private void writeXmlReportInCaseOfRoot(TestIdentifier testIdentifier) {
 		if (isARoot(testIdentifier)) {
-			String rootName = UniqueId.parse(testIdentifier.getUniqueId()).getSegments().get(0).getValue();
-			writeXmlReportSafely(testIdentifier, rootName);
+			writeXmlReportSafely(testIdentifier, getRootName(testIdentifier));
 		}
 	}
 
+	private String getRootName(TestIdentifier root) {
+		return UniqueId.parse(root.getUniqueId()).getSegments().get(0).getValue();
+	}
+
 	private void writeXmlReportSafely(TestIdentifier testIdentifier, String rootName) {
 		Path xmlFile = reportsDir.resolve("TEST-" + rootName + ".xml");
+		ReleasedTestcases testcases = releasedTestcases.remove(testIdentifier);
 		try (Writer fileWriter = Files.newBufferedWriter(xmlFile)) {
-			new XmlReportWriter(reportData).writeXmlReport(testIdentifier, fileWriter);
+			new XmlReportWriter(reportData).writeXmlReport(testIdentifier, testcases, fileWriter);
 		}
 		catch (XMLStreamException | IOException e) {
 			printException("Could not write XML report: " + xmlFile, e);
 		}
+		finally {
+			if (testcases != null) {
+				closeSafely(testcases);
+			}
+		}
+	}
+
+	private void closeSafely(ReleasedTestcases testcases) {
+		try {
+			testcases.close();
+		}
+		catch (IOException e) {
+			printException("Could not delete temporary XML report file", e);
+		}
 	}
 
 	private boolean isARoot(TestIdentifier testIdentifier) {
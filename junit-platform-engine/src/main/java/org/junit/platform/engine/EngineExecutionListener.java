@@ -24,6 +24,10 @@ import org.junit.platform.engine.reporting.ReportEntry;
  * must report events not only for {@linkplain TestDescriptor test descriptors}
  * that represent executable leaves but also for all intermediate containers.
  *
+ * <p>Engines that execute tests concurrently may call this listener from
+ * multiple threads. Implementations must therefore be thread-safe or be
+ * wrapped accordingly.
+ *
  * @since 1.0
  * @see TestEngine
  * @see ExecutionRequest
@@ -43,6 +47,24 @@ public interface EngineExecutionListener {
 	 */
 	void dynamicTestRegistered(TestDescriptor testDescriptor);
 
+	/**
+	 * May be called when a dynamic {@link TestDescriptor} that has been
+	 * {@linkplain #dynamicTestRegistered registered} and has
+	 * {@linkplain #executionFinished finished} will not be referenced by any
+	 * further events.
+	 *
+	 * <p>Engines that generate a large number of dynamic tests may call this
+	 * method so that listeners can release the state they hold for the
+	 * test and only retain summarized information about it. The descriptor
+	 * must not have any children.
+	 *
+	 * <p>The default implementation does nothing.
+	 *
+	 * @param testDescriptor the descriptor of the released test
+	 */
+	default void dynamicTestReleased(TestDescriptor testDescriptor) {
+	}
+
 	/**
 	 * Must be called when the execution of a leaf or subtree of the test tree
 	 * has been skipped.
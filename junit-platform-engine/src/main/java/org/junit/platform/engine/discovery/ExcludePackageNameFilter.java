@@ -64,6 +64,11 @@ class ExcludePackageNameFilter implements PackageNameFilter {
 		return packageName -> !findMatchingName(packageName).isPresent();
 	}
 
+	@Override
+	public boolean mightIncludeClassesInPackage(String packageName) {
+		return !findMatchingName(packageName).isPresent();
+	}
+
 	private Optional<String> findMatchingName(String packageName) {
 		return this.packageNames.stream().filter(
 			name -> name.equals(packageName) || packageName.startsWith(name + ".")).findAny();
@@ -64,6 +64,13 @@ class IncludePackageNameFilter implements PackageNameFilter {
 		return packageName -> findMatchingName(packageName).isPresent();
 	}
 
+	@Override
+	public boolean mightIncludeClassesInPackage(String packageName) {
+		// Included if the package lies within an included package or contains one.
+		return packageName.isEmpty() || findMatchingName(packageName).isPresent()
+				|| this.packageNames.stream().anyMatch(name -> name.startsWith(packageName + "."));
+	}
+
 	private Optional<String> findMatchingName(String packageName) {
 		return this.packageNames.stream().filter(
 			name -> name.equals(packageName) || packageName.startsWith(name + ".")).findAny();
@@ -90,4 +90,21 @@ public interface PackageNameFilter extends DiscoveryFilter<String> {
 		return excludePackageNames(names.toArray(new String[0]));
 	}
 
+	/**
+	 * Determine if this filter might include any class that resides in the
+	 * supplied package or in one of its subpackages.
+	 *
+	 * <p>Classpath scanning uses this method to skip packages that cannot
+	 * contain any included classes. The default implementation returns
+	 * {@code true}.
+	 *
+	 * @param packageName the fully qualified name of the package; empty for
+	 * the default package
+	 * @return {@code false} if no class in the supplied package or its
+	 * subpackages can be included
+	 */
+	default boolean mightIncludeClassesInPackage(String packageName) {
+		return true;
+	}
+
 }
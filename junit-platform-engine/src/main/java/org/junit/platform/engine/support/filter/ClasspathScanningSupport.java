@@ -18,6 +18,7 @@ import java.util.List;
 import java.util.function.Predicate;
 
 import org.junit.platform.commons.meta.API;
+import org.junit.platform.commons.util.ClassNamePredicate;
 import org.junit.platform.engine.DiscoveryFilter;
 import org.junit.platform.engine.EngineDiscoveryRequest;
 import org.junit.platform.engine.discovery.ClassNameFilter;
@@ -35,13 +36,21 @@ public class ClasspathScanningSupport {
 	 * Build a {@link Predicate} for fully qualified class names to be used for
 	 * classpath scanning from an {@link EngineDiscoveryRequest}.
 	 *
+	 * <p>The returned predicate allows classpath scanning to skip packages
+	 * that are rejected by one of the request's {@link PackageNameFilter
+	 * PackageNameFilters} without visiting them.
+	 *
 	 * @param request the request to build a predicate from
+	 * @see PackageNameFilter#mightIncludeClassesInPackage(String)
 	 */
 	public static Predicate<String> buildClassNamePredicate(EngineDiscoveryRequest request) {
+		List<PackageNameFilter> packageNameFilters = request.getDiscoveryFiltersByType(PackageNameFilter.class);
 		List<DiscoveryFilter<String>> filters = new ArrayList<>();
 		filters.addAll(request.getDiscoveryFiltersByType(ClassNameFilter.class));
-		filters.addAll(request.getDiscoveryFiltersByType(PackageNameFilter.class));
-		return composeFilters(filters).toPredicate();
+		filters.addAll(packageNameFilters);
+		return ClassNamePredicate.of(composeFilters(filters).toPredicate(),
+			packageName -> packageNameFilters.stream().allMatch(
+				filter -> filter.mightIncludeClassesInPackage(packageName)));
 	}
 
 }
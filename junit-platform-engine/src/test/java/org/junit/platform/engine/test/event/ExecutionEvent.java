@@ -13,6 +13,7 @@ package org.junit.platform.engine.test.event;
 import static java.util.function.Predicate.isEqual;
 import static org.junit.platform.commons.util.FunctionUtils.where;
 import static org.junit.platform.engine.test.event.ExecutionEvent.Type.DYNAMIC_TEST_REGISTERED;
+import static org.junit.platform.engine.test.event.ExecutionEvent.Type.DYNAMIC_TEST_RELEASED;
 import static org.junit.platform.engine.test.event.ExecutionEvent.Type.FINISHED;
 import static org.junit.platform.engine.test.event.ExecutionEvent.Type.REPORTING_ENTRY_PUBLISHED;
 import static org.junit.platform.engine.test.event.ExecutionEvent.Type.SKIPPED;
@@ -35,7 +36,7 @@ import org.junit.platform.engine.reporting.ReportEntry;
 public class ExecutionEvent {
 
 	public enum Type {
-		DYNAMIC_TEST_REGISTERED, SKIPPED, STARTED, FINISHED, REPORTING_ENTRY_PUBLISHED
+		DYNAMIC_TEST_REGISTERED, DYNAMIC_TEST_RELEASED, SKIPPED, STARTED, FINISHED, REPORTING_ENTRY_PUBLISHED
 	}
 
 	public static ExecutionEvent reportingEntryPublished(TestDescriptor testDescriptor, ReportEntry entry) {
@@ -46,6 +47,10 @@ public class ExecutionEvent {
 		return new ExecutionEvent(DYNAMIC_TEST_REGISTERED, testDescriptor, null);
 	}
 
+	public static ExecutionEvent dynamicTestReleased(TestDescriptor testDescriptor) {
+		return new ExecutionEvent(DYNAMIC_TEST_RELEASED, testDescriptor, null);
+	}
+
 	public static ExecutionEvent executionSkipped(TestDescriptor testDescriptor, String reason) {
 		return new ExecutionEvent(SKIPPED, testDescriptor, reason);
 	}
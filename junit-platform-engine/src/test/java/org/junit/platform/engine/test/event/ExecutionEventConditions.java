@@ -19,6 +19,7 @@ import static org.junit.platform.engine.TestExecutionResult.Status.ABORTED;
 import static org.junit.platform.engine.TestExecutionResult.Status.FAILED;
 import static org.junit.platform.engine.TestExecutionResult.Status.SUCCESSFUL;
 import static org.junit.platform.engine.test.event.ExecutionEvent.Type.DYNAMIC_TEST_REGISTERED;
+import static org.junit.platform.engine.test.event.ExecutionEvent.Type.DYNAMIC_TEST_RELEASED;
 import static org.junit.platform.engine.test.event.ExecutionEvent.Type.FINISHED;
 import static org.junit.platform.engine.test.event.ExecutionEvent.Type.SKIPPED;
 import static org.junit.platform.engine.test.event.ExecutionEvent.Type.STARTED;
@@ -95,6 +96,10 @@ public class ExecutionEventConditions {
 		return allOf(type(DYNAMIC_TEST_REGISTERED), uniqueIdSubstring(uniqueIdSubstring));
 	}
 
+	public static Condition<ExecutionEvent> dynamicTestReleased(String uniqueIdSubstring) {
+		return allOf(type(DYNAMIC_TEST_RELEASED), uniqueIdSubstring(uniqueIdSubstring));
+	}
+
 	public static Condition<ExecutionEvent> uniqueIdSubstring(String uniqueIdSubstring) {
 		return new Condition<>(
 			byTestDescriptor(where(testDescriptor -> testDescriptor.getUniqueId().toString(),
@@ -14,6 +14,7 @@ import static java.util.function.Predicate.isEqual;
 import static java.util.stream.Collectors.toList;
 import static org.junit.platform.commons.util.FunctionUtils.where;
 import static org.junit.platform.engine.test.event.ExecutionEvent.Type.DYNAMIC_TEST_REGISTERED;
+import static org.junit.platform.engine.test.event.ExecutionEvent.Type.DYNAMIC_TEST_RELEASED;
 import static org.junit.platform.engine.test.event.ExecutionEvent.Type.FINISHED;
 import static org.junit.platform.engine.test.event.ExecutionEvent.Type.REPORTING_ENTRY_PUBLISHED;
 import static org.junit.platform.engine.test.event.ExecutionEvent.Type.SKIPPED;
@@ -62,6 +63,11 @@ public class ExecutionEventRecorder implements EngineExecutionListener {
 		addEvent(ExecutionEvent.dynamicTestRegistered(testDescriptor));
 	}
 
+	@Override
+	public void dynamicTestReleased(TestDescriptor testDescriptor) {
+		addEvent(ExecutionEvent.dynamicTestReleased(testDescriptor));
+	}
+
 	@Override
 	public void executionSkipped(TestDescriptor testDescriptor, String reason) {
 		addEvent(ExecutionEvent.executionSkipped(testDescriptor, reason));
@@ -106,6 +112,10 @@ public class ExecutionEventRecorder implements EngineExecutionListener {
 		return testEventsByType(DYNAMIC_TEST_REGISTERED).count();
 	}
 
+	public long getDynamicTestReleasedCount() {
+		return testEventsByType(DYNAMIC_TEST_RELEASED).count();
+	}
+
 	public long getTestFinishedCount() {
 		return testEventsByType(FINISHED).count();
 	}
@@ -79,4 +79,15 @@ class JUnitPlatformExtension {
 	 */
 	Details details = Details.NONE
 
+	/**
+	 * Whether or not a test class index should be generated for the class
+	 * output directories of all source sets before tests are executed.
+	 *
+	 * <p>Classpath scanning reads a current test class index instead of
+	 * walking the respective directory.
+	 *
+	 * <p>Defaults to {@code false}.
+	 */
+	boolean generateTestClassIndex = false
+
 }
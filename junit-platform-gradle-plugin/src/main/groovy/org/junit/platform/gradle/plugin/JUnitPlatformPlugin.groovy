@@ -14,6 +14,7 @@ import org.gradle.api.Plugin
 import org.gradle.api.Project
 import org.gradle.api.tasks.JavaExec
 import org.gradle.util.GradleVersion
+import org.junit.platform.commons.util.TestClassIndex
 import org.junit.platform.console.ConsoleLauncher
 
 /**
@@ -21,8 +22,9 @@ import org.junit.platform.console.ConsoleLauncher
  */
 class JUnitPlatformPlugin implements Plugin<Project> {
 
-	private static final String EXTENSION_NAME = 'junitPlatform';
-	private static final String TASK_NAME      = 'junitPlatformTest';
+	private static final String EXTENSION_NAME  = 'junitPlatform';
+	private static final String TASK_NAME       = 'junitPlatformTest';
+	private static final String INDEX_TASK_NAME = 'junitPlatformTestClassIndex';
 
 	void apply(Project project) {
 		def junitExtension = project.extensions.create(EXTENSION_NAME, JUnitPlatformExtension, project)
@@ -64,6 +66,10 @@ class JUnitPlatformPlugin implements Plugin<Project> {
 	}
 
 	private void configure(Project project, JUnitPlatformExtension junitExtension) {
+		if (junitExtension.generateTestClassIndex) {
+			configureTestClassIndexTask(project)
+		}
+
 		project.task(
 				TASK_NAME,
 				type: JavaExec,
@@ -109,10 +115,37 @@ class JUnitPlatformPlugin implements Plugin<Project> {
 		}
 	}
 
+	private void configureTestClassIndexTask(Project project) {
+		project.task(
+				INDEX_TASK_NAME,
+				type: JavaExec,
+				group: 'build',
+				description: 'Generates a test class index for the JUnit Platform.') { indexTask ->
+
+			indexTask.dependsOn project.tasks.getByName('testClasses')
+
+			// Only index the test classes so that the index does not end up in the
+			// production class output. The index itself is excluded from the inputs
+			// since it is written into the indexed directory.
+			def classesDir = project.sourceSets.test.output.classesDir
+			indexTask.inputs.files(project.fileTree(classesDir) { exclude TestClassIndex.INDEX_FILE_NAME })
+			indexTask.outputs.file(new File(classesDir, TestClassIndex.INDEX_FILE_NAME))
+
+			indexTask.classpath = project.configurations.junitPlatform
+			indexTask.main = ConsoleLauncher.class.getName()
+			indexTask.args(['--generate-test-class-index', classesDir.absolutePath])
+		}
+	}
+
 	private void configureTaskDependencies(project, junitTask, junitExtension) {
 		def testClassesTask = project.tasks.getByName('testClasses')
 		junitTask.dependsOn testClassesTask
 
+		def indexTask = project.tasks.findByName(INDEX_TASK_NAME)
+		if (indexTask) {
+			junitTask.dependsOn indexTask
+		}
+
 		def testTask = project.tasks.getByName('test')
 		testTask.dependsOn junitTask
 		testTask.enabled = junitExtension.enableStandardTestTask
@@ -162,6 +162,40 @@ class JUnitPlatformPluginSpec extends Specification {
 		testTask.enabled == true
 	}
 
+	def "generateTestClassIndex creates junitPlatformTestClassIndex task"() {
+
+		project.apply plugin: 'java'
+		project.apply plugin: 'org.junit.platform.gradle.plugin'
+
+		when:
+		project.junitPlatform { generateTestClassIndex true }
+		project.evaluate()
+
+		then:
+		Task indexTask = project.tasks.findByName('junitPlatformTestClassIndex')
+		indexTask instanceof JavaExec
+		indexTask.main == ConsoleLauncher.class.getName()
+		def testClassesDir = project.file('build/classes/test')
+		indexTask.args == ['--generate-test-class-index', testClassesDir.absolutePath]
+		indexTask.outputs.files.singleFile == new File(testClassesDir, 'META-INF/junit-platform/test-class-index')
+		!indexTask.inputs.files.files.any { file -> file.path.startsWith(project.file('build/classes/main').path) }
+
+		Task junitTask = project.tasks.findByName('junitPlatformTest')
+		junitTask.dependsOn.contains(indexTask)
+	}
+
+	def "no junitPlatformTestClassIndex task by default"() {
+
+		project.apply plugin: 'java'
+		project.apply plugin: 'org.junit.platform.gradle.plugin'
+
+		when:
+		project.evaluate()
+
+		then:
+		project.tasks.findByName('junitPlatformTestClassIndex') == null
+	}
+
 	def "when buildDir is set to non-standard location, it will be honored"() {
 		project.apply plugin: 'java'
 		project.apply plugin: 'org.junit.platform.gradle.plugin'
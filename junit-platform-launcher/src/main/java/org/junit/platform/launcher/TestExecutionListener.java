@@ -77,6 +77,22 @@ public interface TestExecutionListener {
 	default void dynamicTestRegistered(TestIdentifier testIdentifier) {
 	}
 
+	/**
+	 * Called when a dynamic {@link TestIdentifier} that has been
+	 * {@linkplain #dynamicTestRegistered registered} and has
+	 * {@linkplain #executionFinished finished} is released by its engine.
+	 *
+	 * <p>No further listener methods will be called for the supplied
+	 * identifier, and it is removed from the {@link TestPlan} once all
+	 * listeners have been notified. Listeners should release any state
+	 * they hold for it that is not needed to report the results of the
+	 * test plan.
+	 *
+	 * @param testIdentifier the identifier of the released test
+	 */
+	default void dynamicTestReleased(TestIdentifier testIdentifier) {
+	}
+
 	/**
 	 * Called when the execution of a leaf or subtree of the {@link TestPlan}
 	 * has been skipped.
@@ -103,6 +103,33 @@ public final class TestPlan {
 		}
 	}
 
+	/**
+	 * Remove the supplied {@link TestIdentifier} of a released dynamic test
+	 * from this test plan.
+	 *
+	 * <p>Once removed, the identifier is no longer returned by any method of
+	 * this test plan, which allows it to be garbage collected.
+	 *
+	 * @param testIdentifier the identifier to remove; never {@code null}
+	 * @see TestExecutionListener#dynamicTestReleased(TestIdentifier)
+	 */
+	@API(Internal)
+	public void remove(TestIdentifier testIdentifier) {
+		Preconditions.notNull(testIdentifier, "testIdentifier must not be null");
+		String uniqueId = testIdentifier.getUniqueId();
+		allIdentifiers.remove(uniqueId);
+		children.remove(uniqueId);
+		if (testIdentifier.getParentId().isPresent()) {
+			Set<TestIdentifier> siblings = children.get(testIdentifier.getParentId().get());
+			if (siblings != null) {
+				siblings.remove(testIdentifier);
+			}
+		}
+		else {
+			roots.remove(testIdentifier);
+		}
+	}
+
 	/**
 	 * Get the root {@link TestIdentifier TestIdentifiers} for this test plan.
 	 *
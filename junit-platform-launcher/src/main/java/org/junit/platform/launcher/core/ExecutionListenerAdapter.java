@@ -22,6 +22,10 @@ import org.junit.platform.launcher.TestPlan;
  * An {@code ExecutionListenerAdapter} adapts a {@link TestPlan} and a corresponding
  * {@link TestExecutionListener} to the {@link EngineExecutionListener} API.
  *
+ * <p>Engines may report events from multiple threads. Since neither the
+ * {@code TestPlan} nor registered {@code TestExecutionListeners} are required
+ * to be thread-safe, all events are passed on one at a time.
+ *
  * @since 1.0
  */
 class ExecutionListenerAdapter implements EngineExecutionListener {
@@ -35,29 +39,36 @@ class ExecutionListenerAdapter implements EngineExecutionListener {
 	}
 
 	@Override
-	public void dynamicTestRegistered(TestDescriptor testDescriptor) {
+	public synchronized void dynamicTestRegistered(TestDescriptor testDescriptor) {
 		TestIdentifier testIdentifier = TestIdentifier.from(testDescriptor);
 		this.testPlan.add(testIdentifier);
 		this.testExecutionListener.dynamicTestRegistered(testIdentifier);
 	}
 
 	@Override
-	public void executionStarted(TestDescriptor testDescriptor) {
+	public synchronized void dynamicTestReleased(TestDescriptor testDescriptor) {
+		TestIdentifier testIdentifier = getTestIdentifier(testDescriptor);
+		this.testExecutionListener.dynamicTestReleased(testIdentifier);
+		this.testPlan.remove(testIdentifier);
+	}
+
+	@Override
+	public synchronized void executionStarted(TestDescriptor testDescriptor) {
 		this.testExecutionListener.executionStarted(getTestIdentifier(testDescriptor));
 	}
 
 	@Override
-	public void executionSkipped(TestDescriptor testDescriptor, String reason) {
+	public synchronized void executionSkipped(TestDescriptor testDescriptor, String reason) {
 		this.testExecutionListener.executionSkipped(getTestIdentifier(testDescriptor), reason);
 	}
 
 	@Override
-	public void executionFinished(TestDescriptor testDescriptor, TestExecutionResult testExecutionResult) {
+	public synchronized void executionFinished(TestDescriptor testDescriptor, TestExecutionResult testExecutionResult) {
 		this.testExecutionListener.executionFinished(getTestIdentifier(testDescriptor), testExecutionResult);
 	}
 
 	@Override
-	public void reportingEntryPublished(TestDescriptor testDescriptor, ReportEntry entry) {
+	public synchronized void reportingEntryPublished(TestDescriptor testDescriptor, ReportEntry entry) {
 		this.testExecutionListener.reportingEntryPublished(getTestIdentifier(testDescriptor), entry);
 	}
 
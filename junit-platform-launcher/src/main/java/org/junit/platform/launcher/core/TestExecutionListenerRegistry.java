@@ -51,6 +51,11 @@ class TestExecutionListenerRegistry {
 			notifyTestExecutionListeners(listener -> listener.dynamicTestRegistered(testIdentifier));
 		}
 
+		@Override
+		public void dynamicTestReleased(TestIdentifier testIdentifier) {
+			notifyTestExecutionListeners(listener -> listener.dynamicTestReleased(testIdentifier));
+		}
+
 		@Override
 		public void executionSkipped(TestIdentifier testIdentifier, String reason) {
 			notifyTestExecutionListeners(listener -> listener.executionSkipped(testIdentifier, reason));
@@ -92,6 +92,11 @@ public class LoggingListener implements TestExecutionListener {
 		log("Dynamic Test Registered: %s - %s", testIdentifier.getDisplayName(), testIdentifier.getUniqueId());
 	}
 
+	@Override
+	public void dynamicTestReleased(TestIdentifier testIdentifier) {
+		log("Dynamic Test Released: %s - %s", testIdentifier.getDisplayName(), testIdentifier.getUniqueId());
+	}
+
 	@Override
 	public void executionStarted(TestIdentifier testIdentifier) {
 		log("Execution Started: %s - %s", testIdentifier.getDisplayName(), testIdentifier.getUniqueId());
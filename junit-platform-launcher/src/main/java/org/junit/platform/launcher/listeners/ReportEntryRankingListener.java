@@ -0,0 +1,195 @@
+/*
+ * Copyright 2015-2017 the original author or authors.
+ *
+ * All rights reserved. This program and the accompanying materials are
+ * made available under the terms of the Eclipse Public License v1.0 which
+ * accompanies this distribution and is available at
+ *
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+
+package org.junit.platform.launcher.listeners;
+
+import static java.util.Collections.emptyList;
+import static org.junit.platform.commons.meta.API.Usage.Experimental;
+
+import java.io.PrintWriter;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.TreeMap;
+
+import org.junit.platform.commons.meta.API;
+import org.junit.platform.commons.util.Preconditions;
+import org.junit.platform.commons.util.ToStringBuilder;
+import org.junit.platform.engine.reporting.ReportEntry;
+import org.junit.platform.launcher.TestExecutionListener;
+import org.junit.platform.launcher.TestIdentifier;
+import org.junit.platform.launcher.TestPlan;
+
+/**
+ * {@link TestExecutionListener} that ranks the tests and containers of a
+ * test plan by the numeric values of the {@linkplain ReportEntry report
+ * entries} they publish.
+ *
+ * <p>For each key, only the entries with the largest values are retained
+ * up to the configured limit, which makes this listener suitable for
+ * finding the tests that consume the most resources in large test runs
+ * &mdash; for example, by ranking the {@code resources.cpuTimeNanos} and
+ * {@code resources.allocatedBytes} entries published by the JUnit Jupiter
+ * engine if the {@code junit.jupiter.resourceusage.enabled} configuration
+ * parameter is set to {@code true}. Values that are not integral numbers
+ * are ignored.
+ *
+ * @since 1.0
+ * @see #getTopEntries(String)
+ * @see #printTo(PrintWriter)
+ */
+@API(Experimental)
+public class ReportEntryRankingListener implements TestExecutionListener {
+
+	private static final Comparator<RankedEntry> BY_VALUE = Comparator.comparingLong(RankedEntry::getValue);
+
+	private final int limit;
+	private final Set<String> keys;
+	private final Map<String, PriorityQueue<RankedEntry>> rankings = new TreeMap<>();
+
+	/**
+	 * Create a new listener that retains up to {@code limit} entries for
+	 * each of the supplied keys or, if no keys are supplied, for each key
+	 * with numeric values.
+	 *
+	 * @param limit the maximum number of entries retained per key; must be
+	 * greater than zero
+	 * @param keys the keys of the report entries to rank
+	 */
+	public ReportEntryRankingListener(int limit, String... keys) {
+		Preconditions.condition(limit > 0, "limit must be greater than zero");
+		Preconditions.notNull(keys, "keys must not be null");
+		this.limit = limit;
+		this.keys = new HashSet<>(Arrays.asList(keys));
+	}
+
+	@Override
+	public synchronized void testPlanExecutionStarted(TestPlan testPlan) {
+		this.rankings.clear();
+	}
+
+	@Override
+	public synchronized void reportingEntryPublished(TestIdentifier testIdentifier, ReportEntry entry) {
+		entry.getKeyValuePairs().forEach((key, value) -> {
+			if (this.keys.isEmpty() || this.keys.contains(key)) {
+				parse(value).ifPresent(number -> rank(key, new RankedEntry(testIdentifier, number)));
+			}
+		});
+	}
+
+	private void rank(String key, RankedEntry entry) {
+		PriorityQueue<RankedEntry> ranking = this.rankings.computeIfAbsent(key, k -> new PriorityQueue<>(BY_VALUE));
+		if (ranking.size() < this.limit) {
+			ranking.add(entry);
+		}
+		else if (ranking.peek().getValue() < entry.getValue()) {
+			ranking.poll();
+			ranking.add(entry);
+		}
+	}
+
+	private static Optional<Long> parse(String value) {
+		try {
+			return Optional.of(Long.parseLong(value.trim()));
+		}
+		catch (NumberFormatException ex) {
+			return Optional.empty();
+		}
+	}
+
+	/**
+	 * Get the keys for which entries have been ranked, in alphabetical order.
+	 */
+	public synchronized List<String> getRankedKeys() {
+		return new ArrayList<>(this.rankings.keySet());
+	}
+
+	/**
+	 * Get the retained entries for the supplied key, ordered by descending
+	 * value.
+	 *
+	 * @param key the key of the report entries
+	 * @return the retained entries; never {@code null} but potentially empty
+	 */
+	public synchronized List<RankedEntry> getTopEntries(String key) {
+		PriorityQueue<RankedEntry> ranking = this.rankings.get(key);
+		if (ranking == null) {
+			return emptyList();
+		}
+		List<RankedEntry> entries = new ArrayList<>(ranking);
+		entries.sort(BY_VALUE.reversed());
+		return entries;
+	}
+
+	/**
+	 * Print the retained entries for all ranked keys to the supplied
+	 * {@link PrintWriter}.
+	 */
+	public synchronized void printTo(PrintWriter writer) {
+		for (String key : this.rankings.keySet()) {
+			List<RankedEntry> entries = getTopEntries(key);
+			writer.println();
+			writer.println(String.format("Top %d by %s:", entries.size(), key));
+			for (RankedEntry entry : entries) {
+				writer.println(String.format("%20d  %s", entry.getValue(), describe(entry.getTestIdentifier())));
+			}
+		}
+		writer.flush();
+	}
+
+	private static String describe(TestIdentifier testIdentifier) {
+		return testIdentifier.getDisplayName() + " [" + testIdentifier.getUniqueId() + "]";
+	}
+
+	/**
+	 * Numeric value of a report entry published by a test or container.
+	 */
+	public static final class RankedEntry {
+
+		private final TestIdentifier testIdentifier;
+		private final long value;
+
+		RankedEntry(TestIdentifier testIdentifier, long value) {
+			this.testIdentifier = testIdentifier;
+			this.value = value;
+		}
+
+		/**
+		 * Get the identifier of the test or container that published the entry.
+		 */
+		public TestIdentifier getTestIdentifier() {
+			return this.testIdentifier;
+		}
+
+		/**
+		 * Get the value of the entry.
+		 */
+		public long getValue() {
+			return this.value;
+		}
+
+		@Override
+		public String toString() {
+			// @formatter:off
+			return new ToStringBuilder(this)
+					.append("testIdentifier", this.testIdentifier)
+					.append("value", this.value)
+					.toString();
+			// @formatter:on
+		}
+	}
+
+}
@@ -10,9 +10,10 @@
 
 package org.junit.vintage.engine.discovery;
 
-import static org.junit.platform.commons.util.ReflectionUtils.findAllClassesInClasspathRoot;
+import static org.junit.platform.commons.util.ReflectionUtils.streamAllClassesInClasspathRoot;
 
 import java.util.function.Predicate;
+import java.util.stream.Stream;
 
 import org.junit.platform.engine.discovery.ClasspathRootSelector;
 
@@ -30,8 +31,10 @@ class ClasspathRootSelectorResolver extends DiscoverySelectorResolver<ClasspathR
 
 	@Override
 	void resolve(ClasspathRootSelector selector, TestClassCollector collector) {
-		findAllClassesInClasspathRoot(selector.getClasspathRoot(), classTester, classNamePredicate).forEach(
-			collector::addCompletely);
+		try (Stream<Class<?>> classes = streamAllClassesInClasspathRoot(selector.getClasspathRoot(), classTester,
+			classNamePredicate)) {
+			classes.forEach(collector::addCompletely);
+		}
 	}
 
 }
@@ -10,9 +10,10 @@
 
 package org.junit.vintage.engine.discovery;
 
-import static org.junit.platform.commons.util.ReflectionUtils.findAllClassesInPackage;
+import static org.junit.platform.commons.util.ReflectionUtils.streamAllClassesInPackage;
 
 import java.util.function.Predicate;
+import java.util.stream.Stream;
 
 import org.junit.platform.engine.discovery.PackageSelector;
 
@@ -30,8 +31,10 @@ class PackageNameSelectorResolver extends DiscoverySelectorResolver<PackageSelec
 
 	@Override
 	void resolve(PackageSelector selector, TestClassCollector collector) {
-		findAllClassesInPackage(selector.getPackageName(), classTester, classNamePredicate).forEach(
-			collector::addCompletely);
+		try (Stream<Class<?>> classes = streamAllClassesInPackage(selector.getPackageName(), classTester,
+			classNamePredicate)) {
+			classes.forEach(collector::addCompletely);
+		}
 	}
 
 }
@@ -10,6 +10,7 @@
 
 package org.junit.platform.commons.support;
 
+import static java.util.stream.Collectors.toList;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotEquals;
 
@@ -20,6 +21,7 @@ import java.nio.file.Paths;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.function.Predicate;
+import java.util.stream.Stream;
 
 import org.junit.jupiter.api.DynamicTest;
 import org.junit.jupiter.api.Test;
@@ -64,6 +66,23 @@ class ReflectionSupportTests {
 			ReflectionSupport.findAllClassesInPackage("org.junit", allTypes, allNames));
 	}
 
+	@Test
+	void streamAllClassesInClasspathRootDelegates() throws Throwable {
+		URI root = ReflectionSupportTests.class.getProtectionDomain().getCodeSource().getLocation().toURI();
+		try (Stream<Class<?>> classes = ReflectionSupport.streamAllClassesInClasspathRoot(root, allTypes, allNames)) {
+			assertEquals(ReflectionUtils.findAllClassesInClasspathRoot(root, allTypes, allNames),
+				classes.collect(toList()));
+		}
+	}
+
+	@Test
+	void streamAllClassesInPackageDelegates() {
+		try (Stream<Class<?>> classes = ReflectionSupport.streamAllClassesInPackage("org.junit", allTypes, allNames)) {
+			assertEquals(ReflectionUtils.findAllClassesInPackage("org.junit", allTypes, allNames),
+				classes.collect(toList()));
+		}
+	}
+
 	@Test
 	void findMethodsDelegates() {
 		assertEquals(
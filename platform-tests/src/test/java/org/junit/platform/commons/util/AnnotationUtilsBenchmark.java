@@ -0,0 +1,101 @@
+/*
+ * Copyright 2015-2017 the original author or authors.
+ *
+ * All rights reserved. This program and the accompanying materials are
+ * made available under the terms of the Eclipse Public License v1.0 which
+ * accompanies this distribution and is available at
+ *
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+
+package org.junit.platform.commons.util;
+
+import static java.util.Arrays.asList;
+import static org.junit.platform.commons.util.AnnotationUtils.findAnnotation;
+import static org.junit.platform.commons.util.AnnotationUtils.findRepeatableAnnotations;
+
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Method;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Disabled;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestFactory;
+import org.junit.jupiter.api.TestTemplate;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+/**
+ * Benchmark for the annotation lookups that test discovery performs for
+ * every test class and method.
+ *
+ * <p>This class is not picked up by the regular test run. Execute its
+ * {@link #main} method on demand before and after changing
+ * {@link AnnotationUtils} and compare the printed durations.
+ *
+ * @since 1.0
+ */
+class AnnotationUtilsBenchmark {
+
+	private static final int WARMUP_ITERATIONS = 20;
+
+	private static final int ITERATIONS = 100;
+
+	private static final List<Class<?>> testClasses = asList(AnnotationUtilsTests.class, ClasspathScannerTests.class,
+		ReflectionUtilsTests.class, PreconditionsTests.class, StringUtilsTests.class, TestClassIndexTests.class);
+
+	private static final List<Class<? extends Annotation>> methodAnnotationTypes = asList(Test.class,
+		TestFactory.class, TestTemplate.class, BeforeAll.class, AfterAll.class, BeforeEach.class, AfterEach.class,
+		Disabled.class, DisplayName.class);
+
+	/**
+	 * Prevents the JIT compiler from eliminating the lookups.
+	 */
+	private static volatile Object sink;
+
+	public static void main(String[] args) {
+		for (int i = 0; i < WARMUP_ITERATIONS; i++) {
+			discoverTestClasses();
+		}
+		long[] durationsInNanos = new long[ITERATIONS];
+		for (int i = 0; i < ITERATIONS; i++) {
+			long startNanos = System.nanoTime();
+			discoverTestClasses();
+			durationsInNanos[i] = System.nanoTime() - startNanos;
+		}
+		Arrays.sort(durationsInNanos);
+		double mean = Arrays.stream(durationsInNanos).average().getAsDouble();
+		System.out.println(String.format(Locale.ROOT, "mean: %.3f us, p50: %.3f us, p99: %.3f us",
+			toMicros(mean), toMicros(durationsInNanos[ITERATIONS / 2 - 1]),
+			toMicros(durationsInNanos[ITERATIONS * 99 / 100 - 1])));
+	}
+
+	private static void discoverTestClasses() {
+		for (Class<?> testClass : testClasses) {
+			sink = findAnnotation(testClass, Disabled.class);
+			sink = findAnnotation(testClass, Nested.class);
+			sink = findRepeatableAnnotations(testClass, Tag.class);
+			sink = findRepeatableAnnotations(testClass, ExtendWith.class);
+			for (Method method : testClass.getDeclaredMethods()) {
+				for (Class<? extends Annotation> annotationType : methodAnnotationTypes) {
+					sink = findAnnotation(method, annotationType);
+				}
+				sink = findRepeatableAnnotations(method, Tag.class);
+			}
+		}
+	}
+
+	private static double toMicros(double nanos) {
+		return nanos / TimeUnit.MICROSECONDS.toNanos(1);
+	}
+
+}
@@ -17,6 +17,9 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertIterableEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.junit.platform.commons.util.AnnotationUtils.findAnnotatedMethods;
@@ -27,12 +30,17 @@ import static org.junit.platform.commons.util.AnnotationUtils.isAnnotated;
 import static org.junit.platform.commons.util.ReflectionUtils.HierarchyTraversalMode.BOTTOM_UP;
 import static org.junit.platform.commons.util.ReflectionUtils.HierarchyTraversalMode.TOP_DOWN;
 
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.lang.annotation.Annotation;
 import java.lang.annotation.ElementType;
 import java.lang.annotation.Inherited;
 import java.lang.annotation.Repeatable;
 import java.lang.annotation.Retention;
 import java.lang.annotation.RetentionPolicy;
 import java.lang.annotation.Target;
+import java.lang.ref.WeakReference;
 import java.lang.reflect.AnnotatedElement;
 import java.lang.reflect.Field;
 import java.lang.reflect.Method;
@@ -136,6 +144,47 @@ class AnnotationUtilsTests {
 		assertTrue(optionalAnnotation.isPresent());
 	}
 
+	@Test
+	void findAnnotationReturnsSameResultForRepeatedLookups() throws Exception {
+		Method method = ComposedAnnotationClass.class.getDeclaredMethod("method");
+
+		assertSame(findAnnotation(method, Annotation1.class).get(), findAnnotation(method, Annotation1.class).get());
+		assertFalse(findAnnotation(method, Annotation2.class).isPresent());
+		assertFalse(findAnnotation(method, Annotation2.class).isPresent());
+	}
+
+	@Test
+	void findAnnotationMetaPresentOnCyclicMetaAnnotationsAfterSearchStartedElsewhere() {
+		assertThat(findAnnotation(CyclicMetaAnnotationClass.class, Annotation1.class)).isPresent();
+		assertThat(findAnnotation(CyclicB.class, Annotation1.class)).isPresent();
+	}
+
+	@Test
+	void findAnnotationDoesNotRetainAnnotationTypesOfChildClassLoaders() throws Exception {
+		WeakReference<ClassLoader> classLoaderReference = findAnnotationWithIsolatedAnnotationType();
+
+		for (int i = 0; i < 20 && classLoaderReference.get() != null; i++) {
+			System.gc();
+			Thread.sleep(10);
+		}
+
+		assertNull(classLoaderReference.get(), "class loader of annotation type was garbage collected");
+	}
+
+	@SuppressWarnings("unchecked")
+	private static WeakReference<ClassLoader> findAnnotationWithIsolatedAnnotationType() throws Exception {
+		ClassLoader classLoader = new IsolatingClassLoader(Annotation1.class.getName(),
+			AnnotationUtilsTests.class.getClassLoader());
+		Class<? extends Annotation> annotationType = (Class<? extends Annotation>) classLoader.loadClass(
+			Annotation1.class.getName());
+		assertNotSame(Annotation1.class, annotationType);
+
+		assertFalse(findAnnotation(Annotation1Class.class, annotationType).isPresent());
+		assertFalse(findAnnotation(Annotation1Class.class, annotationType).isPresent());
+
+		return new WeakReference<>(classLoader);
+	}
+
 	@Test
 	void isAnnotatedForClassWithoutAnnotation() {
 		assertFalse(isAnnotated(Annotation1Class.class, Annotation2.class));
@@ -212,6 +261,14 @@ class AnnotationUtilsTests {
 		assertTagsFound(ContainerAfterComposedTaggedClass.class, "fast", "a", "b", "c");
 	}
 
+	@Test
+	void findRepeatableAnnotationsReturnsIndependentListsForRepeatedLookups() throws Exception {
+		List<Tag> tags = findRepeatableAnnotations(MultiTaggedClass.class, Tag.class);
+		tags.clear();
+
+		assertTagsFound(MultiTaggedClass.class, "a", "b", "c");
+	}
+
 	private void assertTagsFound(Class<?> clazz, String... tags) throws Exception {
 		assertEquals(asList(tags),
 			findRepeatableAnnotations(clazz, Tag.class).stream().map(Tag::value).collect(toList()),
@@ -433,6 +490,17 @@ class AnnotationUtilsTests {
 	@interface InheritedComposedAnnotation {
 	}
 
+	@Retention(RetentionPolicy.RUNTIME)
+	@CyclicB
+	@ComposedAnnotation
+	@interface CyclicA {
+	}
+
+	@Retention(RetentionPolicy.RUNTIME)
+	@CyclicA
+	@interface CyclicB {
+	}
+
 	@Target({ ElementType.TYPE, ElementType.METHOD })
 	@Retention(RetentionPolicy.RUNTIME)
 	@interface Tags {
@@ -533,6 +601,10 @@ class AnnotationUtilsTests {
 	static class InheritedComposedAnnotationSubClass extends InheritedComposedAnnotationClass {
 	}
 
+	@CyclicA
+	static class CyclicMetaAnnotationClass {
+	}
+
 	@Tag("a")
 	static class SingleTaggedClass {
 	}
@@ -685,4 +757,43 @@ class AnnotationUtilsTests {
 		public boolean notAString = true;
 	}
 
+	/**
+	 * Defines its own copy of a single class instead of delegating to its
+	 * parent class loader.
+	 */
+	private static class IsolatingClassLoader extends ClassLoader {
+
+		private final String isolatedClassName;
+
+		IsolatingClassLoader(String isolatedClassName, ClassLoader parent) {
+			super(parent);
+			this.isolatedClassName = isolatedClassName;
+		}
+
+		@Override
+		protected Class<?> loadClass(String name, boolean resolve) throws ClassNotFoundException {
+			if (!name.equals(this.isolatedClassName)) {
+				return super.loadClass(name, resolve);
+			}
+			synchronized (getClassLoadingLock(name)) {
+				Class<?> loadedClass = findLoadedClass(name);
+				if (loadedClass == null) {
+					String resourceName = name.replace('.', '/') + ".class";
+					try (InputStream inputStream = getParent().getResourceAsStream(resourceName)) {
+						ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+						byte[] buffer = new byte[4096];
+						for (int read = inputStream.read(buffer); read != -1; read = inputStream.read(buffer)) {
+							bytes.write(buffer, 0, read);
+						}
+						loadedClass = defineClass(name, bytes.toByteArray(), 0, bytes.size());
+					}
+					catch (IOException ex) {
+						throw new ClassNotFoundException(name, ex);
+					}
+				}
+				return loadedClass;
+			}
+		}
+	}
+
 }
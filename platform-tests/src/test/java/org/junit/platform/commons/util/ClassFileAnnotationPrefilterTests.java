@@ -0,0 +1,210 @@
+/*
+ * Copyright 2015-2017 the original author or authors.
+ *
+ * All rights reserved. This program and the accompanying materials are
+ * made available under the terms of the Eclipse Public License v1.0 which
+ * accompanies this distribution and is available at
+ *
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+
+package org.junit.platform.commons.util;
+
+import static java.util.Collections.singletonList;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+import java.net.URI;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.BiFunction;
+
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestFactory;
+
+/**
+ * Unit tests for {@link ClassFileAnnotationPrefilter}.
+ *
+ * @since 1.0
+ */
+class ClassFileAnnotationPrefilterTests {
+
+	private final ClassFileAnnotationPrefilter prefilter = new ClassFileAnnotationPrefilter(
+		Arrays.asList(Test.class, TestFactory.class, Nested.class));
+
+	@Test
+	void constructorRejectsEmptyAnnotationTypes() {
+		assertThrows(PreconditionViolationException.class,
+			() -> new ClassFileAnnotationPrefilter(Collections.emptyList()));
+	}
+
+	@Test
+	void classWithoutAnnotationsDoesNotMatch() throws Exception {
+		assertFalse(mightBeAnnotated(PlainTestCase.class));
+	}
+
+	@Test
+	void classWithUnrelatedAnnotationsDoesNotMatch() throws Exception {
+		assertFalse(mightBeAnnotated(UnrelatedAnnotationsTestCase.class));
+	}
+
+	@Test
+	void classWithAnnotatedMethodMatches() throws Exception {
+		assertTrue(mightBeAnnotated(TestMethodTestCase.class));
+	}
+
+	@Test
+	void classWithMetaAnnotatedMethodMatches() throws Exception {
+		assertTrue(mightBeAnnotated(ComposedAnnotationTestCase.class));
+	}
+
+	@Test
+	void subclassOfClassWithAnnotatedMethodMatches() throws Exception {
+		assertTrue(mightBeAnnotated(SubclassTestCase.class));
+	}
+
+	@Test
+	void classImplementingInterfaceWithAnnotatedDefaultMethodMatches() throws Exception {
+		assertTrue(mightBeAnnotated(InterfaceImplementationTestCase.class));
+	}
+
+	@Test
+	void classWithAnnotatedMemberClassMatches() throws Exception {
+		assertTrue(mightBeAnnotated(EnclosingTestCase.class));
+	}
+
+	@Test
+	void annotationTypesThatAreAnnotatedWithThemselvesDoNotCauseEndlessRecursion() throws Exception {
+		assertFalse(mightBeAnnotated(SelfAnnotatedAnnotationTestCase.class));
+	}
+
+	@Test
+	void classFileThatCannotBeReadMatches() {
+		assertTrue(prefilter.mightBeAnnotated(Paths.get("does_not_exist.class"), getClass().getClassLoader()));
+	}
+
+	@Test
+	void classpathScannerOnlyLoadsClassesThatPassThePrefilter() throws Exception {
+		List<Class<?>> loadedClasses = new ArrayList<>();
+		BiFunction<String, ClassLoader, Optional<Class<?>>> trackingClassLoader = (name, classLoader) -> {
+			Optional<Class<?>> loadedClass = ReflectionUtils.loadClass(name, classLoader);
+			loadedClass.ifPresent(loadedClasses::add);
+			return loadedClass;
+		};
+		ClasspathScanner classpathScanner = new ClasspathScanner(ReflectionUtils::getDefaultClassLoader,
+			trackingClassLoader, () -> false);
+		String prefix = ClassFileAnnotationPrefilterTests.class.getName() + "$";
+
+		List<Class<?>> classes = classpathScanner.scanForClassesInClasspathRoot(getTestClasspathRoot(),
+			clazz -> true, name -> name.startsWith(prefix) && name.endsWith("TestCase"), prefilter);
+
+		assertThat(classes).containsOnly(TestMethodTestCase.class, ComposedAnnotationTestCase.class,
+			SubclassTestCase.class, InterfaceImplementationTestCase.class, EnclosingTestCase.class);
+		assertThat(loadedClasses).doesNotContain(PlainTestCase.class, UnrelatedAnnotationsTestCase.class,
+			SelfAnnotatedAnnotationTestCase.class);
+	}
+
+	@Test
+	void prefilterCanBeCombinedWithArbitraryAnnotationTypes() throws Exception {
+		ClassFileAnnotationPrefilter tagPrefilter = new ClassFileAnnotationPrefilter(singletonList(Tag.class));
+
+		assertTrue(tagPrefilter.mightBeAnnotated(classFile(UnrelatedAnnotationsTestCase.class),
+			getClass().getClassLoader()));
+		assertFalse(tagPrefilter.mightBeAnnotated(classFile(TestMethodTestCase.class), getClass().getClassLoader()));
+	}
+
+	private boolean mightBeAnnotated(Class<?> clazz) throws Exception {
+		return prefilter.mightBeAnnotated(classFile(clazz), clazz.getClassLoader());
+	}
+
+	private Path classFile(Class<?> clazz) throws Exception {
+		return Paths.get(getTestClasspathRoot()).resolve(clazz.getName().replace('.', '/') + ".class");
+	}
+
+	private URI getTestClasspathRoot() throws Exception {
+		return getClass().getProtectionDomain().getCodeSource().getLocation().toURI();
+	}
+
+	// -------------------------------------------------------------------------
+
+	static class PlainTestCase {
+
+		void method() {
+		}
+	}
+
+	@Retention(RetentionPolicy.RUNTIME)
+	@interface Unrelated {
+	}
+
+	@Unrelated
+	static class UnrelatedAnnotationsTestCase {
+
+		@Tag("a")
+		void method() {
+		}
+	}
+
+	static class TestMethodTestCase {
+
+		@Test
+		void test() {
+		}
+	}
+
+	@Target(ElementType.METHOD)
+	@Retention(RetentionPolicy.RUNTIME)
+	@Test
+	@interface ComposedTest {
+	}
+
+	static class ComposedAnnotationTestCase {
+
+		@ComposedTest
+		void test() {
+		}
+	}
+
+	static class SubclassTestCase extends TestMethodTestCase {
+	}
+
+	interface InterfaceWithDefaultTestMethod {
+
+		@Test
+		default void test() {
+		}
+	}
+
+	static class InterfaceImplementationTestCase implements InterfaceWithDefaultTestMethod {
+	}
+
+	static class EnclosingTestCase {
+
+		@Nested
+		class Inner {
+		}
+	}
+
+	@Retention(RetentionPolicy.RUNTIME)
+	@SelfAnnotated
+	@interface SelfAnnotated {
+	}
+
+	@SelfAnnotated
+	static class SelfAnnotatedAnnotationTestCase {
+	}
+
+}
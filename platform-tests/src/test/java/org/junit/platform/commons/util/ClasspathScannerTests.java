@@ -26,12 +26,17 @@ import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
 import java.util.Enumeration;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.BiFunction;
 import java.util.function.Predicate;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -141,6 +146,20 @@ class ClasspathScannerTests {
 		}
 	}
 
+	@Test
+	void scanForClassesInClasspathRootWithinJarFileAppliesClassFilePrefilter() throws Exception {
+		URL jarfile = getClass().getResource("/jartest.jar");
+
+		try (URLClassLoader classLoader = new URLClassLoader(new URL[] { jarfile })) {
+			ClasspathScanner classpathScanner = new ClasspathScanner(() -> classLoader, trackingClassLoader);
+
+			List<Class<?>> classes = classpathScanner.scanForClassesInClasspathRoot(jarfile.toURI(), clazz -> true,
+				className -> true, new ClassFileAnnotationPrefilter(Collections.singletonList(Test.class)));
+			assertThat(classes).isEmpty();
+			assertThat(loadedClasses).isEmpty();
+		}
+	}
+
 	@Test
 	void scanForClassesInPackage() throws Exception {
 		List<Class<?>> classes = classpathScanner.scanForClassesInPackage("org.junit.platform.commons", clazz -> true,
@@ -150,6 +169,42 @@ class ClasspathScannerTests {
 		assertTrue(classes.contains(MemberClassToBeFound.class));
 	}
 
+	@Test
+	void streamClassesInPackageLoadsClassesOnlyAsTheyAreConsumed() {
+		try (Stream<Class<?>> classes = classpathScanner.streamClassesInPackage("org.junit.platform.commons",
+			clazz -> true, className -> true)) {
+			assertTrue(classes.findFirst().isPresent());
+		}
+		assertThat(loadedClasses).hasSize(1);
+	}
+
+	@Test
+	void streamClassesInClasspathRootLoadsClassesOnlyAsTheyAreConsumed() throws Exception {
+		try (Stream<Class<?>> classes = classpathScanner.streamClassesInClasspathRoot(getTestClasspathRoot(),
+			clazz -> true, className -> true)) {
+			assertThat(classes.limit(3)).hasSize(3);
+		}
+		assertThat(loadedClasses).hasSize(3);
+	}
+
+	@Test
+	void streamClassesInClasspathRootWithinJarFileAppliesClassFilePrefilter() throws Exception {
+		URL jarfile = getClass().getResource("/jartest.jar");
+
+		try (URLClassLoader classLoader = new URLClassLoader(new URL[] { jarfile })) {
+			ClasspathScanner classpathScanner = new ClasspathScanner(() -> classLoader, ReflectionUtils::loadClass);
+			ClassFileAnnotationPrefilter prefilter = new ClassFileAnnotationPrefilter(
+				Collections.singletonList(Deprecated.class));
+
+			try (Stream<Class<?>> classes = classpathScanner.streamClassesInClasspathRoot(jarfile.toURI(),
+				clazz -> true, className -> true, prefilter)) {
+				assertThat(classes.collect(Collectors.toList())).isEqualTo(
+					classpathScanner.scanForClassesInClasspathRoot(jarfile.toURI(), clazz -> true, className -> true,
+						prefilter));
+			}
+		}
+	}
+
 	@Test
 	void findAllClassesInPackageWithinJarFile() throws Exception {
 		URL jarfile = getClass().getResource("/jartest.jar");
@@ -219,6 +274,86 @@ class ClasspathScannerTests {
 		assertThat(loadedClasses).containsExactly(ClasspathScannerTests.class);
 	}
 
+	@Test
+	void scanForClassesInClasspathRootSkipsPackagesRejectedByClassNamePredicate() throws Exception {
+		assertSkipsPackagesRejectedByClassNamePredicate(classpathScanner);
+	}
+
+	@Test
+	void scanForClassesInClasspathRootInParallelSkipsPackagesRejectedByClassNamePredicate() throws Exception {
+		assertSkipsPackagesRejectedByClassNamePredicate(
+			new ClasspathScanner(ReflectionUtils::getDefaultClassLoader, trackingClassLoader, () -> true));
+	}
+
+	private void assertSkipsPackagesRejectedByClassNamePredicate(ClasspathScanner classpathScanner)
+			throws Exception {
+		String skippedPackage = "org.junit.platform.commons";
+		Set<String> visitedPackages = ConcurrentHashMap.newKeySet();
+		Set<String> testedClassNames = ConcurrentHashMap.newKeySet();
+		ClassNamePredicate classNamePredicate = ClassNamePredicate.of(className -> testedClassNames.add(className),
+			packageName -> {
+				visitedPackages.add(packageName);
+				return !packageName.equals(skippedPackage);
+			});
+
+		List<Class<?>> classes = classpathScanner.scanForClassesInClasspathRoot(getTestClasspathRoot(),
+			clazz -> true, classNamePredicate);
+
+		assertThat(visitedPackages).contains("", "org.junit.platform", skippedPackage, "org.junit.platform.engine");
+		assertThat(visitedPackages).filteredOn(packageName -> packageName.startsWith(skippedPackage + ".")).isEmpty();
+		assertThat(testedClassNames).contains("DefaultPackageTestCase",
+			"org.junit.platform.engine.discovery.PackageNameFilterTests");
+		assertThat(testedClassNames).filteredOn(className -> className.startsWith(skippedPackage + ".")).isEmpty();
+		assertThat(classes).contains(Class.forName("org.junit.platform.engine.discovery.PackageNameFilterTests"));
+		assertThat(classes).doesNotContain(getClass());
+	}
+
+	@Test
+	void scanForClassesInPackageInParallelFindsSameClassesInSortedOrder() throws Exception {
+		ClasspathScanner parallelScanner = new ClasspathScanner(ReflectionUtils::getDefaultClassLoader,
+			ReflectionUtils::loadClass, () -> true);
+
+		List<Class<?>> sequentialClasses = classpathScanner.scanForClassesInPackage("org.junit.platform.commons",
+			clazz -> true, className -> true);
+		List<Class<?>> parallelClasses = parallelScanner.scanForClassesInPackage("org.junit.platform.commons",
+			clazz -> true, className -> true);
+
+		assertThat(parallelClasses).hasSameSizeAs(sequentialClasses).containsAll(sequentialClasses);
+		assertThat(parallelClasses).isSortedAccordingTo(Comparator.comparing(Class::getName));
+	}
+
+	@Test
+	void scanForClassesInClasspathRootWithinJarFileInParallel() throws Exception {
+		URL jarfile = getClass().getResource("/jartest.jar");
+
+		try (URLClassLoader classLoader = new URLClassLoader(new URL[] { jarfile })) {
+			ClasspathScanner classpathScanner = new ClasspathScanner(() -> classLoader, ReflectionUtils::loadClass,
+				() -> true);
+
+			List<Class<?>> classes = classpathScanner.scanForClassesInClasspathRoot(jarfile.toURI(), clazz -> true,
+				className -> true);
+			List<String> classNames = classes.stream().map(Class::getName).collect(Collectors.toList());
+			assertThat(classNames).containsExactly("org.junit.platform.jartest.included.Included",
+				"org.junit.platform.jartest.included.recursive.RecursivelyIncluded",
+				"org.junit.platform.jartest.notincluded.NotIncluded");
+		}
+	}
+
+	@Test
+	void scanForClassesInClasspathRootInParallelWhenOutOfMemoryErrorOccurs() throws Exception {
+		ClasspathScanner parallelScanner = new ClasspathScanner(ReflectionUtils::getDefaultClassLoader,
+			ReflectionUtils::loadClass, () -> true);
+		Predicate<Class<?>> outOfMemoryErrorSimulationFilter = clazz -> {
+			if (clazz.getSimpleName().equals(ClassForOutOfMemoryErrorSimulation.class.getSimpleName())) {
+				throw new OutOfMemoryError();
+			}
+			return true;
+		};
+
+		assertThrows(OutOfMemoryError.class, () -> parallelScanner.scanForClassesInClasspathRoot(
+			getTestClasspathRoot(), outOfMemoryErrorSimulationFilter, className -> true));
+	}
+
 	@Test
 	void isPackage() {
 		assertTrue(classpathScanner.isPackage("")); // default package
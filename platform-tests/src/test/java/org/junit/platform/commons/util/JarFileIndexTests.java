@@ -0,0 +1,107 @@
+/*
+ * Copyright 2015-2017 the original author or authors.
+ *
+ * All rights reserved. This program and the accompanying materials are
+ * made available under the terms of the Eclipse Public License v1.0 which
+ * accompanies this distribution and is available at
+ *
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+
+package org.junit.platform.commons.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.attribute.FileTime;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.extensions.TempDirectory;
+import org.junit.jupiter.extensions.TempDirectory.Root;
+
+/**
+ * Unit tests for {@link JarFileIndex}.
+ *
+ * @since 1.0
+ */
+class JarFileIndexTests {
+
+	@Test
+	void classFileEntryNamesAreFilteredByPrefix() throws Exception {
+		JarFileIndex index = JarFileIndex.forJarFile(getJarTestFile());
+
+		assertThat(index.getClassFileEntryNames("")).containsExactly(
+			"org/junit/platform/jartest/included/Included.class",
+			"org/junit/platform/jartest/included/recursive/RecursivelyIncluded.class",
+			"org/junit/platform/jartest/notincluded/NotIncluded.class");
+		assertThat(index.getClassFileEntryNames("org/junit/platform/jartest/included/")).containsExactly(
+			"org/junit/platform/jartest/included/Included.class",
+			"org/junit/platform/jartest/included/recursive/RecursivelyIncluded.class");
+		assertThat(index.getClassFileEntryNames("org/junit/platform/jartest/notincluded/")).containsExactly(
+			"org/junit/platform/jartest/notincluded/NotIncluded.class");
+		assertThat(index.getClassFileEntryNames("com/example/")).isEmpty();
+	}
+
+	@Test
+	void indexIsSharedForUnmodifiedJarFile() throws Exception {
+		Path jarFile = getJarTestFile();
+
+		assertSame(JarFileIndex.forJarFile(jarFile), JarFileIndex.forJarFile(jarFile));
+	}
+
+	@Test
+	@ExtendWith(TempDirectory.class)
+	void indexIsRebuiltWhenJarFileIsModified(@Root Path tempDir) throws Exception {
+		Path jarFile = tempDir.resolve("test.jar");
+		writeJarFile(jarFile, "a/A.class", "a/package-info.class");
+		Files.setLastModifiedTime(jarFile, FileTime.fromMillis(1000));
+
+		JarFileIndex index = JarFileIndex.forJarFile(jarFile);
+		assertThat(index.getClassFileEntryNames("")).containsExactly("a/A.class");
+
+		writeJarFile(jarFile, "a/A.class", "a/B.class", "b/C.txt");
+		Files.setLastModifiedTime(jarFile, FileTime.fromMillis(2000));
+
+		JarFileIndex modifiedIndex = JarFileIndex.forJarFile(jarFile);
+		assertNotSame(index, modifiedIndex);
+		assertThat(modifiedIndex.getClassFileEntryNames("")).containsExactly("a/A.class", "a/B.class");
+	}
+
+	@Test
+	@ExtendWith(TempDirectory.class)
+	void leastRecentlyUsedIndexIsEvicted(@Root Path tempDir) throws Exception {
+		Path firstJarFile = tempDir.resolve("first.jar");
+		writeJarFile(firstJarFile, "a/A.class");
+		JarFileIndex firstIndex = JarFileIndex.forJarFile(firstJarFile);
+
+		for (int i = 0; i < JarFileIndex.MAX_CACHED_INDEXES; i++) {
+			Path jarFile = tempDir.resolve("test" + i + ".jar");
+			writeJarFile(jarFile, "a/A.class");
+			JarFileIndex.forJarFile(jarFile);
+		}
+
+		assertNotSame(firstIndex, JarFileIndex.forJarFile(firstJarFile));
+	}
+
+	private static void writeJarFile(Path jarFile, String... entryNames) throws Exception {
+		try (OutputStream out = Files.newOutputStream(jarFile); ZipOutputStream zip = new ZipOutputStream(out)) {
+			for (String entryName : entryNames) {
+				zip.putNextEntry(new ZipEntry(entryName));
+				zip.closeEntry();
+			}
+		}
+	}
+
+	private Path getJarTestFile() throws Exception {
+		return Paths.get(getClass().getResource("/jartest.jar").toURI());
+	}
+
+}
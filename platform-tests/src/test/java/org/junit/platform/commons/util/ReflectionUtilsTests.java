@@ -16,6 +16,7 @@ import static org.junit.jupiter.api.Assertions.assertAll;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
@@ -225,6 +226,36 @@ public class ReflectionUtilsTests {
 		assertTrue(InvocationTracker.privateStaticMethodInvoked);
 	}
 
+	@Test
+	void invokeMethodWithArguments() throws Exception {
+		Method add = Adder.class.getDeclaredMethod("add", long.class, Integer.class);
+		Method concat = Adder.class.getDeclaredMethod("concat", String[].class);
+
+		assertEquals(3L, ReflectionUtils.invokeMethod(add, new Adder(), 1L, 2));
+		assertEquals(3L, ReflectionUtils.invokeMethod(add, new Adder(), 1, 2));
+		assertEquals("ab", ReflectionUtils.invokeMethod(concat, null, (Object) new String[] { "a", "b" }));
+		assertNull(ReflectionUtils.invokeMethod(Adder.class.getDeclaredMethod("reset"), new Adder()));
+	}
+
+	@Test
+	void invokeMethodWithIncompatibleArgumentsThrowsIllegalArgumentException() throws Exception {
+		Method add = Adder.class.getDeclaredMethod("add", long.class, Integer.class);
+
+		assertThrows(IllegalArgumentException.class, () -> ReflectionUtils.invokeMethod(add, new Adder(), 1L, "2"));
+		assertThrows(IllegalArgumentException.class, () -> ReflectionUtils.invokeMethod(add, new Adder(), null, 2));
+		assertThrows(IllegalArgumentException.class, () -> ReflectionUtils.invokeMethod(add, new Adder(), 1L));
+		assertThrows(IllegalArgumentException.class, () -> ReflectionUtils.invokeMethod(add, "target", 1L, 2));
+	}
+
+	@Test
+	void invokeMethodRethrowsExceptionThrownByMethod() throws Exception {
+		Method explode = Adder.class.getDeclaredMethod("explode");
+
+		IOException exception = assertThrows(IOException.class,
+			() -> ReflectionUtils.invokeMethod(explode, new Adder()));
+		assertThat(exception).hasMessage("boom");
+	}
+
 	@Test
 	void loadClassPreconditions() {
 		assertThrows(PreconditionViolationException.class, () -> ReflectionUtils.loadClass(null));
@@ -660,6 +691,27 @@ public class ReflectionUtilsTests {
 			MethodShadowingChild.class.getMethod("method5", Long.class));
 	}
 
+	@Test
+	void findMethodsReturnsSameMethodInstancesForRepeatedLookups() {
+		List<Method> methods = ReflectionUtils.findMethods(ChildClass.class, method -> true, TOP_DOWN);
+		List<Method> methodsAgain = ReflectionUtils.findMethods(ChildClass.class, method -> true, TOP_DOWN);
+
+		assertThat(methodsAgain).hasSameSizeAs(methods);
+		for (int i = 0; i < methods.size(); i++) {
+			assertSame(methods.get(i), methodsAgain.get(i));
+		}
+		assertThat(ReflectionUtils.findMethods(ChildClass.class, method -> true, BOTTOM_UP)).containsOnlyElementsOf(
+			methods);
+	}
+
+	@Test
+	void findMethodsReturnsModifiableList() {
+		List<Method> methods = ReflectionUtils.findMethods(ChildClass.class, method -> true);
+		methods.clear();
+
+		assertThat(ReflectionUtils.findMethods(ChildClass.class, method -> true)).isNotEmpty();
+	}
+
 	@Test
 	void findMethodsIgnoresBridgeMethods() throws Exception {
 		assertFalse(Modifier.isPublic(PublicChildClass.class.getSuperclass().getModifiers()));
@@ -817,6 +869,24 @@ public class ReflectionUtilsTests {
 		}
 	}
 
+	static class Adder {
+
+		long add(long a, Integer b) {
+			return a + b;
+		}
+
+		void reset() {
+		}
+
+		void explode() throws IOException {
+			throw new IOException("boom");
+		}
+
+		private static String concat(String... strings) {
+			return String.join("", strings);
+		}
+	}
+
 	static class FirstClass {
 
 		class SecondClass {
@@ -0,0 +1,210 @@
+/*
+ * Copyright 2015-2017 the original author or authors.
+ *
+ * All rights reserved. This program and the accompanying materials are
+ * made available under the terms of the Eclipse Public License v1.0 which
+ * accompanies this distribution and is available at
+ *
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+
+package org.junit.platform.commons.util;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.util.Collections.singletonList;
+import static java.util.stream.Collectors.toList;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.attribute.FileTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.BiFunction;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.extensions.TempDirectory;
+import org.junit.jupiter.extensions.TempDirectory.Root;
+
+/**
+ * Unit tests for {@link TestClassIndex}.
+ *
+ * @since 1.0
+ */
+@ExtendWith(TempDirectory.class)
+class TestClassIndexTests {
+
+	private static final String PACKAGE_PATH = TestClassIndexTests.class.getPackage().getName().replace('.', '/');
+
+	private final List<Class<?>> loadedClasses = new ArrayList<>();
+	private final BiFunction<String, ClassLoader, Optional<Class<?>>> trackingClassLoader = (name, classLoader) -> {
+		Optional<Class<?>> loadedClass = ReflectionUtils.loadClass(name, classLoader);
+		loadedClass.ifPresent(loadedClasses::add);
+		return loadedClass;
+	};
+	private final ClasspathScanner classpathScanner = new ClasspathScanner(ReflectionUtils::getDefaultClassLoader,
+		trackingClassLoader, () -> false);
+
+	private Path root;
+
+	@BeforeEach
+	void copyClassFiles(@Root Path tempDir) throws Exception {
+		this.root = tempDir.resolve("classes");
+		for (Class<?> clazz : new Class<?>[] { PlainTestCase.class, TestMethodTestCase.class,
+				EnclosingTestCase.class, EnclosingTestCase.Inner.class }) {
+			Path target = this.root.resolve(classFileName(clazz));
+			Files.createDirectories(target.getParent());
+			Files.copy(getTestClasspathRoot().resolve(classFileName(clazz)), target);
+		}
+	}
+
+	@Test
+	void writeRejectsMissingDirectory() {
+		assertThrows(PreconditionViolationException.class, () -> TestClassIndex.write(root.resolve("missing")));
+	}
+
+	@Test
+	void writtenIndexContainsClassesWithAnnotationsSupertypesAndMemberClasses() throws Exception {
+		Path indexFile = TestClassIndex.write(root);
+
+		assertThat(indexFile).isEqualTo(root.resolve(TestClassIndex.INDEX_FILE_NAME));
+		TestClassIndex index = TestClassIndex.forClasspathRoot(root).get();
+		assertTrue(index.isCurrent(""));
+		assertTrue(index.isCurrent(PACKAGE_PATH));
+
+		List<ClassFileMetadata> classes = index.getClasses(PACKAGE_PATH);
+		assertThat(classes.stream().map(ClassFileMetadata::getClassName).collect(toList())).containsExactly(
+			internalName(EnclosingTestCase.class), internalName(EnclosingTestCase.Inner.class),
+			internalName(PlainTestCase.class), internalName(TestMethodTestCase.class));
+
+		ClassFileMetadata enclosing = classes.get(0);
+		assertThat(enclosing.getMemberClassNames()).containsExactly(internalName(EnclosingTestCase.Inner.class));
+		ClassFileMetadata inner = classes.get(1);
+		assertThat(inner.getAnnotationTypeNames()).containsExactly(internalName(Nested.class));
+		ClassFileMetadata plain = classes.get(2);
+		assertThat(plain.getSuperclassName()).isEqualTo("java/lang/Object");
+		assertThat(plain.getAnnotationTypeNames()).isEmpty();
+		ClassFileMetadata testMethod = classes.get(3);
+		assertThat(testMethod.getAnnotationTypeNames()).containsExactly(internalName(Test.class));
+
+		assertThat(index.getClasses("org/example")).isEmpty();
+	}
+
+	@Test
+	void indexIsNotCurrentOnceClassFileIsRemoved() throws Exception {
+		TestClassIndex.write(root);
+		Files.delete(root.resolve(classFileName(PlainTestCase.class)));
+		touchPackageDirectory();
+
+		TestClassIndex index = TestClassIndex.forClasspathRoot(root).get();
+		assertFalse(index.isCurrent(""));
+		assertFalse(index.isCurrent(PACKAGE_PATH));
+		assertFalse(index.isCurrent("org/example"));
+	}
+
+	@Test
+	void missingOrMalformedIndexIsIgnored() throws Exception {
+		assertFalse(TestClassIndex.forClasspathRoot(root).isPresent());
+
+		Path indexFile = root.resolve(TestClassIndex.INDEX_FILE_NAME);
+		Files.createDirectories(indexFile.getParent());
+		Files.write(indexFile, singletonList("not an index"), UTF_8);
+
+		assertFalse(TestClassIndex.forClasspathRoot(root).isPresent());
+	}
+
+	@Test
+	void classpathScannerReadsCurrentIndexInsteadOfScanning() throws Exception {
+		TestClassIndex.write(root);
+		removeFromIndex(TestMethodTestCase.class);
+
+		List<Class<?>> classes = classpathScanner.scanForClassesInClasspathRoot(root.toUri(), clazz -> true,
+			name -> true);
+
+		assertThat(classes).containsExactly(EnclosingTestCase.class, EnclosingTestCase.Inner.class,
+			PlainTestCase.class);
+	}
+
+	@Test
+	void classpathScannerScansDirectoryIfIndexIsNotCurrent() throws Exception {
+		TestClassIndex.write(root);
+		removeFromIndex(TestMethodTestCase.class);
+		touchPackageDirectory();
+
+		List<Class<?>> classes = classpathScanner.scanForClassesInClasspathRoot(root.toUri(), clazz -> true,
+			name -> true);
+
+		assertThat(classes).containsOnly(EnclosingTestCase.class, EnclosingTestCase.Inner.class,
+			PlainTestCase.class, TestMethodTestCase.class);
+	}
+
+	@Test
+	void classpathScannerAppliesClassFilePrefilterToIndexedMetadata() throws Exception {
+		TestClassIndex.write(root);
+		ClassFileAnnotationPrefilter prefilter = new ClassFileAnnotationPrefilter(singletonList(Test.class));
+
+		List<Class<?>> classes = classpathScanner.scanForClassesInClasspathRoot(root.toUri(), clazz -> true,
+			name -> true, prefilter);
+
+		assertThat(classes).containsExactly(TestMethodTestCase.class);
+		assertThat(loadedClasses).containsExactly(TestMethodTestCase.class);
+	}
+
+	/**
+	 * Advance the last modified time of the package directory so that a
+	 * modification is detected regardless of the timestamp granularity of
+	 * the file system.
+	 */
+	private void touchPackageDirectory() throws Exception {
+		Path directory = root.resolve(PACKAGE_PATH);
+		long lastModifiedTime = Files.getLastModifiedTime(directory).toMillis();
+		Files.setLastModifiedTime(directory, FileTime.fromMillis(lastModifiedTime + 1000));
+	}
+
+	private void removeFromIndex(Class<?> clazz) throws Exception {
+		Path indexFile = root.resolve(TestClassIndex.INDEX_FILE_NAME);
+		List<String> lines = Files.readAllLines(indexFile, UTF_8);
+		lines.removeIf(line -> line.contains("\t" + internalName(clazz) + "\t"));
+		Files.write(indexFile, lines, UTF_8);
+	}
+
+	private static String internalName(Class<?> clazz) {
+		return clazz.getName().replace('.', '/');
+	}
+
+	private static String classFileName(Class<?> clazz) {
+		return internalName(clazz) + ".class";
+	}
+
+	private Path getTestClasspathRoot() throws Exception {
+		return Paths.get(getClass().getProtectionDomain().getCodeSource().getLocation().toURI());
+	}
+
+	// -------------------------------------------------------------------------
+
+	static class PlainTestCase {
+	}
+
+	static class TestMethodTestCase {
+
+		@Test
+		void test() {
+		}
+	}
+
+	static class EnclosingTestCase {
+
+		@Nested
+		class Inner {
+		}
+	}
+
+}
@@ -10,7 +10,9 @@
 
 package org.junit.platform.console;
 
+import static java.util.Collections.singletonList;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.verify;
@@ -18,8 +20,14 @@ import static org.mockito.Mockito.when;
 
 import java.io.ByteArrayOutputStream;
 import java.io.PrintStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
 
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.extensions.TempDirectory;
+import org.junit.jupiter.extensions.TempDirectory.Root;
+import org.junit.platform.commons.util.TestClassIndex;
 import org.junit.platform.console.options.CommandLineOptions;
 import org.junit.platform.console.options.CommandLineOptionsParser;
 
@@ -69,4 +77,20 @@ class ConsoleLauncherTests {
 		verify(commandLineOptionsParser).parse("--scan-classpath");
 	}
 
+	@Test
+	@ExtendWith(TempDirectory.class)
+	void generateTestClassIndex(@Root Path tempDir) throws Exception {
+		CommandLineOptions options = new CommandLineOptions();
+		options.setTestClassIndexRoots(singletonList(tempDir));
+
+		CommandLineOptionsParser commandLineOptionsParser = mock(CommandLineOptionsParser.class);
+		when(commandLineOptionsParser.parse(any())).thenReturn(options);
+
+		ConsoleLauncher consoleLauncher = new ConsoleLauncher(commandLineOptionsParser, printSink, printSink);
+		int exitCode = consoleLauncher.execute("--generate-test-class-index", tempDir.toString()).getExitCode();
+
+		assertEquals(0, exitCode);
+		assertTrue(Files.isRegularFile(tempDir.resolve(TestClassIndex.INDEX_FILE_NAME)));
+	}
+
 }
@@ -62,7 +62,9 @@ class JOptSimpleCommandLineOptionsParserTests {
 			() -> assertEquals(emptyList(), options.getSelectedUris()),
 			() -> assertEquals(emptyList(), options.getSelectedFiles()),
 			() -> assertEquals(emptyList(), options.getSelectedDirectories()),
-			() -> assertEquals(emptyList(), options.getSelectedClasspathEntries())
+			() -> assertEquals(emptyList(), options.getSelectedClasspathEntries()),
+			() -> assertFalse(options.isGenerateTestClassIndex()),
+			() -> assertEquals(emptyList(), options.getTestClassIndexRoots())
 		);
 		// @formatter:on
 	}
@@ -286,6 +288,25 @@ class JOptSimpleCommandLineOptionsParserTests {
 		assertOptionWithMissingRequiredArgumentThrowsException("--reports-dir");
 	}
 
+	@Test
+	public void parseValidTestClassIndexRoots() {
+		Path dir1 = Paths.get("build", "classes", "main");
+		Path dir2 = Paths.get("build", "classes", "test");
+		// @formatter:off
+		assertAll(
+			() -> assertTrue(parseArgLine("--generate-test-class-index build/classes/main").isGenerateTestClassIndex()),
+			() -> assertEquals(singletonList(dir1), parseArgLine("--generate-test-class-index build/classes/main").getTestClassIndexRoots()),
+			() -> assertEquals(asList(dir1, dir2), parseArgLine("--generate-test-class-index build/classes/main" + File.pathSeparator + "build/classes/test").getTestClassIndexRoots()),
+			() -> assertEquals(asList(dir1, dir2), parseArgLine("--generate-test-class-index build/classes/main --generate-test-class-index build/classes/test").getTestClassIndexRoots())
+		);
+		// @formatter:on
+	}
+
+	@Test
+	public void parseInvalidTestClassIndexRoots() throws Exception {
+		assertOptionWithMissingRequiredArgumentThrowsException("--generate-test-class-index");
+	}
+
 	@Test
 	public void parseValidUriSelectors() {
 		// @formatter:off
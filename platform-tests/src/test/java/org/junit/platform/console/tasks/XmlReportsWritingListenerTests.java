@@ -18,6 +18,7 @@ import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.junit.jupiter.api.Assertions.fail;
 import static org.junit.jupiter.api.Assumptions.assumeFalse;
 import static org.junit.platform.console.tasks.XmlReportAssertions.ensureValidAccordingToJenkinsSchema;
+import static org.junit.platform.engine.TestExecutionResult.failed;
 import static org.junit.platform.engine.TestExecutionResult.successful;
 import static org.junit.platform.engine.discovery.DiscoverySelectors.selectUniqueId;
 import static org.junit.platform.launcher.core.LauncherDiscoveryRequestBuilder.request;
@@ -38,6 +39,7 @@ import java.time.ZoneId;
 import java.time.ZonedDateTime;
 import java.util.LinkedHashMap;
 import java.util.Map;
+import java.util.stream.Stream;
 
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.TestReporter;
@@ -45,6 +47,7 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.junit.jupiter.extensions.TempDirectory;
 import org.junit.jupiter.extensions.TempDirectory.Root;
 import org.junit.platform.engine.TestEngine;
+import org.junit.platform.engine.TestExecutionResult;
 import org.junit.platform.engine.UniqueId;
 import org.junit.platform.engine.reporting.ReportEntry;
 import org.junit.platform.engine.support.descriptor.EngineDescriptor;
@@ -405,6 +408,73 @@ class XmlReportsWritingListenerTests {
 		//@formatter:on
 	}
 
+	@Test
+	void writesReleasedDynamicTests(@Root Path tempDirectory) throws Exception {
+		EngineDescriptor engineDescriptor = new EngineDescriptor(UniqueId.forEngine("engine"), "Engine");
+		TestPlan testPlan = TestPlan.from(singleton(engineDescriptor));
+		TestDescriptorStub dynamicTest = new TestDescriptorStub(UniqueId.root("dynamic", "test"), "dynamicTest");
+		TestDescriptorStub failingTest = new TestDescriptorStub(UniqueId.root("dynamic", "failing"), "failingTest");
+		engineDescriptor.addChild(dynamicTest);
+		engineDescriptor.addChild(failingTest);
+
+		StringWriter out = new StringWriter();
+		XmlReportsWritingListener listener = new XmlReportsWritingListener(tempDirectory, new PrintWriter(out));
+
+		listener.testPlanExecutionStarted(testPlan);
+		executeAndRelease(listener, testPlan, TestIdentifier.from(dynamicTest), successful());
+		executeAndRelease(listener, testPlan, TestIdentifier.from(failingTest),
+			failed(new AssertionFailedError("expected")));
+		listener.executionFinished(testPlan.getTestIdentifier("[engine:engine]"), successful());
+
+		String content = readValidXmlFile(tempDirectory.resolve("TEST-engine.xml"));
+
+		//@formatter:off
+		assertThat(content)
+			.containsSequence(
+				"<testsuite name=\"Engine\" tests=\"2\" skipped=\"0\" failures=\"1\" errors=\"0\"",
+				"<testcase name=\"dynamicTest\" classname=\"Engine\"",
+				"</testcase>",
+				"<testcase name=\"failingTest\" classname=\"Engine\"",
+				"<failure message=\"expected\"",
+				"</testcase>",
+				"</testsuite>");
+		//@formatter:on
+		try (Stream<Path> files = Files.list(tempDirectory)) {
+			assertThat(files).containsExactly(tempDirectory.resolve("TEST-engine.xml"));
+		}
+		assertThat(out.toString()).isEmpty();
+	}
+
+	@Test
+	void doesNotSpoolReleasedDynamicTestsToReportsDirectory(@Root Path tempDirectory) throws Exception {
+		EngineDescriptor engineDescriptor = new EngineDescriptor(UniqueId.forEngine("engine"), "Engine");
+		TestPlan testPlan = TestPlan.from(singleton(engineDescriptor));
+		TestDescriptorStub dynamicTest = new TestDescriptorStub(UniqueId.root("dynamic", "test"), "dynamicTest");
+		engineDescriptor.addChild(dynamicTest);
+
+		StringWriter out = new StringWriter();
+		XmlReportsWritingListener listener = new XmlReportsWritingListener(tempDirectory, new PrintWriter(out));
+
+		listener.testPlanExecutionStarted(testPlan);
+		executeAndRelease(listener, testPlan, TestIdentifier.from(dynamicTest), successful());
+
+		// the run is aborted before the engine finishes
+		try (Stream<Path> files = Files.list(tempDirectory)) {
+			assertThat(files).isEmpty();
+		}
+		assertThat(out.toString()).isEmpty();
+	}
+
+	private void executeAndRelease(XmlReportsWritingListener listener, TestPlan testPlan,
+			TestIdentifier testIdentifier, TestExecutionResult result) {
+		testPlan.add(testIdentifier);
+		listener.dynamicTestRegistered(testIdentifier);
+		listener.executionStarted(testIdentifier);
+		listener.executionFinished(testIdentifier, result);
+		listener.dynamicTestReleased(testIdentifier);
+		testPlan.remove(testIdentifier);
+	}
+
 	private void executeTests(TestEngine engine, Path tempDirectory) {
 		executeTests(engine, tempDirectory, Clock.systemDefaultZone());
 	}
@@ -73,6 +73,19 @@ class PackageNameFilterTests {
 					+ includedPackage2 + "'");
 	}
 
+	@Test
+	void includePackageMightIncludeClassesInEnclosingAndNestedPackages() {
+		PackageNameFilter filter = PackageNameFilter.includePackageNames("java.lang", "java.util");
+
+		assertTrue(filter.mightIncludeClassesInPackage(""));
+		assertTrue(filter.mightIncludeClassesInPackage("java"));
+		assertTrue(filter.mightIncludeClassesInPackage("java.lang"));
+		assertTrue(filter.mightIncludeClassesInPackage("java.util.function"));
+		assertFalse(filter.mightIncludeClassesInPackage("java.time"));
+		assertFalse(filter.mightIncludeClassesInPackage("java.language"));
+		assertFalse(filter.mightIncludeClassesInPackage("javax"));
+	}
+
 	@Test
 	void excludePackageChecksPreconditions() {
 		assertThatThrownBy(() -> PackageNameFilter.excludePackageNames((String[]) null)) //
@@ -122,4 +135,16 @@ class PackageNameFilterTests {
 			"Package name [java.language.Test] does not match any excluded names: '" + excludedPackage1 + "' OR '"
 					+ excludedPackage2 + "'");
 	}
+
+	@Test
+	void excludePackageMightIncludeClassesOutsideOfExcludedPackages() {
+		PackageNameFilter filter = PackageNameFilter.excludePackageNames("java.lang", "java.util");
+
+		assertTrue(filter.mightIncludeClassesInPackage(""));
+		assertTrue(filter.mightIncludeClassesInPackage("java"));
+		assertTrue(filter.mightIncludeClassesInPackage("java.time"));
+		assertTrue(filter.mightIncludeClassesInPackage("java.language"));
+		assertFalse(filter.mightIncludeClassesInPackage("java.lang"));
+		assertFalse(filter.mightIncludeClassesInPackage("java.util.function"));
+	}
 }
@@ -20,6 +20,7 @@ import org.junit.platform.commons.util.ReflectionUtils;
 import org.junit.platform.engine.TestDescriptor;
 import org.junit.platform.engine.UniqueId;
 import org.junit.platform.engine.reporting.ReportEntry;
+import org.junit.platform.engine.support.descriptor.EngineDescriptor;
 import org.junit.platform.engine.support.descriptor.DemoMethodTestDescriptor;
 import org.junit.platform.launcher.TestExecutionListener;
 import org.junit.platform.launcher.TestIdentifier;
@@ -51,6 +52,28 @@ class ExecutionListenerAdapterTests {
 		assertThat(testExecutionListener.testIdentifier).isEqualTo(testIdentifier);
 	}
 
+	@Test
+	void testDynamicTestReleased() {
+		TestDescriptor engineDescriptor = new EngineDescriptor(UniqueId.forEngine("engine"), "Engine");
+		TestPlan testPlan = TestPlan.from(Collections.singleton(engineDescriptor));
+		TestDescriptor testDescriptor = getSampleMethodTestDescriptor();
+		engineDescriptor.addChild(testDescriptor);
+
+		MockTestExecutionListener testExecutionListener = new MockTestExecutionListener();
+		ExecutionListenerAdapter executionListenerAdapter = new ExecutionListenerAdapter(testPlan,
+			testExecutionListener);
+
+		executionListenerAdapter.dynamicTestRegistered(testDescriptor);
+		TestIdentifier testIdentifier = testPlan.getTestIdentifier(testDescriptor.getUniqueId().toString());
+		assertThat(testPlan.getChildren(engineDescriptor.getUniqueId().toString())).containsExactly(testIdentifier);
+
+		executionListenerAdapter.dynamicTestReleased(testDescriptor);
+
+		assertThat(testExecutionListener.releasedTestIdentifier).isEqualTo(testIdentifier);
+		assertThat(testPlan.getChildren(engineDescriptor.getUniqueId().toString())).isEmpty();
+		assertThat(testPlan.countTestIdentifiers(TestIdentifier::isTest)).isEqualTo(0);
+	}
+
 	private TestDescriptor getSampleMethodTestDescriptor() {
 		Method localMethodNamedNothing = ReflectionUtils.findMethod(this.getClass(), "nothing", new Class<?>[0]).get();
 		return new DemoMethodTestDescriptor(UniqueId.root("method", "unique_id"), this.getClass(),
@@ -65,6 +88,7 @@ class ExecutionListenerAdapterTests {
 
 		public TestIdentifier testIdentifier;
 		public ReportEntry entry;
+		public TestIdentifier releasedTestIdentifier;
 
 		@Override
 		public void reportingEntryPublished(TestIdentifier testIdentifier, ReportEntry entry) {
@@ -72,6 +96,11 @@ class ExecutionListenerAdapterTests {
 			this.entry = entry;
 		}
 
+		@Override
+		public void dynamicTestReleased(TestIdentifier testIdentifier) {
+			this.releasedTestIdentifier = testIdentifier;
+		}
+
 	}
 
 }
@@ -0,0 +1,125 @@
+/*
+ * Copyright 2015-2017 the original author or authors.
+ *
+ * All rights reserved. This program and the accompanying materials are
+ * made available under the terms of the Eclipse Public License v1.0 which
+ * accompanies this distribution and is available at
+ *
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+
+package org.junit.platform.launcher.listener;
+
+import static java.util.stream.Collectors.toList;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.io.PrintWriter;
+import java.io.StringWriter;
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.platform.commons.util.PreconditionViolationException;
+import org.junit.platform.engine.UniqueId;
+import org.junit.platform.engine.reporting.ReportEntry;
+import org.junit.platform.engine.test.TestDescriptorStub;
+import org.junit.platform.launcher.TestIdentifier;
+import org.junit.platform.launcher.TestPlan;
+import org.junit.platform.launcher.listeners.ReportEntryRankingListener;
+import org.junit.platform.launcher.listeners.ReportEntryRankingListener.RankedEntry;
+
+/**
+ * Unit tests for {@link ReportEntryRankingListener}.
+ *
+ * @since 1.0
+ */
+class ReportEntryRankingListenerTests {
+
+	TestPlan testPlan = TestPlan.from(Collections.emptyList());
+
+	@Test
+	void largestValuesAreRetainedInDescendingOrder() {
+		ReportEntryRankingListener listener = new ReportEntryRankingListener(2, "cpu");
+		listener.testPlanExecutionStarted(testPlan);
+
+		publish(listener, "t1", "cpu", "10");
+		publish(listener, "t2", "cpu", "30");
+		publish(listener, "t3", "cpu", "20");
+		publish(listener, "t4", "cpu", "5");
+
+		assertEquals(Collections.singletonList("cpu"), listener.getRankedKeys());
+		assertThat(describe(listener.getTopEntries("cpu"))).containsExactly("t2=30", "t3=20");
+	}
+
+	@Test
+	void onlyNumericValuesOfConfiguredKeysAreRanked() {
+		ReportEntryRankingListener listener = new ReportEntryRankingListener(3, "cpu");
+		listener.testPlanExecutionStarted(testPlan);
+
+		publish(listener, "t1", "cpu", "n/a");
+		publish(listener, "t2", "memory", "42");
+
+		assertThat(listener.getRankedKeys()).isEmpty();
+		assertThat(listener.getTopEntries("cpu")).isEmpty();
+	}
+
+	@Test
+	void allNumericKeysAreRankedIfNoKeysAreConfigured() {
+		ReportEntryRankingListener listener = new ReportEntryRankingListener(3);
+		listener.testPlanExecutionStarted(testPlan);
+
+		publish(listener, "t1", "memory", "42");
+		publish(listener, "t1", "cpu", "7");
+		publish(listener, "t1", "name", "foo");
+
+		assertThat(listener.getRankedKeys()).containsExactly("cpu", "memory");
+	}
+
+	@Test
+	void rankingsAreResetForEachTestPlan() {
+		ReportEntryRankingListener listener = new ReportEntryRankingListener(3);
+		listener.testPlanExecutionStarted(testPlan);
+		publish(listener, "t1", "cpu", "7");
+
+		listener.testPlanExecutionStarted(testPlan);
+
+		assertThat(listener.getRankedKeys()).isEmpty();
+	}
+
+	@Test
+	void rankingsArePrinted() {
+		ReportEntryRankingListener listener = new ReportEntryRankingListener(3);
+		listener.testPlanExecutionStarted(testPlan);
+		publish(listener, "t1", "cpu", "7");
+		publish(listener, "t2", "cpu", "1234");
+
+		StringWriter stringWriter = new StringWriter();
+		listener.printTo(new PrintWriter(stringWriter));
+		String output = stringWriter.toString();
+
+		assertThat(output).contains("Top 2 by cpu:");
+		assertThat(output.indexOf("1234  t2 [")).isLessThan(output.indexOf("7  t1 ["));
+	}
+
+	@Test
+	void limitMustBeGreaterThanZero() {
+		assertThrows(PreconditionViolationException.class, () -> new ReportEntryRankingListener(0));
+	}
+
+	private static void publish(ReportEntryRankingListener listener, String uniqueId, String key, String value) {
+		TestIdentifier identifier = TestIdentifier.from(
+			new TestDescriptorStub(UniqueId.root("test", uniqueId), uniqueId));
+		listener.reportingEntryPublished(identifier, ReportEntry.from(key, value));
+	}
+
+	private static List<String> describe(List<RankedEntry> entries) {
+		// @formatter:off
+		return entries.stream()
+				.map(entry -> entry.getTestIdentifier().getDisplayName() + "=" + entry.getValue())
+				.collect(toList());
+		// @formatter:on
+	}
+
+}